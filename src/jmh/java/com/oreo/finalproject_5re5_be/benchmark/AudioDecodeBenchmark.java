@@ -0,0 +1,43 @@
+package com.oreo.finalproject_5re5_be.benchmark;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioExtensionConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @apiNote 저장소에 포함된 test.mp3 / test.wav 로 디코딩 성능을 측정합니다. <br>
+ * MP3 는 {@link AudioExtensionConverter#mp3ToWav} 로 WAVE 바이트 배열까지 만드는 비용을,
+ * WAVE 는 헤더를 해석해 스트림을 여는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class AudioDecodeBenchmark {
+    private byte[] mp3;
+    private byte[] wav;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mp3 = BenchmarkAudio.fixture("test.mp3");
+        wav = BenchmarkAudio.fixture("test.wav");
+    }
+
+    @Benchmark
+    public int mp3ToWav() throws UnsupportedAudioFileException, IOException {
+        return AudioExtensionConverter.mp3ToWav(new ByteArrayInputStream(mp3)).length;
+    }
+
+    @Benchmark
+    public void openWav(Blackhole blackhole) throws UnsupportedAudioFileException, IOException {
+        try (AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new ByteArrayInputStream(wav))) {
+            blackhole.consume(audioInputStream.getFrameLength());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.oreo.finalproject_5re5_be.benchmark;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioResample;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @apiNote {@link AudioResample#formatting(AudioInputStream)} 의 변환 성능을 {@code AudioFormats} 상수 조합별로 측정합니다. <br>
+ * 변환 스트림은 지연 처리되므로 결과를 끝까지 읽는 비용까지 포함합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class AudioResampleBenchmark {
+    private static final double SOURCE_SECONDS = 3.0;
+
+    //TTS 결과(24kHz 16비트 모노)와 병합 포맷(44.1kHz 32비트 스테레오)
+    @Param({"MONO_FORMAT_SR240_B16", "STEREO_FORMAT_SR441_B32"})
+    private String source;
+
+    @Param({
+            "MONO_FORMAT_SR441_B32", "MONO_FORMAT_SR441_B16", "MONO_FORMAT_SR240_B32", "MONO_FORMAT_SR240_B16",
+            "STEREO_FORMAT_SR441_B32", "STEREO_FORMAT_SR441_B16", "STEREO_FORMAT_SR240_B32", "STEREO_FORMAT_SR240_B16",
+            "STEREO_FORMAT_SR480_B16", "MONO_FORMAT_SR441_B8"
+    })
+    private String target;
+
+    private AudioFormat sourceFormat;
+    private byte[] sourceData;
+    private AudioResample resample;
+    private final byte[] buffer = new byte[64 * 1024];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sourceFormat = BenchmarkAudio.format(source);
+        sourceData = BenchmarkAudio.sine(sourceFormat, SOURCE_SECONDS);
+        resample = new AudioResample(BenchmarkAudio.format(target));
+    }
+
+    @Benchmark
+    public void formatting(Blackhole blackhole) throws IOException {
+        try (AudioInputStream formatted = resample.formatting(BenchmarkAudio.stream(sourceFormat, sourceData))) {
+            blackhole.consume(BenchmarkAudio.drain(formatted, buffer));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.oreo.finalproject_5re5_be.benchmark;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @apiNote 벤치마크에서 사용하는 오디오 픽스처를 만드는 클래스 입니다. <br>
+ * PCM 데이터는 사인파로 생성하고, 실제 파일이 필요한 경우 저장소 루트의 test.wav / test.mp3 를 읽습니다.
+ * 픽스처 경로는 {@code benchmark.fixture-dir} 시스템 프로퍼티로 바꿀 수 있습니다.
+ */
+final class BenchmarkAudio {
+    private static final double FREQUENCY = 440.0;
+    private static final double AMPLITUDE = 0.5;
+
+    private BenchmarkAudio() {
+    }
+
+    //포맷 이름(AudioFormats 상수명)으로 포맷 조회
+    static AudioFormat format(String name) {
+        try {
+            return (AudioFormat) AudioFormats.class.getField(name).get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("AudioFormats 에 없는 포맷입니다: " + name, e);
+        }
+    }
+
+    //지정한 포맷과 길이의 사인파 PCM 데이터 생성 (signed PCM만 지원)
+    static byte[] sine(AudioFormat format, double seconds) {
+        int bytesPerSample = format.getSampleSizeInBits() / 8;
+        int channels = format.getChannels();
+        int frames = (int) (format.getFrameRate() * seconds);
+        long maxValue = (1L << (format.getSampleSizeInBits() - 1)) - 1;
+        byte[] data = new byte[frames * format.getFrameSize()];
+
+        int pos = 0;
+        for (int frame = 0; frame < frames; frame++) {
+            long value = Math.round(Math.sin(2 * Math.PI * FREQUENCY * frame / format.getFrameRate()) * AMPLITUDE * maxValue);
+            for (int channel = 0; channel < channels; channel++, pos += bytesPerSample) {
+                for (int i = 0; i < bytesPerSample; i++) {
+                    int index = format.isBigEndian() ? pos + bytesPerSample - 1 - i : pos + i;
+                    data[index] = (byte) (value >> (8 * i));
+                }
+            }
+        }
+        return data;
+    }
+
+    //PCM 데이터로 읽을 때마다 새 스트림 생성 (데이터 복사 없음)
+    static AudioInputStream stream(AudioFormat format, byte[] data) {
+        return new AudioInputStream(new ByteArrayInputStream(data), format, data.length / format.getFrameSize());
+    }
+
+    //저장소에 포함된 픽스처 파일 읽기
+    static byte[] fixture(String fileName) {
+        Path path = Path.of(System.getProperty("benchmark.fixture-dir", "."), fileName);
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("픽스처 파일을 읽을 수 없습니다: " + path.toAbsolutePath(), e);
+        }
+    }
+
+    //스트림을 끝까지 읽고 읽은 바이트 수 반환 (지연 스트림의 실제 처리 비용 측정용)
+    static long drain(InputStream inputStream, byte[] buffer) throws IOException {
+        long total = 0;
+        int bytesRead;
+        while ((bytesRead = inputStream.read(buffer)) != -1) {
+            total += bytesRead;
+        }
+        return total;
+    }
+}
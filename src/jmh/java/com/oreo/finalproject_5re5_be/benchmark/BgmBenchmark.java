@@ -0,0 +1,66 @@
+package com.oreo.finalproject_5re5_be.benchmark;
+
+import com.oreo.finalproject_5re5_be.concat.service.bgm.BgmProcessor;
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @apiNote BGM 길이 조정(반복)과 믹싱 성능을 측정합니다. <br>
+ * 원본은 병합 포맷(44.1kHz 32비트 스테레오)의 사인파, BGM은 5초 길이이며 원본 길이만큼 반복됩니다.
+ * 결과 스트림을 끝까지 읽는 비용까지 포함합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BgmBenchmark {
+    private static final AudioFormat FORMAT = AudioFormats.STEREO_FORMAT_SR441_B32;
+    private static final double BGM_SECONDS = 5.0;
+
+    @Param({"10", "60"})
+    private int seconds;
+
+    private byte[] source;
+    private byte[] bgm;
+    private byte[] bgm16; //포맷 변환이 필요한 BGM
+    private long targetFrames;
+    private final byte[] buffer = new byte[64 * 1024];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = BenchmarkAudio.sine(FORMAT, seconds);
+        bgm = BenchmarkAudio.sine(FORMAT, BGM_SECONDS);
+        bgm16 = BenchmarkAudio.sine(AudioFormats.STEREO_FORMAT_SR441_B16, BGM_SECONDS);
+        targetFrames = source.length / FORMAT.getFrameSize();
+    }
+
+    @Benchmark
+    public void adjustBgmLength(Blackhole blackhole) throws IOException {
+        try (AudioInputStream looped = BgmProcessor.adjustBgmLength(BenchmarkAudio.stream(FORMAT, bgm), targetFrames)) {
+            blackhole.consume(BenchmarkAudio.drain(looped, buffer));
+        }
+    }
+
+    @Benchmark
+    public void mixAudio(Blackhole blackhole) throws IOException {
+        AudioInputStream looped = BgmProcessor.adjustBgmLength(BenchmarkAudio.stream(FORMAT, bgm), targetFrames);
+        try (AudioInputStream mixed = BgmProcessor.mixAudio(BenchmarkAudio.stream(FORMAT, source), looped)) {
+            blackhole.consume(BenchmarkAudio.drain(mixed, buffer));
+        }
+    }
+
+    //BGM 포맷이 달라 믹싱 중에 변환까지 하는 경우
+    @Benchmark
+    public void mixAudioWithConversion(Blackhole blackhole) throws IOException {
+        AudioFormat bgmFormat = AudioFormats.STEREO_FORMAT_SR441_B16;
+        AudioInputStream looped = BgmProcessor.adjustBgmLength(BenchmarkAudio.stream(bgmFormat, bgm16), targetFrames);
+        try (AudioInputStream mixed = BgmProcessor.mixAudio(BenchmarkAudio.stream(FORMAT, source), looped)) {
+            blackhole.consume(BenchmarkAudio.drain(mixed, buffer));
+        }
+    }
+}
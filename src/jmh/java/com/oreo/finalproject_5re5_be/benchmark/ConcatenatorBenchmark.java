@@ -0,0 +1,83 @@
+package com.oreo.finalproject_5re5_be.benchmark;
+
+import com.oreo.finalproject_5re5_be.concat.service.concatenator.AudioProperties;
+import com.oreo.finalproject_5re5_be.concat.service.concatenator.MonoConcatenator;
+import com.oreo.finalproject_5re5_be.concat.service.concatenator.StereoConcatenator;
+import com.oreo.finalproject_5re5_be.concat.service.concatenator.StereoIntervalConcatenator;
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @apiNote 행(row) 개수에 따른 오디오 병합 성능을 측정합니다. <br>
+ * 각 행은 1초 길이의 사인파이며, 모노는 TTS 결과와 같은 24kHz 16비트, 스테레오는 병합 포맷인 44.1kHz 32비트를 사용합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ConcatenatorBenchmark {
+    private static final double ROW_SECONDS = 1.0;
+    private static final float ROW_SILENCE = 0.5f;
+
+    @Param({"10", "50", "200"})
+    private int rows;
+
+    private byte[] monoRow;
+    private byte[] stereoRow;
+    private final byte[] buffer = new byte[64 * 1024];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        monoRow = BenchmarkAudio.sine(AudioFormats.MONO_FORMAT_SR240_B16, ROW_SECONDS);
+        stereoRow = BenchmarkAudio.sine(AudioFormats.STEREO_FORMAT_SR441_B32, ROW_SECONDS);
+    }
+
+    @Benchmark
+    public int monoConcatenate() throws IOException {
+        List<AudioInputStream> streams = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            streams.add(BenchmarkAudio.stream(AudioFormats.MONO_FORMAT_SR240_B16, monoRow));
+        }
+        return new MonoConcatenator().concatenate(streams).size();
+    }
+
+    @Benchmark
+    public int stereoConcatenate() throws IOException {
+        List<AudioInputStream> streams = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            streams.add(BenchmarkAudio.stream(AudioFormats.STEREO_FORMAT_SR441_B32, stereoRow));
+        }
+        return new StereoConcatenator().concatenate(streams).size();
+    }
+
+    //무음구간 포함 메모리 병합 (기존 방식)
+    @Benchmark
+    public int stereoIntervalConcatenate() throws IOException {
+        return new StereoIntervalConcatenator(AudioFormats.STEREO_FORMAT_SR441_B32)
+                .intervalConcatenate(stereoRows(), ROW_SILENCE).size();
+    }
+
+    //무음구간 포함 스트리밍 병합, 끝까지 읽는 비용까지 측정
+    @Benchmark
+    public void stereoIntervalConcatenateStream(Blackhole blackhole) throws IOException {
+        try (AudioInputStream concatenated = new StereoIntervalConcatenator(AudioFormats.STEREO_FORMAT_SR441_B32)
+                .intervalConcatenateStream(stereoRows(), ROW_SILENCE)) {
+            blackhole.consume(BenchmarkAudio.drain(concatenated, buffer));
+        }
+    }
+
+    private List<AudioProperties> stereoRows() {
+        List<AudioProperties> properties = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            properties.add(AudioProperties.parsAudioProperties(
+                    BenchmarkAudio.stream(AudioFormats.STEREO_FORMAT_SR441_B32, stereoRow), ROW_SILENCE));
+        }
+        return properties;
+    }
+}
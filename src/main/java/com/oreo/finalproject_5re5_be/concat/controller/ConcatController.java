@@ -3,7 +3,9 @@ package com.oreo.finalproject_5re5_be.concat.controller;
 
 import com.oreo.finalproject_5re5_be.concat.dto.ConcatResultDto;
 import com.oreo.finalproject_5re5_be.concat.dto.request.ConcatRowRequestDto;
+import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatJobResponse;
 import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatTabResponseDto;
+import com.oreo.finalproject_5re5_be.concat.service.ConcatJobService;
 import com.oreo.finalproject_5re5_be.concat.service.ConcatResultService;
 import com.oreo.finalproject_5re5_be.concat.service.ConcatService;
 import com.oreo.finalproject_5re5_be.concat.service.ConcatTabService;
@@ -28,6 +30,7 @@ import java.util.NoSuchElementException;
 @RequestMapping("api/concat")
 public class ConcatController {
     private final ConcatService concatService;
+    private final ConcatJobService concatJobService;
     private final ConcatTabService concatTabService;
     private final ConcatResultService concatResultService;
     private final ProjectService projectService;
@@ -47,6 +50,35 @@ public class ConcatController {
         return new ResponseDto<>(HttpStatus.OK.value(), concat).toResponseEntity();
     }
 
+    @Operation(
+            summary = "오디오 병합 작업을 등록합니다.",
+            description = "병합을 백그라운드에서 수행하고 작업 번호를 바로 반환합니다. 진행 상태는 작업 조회 API로 확인합니다."
+    )
+    @PostMapping("jobs")
+    public ResponseEntity<ResponseDto<ConcatJobResponse>> submitConcatJob(@RequestBody ConcatRowRequestDto audioRequests,
+                                                                          @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long memberSeq = userDetails.getMember().getSeq();
+        projectService.projectCheck(memberSeq, audioRequests.getConcatTabId());
+
+        ConcatTabResponseDto concatTabResponseDto
+                = concatTabService.readConcatTab(audioRequests.getConcatTabId(), memberSeq);
+        ConcatJobResponse job = concatJobService.submitConcat(concatTabResponseDto, audioRequests);
+        return new ResponseDto<>(HttpStatus.ACCEPTED.value(), job).toResponseEntity();
+    }
+
+    @Operation(
+            summary = "오디오 병합 작업 상태 조회",
+            description = "작업 상태와 단계별 소요 시간을 반환합니다. 완료된 경우 결과 오디오 정보를 포함합니다."
+    )
+    @GetMapping("jobs/{jobSeq}")
+    public ResponseEntity<ResponseDto<ConcatJobResponse>> readConcatJob(@PathVariable Long jobSeq,
+                                                                        @AuthenticationPrincipal CustomUserDetails userDetails) {
+        ConcatJobResponse job = concatJobService.getJob(jobSeq);
+        projectService.projectCheck(userDetails.getMember().getSeq(), job.getProjectSeq());
+
+        return new ResponseDto<>(HttpStatus.OK.value(), job).toResponseEntity();
+    }
+
     @Operation(
             summary = "오디오 결과 목록 불러오기",
             description = "프로젝트 번호에 해당하는 오디오 결과 목록을 반환합니다."
@@ -3,21 +3,15 @@ package com.oreo.finalproject_5re5_be.concat.controller;
 import com.oreo.finalproject_5re5_be.concat.dto.ConcatResponseDto;
 import com.oreo.finalproject_5re5_be.concat.dto.request.OriginAudioRequest;
 import com.oreo.finalproject_5re5_be.concat.dto.request.SelectedConcatRowRequest;
+import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatJobResponse;
 import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatUrlResponse;
 import com.oreo.finalproject_5re5_be.concat.entity.AudioFile;
 import com.oreo.finalproject_5re5_be.concat.repository.BgmFileRepository;
 import com.oreo.finalproject_5re5_be.concat.service.AudioFileService;
-import com.oreo.finalproject_5re5_be.concat.service.AudioStreamService;
-import com.oreo.finalproject_5re5_be.concat.service.ConcatResultService;
-import com.oreo.finalproject_5re5_be.concat.service.MaterialAudioService;
-import com.oreo.finalproject_5re5_be.concat.service.bgm.BgmProcessor;
-import com.oreo.finalproject_5re5_be.concat.service.concatenator.AudioProperties;
-import com.oreo.finalproject_5re5_be.concat.service.concatenator.IntervalConcatenator;
-import com.oreo.finalproject_5re5_be.concat.service.concatenator.StereoIntervalConcatenator;
-import com.oreo.finalproject_5re5_be.global.component.S3Service;
+import com.oreo.finalproject_5re5_be.concat.service.ConcatJobService;
+import com.oreo.finalproject_5re5_be.concat.service.ConcatService;
+import com.oreo.finalproject_5re5_be.concat.service.ConcatStage;
 import com.oreo.finalproject_5re5_be.global.component.SqsService;
-import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
-import com.oreo.finalproject_5re5_be.global.component.audio.AudioResample;
 import com.oreo.finalproject_5re5_be.global.dto.response.ResponseDto;
 import com.oreo.finalproject_5re5_be.member.dto.CustomUserDetails;
 import com.oreo.finalproject_5re5_be.project.service.ProjectService;
@@ -33,9 +27,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioInputStream;
-import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -46,14 +37,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ConcatWithBgmController {
 
-    private final S3Service s3Service;
-    private final MaterialAudioService materialAudioService;
-    private final ConcatResultService concatResultService;
+    private final ConcatService concatService;
+    private final ConcatJobService concatJobService;
     private final SqsService sqsService;
     private final AudioFileService audioFileService;
-    private final AudioStreamService audioStreamService; // 추가된 서비스
-    private final AudioResample audioResample = new AudioResample(); // 리샘플링 유틸. Bean이 아니라 new로 생성
-    private final AudioFormat defaultAudioFormat = AudioFormats.STEREO_FORMAT_SR441_B32; // 기본 포맷
     private final ProjectService projectService;
     private final BgmFileRepository bgmFileRepository;
 
@@ -94,40 +81,10 @@ public class ConcatWithBgmController {
 //            //SQS로 메세지 보내기. 각각 messageBody와 messageAttribute로 들어갈 내용
 //            Message message = sqsService.sendMessage(bgmFunctionRequestDto, MessageType.CONCAT_BGM_MAKE);
 
-            IntervalConcatenator intervalConcatenator = new StereoIntervalConcatenator(defaultAudioFormat);
-
-            // Concat 작업: 1. Row 오디오 파일 로드 및 무음 처리
-            List<AudioProperties> audioProperties = audioStreamService.loadAudioFiles(selectedRows);
-
-            // 2. 병합된 오디오 생성
-            ByteArrayOutputStream concatenatedAudioBuffer = intervalConcatenator.intervalConcatenate(audioProperties, selectedRows.getInitialSilence());
-
-            // Bgm 작업: 1. 병합된 오디오를 AudioInputStream으로 변환
-            AudioInputStream concatenatedAudioStream = audioStreamService.createAudioInputStream(concatenatedAudioBuffer, defaultAudioFormat);
-
-            // 2. BGM 스트림 로드 및 버퍼링
-            AudioInputStream bufferedBgmStream = s3Service.loadAsBufferedStream(bgmFileUrl);
-
-            // 3. BGM 길이 조정
-            long targetFrames = audioStreamService.getValidFrameLength(concatenatedAudioStream);
-            long bgmFrames = audioStreamService.getValidFrameLength(bufferedBgmStream);
-            bufferedBgmStream = BgmProcessor.adjustBgmLength(bufferedBgmStream, targetFrames, bgmFrames);
-
-            // 4. 믹싱
-            AudioInputStream mixedAudioStream = BgmProcessor.mixAudio(concatenatedAudioStream, bufferedBgmStream);
-
-            // 결과파일 S3 업로드
-            String resultAudioUrl = s3Service.uploadAudioStream(mixedAudioStream, "concat/result", concatResultFileName);
-
-//            String audioUrl = "";
-//            String concatResultFileName = "";
-//            AudioInputStream mixedAudioStream = null;
-//            SelectedConcatRowRequest selectedRows = null;
-
-            // DB ConcatResult테이블에 결과 저장
-            ConcatUrlResponse concatResultResponse = concatResultService.saveConcatResult(concatTabSeq, resultAudioUrl, concatResultFileName, mixedAudioStream);
-            // Material 데이터 저장 (재료 파일, 결과파일 저장되어 있는 상태로 교차테이블에 데이터 저장)
-            materialAudioService.saveMaterialsForSelectedRows(selectedRows, concatResultResponse);
+            // 병합, BGM 믹싱, S3 업로드, 결과 및 재료 오디오 저장
+            ConcatUrlResponse concatResultResponse = concatService.concatWithBgm(
+                    concatTabSeq, bgmFileUrl, concatResultFileName, selectedRows, ConcatStage.Listener.NONE);
+            String resultAudioUrl = concatResultResponse.getUrl();
 
             // Concat 재료 파일 정보 생성
             List<OriginAudioRequest> concatRowFiles = selectedRows.getRows().stream()
@@ -161,6 +118,25 @@ public class ConcatWithBgmController {
     }
 
 
+    @Operation(
+            summary = "Row 오디오와 BGM 파일 병합 작업 등록",
+            description = "병합과 BGM 믹싱을 백그라운드에서 수행하고 작업 번호를 바로 반환합니다. "
+                    + "진행 상태는 GET /api/concat/jobs/{jobSeq} 로 확인합니다."
+    )
+    @PostMapping("/execute-with-bgm/jobs")
+    public ResponseEntity<ResponseDto<ConcatJobResponse>> submitConcatWithBgmJob(
+            @Parameter(description = "결과물이 나온 concatTab", required = true) @RequestParam Long concatTabSeq,
+            @Parameter(description = "bgm으로 쓸 오디오파일의 url", required = true) @RequestParam String bgmFileUrl,
+            @Parameter(description = "저장할 결과파일 이름", required = true) @RequestParam String concatResultFileName,
+            @RequestBody SelectedConcatRowRequest selectedRows,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        projectService.projectCheck(customUserDetails.getMember().getSeq(), concatTabSeq);
+
+        ConcatJobResponse job = concatJobService.submitConcatWithBgm(
+                concatTabSeq, bgmFileUrl, concatResultFileName, selectedRows);
+        return new ResponseDto<>(HttpStatus.ACCEPTED.value(), job).toResponseEntity();
+    }
+
     private OriginAudioRequest convertToOriginAudioRequest(AudioFile audioFile) {
         return OriginAudioRequest.builder()
                 .seq(audioFile.getAudioFileSeq())
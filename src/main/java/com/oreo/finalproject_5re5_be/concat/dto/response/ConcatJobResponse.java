@@ -0,0 +1,58 @@
+package com.oreo.finalproject_5re5_be.concat.dto.response;
+
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJob;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJobStatus;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJobType;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcatJobResponse {
+    private Long jobSeq;
+    private ConcatJobType jobType;
+    private ConcatJobStatus status;
+
+    //작업이 속한 프로젝트 번호 (권한 확인용)
+    private Long projectSeq;
+
+    //완료된 경우 결과 정보
+    private Long concatResultSeq;
+    private String audioUrl;
+
+    //실패한 경우 사유
+    private String errorMessage;
+
+    //단계별 소요 시간 (ms)
+    private Long queuedMillis;
+    private Long loadMillis;
+    private Long uploadMillis;
+    private Long saveMillis;
+    private Long totalMillis;
+
+    public static ConcatJobResponse of(ConcatJob job) {
+        return ConcatJobResponse.builder()
+                .jobSeq(job.getConcatJobSeq())
+                .jobType(job.getJobType())
+                .status(job.getStatus())
+                .projectSeq(job.getConcatTab().getProjectId())
+                .concatResultSeq(job.getConcatResult() != null ? job.getConcatResult().getConcatResultSequence() : null)
+                .audioUrl(job.getConcatResult() != null ? job.getConcatResult().getAudioUrl() : null)
+                .errorMessage(job.getErrorMessage())
+                .queuedMillis(between(job.getRegDate(), job.getStartedAt()))
+                .loadMillis(job.getLoadMillis())
+                .uploadMillis(job.getUploadMillis())
+                .saveMillis(job.getSaveMillis())
+                .totalMillis(between(job.getStartedAt(), job.getFinishedAt()))
+                .build();
+    }
+
+    private static Long between(LocalDateTime from, LocalDateTime to) {
+        return from != null && to != null ? Duration.between(from, to).toMillis() : null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.oreo.finalproject_5re5_be.concat.entity;
+
+import com.oreo.finalproject_5re5_be.concat.service.ConcatStage;
+import com.oreo.finalproject_5re5_be.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * @apiNote 비동기 병합 작업 입니다. 작업 상태, 결과, 단계별 소요 시간(ms)을 저장합니다.
+ */
+@Entity
+@Table(name = "concat_job")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@Builder
+@ToString(exclude = {"concatTab", "concatResult"})
+public class ConcatJob extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "concat_job_seq")
+    private Long concatJobSeq;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pro_seq", nullable = false)
+    private ConcatTab concatTab;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false)
+    private ConcatJobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_stat", nullable = false)
+    private ConcatJobStatus status;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "concat_result")
+    private ConcatResult concatResult;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "load_millis")
+    private Long loadMillis;
+
+    @Column(name = "upload_millis")
+    private Long uploadMillis;
+
+    @Column(name = "save_millis")
+    private Long saveMillis;
+
+    public void start() {
+        this.status = ConcatJobStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void recordStage(ConcatStage stage, long millis) {
+        switch (stage) {
+            case LOAD -> this.loadMillis = millis;
+            case UPLOAD -> this.uploadMillis = millis;
+            case SAVE -> this.saveMillis = millis;
+        }
+    }
+
+    public void finish(ConcatResult concatResult) {
+        this.status = ConcatJobStatus.FINISHED;
+        this.concatResult = concatResult;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = ConcatJobStatus.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000) : errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,15 @@
+package com.oreo.finalproject_5re5_be.concat.entity;
+
+public enum ConcatJobStatus {
+    // '병합 요청 대기' 상태
+    QUEUED,
+
+    // '병합 진행중' 상태
+    RUNNING,
+
+    // '병합 완료' 상태
+    FINISHED,
+
+    // '병합 실패' 상태
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.oreo.finalproject_5re5_be.concat.entity;
+
+public enum ConcatJobType {
+    // 행 오디오 병합
+    NORMAL,
+
+    // 행 오디오 병합 + BGM 믹싱
+    BGM
+}
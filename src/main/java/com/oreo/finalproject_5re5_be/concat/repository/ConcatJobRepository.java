@@ -0,0 +1,23 @@
+package com.oreo.finalproject_5re5_be.concat.repository;
+
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJob;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJobStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ConcatJobRepository extends JpaRepository<ConcatJob, Long> {
+
+    // 상태 조회 시 결과 정보까지 한 번에 조회
+    @EntityGraph(attributePaths = {"concatResult"})
+    Optional<ConcatJob> findWithResultByConcatJobSeq(Long concatJobSeq);
+
+    // 마지막 상태 변경 이후 오래 지난 작업 조회 (남은 대기/진행중 작업 정리용)
+    List<ConcatJob> findByStatusInAndUpDateBefore(Collection<ConcatJobStatus> statuses, LocalDateTime upDate);
+}
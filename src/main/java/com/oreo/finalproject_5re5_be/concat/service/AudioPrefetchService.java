@@ -0,0 +1,127 @@
+package com.oreo.finalproject_5re5_be.concat.service;
+
+import com.oreo.finalproject_5re5_be.global.component.DecodedAudioCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+/**
+ * @apiNote 병합에 사용할 행 오디오를 S3에서 동시에 받아와 디코딩 및 리샘플링하는 서비스 입니다. <br>
+ * 모든 요청이 하나의 고정 크기 스레드 풀을 공유하므로 노드 전체의 동시 다운로드 수가 제한됩니다. <br>
+ * 결과는 요청한 URL 순서대로 반환되며, 하나라도 실패하면 남은 작업을 취소하고
+ * 이미 불러온 스트림(취소 전에 끝난 작업 포함)을 닫은 뒤 예외를 던집니다.
+ */
+@Slf4j
+@Service
+public class AudioPrefetchService {
+    private final ExecutorService executor;
+    private final BiFunction<String, AudioFormat, AudioInputStream> loader;
+
+    @Autowired
+    public AudioPrefetchService(@Value("${concat.prefetch.parallelism:8}") int parallelism,
+                                DecodedAudioCache decodedAudioCache) {
+        this(parallelism, decodedAudioCache::load);
+    }
+
+    AudioPrefetchService(int parallelism, BiFunction<String, AudioFormat, AudioInputStream> loader) {
+        this.executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("audio-prefetch-"));
+        this.loader = loader;
+    }
+
+    /**
+     * @apiNote URL 목록의 오디오를 동시에 불러옵니다. 이미 디코딩한 적이 있으면 {@link DecodedAudioCache} 에서 읽습니다.
+     * @param audioUrls 불러올 오디오 URL 목록
+     * @param format    리샘플링할 대상 포맷
+     * @return URL 순서와 같은 순서의 리샘플링된 오디오 스트림 목록
+     */
+    public List<AudioInputStream> loadAll(List<String> audioUrls, AudioFormat format) {
+        LoadedStreams loaded = new LoadedStreams(audioUrls.size());
+        List<Future<AudioInputStream>> futures = new ArrayList<>(audioUrls.size());
+        for (int i = 0; i < audioUrls.size(); i++) {
+            int index = i;
+            String audioUrl = audioUrls.get(i);
+            futures.add(executor.submit(() -> loaded.put(index, loader.apply(audioUrl, format))));
+        }
+
+        List<AudioInputStream> result = new ArrayList<>(audioUrls.size());
+        try {
+            for (Future<AudioInputStream> future : futures) {
+                result.add(future.get());
+            }
+            return result;
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            loaded.discard();
+            log.error("[AudioPrefetchService] 오디오 불러오기 실패: {}", e.getCause().getMessage());
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("오디오를 불러오는 중 오류가 발생했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            loaded.discard();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("오디오 불러오기가 중단되었습니다.", e);
+        }
+    }
+
+    private void cancelAll(List<Future<AudioInputStream>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    // 작업별로 불러온 스트림, 실패 후에 끝난 작업의 스트림은 바로 닫음
+    private static final class LoadedStreams {
+        private final AudioInputStream[] streams;
+        private boolean discarded;
+
+        private LoadedStreams(int size) {
+            this.streams = new AudioInputStream[size];
+        }
+
+        synchronized AudioInputStream put(int index, AudioInputStream stream) {
+            if (discarded) {
+                closeQuietly(stream);
+            } else {
+                streams[index] = stream;
+            }
+            return stream;
+        }
+
+        synchronized void discard() {
+            discarded = true;
+            for (AudioInputStream stream : streams) {
+                closeQuietly(stream);
+            }
+        }
+
+        private static void closeQuietly(AudioInputStream stream) {
+            if (stream == null) {
+                return;
+            }
+            try {
+                stream.close();
+            } catch (IOException e) {
+                log.warn("[AudioPrefetchService] 오디오 스트림 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,10 +1,9 @@
 package com.oreo.finalproject_5re5_be.concat.service;
 
 import com.oreo.finalproject_5re5_be.concat.dto.request.SelectedConcatRowRequest;
-import com.oreo.finalproject_5re5_be.concat.service.bgm.BgmProcessor;
 import com.oreo.finalproject_5re5_be.concat.service.concatenator.AudioProperties;
-import com.oreo.finalproject_5re5_be.global.component.S3Service;
-import com.oreo.finalproject_5re5_be.global.component.audio.AudioResample;
+import com.oreo.finalproject_5re5_be.global.component.AudioLengthProbe;
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -22,7 +21,7 @@ import java.util.List;
 @Service
 public class AudioStreamService {
 
-    private final AudioResample audioResample = new AudioResample();
+    private final AudioPrefetchService audioPrefetchService;
 
     public AudioInputStream createAudioInputStream(ByteArrayOutputStream buffer, AudioFormat format) {
         byte[] data = buffer.toByteArray();
@@ -36,17 +35,24 @@ public class AudioStreamService {
         return new AudioInputStream(new ByteArrayInputStream(data), format, data.length / format.getFrameSize());
     }
 
+    /**
+     * @apiNote 스트림의 프레임 수를 반환합니다. 길이가 지정되지 않은 스트림도 소비하지 않습니다.
+     * @see AudioLengthProbe#getFrameLength(AudioInputStream)
+     */
     public long getValidFrameLength(AudioInputStream audioStream) throws IOException {
-        long frameLength = audioStream.getFrameLength();
-        return frameLength > 0 ? frameLength : BgmProcessor.calculateTargetFrames(audioStream);
+        return AudioLengthProbe.getFrameLength(audioStream);
     }
 
     public List<AudioProperties> loadAudioFiles(SelectedConcatRowRequest selectedRows) {
+        List<SelectedConcatRowRequest.Row> rows = selectedRows.getRows();
+        // 행 순서를 유지하면서 동시에 다운로드, 디코딩 및 리샘플링
+        List<AudioInputStream> loaded = audioPrefetchService.loadAll(rows.stream()
+                .map(SelectedConcatRowRequest.Row::getAudioUrl)
+                .toList(), AudioFormats.STEREO_FORMAT_SR441_B32); // 리샘플링 처리
+
         List<AudioProperties> audioPropertiesList = new ArrayList<>();
-        for (SelectedConcatRowRequest.Row row : selectedRows.getRows()) {
-            AudioInputStream audioStream = S3Service.load(row.getAudioUrl());
-            audioStream = audioResample.formatting(audioStream); // 리샘플링 처리
-            audioPropertiesList.add(new AudioProperties(audioStream, row.getSilenceInterval()));
+        for (int i = 0; i < rows.size(); i++) {
+            audioPropertiesList.add(new AudioProperties(loaded.get(i), rows.get(i).getSilenceInterval()));
         }
         return audioPropertiesList;
     }
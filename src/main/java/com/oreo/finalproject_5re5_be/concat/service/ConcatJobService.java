@@ -0,0 +1,183 @@
+package com.oreo.finalproject_5re5_be.concat.service;
+
+import com.oreo.finalproject_5re5_be.concat.dto.ConcatResultDto;
+import com.oreo.finalproject_5re5_be.concat.dto.request.ConcatRowRequestDto;
+import com.oreo.finalproject_5re5_be.concat.dto.request.SelectedConcatRowRequest;
+import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatJobResponse;
+import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatTabResponseDto;
+import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatUrlResponse;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJob;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJobStatus;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJobType;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatTab;
+import com.oreo.finalproject_5re5_be.concat.repository.ConcatJobRepository;
+import com.oreo.finalproject_5re5_be.concat.repository.ConcatResultRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @apiNote 병합을 비동기 작업으로 실행하는 서비스 입니다. <br>
+ * 요청 스레드는 작업을 저장하고 작업 번호만 반환하며, 병합 파이프라인은 크기가 제한된 작업 스레드 풀에서 실행됩니다. <br>
+ * 작업 상태와 단계별 소요 시간은 concat_job 테이블에 저장되어 상태 조회 API로 확인할 수 있습니다. <br>
+ * 대기열이 가득 차면 작업을 실패로 기록하고 {@link IllegalStateException} 을 던집니다. <br>
+ * 작업은 서버 메모리의 스레드 풀에서만 실행되므로, 서버가 재시작되면 남은 대기/진행중 작업은 끝나지 않습니다.
+ * 이런 작업은 서버 시작 시와 이후 주기적으로 실패로 정리합니다 ({@link #failStaleJobs()}).
+ */
+@Slf4j
+@Service
+public class ConcatJobService {
+    private final ConcatJobRepository concatJobRepository;
+    private final ConcatResultRepository concatResultRepository;
+    private final ConcatService concatService;
+    private final Executor executor;
+    private final Duration staleAfter;
+
+    @Autowired
+    public ConcatJobService(ConcatJobRepository concatJobRepository,
+                            ConcatResultRepository concatResultRepository,
+                            ConcatService concatService,
+                            @Value("${concat.job.parallelism:2}") int parallelism,
+                            @Value("${concat.job.queue-capacity:50}") int queueCapacity,
+                            @Value("${concat.job.stale-after-minutes:30}") long staleAfterMinutes) {
+        this(concatJobRepository, concatResultRepository, concatService, new ThreadPoolExecutor(
+                parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("concat-job-")), Duration.ofMinutes(staleAfterMinutes));
+    }
+
+    ConcatJobService(ConcatJobRepository concatJobRepository, ConcatResultRepository concatResultRepository,
+                     ConcatService concatService, Executor executor, Duration staleAfter) {
+        this.concatJobRepository = concatJobRepository;
+        this.concatResultRepository = concatResultRepository;
+        this.concatService = concatService;
+        this.executor = executor;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * @apiNote 행 오디오 병합 작업을 등록합니다.
+     * @return 등록된 작업 정보 (QUEUED)
+     */
+    public ConcatJobResponse submitConcat(ConcatTabResponseDto concatTabResponseDto,
+                                          ConcatRowRequestDto concatRowRequests) {
+        ConcatJob job = createJob(concatTabResponseDto.getTabId(), ConcatJobType.NORMAL);
+        return submit(job, recorder -> {
+            ConcatResultDto result = concatService.concat(concatTabResponseDto, concatRowRequests, recorder);
+            return result.getConcatResultSequence();
+        });
+    }
+
+    /**
+     * @apiNote 행 오디오 병합 + BGM 믹싱 작업을 등록합니다.
+     * @return 등록된 작업 정보 (QUEUED)
+     */
+    public ConcatJobResponse submitConcatWithBgm(Long concatTabSeq, String bgmFileUrl, String fileName,
+                                                 SelectedConcatRowRequest selectedRows) {
+        ConcatJob job = createJob(concatTabSeq, ConcatJobType.BGM);
+        return submit(job, recorder -> {
+            ConcatUrlResponse result = concatService.concatWithBgm(
+                    concatTabSeq, bgmFileUrl, fileName, selectedRows, recorder);
+            return result.getSeq();
+        });
+    }
+
+    /**
+     * @apiNote 작업 상태를 조회합니다. 권한 확인에 필요한 프로젝트 번호도 같은 조회로 채웁니다.
+     * @param jobSeq 작업 번호
+     * @return 작업 상태, 프로젝트 번호, 결과, 단계별 소요 시간
+     */
+    public ConcatJobResponse getJob(Long jobSeq) {
+        ConcatJob job = concatJobRepository.findWithResultByConcatJobSeq(jobSeq)
+                .orElseThrow(() -> new NoSuchElementException("병합 작업을 찾을 수 없습니다: " + jobSeq));
+        return ConcatJobResponse.of(job);
+    }
+
+    /**
+     * @apiNote 마지막 상태 변경 후 {@code concat.job.stale-after-minutes} 가 지난 대기/진행중 작업을 실패로 저장합니다. <br>
+     * 서버 시작 시 한 번, 이후 {@code concat.job.stale-check-interval-millis} 마다 실행됩니다.
+     * 다른 서버에서 실행 중인 작업을 실패로 만들지 않도록 시작 시에도 경과 시간 조건을 적용합니다.
+     * @return 실패로 정리한 작업 수
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${concat.job.stale-check-interval-millis:600000}")
+    public int failStaleJobs() {
+        List<ConcatJob> staleJobs = concatJobRepository.findByStatusInAndUpDateBefore(
+                List.of(ConcatJobStatus.QUEUED, ConcatJobStatus.RUNNING), LocalDateTime.now().minus(staleAfter));
+        if (staleJobs.isEmpty()) {
+            return 0;
+        }
+        staleJobs.forEach(job -> job.fail("서버 재시작 등으로 작업이 중단되었습니다."));
+        concatJobRepository.saveAll(staleJobs);
+        log.warn("[ConcatJobService] 중단된 병합 작업 실패 처리 - count: {}, jobSeqs: {}",
+                staleJobs.size(), staleJobs.stream().map(ConcatJob::getConcatJobSeq).toList());
+        return staleJobs.size();
+    }
+
+    private ConcatJob createJob(Long concatTabSeq, ConcatJobType jobType) {
+        return concatJobRepository.save(ConcatJob.builder()
+                .concatTab(ConcatTab.builder().projectId(concatTabSeq).build())
+                .jobType(jobType)
+                .status(ConcatJobStatus.QUEUED)
+                .build());
+    }
+
+    private ConcatJobResponse submit(ConcatJob job, ConcatTask task) {
+        try {
+            executor.execute(() -> run(job, task));
+        } catch (RejectedExecutionException e) {
+            job.fail("병합 작업 대기열이 가득 찼습니다.");
+            concatJobRepository.save(job);
+            throw new IllegalStateException("병합 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+        return ConcatJobResponse.of(job);
+    }
+
+    //작업 스레드에서 실행, 상태 변경은 각각 바로 저장 (시작 상태 저장이 실패해도 실패로 남김)
+    private void run(ConcatJob job, ConcatTask task) {
+        try {
+            job.start();
+            concatJobRepository.save(job);
+            Long concatResultSeq = task.run(job::recordStage);
+            job.finish(concatResultRepository.getReferenceById(concatResultSeq));
+            log.info("[ConcatJobService] 병합 작업 완료 - jobSeq: {}, load: {}ms, upload: {}ms, save: {}ms",
+                    job.getConcatJobSeq(), job.getLoadMillis(), job.getUploadMillis(), job.getSaveMillis());
+        } catch (Exception e) {
+            log.error("[ConcatJobService] 병합 작업 실패 - jobSeq: {}", job.getConcatJobSeq(), e);
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+        try {
+            concatJobRepository.save(job);
+        } catch (RuntimeException e) {
+            log.error("[ConcatJobService] 병합 작업 상태 저장 실패 - jobSeq: {}, status: {}",
+                    job.getConcatJobSeq(), job.getStatus(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    //병합 파이프라인 실행 후 저장된 ConcatResult 번호 반환
+    @FunctionalInterface
+    private interface ConcatTask {
+        Long run(ConcatStage.Listener recorder) throws Exception;
+    }
+}
@@ -3,49 +3,65 @@ package com.oreo.finalproject_5re5_be.concat.service;
 import com.oreo.finalproject_5re5_be.concat.dto.ConcatResultDto;
 import com.oreo.finalproject_5re5_be.concat.dto.request.ConcatRowRequest;
 import com.oreo.finalproject_5re5_be.concat.dto.request.ConcatRowRequestDto;
+import com.oreo.finalproject_5re5_be.concat.dto.request.SelectedConcatRowRequest;
 import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatTabResponseDto;
+import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatUrlResponse;
 import com.oreo.finalproject_5re5_be.concat.entity.AudioFile;
 import com.oreo.finalproject_5re5_be.concat.entity.ConcatResult;
 import com.oreo.finalproject_5re5_be.concat.entity.ConcatTab;
 import com.oreo.finalproject_5re5_be.concat.entity.MaterialAudio;
+import com.oreo.finalproject_5re5_be.concat.service.bgm.BgmProcessor;
 import com.oreo.finalproject_5re5_be.concat.service.concatenator.AudioProperties;
 import com.oreo.finalproject_5re5_be.concat.service.concatenator.IntervalConcatenator;
 import com.oreo.finalproject_5re5_be.concat.service.concatenator.StereoIntervalConcatenator;
 import com.oreo.finalproject_5re5_be.global.component.S3Service;
-import com.oreo.finalproject_5re5_be.global.component.audio.AudioExtensionConverter;
 import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
 import com.oreo.finalproject_5re5_be.global.component.audio.AudioResample;
+import com.oreo.finalproject_5re5_be.global.component.audio.WaveInputStream;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
+import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class ConcatService {
+    private static final AudioFormat BGM_AUDIO_FORMAT = AudioFormats.STEREO_FORMAT_SR441_B32; // BGM 믹싱 포맷
     private final IntervalConcatenator concatenator
             = new StereoIntervalConcatenator(AudioFormats.STEREO_FORMAT_SR441_B16);
     private final AudioResample audioResample = new AudioResample(AudioFormats.STEREO_FORMAT_SR441_B16);
     private final S3Service s3Service;
     private final MaterialAudioService materialAudioService;
     private final ConcatResultService concatResultService;
+    private final AudioPrefetchService audioPrefetchService;
+    private final AudioStreamService audioStreamService;
 
     public ConcatResultDto concat(ConcatTabResponseDto concatTabResponseDto, ConcatRowRequestDto concatRowRequests)
             throws IOException {
+        return concat(concatTabResponseDto, concatRowRequests, ConcatStage.Listener.NONE);
+    }
+
+    /**
+     * @apiNote 오디오 병합을 수행하고, 단계별 소요 시간을 listener에 전달합니다.
+     */
+    public ConcatResultDto concat(ConcatTabResponseDto concatTabResponseDto, ConcatRowRequestDto concatRowRequests,
+                                  ConcatStage.Listener listener) throws IOException {
 
-        Result concatResult = getResult(concatTabResponseDto, concatRowRequests);
+        Result concatResult = getResult(concatTabResponseDto, concatRowRequests, listener);
         if (concatResult == null) {
             throw new IllegalArgumentException("허용되지 않은 접근입니다.");
         }
 
         //재료 오디오 저장
+        long start = System.currentTimeMillis();
         materialAudioService.saveMaterialAudio(prepareMaterialAudio(concatResult.audios(), concatResult.result()));
+        listener.onStageFinished(ConcatStage.SAVE, concatResult.saveMillis() + System.currentTimeMillis() - start);
         return ConcatResultDto.builder()
                 .concatResultSequence(concatResult.result().getConcatResultSequence())
                 .extension(concatResult.result().getExtension())
@@ -58,35 +74,52 @@ public class ConcatService {
     }
 
     //책임 : s3 저장, 결과 저장
-    private Result getResult(ConcatTabResponseDto concatTabResponseDto, ConcatRowRequestDto concatRowRequests)
-            throws IOException {
+    private Result getResult(ConcatTabResponseDto concatTabResponseDto, ConcatRowRequestDto concatRowRequests,
+                             ConcatStage.Listener listener) throws IOException {
         List<ConcatRowRequest> audios = concatRowRequests.getConcatRowRequests();
         if (checkNull(audios)) {
             return null;
         }
 
-        ConcatResult result = getConcatResult(concatTabResponseDto, concatRowRequests, audios);
-        return new Result(audios, result);
-    }
-
-    private ConcatResult getConcatResult(ConcatTabResponseDto concatTabResponseDto, ConcatRowRequestDto concatRowRequests, List<ConcatRowRequest> audios) throws IOException {
+        long start = System.currentTimeMillis();
         AudioInputStream concat = resampleAudio(concatTabResponseDto, audios);
+        listener.onStageFinished(ConcatStage.LOAD, System.currentTimeMillis() - start);
 
-        byte[] audioData = AudioExtensionConverter.mp3ToWav(concat); // AudioInputStream을 byte[]로 변환
+        start = System.currentTimeMillis();
+        WaveInputStream wave = new WaveInputStream(concat);
+        String uploadUrl = upload(wave, concatRowRequests);
+        listener.onStageFinished(ConcatStage.UPLOAD, System.currentTimeMillis() - start);
 
-        MultipartFile multipartFile
-                = new AudioMultipartFile(audioData, concatRowRequests.getFileName(), "audio/wav");
+        start = System.currentTimeMillis();
+        ConcatResult result = getConcatResult(concatTabResponseDto, concatRowRequests, concat, wave, uploadUrl);
+        return new Result(audios, result, System.currentTimeMillis() - start);
+    }
 
-        String uploadUrl = getUploadtoS3(multipartFile);
+    // 병합 스트림을 WAVE로 감싸서 메모리에 모으지 않고 바로 업로드
+    private String upload(WaveInputStream wave, ConcatRowRequestDto concatRowRequests) {
+        String uploadUrl = s3Service.upload(
+                wave,
+                "concat/result",
+                concatRowRequests.getFileName(),
+                wave.getSize(),
+                "audio/wav"
+        );
         log.info("[Uploaded file URL : {}] ", uploadUrl);
+        return uploadUrl;
+    }
+
+    private ConcatResult getConcatResult(ConcatTabResponseDto concatTabResponseDto, ConcatRowRequestDto concatRowRequests,
+                                         AudioInputStream concat, WaveInputStream wave, String uploadUrl) {
+        long frameLength = concat.getFrameLength();
+        float frameRate = concat.getFormat().getFrameRate();
 
         //결과 저장
         ConcatResult result = ConcatResult.builder().concatTab(ConcatTab.builder()
                         .projectId(concatTabResponseDto.getTabId()).build())
                 .audioUrl(uploadUrl)
                 .extension("WAV")
-                .fileSize((long) audioData.length)
-                .fileLength(concat.getFrameLength() / concat.getFormat().getFrameRate())
+                .fileSize(wave.getSize())
+                .fileLength(frameLength / frameRate)
                 .fileName(concatRowRequests.getFileName())
                 .build();
         return concatResultService.saveConcatResult(result);
@@ -101,27 +134,19 @@ public class ConcatService {
         return false;
     }
 
-    private String getUploadtoS3(MultipartFile multipartFile) throws IOException {
-        return s3Service.upload(
-                multipartFile.getInputStream(),
-                "concat/result",
-                multipartFile.getOriginalFilename(),
-                multipartFile.getSize(),
-                multipartFile.getContentType()
-        );
-    }
-
     private AudioInputStream resampleAudio(ConcatTabResponseDto concatTabResponseDto, List<ConcatRowRequest> audios) throws IOException {
-        List<AudioProperties> audioProperties = audios.stream().map(cr -> new AudioProperties(
-                resample(S3Service.load(cr.getOriginAudioRequest().getAudioUrl()))
-                , cr.getRowSilence()
-        )).toList();//오디오 받아오기
-
-        ByteArrayOutputStream concatResult = concatenator
-                .intervalConcatenate(audioProperties, concatTabResponseDto.getFrontSilence());//결과 생성
+        //오디오 받아오기 (행 순서를 유지하면서 동시에 다운로드, 디코딩 및 리샘플링)
+        List<AudioInputStream> loaded = audioPrefetchService.loadAll(audios.stream()
+                .map(cr -> cr.getOriginAudioRequest().getAudioUrl())
+                .toList(), AudioFormats.STEREO_FORMAT_SR441_B16);
+
+        List<AudioProperties> audioProperties = new ArrayList<>(audios.size());
+        for (int i = 0; i < audios.size(); i++) {
+            audioProperties.add(new AudioProperties(loaded.get(i), audios.get(i).getRowSilence()));
+        }
 
-        //리샘플
-        return audioResample.resample(concatResult);
+        //결과 생성 (각 오디오가 이미 병합 포맷으로 리샘플링 되어 있으므로 그대로 이어 붙인다)
+        return concatenator.intervalConcatenateStream(audioProperties, concatTabResponseDto.getFrontSilence());
     }
 
     public List<MaterialAudio> prepareMaterialAudio(List<ConcatRowRequest> audios, ConcatResult concatResult) {
@@ -138,7 +163,46 @@ public class ConcatService {
         return audioResample.resample(audioInputStream);
     }
 
-    private record Result(List<ConcatRowRequest> audios, ConcatResult result) {
+    /**
+     * @apiNote 선택한 행 오디오를 병합하고 BGM을 믹싱해서 업로드한 뒤, 결과와 재료 오디오를 저장합니다. <br>
+     * 병합, BGM 길이 조정, 믹싱은 업로드하면서 스트림으로 처리됩니다.
+     * @param concatTabSeq   결과를 저장할 concatTab
+     * @param bgmFileUrl     BGM 오디오 URL
+     * @param fileName       저장할 결과 파일 이름
+     * @param selectedRows   병합할 행 목록
+     * @param listener       단계별 소요 시간 리스너
+     * @return 저장된 결과의 seq와 URL
+     */
+    public ConcatUrlResponse concatWithBgm(Long concatTabSeq, String bgmFileUrl, String fileName,
+                                           SelectedConcatRowRequest selectedRows,
+                                           ConcatStage.Listener listener) throws IOException {
+        IntervalConcatenator intervalConcatenator = new StereoIntervalConcatenator(BGM_AUDIO_FORMAT);
+
+        // 1. Row 오디오, BGM 로드
+        long start = System.currentTimeMillis();
+        List<AudioProperties> audioProperties = audioStreamService.loadAudioFiles(selectedRows);
+        AudioInputStream concatenated = intervalConcatenator.intervalConcatenateStream(
+                audioProperties, selectedRows.getInitialSilence());
+        AudioInputStream bgm = s3Service.loadAsBufferedStream(bgmFileUrl);
+        long targetFrames = audioStreamService.getValidFrameLength(concatenated);
+        bgm = BgmProcessor.adjustBgmLength(bgm, targetFrames); // 짧으면 반복, 길면 자르기
+        listener.onStageFinished(ConcatStage.LOAD, System.currentTimeMillis() - start);
+
+        // 2. 믹싱하면서 S3 업로드
+        start = System.currentTimeMillis();
+        AudioInputStream mixed = BgmProcessor.mixAudio(concatenated, bgm);
+        String resultAudioUrl = s3Service.uploadAudioStream(mixed, "concat/result", fileName);
+        listener.onStageFinished(ConcatStage.UPLOAD, System.currentTimeMillis() - start);
+
+        // 3. 결과, 재료 오디오 저장
+        start = System.currentTimeMillis();
+        ConcatUrlResponse response = concatResultService.saveConcatResult(concatTabSeq, resultAudioUrl, fileName, mixed);
+        materialAudioService.saveMaterialsForSelectedRows(selectedRows, response);
+        listener.onStageFinished(ConcatStage.SAVE, System.currentTimeMillis() - start);
+        return response;
+    }
+
+    private record Result(List<ConcatRowRequest> audios, ConcatResult result, long saveMillis) {
     }
 
 }
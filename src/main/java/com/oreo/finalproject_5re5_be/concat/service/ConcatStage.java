@@ -0,0 +1,27 @@
+package com.oreo.finalproject_5re5_be.concat.service;
+
+/**
+ * @apiNote 병합 파이프라인의 단계 입니다. <br>
+ * 병합, 믹싱, WAVE 인코딩은 업로드하면서 스트림으로 처리되므로 업로드 단계에 포함됩니다.
+ */
+public enum ConcatStage {
+    // S3 다운로드, 디코딩, 리샘플링
+    LOAD,
+
+    // 병합, 믹싱, 인코딩 및 S3 업로드
+    UPLOAD,
+
+    // 결과, 재료 오디오 DB 저장
+    SAVE;
+
+    /**
+     * @apiNote 단계별 소요 시간을 전달받는 리스너 입니다.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        Listener NONE = (stage, millis) -> {
+        };
+
+        void onStageFinished(ConcatStage stage, long millis);
+    }
+}
@@ -4,16 +4,20 @@ import com.oreo.finalproject_5re5_be.global.component.audio.AudioExtensionChecke
 import com.oreo.finalproject_5re5_be.global.component.audio.AudioExtensionConverter;
 import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
 import com.oreo.finalproject_5re5_be.global.component.audio.AudioResample;
+import lombok.extern.slf4j.Slf4j;
 
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 
+@Slf4j
 public class BgmProcessor {
+    public static final float DEFAULT_SOURCE_GAIN = 1.0f; // 원본(나레이션) 게인
+    public static final float DEFAULT_BGM_GAIN = 0.5f;    // BGM 게인
+    public static final int DEFAULT_LOOP_CROSSFADE_MILLIS = 100; // BGM 반복 경계 크로스페이드 길이
 
     public static AudioInputStream prepareBgm(File bgmFile) throws IOException {
         try {
@@ -21,13 +25,13 @@ public class BgmProcessor {
 
             // 1. 파일 포맷 검사
             if (AudioExtensionChecker.isSupported(bgmFile)) {
-                System.out.println("BGM 파일이 MP3 형식입니다. WAV로 변환 중...");
+                log.debug("[BgmProcessor] BGM 파일이 MP3 형식입니다. WAV로 변환 중...");
                 byte[] wavBytes = AudioExtensionConverter.mp3ToWav(bgmFile);
                 AudioInputStream wavStream = AudioSystem.getAudioInputStream(new ByteArrayInputStream(wavBytes));
                 // 변환 후에도 리샘플링 수행
                 return resampler.resample(wavStream);
             } else if (AudioExtensionChecker.isWavExtension(bgmFile)) {
-                System.out.println("BGM 파일이 WAV 형식입니다. 리샘플링 중...");
+                log.debug("[BgmProcessor] BGM 파일이 WAV 형식입니다. 리샘플링 중...");
                 AudioInputStream wavStream = AudioSystem.getAudioInputStream(bgmFile);
                 // WAV 파일도 리샘플링 수행
                 return resampler.resample(wavStream);
@@ -40,111 +44,46 @@ public class BgmProcessor {
     }
 
 
-    // BGM이 이미 source보다 길 경우 필요
-    public static AudioInputStream trimBgm(AudioInputStream bgm, long targetFrames) throws IOException {
-        System.out.println("Trimming BGM to " + targetFrames + " frames.");
-        return new AudioInputStream(
-                bgm,
-                bgm.getFormat(),
-                Math.min(targetFrames, bgm.getFrameLength())
-        );
+    /**
+     * @apiNote BGM을 목표 길이에 맞춥니다. BGM이 길면 앞부분만, 짧으면 반복해서 전달하는 스트림을 반환합니다. <br>
+     * 반복 경계는 {@value #DEFAULT_LOOP_CROSSFADE_MILLIS}ms 크로스페이드로 이어 붙입니다. (16/24/32비트 signed PCM만, 그 외는 그대로 이어 붙임)
+     * @param bgmStream    BGM 오디오
+     * @param targetFrames 목표 프레임 수
+     * @return 목표 길이의 BGM 스트림
+     */
+    public static AudioInputStream adjustBgmLength(AudioInputStream bgmStream, long targetFrames) throws IOException {
+        AudioFormat format = bgmStream.getFormat();
+        int crossfadeFrames = PcmCodec.isSupported(format)
+                ? (int) (format.getFrameRate() * DEFAULT_LOOP_CROSSFADE_MILLIS / 1000) : 0;
+        return adjustBgmLength(bgmStream, targetFrames, crossfadeFrames);
     }
 
-
-    public static AudioInputStream extendBgm(AudioInputStream bgm, long targetFrames) throws IOException {
-        // BGM 데이터 읽기
-        byte[] bgmData = bgm.readAllBytes();
-        AudioFormat format = bgm.getFormat();
-        int frameSize = format.getFrameSize();
-
-        // 현재 BGM의 프레임 길이 계산
-        long frameLength = bgmData.length / frameSize;
-        System.out.println("Original BGM Frame Length: " + frameLength);
-
-        // 목표 프레임 길이만큼 확장
-        ByteArrayOutputStream extendedStream = new ByteArrayOutputStream();
-        long totalFrames = 0;
-
-        while (totalFrames < targetFrames) {
-            long remainingFrames = targetFrames - totalFrames;
-            long framesToAdd = Math.min(remainingFrames, frameLength);
-
-            if (framesToAdd <= 0) {
-                throw new IllegalStateException("Frames to add is zero or negative, check the input data.");
-            }
-
-            System.out.println("Current Total Frames: " + totalFrames + ", Frames To Add: " + framesToAdd);
-
-            // 데이터 추가
-            extendedStream.write(bgmData, 0, (int) (framesToAdd * frameSize));
-            totalFrames += framesToAdd;
-        }
-
-        System.out.println("Extended BGM total frames: " + totalFrames);
-
-        // 새로운 AudioInputStream 생성
-        return new AudioInputStream(
-                new ByteArrayInputStream(extendedStream.toByteArray()),
-                format,
-                totalFrames
-        );
-    }
-
-    public static long calculateTargetFrames(AudioInputStream audioStream) throws IOException {
-        AudioFormat format = audioStream.getFormat();
-        int frameSize = format.getFrameSize();
-        byte[] buffer = new byte[4096];
-        long totalBytes = 0;
-        int bytesRead;
-
-        while ((bytesRead = audioStream.read(buffer)) != -1) {
-            totalBytes += bytesRead;
-        }
-
-        long calculatedFrames = totalBytes / frameSize;
-        System.out.println("Calculated Frames: " + calculatedFrames);
-        return calculatedFrames;
+    public static AudioInputStream adjustBgmLength(AudioInputStream bgmStream, long targetFrames,
+                                                   int crossfadeFrames) throws IOException {
+        log.debug("[BgmProcessor] BGM 길이 조정 - targetFrames: {}, bgmFrames: {}", targetFrames, bgmStream.getFrameLength());
+        return new LoopingAudioInputStream(bgmStream, targetFrames, crossfadeFrames);
     }
 
-    // BGM 길이 조정 로직 분리
-    public static AudioInputStream adjustBgmLength(AudioInputStream bgmStream, long targetFrames, long bgmFrames) throws IOException {
-        return bgmFrames > targetFrames
-                ? BgmProcessor.trimBgm(bgmStream, targetFrames)
-                : BgmProcessor.extendBgm(bgmStream, targetFrames);
+    /**
+     * @apiNote 원본 오디오와 BGM을 기본 게인으로 믹싱합니다.
+     * @see #mixAudio(AudioInputStream, AudioInputStream, float, float)
+     */
+    public static AudioInputStream mixAudio(AudioInputStream source, AudioInputStream bgm) {
+        return mixAudio(source, bgm, DEFAULT_SOURCE_GAIN, DEFAULT_BGM_GAIN);
     }
 
-
-    public static AudioInputStream mixAudio(AudioInputStream source, AudioInputStream bgm) throws IOException {
-        AudioFormat format = source.getFormat();
-        // 첫 번째 오디오 파일과 두 번째 오디오 파일의 길이를 얻음
-        byte[] buffer1 = source.readAllBytes();
-        byte[] buffer2 = bgm.readAllBytes();
-
-
-        // 믹싱을 위한 새로운 버퍼 생성
-        byte[] mixedBuffer = new byte[buffer1.length];
-
-        // 두 오디오 파일을 샘플 단위로 믹싱
-        for (int i = 0; i < buffer1.length; i += 2) { //16비트 기준
-            // 각 버퍼에서 샘플을 가져옴
-            short sample1 = (short) ((buffer1[i + 1] << 8) | (buffer1[i] & 0xFF));
-            short sample2 = (short) ((buffer2[i + 1] << 8) | (buffer2[i] & 0xFF));
-
-            // 샘플을 믹싱 (평균값 계산)
-            short mixedSample = (short) ((sample1 + sample2) / 2);
-
-            // 믹싱된 샘플을 mixedBuffer에 저장
-            mixedBuffer[i] = (byte) (mixedSample & 0xFF);
-            mixedBuffer[i + 1] = (byte) ((mixedSample >> 8) & 0xFF);
-        }
-
-        // 믹싱된 오디오 데이터로 AudioInputStream 생성
-        ByteArrayInputStream bais = new ByteArrayInputStream(mixedBuffer);
-        AudioInputStream mixedAudioStream = new AudioInputStream(bais, format, mixedBuffer.length / format.getFrameSize());
-
-        return mixedAudioStream;
-
+    /**
+     * @apiNote 원본 오디오와 BGM을 블록 단위로 믹싱하는 스트림을 반환합니다. <br>
+     * 읽는 시점에 믹싱하므로 전체 오디오를 메모리에 올리지 않으며, BGM 포맷이 다르면 원본 포맷으로 변환합니다.
+     * @param source     원본 오디오
+     * @param bgm        BGM 오디오
+     * @param sourceGain 원본 오디오 게인
+     * @param bgmGain    BGM 게인
+     * @return 원본 오디오와 같은 길이의 믹싱된 오디오 스트림
+     */
+    public static AudioInputStream mixAudio(AudioInputStream source, AudioInputStream bgm,
+                                            float sourceGain, float bgmGain) {
+        AudioInputStream formattedBgm = new AudioResample(source.getFormat()).formatting(bgm);
+        return new MixedAudioInputStream(source, formattedBgm, sourceGain, bgmGain);
     }
-
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package com.oreo.finalproject_5re5_be.concat.service.bgm;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @apiNote BGM 한 벌만 메모리에 두고 목표 프레임 수가 될 때까지 반복해서 전달하는 {@link AudioInputStream} 입니다. <br>
+ * 목표 길이가 BGM보다 짧거나 같으면 앞부분만 전달하므로 자르기와 늘리기를 모두 처리합니다. <br>
+ * 크로스페이드 길이를 지정하면 반복되는 경계에서 BGM 끝부분은 점점 작게, 처음 부분은 점점 크게 겹쳐서 전달합니다.
+ * 이 경우 한 바퀴의 길이는 (BGM 길이 - 크로스페이드 길이) 입니다. <br>
+ * 메모리 사용량은 결과 길이가 아니라 BGM 길이에 비례합니다.
+ */
+public class LoopingAudioInputStream extends AudioInputStream {
+
+    /**
+     * @param bgm             반복할 BGM 오디오 (끝까지 한 번 읽어서 보관)
+     * @param targetFrames    결과 프레임 수
+     * @param crossfadeFrames 반복 경계의 크로스페이드 프레임 수 (0이면 그대로 이어 붙임)
+     * @throws IOException BGM을 읽는 중 오류
+     */
+    public LoopingAudioInputStream(AudioInputStream bgm, long targetFrames, int crossfadeFrames) throws IOException {
+        this(bgm.getFormat(), readLoop(bgm), targetFrames, crossfadeFrames);
+    }
+
+    private LoopingAudioInputStream(AudioFormat format, byte[] loop, long targetFrames, int crossfadeFrames) {
+        super(new Looper(format, loop, targetFrames, crossfadeFrames), format, targetFrames);
+    }
+
+    private static byte[] readLoop(AudioInputStream bgm) throws IOException {
+        try (AudioInputStream in = bgm) {
+            byte[] loop = in.readAllBytes();
+            if (loop.length < bgm.getFormat().getFrameSize()) {
+                throw new IllegalArgumentException("반복할 BGM이 비어 있습니다.");
+            }
+            return loop;
+        }
+    }
+
+    //반복 위치를 계산해 BGM 데이터를 전달하는 내부 스트림
+    private static class Looper extends InputStream {
+        private final byte[] loop;
+        private final int frameSize;
+        private final long loopFrames;
+        private final int crossfadeFrames;
+        private final long period; //크로스페이드를 제외한 한 바퀴 길이
+        private final PcmCodec codec;
+        private final int channels;
+        private final int[] tail;
+        private final int[] head;
+        private long remaining; //남은 프레임 수
+        private long position;  //지금까지 전달한 프레임 수
+
+        Looper(AudioFormat format, byte[] loop, long targetFrames, int crossfadeFrames) {
+            this.loop = loop;
+            this.frameSize = format.getFrameSize();
+            this.loopFrames = loop.length / frameSize;
+            //반복이 필요 없으면 크로스페이드도 하지 않음
+            this.crossfadeFrames = targetFrames <= loopFrames
+                    ? 0 : (int) Math.max(0, Math.min(crossfadeFrames, loopFrames / 2));
+            this.period = loopFrames - this.crossfadeFrames;
+            this.codec = this.crossfadeFrames > 0 ? new PcmCodec(format) : null;
+            this.channels = format.getChannels();
+            this.tail = new int[channels];
+            this.head = new int[channels];
+            this.remaining = targetFrames;
+        }
+
+        @Override
+        public int read() throws IOException {
+            throw new IOException("프레임 단위로만 읽을 수 있습니다.");
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            long frames = Math.min(len / frameSize, remaining);
+            int written = 0;
+            while (frames > 0) {
+                long lap = position / period;
+                int index = (int) (position % period);
+                int count;
+                if (lap > 0 && index < crossfadeFrames) {
+                    crossfade(index, b, off + written);
+                    count = 1;
+                } else {
+                    //다음 크로스페이드 구간(또는 한 바퀴 끝) 전까지 한 번에 복사
+                    count = (int) Math.min(frames, period - index);
+                    System.arraycopy(loop, index * frameSize, b, off + written, count * frameSize);
+                }
+                written += count * frameSize;
+                position += count;
+                remaining -= count;
+                frames -= count;
+            }
+            return written;
+        }
+
+        //BGM 끝부분(fade out)과 처음 부분(fade in)을 한 프레임 겹쳐서 기록
+        private void crossfade(int index, byte[] b, int off) {
+            double fadeIn = (index + 0.5) / crossfadeFrames;
+            codec.decode(loop, (int) (period + index) * frameSize, tail, channels);
+            codec.decode(loop, index * frameSize, head, channels);
+            for (int channel = 0; channel < channels; channel++) {
+                head[channel] = codec.saturate(tail[channel] * (1 - fadeIn) + head[channel] * fadeIn);
+            }
+            codec.encode(head, channels, b, off);
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n / frameSize, remaining));
+            position += skipped;
+            remaining -= skipped;
+            return skipped * frameSize;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(remaining * frameSize, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.oreo.finalproject_5re5_be.concat.service.bgm;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @apiNote 원본 오디오와 BGM을 읽는 시점에 섞어서 전달하는 {@link AudioInputStream} 입니다. <br>
+ * 고정 크기 프레임 블록 단위로 두 스트림을 읽고, 미리 만들어둔 배열을 재사용하므로
+ * 오디오 길이와 상관없이 메모리 사용량이 일정합니다. <br>
+ * 16/24/32비트 signed PCM을 지원하며, 트랙마다 게인을 곱해 더한 뒤 최대/최소값을 넘으면 잘라냅니다(saturation). <br>
+ * 결과 길이는 원본 오디오와 같고, BGM이 먼저 끝나면 나머지 구간은 원본만 전달합니다.
+ */
+public class MixedAudioInputStream extends AudioInputStream {
+    public static final int DEFAULT_BLOCK_FRAMES = 4096;
+
+    /**
+     * @param source     원본 오디오 (결과 포맷과 길이의 기준)
+     * @param bgm        BGM 오디오 (원본과 같은 포맷)
+     * @param sourceGain 원본 오디오 게인 (1.0 = 그대로)
+     * @param bgmGain    BGM 게인 (1.0 = 그대로)
+     */
+    public MixedAudioInputStream(AudioInputStream source, AudioInputStream bgm, float sourceGain, float bgmGain) {
+        this(source, bgm, sourceGain, bgmGain, DEFAULT_BLOCK_FRAMES);
+    }
+
+    public MixedAudioInputStream(AudioInputStream source, AudioInputStream bgm,
+                                 float sourceGain, float bgmGain, int blockFrames) {
+        super(new Mixer(source, bgm, sourceGain, bgmGain, blockFrames), source.getFormat(), source.getFrameLength());
+    }
+
+    //두 스트림을 블록 단위로 읽어 섞는 내부 스트림
+    private static class Mixer extends InputStream {
+        private final AudioInputStream source;
+        private final AudioInputStream bgm;
+        private final float sourceGain;
+        private final float bgmGain;
+        private final PcmCodec codec;
+        private final int frameSize;
+        private final int bytesPerSample;
+
+        //블록 단위 재사용 버퍼
+        private final byte[] sourceBytes;
+        private final byte[] bgmBytes;
+        private final int[] sourceSamples;
+        private final int[] bgmSamples;
+        private boolean bgmEnded;
+
+        Mixer(AudioInputStream source, AudioInputStream bgm, float sourceGain, float bgmGain, int blockFrames) {
+            AudioFormat format = source.getFormat();
+            if (!format.matches(bgm.getFormat())) {
+                throw new IllegalArgumentException("원본 오디오와 BGM의 포맷이 다릅니다.");
+            }
+            this.source = source;
+            this.bgm = bgm;
+            this.sourceGain = sourceGain;
+            this.bgmGain = bgmGain;
+            this.codec = new PcmCodec(format);
+            this.frameSize = format.getFrameSize();
+            this.bytesPerSample = codec.getBytesPerSample();
+
+            int blockBytes = blockFrames * frameSize;
+            int blockSamples = blockBytes / bytesPerSample;
+            this.sourceBytes = new byte[blockBytes];
+            this.bgmBytes = new byte[blockBytes];
+            this.sourceSamples = new int[blockSamples];
+            this.bgmSamples = new int[blockSamples];
+        }
+
+        @Override
+        public int read() throws IOException {
+            throw new IOException("프레임 단위로만 읽을 수 있습니다.");
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int length = Math.min(len - (len % frameSize), sourceBytes.length);
+            if (length == 0) {
+                return 0;
+            }
+            int sourceRead = readFully(source, sourceBytes, length);
+            if (sourceRead == 0) {
+                return -1;
+            }
+            int bgmRead = bgmEnded ? 0 : readFully(bgm, bgmBytes, sourceRead);
+            if (bgmRead < sourceRead) {
+                bgmEnded = true;
+            }
+
+            int samples = sourceRead / bytesPerSample;
+            int bgmSampleCount = bgmRead / bytesPerSample;
+            codec.decode(sourceBytes, 0, sourceSamples, samples);
+            codec.decode(bgmBytes, 0, bgmSamples, bgmSampleCount);
+            for (int i = 0; i < samples; i++) {
+                double mixed = sourceSamples[i] * (double) sourceGain;
+                if (i < bgmSampleCount) {
+                    mixed += bgmSamples[i] * (double) bgmGain;
+                }
+                sourceSamples[i] = codec.saturate(mixed);
+            }
+            codec.encode(sourceSamples, samples, b, off);
+            return sourceRead;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                source.close();
+            } finally {
+                bgm.close();
+            }
+        }
+
+        //요청한 길이를 채우거나 스트림이 끝날 때까지 읽기
+        private static int readFully(AudioInputStream in, byte[] buffer, int length) throws IOException {
+            int total = 0;
+            while (total < length) {
+                int bytesRead = in.read(buffer, total, length - total);
+                if (bytesRead <= 0) { // 프레임 정렬된 스트림은 더 읽을 프레임이 없으면 0 또는 -1 반환
+                    break;
+                }
+                total += bytesRead;
+            }
+            return total;
+        }
+    }
+}
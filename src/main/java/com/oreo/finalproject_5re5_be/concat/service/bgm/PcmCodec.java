@@ -0,0 +1,70 @@
+package com.oreo.finalproject_5re5_be.concat.service.bgm;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * @apiNote 16/24/32비트 signed PCM 바이트와 샘플 값(int) 사이를 변환하는 클래스 입니다. <br>
+ * BGM 믹싱과 루프 크로스페이드에서 같은 변환 규칙을 사용하기 위해 분리했습니다.
+ */
+final class PcmCodec {
+    private final int bytesPerSample;
+    private final boolean bigEndian;
+    private final long maxValue;
+    private final long minValue;
+
+    PcmCodec(AudioFormat format) {
+        if (!isSupported(format)) {
+            throw new IllegalArgumentException("16, 24, 32비트 signed PCM 오디오만 지원합니다.");
+        }
+        int sampleSize = format.getSampleSizeInBits();
+        this.bytesPerSample = sampleSize / 8;
+        this.bigEndian = format.isBigEndian();
+        this.maxValue = (1L << (sampleSize - 1)) - 1;
+        this.minValue = -(1L << (sampleSize - 1));
+    }
+
+    static boolean isSupported(AudioFormat format) {
+        int sampleSize = format.getSampleSizeInBits();
+        return AudioFormat.Encoding.PCM_SIGNED.equals(format.getEncoding())
+                && (sampleSize == 16 || sampleSize == 24 || sampleSize == 32);
+    }
+
+    int getBytesPerSample() {
+        return bytesPerSample;
+    }
+
+    //바이트 배열을 샘플 값(부호 확장된 int)으로 변환
+    void decode(byte[] bytes, int off, int[] samples, int count) {
+        int shift = 32 - bytesPerSample * 8;
+        for (int i = 0, pos = off; i < count; i++, pos += bytesPerSample) {
+            int value = 0;
+            for (int j = 0; j < bytesPerSample; j++) {
+                int index = bigEndian ? pos + j : pos + bytesPerSample - 1 - j;
+                value = (value << 8) | (bytes[index] & 0xFF);
+            }
+            samples[i] = (value << shift) >> shift;
+        }
+    }
+
+    //샘플 값을 다시 바이트 배열로 변환
+    void encode(int[] samples, int count, byte[] bytes, int off) {
+        for (int i = 0, pos = off; i < count; i++, pos += bytesPerSample) {
+            int value = samples[i];
+            for (int j = 0; j < bytesPerSample; j++) {
+                int index = bigEndian ? pos + bytesPerSample - 1 - j : pos + j;
+                bytes[index] = (byte) (value >> (8 * j));
+            }
+        }
+    }
+
+    //샘플 범위를 넘으면 최대/최소값으로 잘라냄
+    int saturate(double value) {
+        if (value >= maxValue) {
+            return (int) maxValue;
+        }
+        if (value <= minValue) {
+            return (int) minValue;
+        }
+        return (int) Math.round(value);
+    }
+}
@@ -0,0 +1,28 @@
+package com.oreo.finalproject_5re5_be.concat.service.concatenator;
+
+import javax.sound.sampled.AudioInputStream;
+import java.util.function.Supplier;
+
+/**
+ * @apiNote 스트리밍 병합에서 순서대로 이어 붙일 하나의 구간을 나타내는 레코드 입니다. <br>
+ * 구간의 길이(프레임 수)는 미리 알고 있어야 하며, 실제 스트림은 읽을 차례가 되었을 때 {@code source} 로부터 생성됩니다.
+ *
+ * @param frameLength 구간의 프레임 수
+ * @param source      구간의 오디오 스트림 공급자
+ * @see ConcatenatedAudioInputStream
+ */
+public record AudioSegment(long frameLength, Supplier<AudioInputStream> source) {
+
+    /**
+     * @apiNote 이미 열려있는 오디오 스트림으로 구간을 생성합니다.
+     * @param audioInputStream 프레임 길이가 지정된 오디오 스트림
+     * @return AudioSegment
+     */
+    public static AudioSegment of(AudioInputStream audioInputStream) {
+        long frameLength = audioInputStream.getFrameLength();
+        if (frameLength < 0) {
+            throw new IllegalArgumentException("프레임 길이를 알 수 없는 오디오는 스트리밍 병합할 수 없습니다.");
+        }
+        return new AudioSegment(frameLength, () -> audioInputStream);
+    }
+}
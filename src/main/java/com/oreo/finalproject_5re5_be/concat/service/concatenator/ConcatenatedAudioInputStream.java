@@ -0,0 +1,95 @@
+package com.oreo.finalproject_5re5_be.concat.service.concatenator;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * @apiNote 여러 {@link AudioSegment} 를 순서대로 이어 읽는 {@link AudioInputStream} 입니다. <br>
+ * 병합 결과를 메모리에 만들지 않고, 읽는 시점에 각 구간의 스트림을 열어 그대로 흘려보냅니다. <br>
+ * 전체 프레임 길이는 구간 길이의 합으로 미리 계산되므로 WAVE 헤더 작성이나 S3 업로드에 바로 사용할 수 있습니다. <br>
+ * 구간의 스트림이 선언한 길이보다 짧으면 나머지는 무음으로 채우고, 길면 선언한 길이에서 자릅니다.
+ */
+public class ConcatenatedAudioInputStream extends AudioInputStream {
+
+    public ConcatenatedAudioInputStream(List<AudioSegment> segments, AudioFormat format) {
+        super(new SegmentReader(segments, format.getFrameSize()), format, totalFrames(segments));
+    }
+
+    private static long totalFrames(List<AudioSegment> segments) {
+        return segments.stream().mapToLong(AudioSegment::frameLength).sum();
+    }
+
+    //구간을 차례대로 열어서 읽는 내부 스트림
+    private static class SegmentReader extends InputStream {
+        private final Iterator<AudioSegment> segments;
+        private final int frameSize;
+        private InputStream current;
+        private long remaining; //현재 구간에서 남은 바이트 수
+        private boolean exhausted; //현재 구간의 원본 스트림이 끝났는지 여부
+
+        SegmentReader(List<AudioSegment> segments, int frameSize) {
+            this.segments = segments.iterator();
+            this.frameSize = frameSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            throw new IOException("프레임 단위로만 읽을 수 있습니다.");
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int aligned = len - (len % frameSize);
+            if (aligned == 0) {
+                return 0;
+            }
+            while (remaining == 0) {
+                if (!nextSegment()) {
+                    return -1;
+                }
+            }
+
+            int toRead = (int) Math.min(aligned, remaining);
+            int bytesRead = exhausted ? -1 : current.read(b, off, toRead);
+            if (bytesRead == -1) {
+                // 원본이 선언한 길이보다 짧으면 무음으로 채운다
+                exhausted = true;
+                Arrays.fill(b, off, off + toRead, (byte) 0);
+                bytesRead = toRead;
+            }
+            remaining -= bytesRead;
+            return bytesRead;
+        }
+
+        private boolean nextSegment() throws IOException {
+            closeCurrent();
+            if (!segments.hasNext()) {
+                return false;
+            }
+            AudioSegment segment = segments.next();
+            remaining = segment.frameLength() * frameSize;
+            exhausted = false;
+            if (remaining > 0) {
+                current = segment.source().get();
+            }
+            return true;
+        }
+
+        private void closeCurrent() throws IOException {
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeCurrent();
+        }
+    }
+}
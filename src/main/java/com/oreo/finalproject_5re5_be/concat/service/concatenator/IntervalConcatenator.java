@@ -1,6 +1,6 @@
 package com.oreo.finalproject_5re5_be.concat.service.concatenator;
 
-import com.oreo.finalproject_5re5_be.global.component.audio.BeepMaker;
+import com.oreo.finalproject_5re5_be.global.component.audio.SilenceAudioInputStream;
 
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
@@ -17,13 +17,36 @@ import java.util.List;
 public interface IntervalConcatenator extends Concatenator {
     ByteArrayOutputStream intervalConcatenate(List<AudioProperties> audioStreams, float start) throws IOException;
 
+    /**
+     * @apiNote 병합 결과를 메모리에 만들지 않고, 읽는 시점에 오디오와 무음구간을 이어주는 스트림을 반환합니다.
+     * @param audioStreams 프레임 길이가 지정된 오디오와 무음구간 목록
+     * @param start 앞 무음구간(초)
+     * @return 전체 프레임 길이가 지정된 병합 오디오 스트림
+     */
+    AudioInputStream intervalConcatenateStream(List<AudioProperties> audioStreams, float start);
+
     //공통 IntervalConcatenator에 필요한 로직을 분리
     static List<AudioInputStream> prepareAudioStreams(List<AudioProperties> audioStreams, AudioFormat audioFormat) {
         List<AudioInputStream> result = new ArrayList<>();
         for (AudioProperties audioProperties : audioStreams) {
             result.add(audioProperties.audioInputStream());//오디오 파일 넣기
-            result.add(BeepMaker.makeSound(audioProperties.silence() * 1000, audioFormat));// 무음구간 오디오 만들어서 넣기
+            result.add(SilenceAudioInputStream.of(audioProperties.silence() * 1000, audioFormat));// 무음구간 오디오 만들어서 넣기
+        }
+        return result;
+    }
+
+    //스트리밍 병합에 필요한 구간 목록 생성 (앞 무음구간 포함)
+    static List<AudioSegment> prepareAudioSegments(List<AudioProperties> audioStreams, AudioFormat audioFormat, float start) {
+        List<AudioSegment> result = new ArrayList<>();
+        result.add(silenceSegment(start, audioFormat));// 앞 무음구간
+        for (AudioProperties audioProperties : audioStreams) {
+            result.add(AudioSegment.of(audioProperties.audioInputStream()));//오디오 파일 넣기
+            result.add(silenceSegment(audioProperties.silence(), audioFormat));// 무음구간 넣기
         }
         return result;
     }
+
+    private static AudioSegment silenceSegment(float silence, AudioFormat audioFormat) {
+        return AudioSegment.of(SilenceAudioInputStream.of(silence * 1000, audioFormat));
+    }
 }
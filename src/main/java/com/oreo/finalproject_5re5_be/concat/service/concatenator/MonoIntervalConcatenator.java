@@ -1,8 +1,9 @@
 package com.oreo.finalproject_5re5_be.concat.service.concatenator;
 
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioChannels;
 import com.oreo.finalproject_5re5_be.global.component.audio.AudioExtensionConverter;
 import com.oreo.finalproject_5re5_be.global.component.audio.AudioResample;
-import com.oreo.finalproject_5re5_be.global.component.audio.BeepMaker;
+import com.oreo.finalproject_5re5_be.global.component.audio.SilenceAudioInputStream;
 
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
@@ -10,6 +11,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 
+import static com.oreo.finalproject_5re5_be.concat.service.concatenator.IntervalConcatenator.prepareAudioSegments;
 import static com.oreo.finalproject_5re5_be.concat.service.concatenator.IntervalConcatenator.prepareAudioStreams;
 
 /**
@@ -36,7 +38,28 @@ public class MonoIntervalConcatenator extends MonoConcatenator implements Interv
     @Override
     public ByteArrayOutputStream intervalConcatenate(List<AudioProperties> audioStreams, float start) throws IOException {
         List<AudioInputStream> list = prepareAudioStreams(audioStreams, AUDIO_FORMAT);
-        list.add(0, BeepMaker.makeSound(start * 1000, AUDIO_FORMAT));
+        list.add(0, SilenceAudioInputStream.of(start * 1000, AUDIO_FORMAT));
         return super.concatenate(list);
     }
+
+    /**
+     * @apiNote 오디오 스트림과 무음구간을 읽는 시점에 이어주는 스트림을 반환합니다. <br>
+     * 병합 결과 전체를 메모리에 올리지 않으므로 WAVE 변환과 S3 업로드에 그대로 흘려보낼 수 있습니다.
+     * @param audioStreams
+     * @param start
+     * @return
+     */
+    @Override
+    public AudioInputStream intervalConcatenateStream(List<AudioProperties> audioStreams, float start) {
+        if (!isMono(audioStreams)) {
+            throw new IllegalArgumentException("잘못된 포맷 입니다.");
+        }
+        return new ConcatenatedAudioInputStream(prepareAudioSegments(audioStreams, AUDIO_FORMAT, start), AUDIO_FORMAT);
+    }
+
+    //병합 포맷과 모든 오디오가 모노 포맷인지 확인
+    private boolean isMono(List<AudioProperties> audioStreams) {
+        return AUDIO_FORMAT.getChannels() == AudioChannels.MONO && audioStreams.stream()
+                .allMatch(ap -> ap.audioInputStream().getFormat().getChannels() == AudioChannels.MONO);
+    }
 }
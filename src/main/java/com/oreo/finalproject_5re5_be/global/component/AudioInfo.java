@@ -1,25 +1,63 @@
 package com.oreo.finalproject_5re5_be.global.component;
 
-import com.mpatric.mp3agic.Mp3File;
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioHeaderProbe;
 import com.oreo.finalproject_5re5_be.global.dto.response.AudioFileInfo;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
-import java.io.File;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * @apiNote 업로드된 오디오 파일의 이름, 길이, 크기, 확장자를 추출하는 클래스 입니다. <br>
+ * 임시 파일을 만들지 않고 파일 앞부분({@link AudioHeaderProbe#HEAD_SIZE})만 읽어 {@link AudioHeaderProbe} 로
+ * WAVE는 RIFF 청크, MP3는 프레임 헤더와 Xing/VBRI 태그를 분석합니다. <br>
+ * 여러 파일은 {@code audio.info.parallelism} 개씩 동시에 분석합니다.
+ */
 @Slf4j
 @Component
 public class AudioInfo {
+    private final Executor executor;
+
+    @Autowired
+    public AudioInfo(@Value("${audio.info.parallelism:4}") int parallelism) {
+        this(Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("audio-info-")));
+    }
+
+    AudioInfo(Executor executor) {
+        this.executor = executor;
+    }
+
     //파일 이름,길이,크기,확장자 추출 메서드
     public AudioFileInfo extractAudioFileInfo(MultipartFile audioFile) {
-        String fileName = audioFile.getOriginalFilename();
-        String fileSize = String.valueOf(audioFile.getSize());
+        // 파일 앞부분의 헤더로 길이와 포맷 추출
+        return extractAudioFileInfo(audioFile.getOriginalFilename(), audioFile.getSize(), probe(audioFile));
+    }
+
+    /**
+     * @apiNote 이미 분석한 헤더로 파일 정보를 만듭니다. 스트림을 읽으면서 헤더를 모은 경우
+     * ({@link AudioMeteringInputStream}) 파일을 다시 읽지 않고 사용합니다.
+     * @param fileName 파일 이름
+     * @param size     파일 크기 (byte)
+     * @param header   헤더 분석 결과, 분석할 수 없었으면 null
+     * @return 파일 정보
+     * @throws IllegalArgumentException mp3, wav 파일인데 헤더로 길이를 알 수 없는 경우
+     */
+    public AudioFileInfo extractAudioFileInfo(String fileName, long size, AudioHeaderProbe.Header header) {
+        String fileSize = String.valueOf(size);
 
         // 파일 확장자 추출
         String fileExtension = "";
@@ -27,91 +65,69 @@ public class AudioInfo {
             fileExtension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
         }
 
-        Integer fileLength = 0;
-
-        // 임시 파일로 변환하여 파일 길이 추출
-        try {
-            File tempFile = File.createTempFile("temp", "." + fileExtension);
-            audioFile.transferTo(tempFile);
-
-            if ("mp3".equalsIgnoreCase(fileExtension)) {
-                // mp3 파일 길이 추출
-                Mp3File mp3File = new Mp3File(tempFile);
-                fileLength = Math.toIntExact(mp3File.getLengthInSeconds());
-            } else if ("wav".equalsIgnoreCase(fileExtension)) {
-                // wav 파일 길이 추출
-                fileLength = Math.toIntExact(getWavFileDuration(tempFile));
-            }
+        AudioFileInfo.AudioFileInfoBuilder builder = AudioFileInfo.builder()
+                .name(fileName)
+                .size(fileSize)
+                .length(0)
+                .extension(fileExtension);
 
-            boolean delete = tempFile.delete();// 임시 파일 삭제
-            if (!delete){
-                throw new RuntimeException("임시 파일 삭제 실패");
+        if (header == null || !header.hasFrameLength()) {
+            if ("mp3".equals(fileExtension) || "wav".equals(fileExtension)) {
+                throw new IllegalArgumentException("오디오 파일 헤더를 분석할 수 없습니다: " + fileName);
             }
-        } catch (Exception e) {
-            log.error("오디오 파일 정보를 추출하는 중 오류 발생: ", e);
+            return builder.build();
         }
-        return AudioFileInfo.builder()
-                .name(fileName)
-                .size(fileSize)
-                .length(fileLength)
-                .extension(fileExtension)
+        return builder
+                .length(Math.toIntExact(lengthInSeconds(header)))
+                .sampleRate((int) header.sampleRate())
+                .channels(header.channels())
+                .bitDepth(header.sampleSizeInBits() == AudioSystem.NOT_SPECIFIED ? null : header.sampleSizeInBits())
                 .build();
     }
 
     public List<AudioFileInfo> extractAudioFileInfo(List<MultipartFile> audioFiles) {
-        List<AudioFileInfo> audioFileInfos = new ArrayList<>();
-        for (MultipartFile audioFile : audioFiles) {
-            String fileName = audioFile.getOriginalFilename();
-            String fileSize = String.valueOf(audioFile.getSize());
-
-            // 파일 확장자 추출
-            String fileExtension = "";
-            if (fileName != null && fileName.contains(".")) {
-                fileExtension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
+        // 파일별로 동시에 분석하고 입력 순서대로 반환
+        List<CompletableFuture<AudioFileInfo>> futures = audioFiles.stream()
+                .map(audioFile -> CompletableFuture.supplyAsync(() -> extractAudioFileInfo(audioFile), executor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
+        }
+    }
 
-            Integer fileLength = 0;
-
-            // 임시 파일로 변환하여 파일 길이 추출
-            try {
-                File tempFile = File.createTempFile("temp", "." + fileExtension);
-                audioFile.transferTo(tempFile);
-
-                if ("mp3".equalsIgnoreCase(fileExtension)) {
-                    // mp3 파일 길이 추출
-                    Mp3File mp3File = new Mp3File(tempFile);
-                    fileLength = Math.toIntExact(mp3File.getLengthInSeconds());
-                } else if ("wav".equalsIgnoreCase(fileExtension)) {
-                    // wav 파일 길이 추출
-                    fileLength = Math.toIntExact(getWavFileDuration(tempFile));
-                }
-
-                boolean delete = tempFile.delete();// 임시 파일 삭제
-                if (!delete){
-                    throw new RuntimeException("임시 파일 삭제 실패");
+    //앞부분만 읽어서 헤더 분석, ID3 태그가 길면 태그 뒤를 다시 읽음
+    private AudioHeaderProbe.Header probe(MultipartFile audioFile) {
+        long fileSize = audioFile.getSize();
+        try (InputStream inputStream = audioFile.getInputStream()) {
+            byte[] head = inputStream.readNBytes(AudioHeaderProbe.HEAD_SIZE);
+            int id3Size = AudioHeaderProbe.id3v2Size(head);
+            if (id3Size + 4 > head.length && id3Size < fileSize) {
+                try (InputStream afterTag = audioFile.getInputStream()) {
+                    afterTag.skipNBytes(id3Size);
+                    return AudioHeaderProbe.probe(afterTag.readNBytes(AudioHeaderProbe.HEAD_SIZE), id3Size, fileSize);
                 }
-            } catch (Exception e) {
-                log.error("오디오 파일 정보를 추출하는 중 오류 발생: ", e);
             }
-            audioFileInfos.add(AudioFileInfo.builder()
-                    .name(fileName)
-                    .size(fileSize)
-                    .length(fileLength)
-                    .extension(fileExtension)
-                    .build());
+            return AudioHeaderProbe.probe(head, 0, fileSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("오디오 파일을 읽을 수 없습니다: " + audioFile.getOriginalFilename(), e);
         }
+    }
 
-        return audioFileInfos;
+    //초 단위 길이, MP3는 반올림하고 WAV는 버림 (기존 mp3agic, AudioSystem 계산과 같음)
+    private static long lengthInSeconds(AudioHeaderProbe.Header header) {
+        double duration = header.duration();
+        return "MP3".equals(header.type()) ? Math.round(duration) : (long) duration;
     }
-    //wav 파일 일경우 파일 길이 추출하는 메서드
-    private long getWavFileDuration(File wavFile) {
-        try (AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(wavFile)) {
-            AudioFormat format = audioInputStream.getFormat();
-            long frames = audioInputStream.getFrameLength();
-            return (long) (frames / format.getFrameRate()); // 초 단위 길이 반환
-        } catch (Exception e) {
-            log.error("WAV 파일 길이 추출 중 오류 발생: ", e);
-            return 0L;
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
         }
     }
 }
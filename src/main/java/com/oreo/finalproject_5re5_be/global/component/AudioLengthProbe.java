@@ -0,0 +1,62 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioHeaderProbe;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.IOException;
+
+/**
+ * @apiNote 오디오 스트림을 소비하지 않고 길이(프레임 수)를 알아내는 클래스 입니다. <br>
+ * 길이가 지정되지 않은 스트림은 mark/reset을 지원할 때만 세어본 뒤 되돌리므로 스트림을 소비하지 않습니다. <br>
+ * 이때 mark 범위는 {@link AudioHeaderProbe#HEAD_SIZE} 로 제한해 스트림 전체가 버퍼에 쌓이지 않게 합니다. <br>
+ * 파일 앞부분만으로 길이를 구하는 헤더 분석은 {@link AudioHeaderProbe} 를 사용합니다.
+ */
+public final class AudioLengthProbe {
+    private AudioLengthProbe() {
+    }
+
+    /**
+     * @apiNote 스트림의 프레임 수를 반환합니다. 길이가 지정되지 않은 스트림은 mark/reset 으로 세어본 뒤 되돌립니다.
+     * @param audioStream 오디오 스트림
+     * @return 프레임 수
+     * @throws IllegalArgumentException 길이를 알 수 없고 다시 읽을 수 없거나, 프레임 크기가 없는(압축) 포맷이거나,
+     *                                  {@link AudioHeaderProbe#HEAD_SIZE} 보다 긴 스트림
+     */
+    public static long getFrameLength(AudioInputStream audioStream) throws IOException {
+        long frameLength = audioStream.getFrameLength();
+        if (frameLength != AudioSystem.NOT_SPECIFIED) {
+            return frameLength;
+        }
+        if (!audioStream.markSupported()) {
+            throw new IllegalArgumentException("길이를 알 수 없는 스트림은 읽으면 소비되므로 프레임 수를 셀 수 없습니다.");
+        }
+        int frameSize = audioStream.getFormat().getFrameSize();
+        if (frameSize <= 0) {
+            throw new IllegalArgumentException("프레임 크기가 없는 포맷(" + audioStream.getFormat().getEncoding()
+                    + ")은 바이트 수로 프레임 수를 셀 수 없습니다.");
+        }
+        audioStream.mark(AudioHeaderProbe.HEAD_SIZE);
+        try {
+            return countFrames(audioStream, frameSize);
+        } finally {
+            audioStream.reset();
+        }
+    }
+
+    // mark 범위 안에서만 읽고, 범위 안에서 끝나지 않으면 예외
+    private static long countFrames(AudioInputStream audioStream, int frameSize) throws IOException {
+        byte[] buffer = new byte[AudioHeaderProbe.HEAD_SIZE - AudioHeaderProbe.HEAD_SIZE % frameSize];
+        int totalBytes = 0;
+        int bytesRead;
+        while (totalBytes < buffer.length
+                && (bytesRead = audioStream.read(buffer, totalBytes, buffer.length - totalBytes)) != -1) {
+            totalBytes += bytesRead;
+        }
+        if (totalBytes == buffer.length) {
+            throw new IllegalArgumentException("길이를 알 수 없는 스트림이 " + AudioHeaderProbe.HEAD_SIZE
+                    + " byte 보다 길어 프레임 수를 셀 수 없습니다.");
+        }
+        return totalBytes / frameSize;
+    }
+}
@@ -0,0 +1,120 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioHeaderProbe;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * @apiNote 오디오 스트림을 그대로 전달하면서 전체 크기를 세고, 헤더 분석에 필요한 앞부분({@link AudioHeaderProbe#HEAD_SIZE})만 복사해 두는 스트림 입니다. <br>
+ * 업로드처럼 스트림을 한 번만 읽는 곳에 끼워 두면, 다 읽은 뒤 다시 읽거나 임시 파일을 만들지 않고
+ * {@link #header()} 로 길이와 포맷을 알 수 있습니다. <br>
+ * ID3 태그가 앞부분보다 길면 태그 뒤의 앞부분을 복사합니다 ({@link AudioInfo} 의 헤더 분석과 같음).
+ */
+public class AudioMeteringInputStream extends FilterInputStream {
+    private final byte[] window = new byte[AudioHeaderProbe.HEAD_SIZE];
+    private long windowStart;   // 복사 중인 구간의 시작 위치 (byte)
+    private int windowLength;
+    private boolean windowChecked;
+    private long size;
+
+    public AudioMeteringInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            capture(new byte[]{(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int bytesRead = super.read(b, off, len);
+        if (bytesRead > 0) {
+            capture(b, off, bytesRead);
+        }
+        return bytesRead;
+    }
+
+    // 건너뛴 부분도 크기와 앞부분 복사에 포함되도록 읽어서 버림
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long remaining = n;
+        while (remaining > 0) {
+            int bytesRead = read(buffer, 0, (int) Math.min(remaining, buffer.length));
+            if (bytesRead < 0) {
+                break;
+            }
+            remaining -= bytesRead;
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * @return 지금까지 읽은 크기 (byte), 스트림을 끝까지 읽었다면 전체 크기
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @apiNote 스트림을 끝까지 읽은 뒤 호출해야 전체 크기 기준의 길이가 나옵니다.
+     * @return 복사해 둔 앞부분과 전체 크기로 분석한 헤더, 분석할 수 없으면 null
+     */
+    public AudioHeaderProbe.Header header() {
+        return AudioHeaderProbe.probe(Arrays.copyOf(window, windowLength), windowStart, size);
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        long position = size;
+        size += len;
+        long from = Math.max(position, windowStart + windowLength);
+        int count = (int) Math.min(size - from, window.length - windowLength);
+        if (count > 0) {
+            System.arraycopy(b, off + (int) (from - position), window, windowLength, count);
+            windowLength += count;
+        }
+        if (windowLength == window.length && !windowChecked) {
+            windowChecked = true;
+            relocateAfterId3(b, off, len, position);
+        }
+    }
+
+    //ID3 태그가 앞부분을 넘어가면 태그 뒤부터 다시 복사
+    private void relocateAfterId3(byte[] b, int off, int len, long position) {
+        int id3Size = AudioHeaderProbe.id3v2Size(window);
+        if (id3Size + 4 <= window.length) {
+            return;
+        }
+        if (id3Size < window.length) {
+            // 태그 끝이 앞부분 안에 있으면 남은 부분을 앞으로 당김
+            windowLength = window.length - id3Size;
+            System.arraycopy(window, id3Size, window, 0, windowLength);
+        } else {
+            windowLength = 0;
+        }
+        windowStart = id3Size;
+        // 이번에 읽은 데이터 중 새 구간에 들어가는 부분 복사
+        long from = Math.max(position, windowStart + windowLength);
+        int count = (int) Math.min(Math.max(size - from, 0), window.length - windowLength);
+        if (count > 0) {
+            System.arraycopy(b, off + (int) (from - position), window, windowLength, count);
+            windowLength += count;
+        }
+    }
+}
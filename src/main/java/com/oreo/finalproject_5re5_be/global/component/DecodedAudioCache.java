@@ -0,0 +1,223 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioResample;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * @apiNote S3 오디오를 디코딩하고 리샘플링한 PCM을 로컬 디스크에 저장해두는 캐시 입니다. <br>
+ * 키는 S3 URL, ETag, 대상 {@link AudioFormat} 의 해시이므로 같은 파일을 같은 포맷으로 다시 병합할 때
+ * 다운로드와 디코딩을 건너뜁니다. <br>
+ * 메타데이터는 메모리에 LRU 순서로 보관하고, 전체 크기가 최대 크기를 넘으면 오래 사용하지 않은 파일부터 삭제합니다. <br>
+ * 적중/실패/삭제 횟수는 {@code audio.cache.*} 지표로 actuator에 노출됩니다.
+ */
+@Slf4j
+@Component
+public class DecodedAudioCache {
+    private static final String EXTENSION = ".pcm";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final Function<String, String> eTagResolver;
+    private final Function<String, AudioInputStream> loader;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public DecodedAudioCache(S3Service s3Service,
+                             MeterRegistry meterRegistry,
+                             @Value("${concat.cache.dir:${java.io.tmpdir}/5re5-audio-cache}") String directory,
+                             @Value("${concat.cache.max-size-mb:1024}") long maxSizeMb) {
+        this(Paths.get(directory), maxSizeMb * 1024 * 1024, s3Service::getETag, S3Service::load, meterRegistry);
+    }
+
+    DecodedAudioCache(Path directory, long maxBytes, Function<String, String> eTagResolver,
+                      Function<String, AudioInputStream> loader, MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.eTagResolver = eTagResolver;
+        this.loader = loader;
+        this.hits = meterRegistry.counter("audio.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("audio.cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("audio.cache.evictions");
+        Gauge.builder("audio.cache.size", this, DecodedAudioCache::getTotalBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("audio.cache.entries", this, DecodedAudioCache::size)
+                .register(meterRegistry);
+        prepareDirectory();
+    }
+
+    /**
+     * @apiNote 대상 포맷으로 리샘플링된 오디오를 반환합니다. 캐시에 없으면 S3에서 받아와 디코딩 후 저장합니다.
+     * @param s3Url  S3 오디오 URL
+     * @param format 대상 오디오 포맷
+     * @return 프레임 길이가 지정된 오디오 스트림
+     */
+    public AudioInputStream load(String s3Url, AudioFormat format) {
+        String key = createKey(s3Url, eTagResolver.apply(s3Url), format);
+
+        AudioInputStream cached = open(key, format);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        AudioInputStream resampled = new AudioResample(format).formatting(loader.apply(s3Url));
+        Entry entry = write(key, resampled, format);
+        AudioInputStream result = openEntry(entry, format); // 삭제되기 전에 먼저 연다
+        put(key, entry);
+        return result;
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    //캐시 적중 시 파일을 열어서 반환, 파일이 사라졌으면 항목 제거
+    private synchronized AudioInputStream open(String key, AudioFormat format) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return openEntry(entry, format);
+        } catch (UncheckedIOException e) {
+            log.warn("[DecodedAudioCache] 캐시 파일을 열 수 없습니다: {}", entry.path());
+            remove(key);
+            return null;
+        }
+    }
+
+    private AudioInputStream openEntry(Entry entry, AudioFormat format) {
+        try {
+            return new AudioInputStream(
+                    new BufferedInputStream(Files.newInputStream(entry.path())),
+                    format,
+                    entry.frameLength()
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //디코딩된 PCM을 임시 파일에 쓴 뒤 캐시 파일로 이동
+    private Entry write(String key, AudioInputStream audioInputStream, AudioFormat format) {
+        Path path = directory.resolve(key + EXTENSION);
+        Path temp = null;
+        try (AudioInputStream in = audioInputStream) {
+            temp = Files.createTempFile(directory, key, ".tmp");
+            long bytes = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new Entry(path, bytes / format.getFrameSize(), bytes);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new IllegalStateException("디코딩된 오디오를 캐시에 저장하지 못했습니다.", e);
+        }
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            totalBytes -= previous.size();
+        }
+        totalBytes += entry.size();
+        evict(key);
+    }
+
+    //최대 크기를 넘으면 방금 추가한 항목을 제외하고 오래된 항목부터 삭제
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getValue().size();
+            deleteQuietly(eldest.getValue().path());
+            evictions.increment();
+        }
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            totalBytes -= entry.size();
+            deleteQuietly(entry.path());
+        }
+    }
+
+    //메타데이터는 메모리에만 있으므로 시작 시 이전 캐시 파일은 정리
+    private void prepareDirectory() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(path -> path.toString().endsWith(EXTENSION) || path.toString().endsWith(".tmp"))
+                        .forEach(this::deleteQuietly);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("오디오 캐시 디렉토리를 준비할 수 없습니다: " + directory, e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.error("[DecodedAudioCache] 캐시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    //URL, ETag, 포맷으로 캐시 키 생성
+    static String createKey(String s3Url, String eTag, AudioFormat format) {
+        String source = s3Url + "|" + (eTag == null ? "" : eTag) + "|" + format.getEncoding() + ","
+                + format.getSampleRate() + "," + format.getSampleSizeInBits() + ","
+                + format.getChannels() + "," + format.isBigEndian();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(Path path, long frameLength, long size) {
+    }
+}
@@ -0,0 +1,229 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * @apiNote 길이를 모르는 스트림을 고정 크기 파트로 나누어 S3 멀티파트 업로드로 올리는 클래스 입니다. <br>
+ * 스트림을 읽는 동안 채워진 파트를 바로 전송하므로, 메모리는 업로드 크기와 상관없이 (동시 전송 수 + 2) 개의 파트 버퍼로 제한됩니다. <br>
+ * 첫 번째 파트는 마지막에 전송하므로 업로드가 끝나기 직전에 헤더(예: WAVE 길이)를 수정할 수 있습니다. <br>
+ * 전체 크기가 한 파트보다 작으면 멀티파트 없이 한 번에 업로드합니다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024; // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+
+    private final AmazonS3 s3Client;
+    private final String bucketName;
+    private final int partSize;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    @Autowired
+    public S3MultipartUploader(AmazonS3 s3Client,
+                               @Value("${aws.s3.bucket}") String bucketName,
+                               @Value("${aws.s3.multipart.part-size-mb:8}") int partSizeMb,
+                               @Value("${aws.s3.multipart.parallelism:4}") int parallelism) {
+        this(s3Client, bucketName, Math.max(partSizeMb * 1024 * 1024, MIN_PART_SIZE), parallelism, true);
+    }
+
+    S3MultipartUploader(AmazonS3 s3Client, String bucketName, int partSize, int parallelism, boolean async) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.partSize = partSize;
+        this.parallelism = Math.max(parallelism, 1);
+        this.executor = async && parallelism > 1
+                ? Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("s3-part-upload-"))
+                : null;
+    }
+
+    /**
+     * @apiNote 스트림을 끝까지 읽으면서 S3에 업로드합니다.
+     * @param input            업로드할 스트림
+     * @param key              저장 경로(key)
+     * @param contentType      MIME 타입
+     * @param firstPartHandler 스트림을 모두 읽은 뒤, 첫 번째 파트를 전송하기 직전에 호출 (헤더 수정용)
+     * @return 업로드한 파일의 S3 URL
+     * @throws IOException 스트림을 읽는 중 오류
+     */
+    public String upload(InputStream input, String key, String contentType,
+                         Consumer<byte[]> firstPartHandler) throws IOException {
+        byte[] first = new byte[partSize];
+        int firstLength = fill(input, first);
+        byte[] next = firstLength == partSize ? new byte[partSize] : null;
+        int nextLength = next != null ? fill(input, next) : 0;
+
+        if (nextLength == 0) { // 한 파트 안에 끝나면 한 번에 업로드
+            firstPartHandler.accept(first);
+            putObject(key, contentType, first, firstLength);
+            return s3Client.getUrl(bucketName, key).toString();
+        }
+
+        String uploadId = initiate(key, contentType);
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        try {
+            BufferPool pool = new BufferPool(parallelism, partSize);
+            int partNumber = 2;
+            while (nextLength > 0) {
+                parts.add(submitPart(key, uploadId, partNumber++, next, nextLength, pool));
+                if (nextLength < partSize) {
+                    break;
+                }
+                next = pool.take();
+                nextLength = fill(input, next);
+            }
+
+            firstPartHandler.accept(first);
+            parts.add(submitPart(key, uploadId, 1, first, firstLength, null));
+
+            List<PartETag> partETags = new ArrayList<>(parts.size());
+            for (CompletableFuture<PartETag> part : parts) {
+                partETags.add(part.join());
+            }
+            partETags.sort(Comparator.comparingInt(PartETag::getPartNumber));
+            s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+            log.info("[S3MultipartUploader] 멀티파트 업로드 완료 - key: {}, parts: {}", key, partETags.size());
+            return s3Client.getUrl(bucketName, key).toString();
+        } catch (IOException | RuntimeException | InterruptedException e) {
+            parts.forEach(part -> part.cancel(true));
+            abort(key, uploadId);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IllegalStateException("S3 멀티파트 업로드에 실패했습니다.", e);
+        }
+    }
+
+    private CompletableFuture<PartETag> submitPart(String key, String uploadId, int partNumber,
+                                                   byte[] buffer, int length, BufferPool pool) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(uploadPart(key, uploadId, partNumber, buffer, length, pool));
+        }
+        return CompletableFuture.supplyAsync(
+                () -> uploadPart(key, uploadId, partNumber, buffer, length, pool), executor);
+    }
+
+    private PartETag uploadPart(String key, String uploadId, int partNumber,
+                                byte[] buffer, int length, BufferPool pool) {
+        try {
+            UploadPartRequest request = new UploadPartRequest()
+                    .withBucketName(bucketName)
+                    .withKey(key)
+                    .withUploadId(uploadId)
+                    .withPartNumber(partNumber)
+                    .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                    .withPartSize(length);
+            return s3Client.uploadPart(request).getPartETag();
+        } finally {
+            if (pool != null) {
+                pool.release(buffer); // 전송이 끝난 버퍼는 다음 파트에 재사용
+            }
+        }
+    }
+
+    private String initiate(String key, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        return s3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key, metadata))
+                .getUploadId();
+    }
+
+    private void putObject(String key, String contentType, byte[] buffer, int length) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(length);
+        s3Client.putObject(bucketName, key, new ByteArrayInputStream(buffer, 0, length), metadata);
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+        } catch (RuntimeException e) {
+            log.error("[S3MultipartUploader] 멀티파트 업로드 취소 실패 - key: {}, uploadId: {}", key, uploadId, e);
+        }
+    }
+
+    //버퍼가 가득 차거나 스트림이 끝날 때까지 읽기
+    private static int fill(InputStream input, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int bytesRead = input.read(buffer, total, buffer.length - total);
+            if (bytesRead == -1) {
+                break;
+            }
+            total += bytesRead;
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    //업로드 한 건에서 사용하는 파트 버퍼 풀, 모두 전송 중이면 반환될 때까지 대기
+    private static class BufferPool {
+        private final BlockingQueue<byte[]> available;
+        private final int capacity;
+        private final int partSize;
+        private int created;
+
+        BufferPool(int capacity, int partSize) {
+            this.available = new ArrayBlockingQueue<>(capacity);
+            this.capacity = capacity;
+            this.partSize = partSize;
+        }
+
+        byte[] take() throws InterruptedException {
+            byte[] buffer = available.poll();
+            if (buffer != null) {
+                return buffer;
+            }
+            synchronized (this) {
+                if (created < capacity) {
+                    created++;
+                    return new byte[partSize];
+                }
+            }
+            return available.take();
+        }
+
+        void release(byte[] buffer) {
+            available.offer(buffer);
+        }
+    }
+}
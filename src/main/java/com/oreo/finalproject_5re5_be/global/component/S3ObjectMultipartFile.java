@@ -0,0 +1,79 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * @apiNote S3 객체를 로컬에 내려받지 않고 MultipartFile 로 다루는 클래스 입니다. <br>
+ * 내용은 {@link #getInputStream()} 을 호출할 때마다 S3에서 새로 스트림으로 받으므로,
+ * 다른 요청(예: VC API multipart 본문)에 그대로 흘려보낼 수 있습니다. <br>
+ * 크기와 MIME 타입은 만들 때 조회한 메타데이터 값을 사용합니다.
+ */
+public class S3ObjectMultipartFile implements MultipartFile {
+
+    @FunctionalInterface
+    public interface ContentOpener {
+        InputStream open() throws IOException;
+    }
+
+    private final String fileName;
+    private final String contentType;
+    private final long size;
+    private final ContentOpener opener;
+
+    public S3ObjectMultipartFile(String fileName, String contentType, long size, ContentOpener opener) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.size = size;
+        this.opener = opener;
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return fileName;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        try (InputStream inputStream = getInputStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return opener.open();
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException, IllegalStateException {
+        try (InputStream inputStream = getInputStream()) {
+            Files.copy(inputStream, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -2,12 +2,11 @@ package com.oreo.finalproject_5re5_be.global.component;
 
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.AmazonS3URI;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.oreo.finalproject_5re5_be.global.component.audio.AudioExtensionConverter;
-import com.oreo.finalproject_5re5_be.vc.dto.request.VcUrlRequest;
+import com.oreo.finalproject_5re5_be.global.component.audio.WaveInputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,7 +17,6 @@ import javax.sound.sampled.*;
 import java.io.*;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -27,10 +25,12 @@ import java.util.UUID;
 @Slf4j
 public class S3Service {
     private AmazonS3 s3Client;
+    private S3MultipartUploader multipartUploader;
 
     @Autowired
-    public S3Service(AmazonS3 s3Client) {
+    public S3Service(AmazonS3 s3Client, S3MultipartUploader multipartUploader) {
         this.s3Client = s3Client;
+        this.multipartUploader = multipartUploader;
     }
 
     @Value("${aws.s3.bucket}")
@@ -42,32 +42,21 @@ public class S3Service {
     }
 
     /**
-     * 키 값은 주소에서 버킷주소 뒤로 [폴더/파일명] 입력
+     * S3 파일을 내려받지 않고 MultipartFile 로 열기 (HEAD 요청으로 크기와 MIME 타입만 조회)
+     * 내용은 읽을 때 S3에서 스트림으로 받는다.
      *
-     * @param key
-     * @return file
-     * @throws IOException
-     */
-    public File downloadFile(String key) throws IOException {
-        return downloadSingleFile(key);
-    }
-
-    /**
-     * 파일명을 배열로 받아서 생성
-     *
-     * @param vcUrlRequest
-     * @return List of downloaded files
-     * @throws IOException
+     * @param s3Url S3의 파일 URL
+     * @return S3 객체를 읽는 MultipartFile
      */
-    public List<File> downloadFile(List<VcUrlRequest> vcUrlRequest) throws IOException {
-        List<File> files = new ArrayList<>();
-
-        for (VcUrlRequest request : vcUrlRequest) {
-            String key = extractFileKeyFromUrl(request.getUrl());
-            log.info("[S3Service] downloadFile - key: {}", key);
-            files.add(downloadSingleFile(key));
-        }
-        return files;
+    public MultipartFile openFile(String s3Url) {
+        AmazonS3URI uri = new AmazonS3URI(s3Url);
+        String bucket = uri.getBucket();
+        String key = uri.getKey();
+        ObjectMetadata metadata = s3Client.getObjectMetadata(bucket, key);
+        return new S3ObjectMultipartFile(key.substring(key.lastIndexOf("/") + 1),
+                metadata.getContentType(),
+                metadata.getContentLength(),
+                () -> s3Client.getObject(bucket, key).getObjectContent());
     }
 
 
@@ -133,83 +122,6 @@ public class S3Service {
     }
 
 
-    /**
-     * S3에서 파일을 다운로드하고 로컬에 저장
-     *
-     * @param key
-     * @return file
-     * @throws IOException
-     */
-    private File downloadSingleFile(String key) throws IOException {
-        GetObjectRequest getObjectRequest = new GetObjectRequest(buketName, key);
-        log.info("[S3Service] downloadSingleFile - getObjectRequest: {}", getObjectRequest);
-
-        S3ObjectInputStream inputStream = s3Client.getObject(getObjectRequest).getObjectContent();
-        log.info("[S3Service] downloadSingleFile - inputStream: {}", inputStream);
-
-        File file = new File(Paths.get("file", key).toString()); // 로컬에 저장할 경로
-        log.info("[S3Service] downloadSingleFile - file: {}", file);
-
-        file.getParentFile().mkdirs(); // 파일이 저장될 디렉토리 생성
-
-        try (FileOutputStream outputStream = new FileOutputStream(file)) {
-            byte[] buffer = new byte[1024];
-            int length;
-            while ((length = inputStream.read(buffer)) > 0) {
-                outputStream.write(buffer, 0, length);
-            }
-        } catch (Exception e) {
-            log.error("[S3Service] 파일 다운로드 실패: {}", e.getMessage(), e);
-            throw new IOException("파일 다운로드 실패", e);
-        }
-
-        return file;
-    }
-
-    /**
-     * URL에서 파일 키를 추출
-     *
-     * @param url
-     * @return key
-     */
-    private String extractFileKeyFromUrl(String url) {
-        return "vc/src/" + url.substring(url.lastIndexOf("/") + 1);
-    }
-
-
-    /**
-     * File folder = new File("경로")
-     * 파일 삭제
-     *
-     * @param folder
-     */
-    public void deleteFolder(File folder) {
-        if (folder.exists()) {
-            // 폴더 안의 파일과 서브 디렉토리 삭제
-            File[] files = folder.listFiles();
-            if (files != null) { // 폴더에 내용물이 있을 경우
-                for (File file : files) {
-                    if (file.isDirectory()) {
-                        // 서브 디렉토리 재귀 삭제
-                        deleteFolder(file);
-                    } else {
-                        // 파일 삭제
-                        if (!file.delete()) {
-                            log.error("파일 삭제 실패: {}" ,file.getAbsolutePath());
-                        }
-                    }
-                }
-            }
-            // 폴더 삭제
-            if (!folder.delete()) {
-                log.error("폴더 삭제 실패: {}" , folder.getAbsolutePath());
-            }
-        } else {
-            log.error("폴더가 존재하지 않음: {} ", folder.getAbsolutePath());
-        }
-    }
-
-
     public String upload(InputStream audioInputStream, String dirName, String fileName
             , long fileSize, String contentType) {
         if (audioInputStream == null) {
@@ -264,6 +176,28 @@ public class S3Service {
         }
     }
 
+    /**
+     * S3 URL의 ETag 조회 (HEAD 요청만 수행하며 본문은 받지 않음)
+     *
+     * @param s3Url S3의 파일 URL
+     * @return ETag, 조회할 수 없으면 null
+     */
+    public String getETag(String s3Url) {
+        try {
+            AmazonS3URI uri = new AmazonS3URI(s3Url);
+            return s3Client.getObjectMetadata(uri.getBucket(), uri.getKey()).getETag();
+        } catch (IllegalArgumentException | SdkClientException e) {
+            log.warn("[S3Service] ETag 조회 실패 - url: {}, message: {}", s3Url, e.getMessage());
+            return null;
+        }
+    }
+
+    // s3 URL로 파일 삭제 (버킷과 키를 URL에서 추출)
+    public void deleteFileByUrl(String s3Url) {
+        AmazonS3URI uri = new AmazonS3URI(s3Url);
+        deleteFile(uri.getBucket(), uri.getKey());
+    }
+
     // s3 파일 삭제 메서드
     public void deleteFile(String buketName, String key) {
         try {
@@ -274,23 +208,42 @@ public class S3Service {
 
     }
 
+    /**
+     * AudioInputStream을 WAVE 파일로 S3에 업로드
+     * 전체를 메모리에 모으지 않고 고정 크기 파트 단위로 읽으면서 멀티파트 업로드하므로,
+     * 아직 만들어지고 있는(길이를 모르는) 스트림도 업로드할 수 있다.
+     *
+     * @param audioStream 업로드할 오디오 스트림
+     * @param dirName     저장할 폴더
+     * @param fileName    파일명
+     * @return 업로드한 파일의 S3 URL
+     * @throws IOException
+     */
     public String uploadAudioStream(AudioInputStream audioStream, String dirName, String fileName) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-
-        // AudioInputStream -> ByteArrayOutputStream 변환
-        AudioSystem.write(audioStream, AudioFileFormat.Type.WAVE, outputStream);
-        byte[] fileData = outputStream.toByteArray();
-
-        // S3에 업로드
-        InputStream inputStream = new ByteArrayInputStream(fileData);
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType("audio/wav");
-        metadata.setContentLength(fileData.length);
-
         String key = dirName + "/" + UUID.randomUUID() + "_" + fileName;
-        s3Client.putObject(buketName, key, inputStream, metadata);
+        try (WaveInputStream wave = new WaveInputStream(audioStream)) {
+            // 길이를 모르는 경우 헤더의 크기 값은 업로드 마지막에 채운다
+            return multipartUploader.upload(wave, key, "audio/wav", wave::completeHeader);
+        }
+    }
 
-        return s3Client.getUrl(buketName, key).toString();
+    /**
+     * 길이를 모르는 스트림을 S3에 업로드
+     * 스트림을 끝까지 읽은 뒤, 업로드를 마치기 직전에 beforeComplete 를 호출한다.
+     * beforeComplete 에서 예외가 발생하면 업로드는 취소되어 S3에 남지 않는다.
+     *
+     * @param input          업로드할 스트림
+     * @param dirName        저장할 폴더
+     * @param fileName       파일명
+     * @param contentType    MIME 타입
+     * @param beforeComplete 스트림을 모두 읽은 뒤 호출 (크기, 길이 확인용)
+     * @return 업로드한 파일의 S3 URL
+     * @throws IOException
+     */
+    public String upload(InputStream input, String dirName, String fileName, String contentType,
+                         Runnable beforeComplete) throws IOException {
+        String key = generateFileKey(dirName, fileName);
+        return multipartUploader.upload(input, key, contentType, firstPart -> beforeComplete.run());
     }
 
     /**
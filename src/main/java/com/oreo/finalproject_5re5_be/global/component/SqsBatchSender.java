@@ -0,0 +1,304 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @apiNote SQS 메시지를 잠깐 모았다가 {@code SendMessageBatch} 로 최대 10개씩 한 번에 보내는 컴포넌트 입니다. <br>
+ * 첫 메시지가 들어온 뒤 {@code sqs.batch.linger-millis} 동안 더 들어온 메시지를 같은 대기열끼리 묶어 보내므로,
+ * 프로젝트 전체 TTS 생성처럼 요청이 몰릴 때 API 호출 수가 최대 1/10 로 줄어듭니다. <br>
+ * 배치 중 일부만 실패하면 실패한 메시지만 다음 메시지를 모으기 전에 바로 다시 보내고({@code sqs.batch.max-attempts} 회까지),
+ * 요청 자체가 잘못된 경우(sender fault)는 바로 실패로 처리합니다. <br>
+ * FIFO 대기열의 순서를 지키기 위해, 같은 메시지 그룹의 뒤 메시지가 이미 전송된 경우에는 재시도하지 않고 실패로 처리하며,
+ * 메시지가 최종 실패하면 같은 묶음 안에서 뒤따르는 같은 그룹 메시지도 보내지 않고 실패로 처리합니다. <br>
+ * 배치 크기, 전송 시간, 메시지 결과는 {@code sqs.batch.*} 지표로 actuator에 노출됩니다.
+ */
+@Slf4j
+@Component
+public class SqsBatchSender {
+    static final int MAX_BATCH_SIZE = 10;
+    // SendMessageBatch 요청 전체 본문 크기 제한 (256KB)
+    private static final int MAX_BATCH_BYTES = 256 * 1024;
+
+    private final SqsClient sqsClient;
+    private final long lingerNanos;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final BlockingQueue<PendingMessage> buffer = new LinkedBlockingQueue<>();
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("sqs-batch-"));
+    private volatile boolean started;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSize;
+    private final Timer sendTimer;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    @Autowired
+    public SqsBatchSender(SqsClient sqsClient,
+                          MeterRegistry meterRegistry,
+                          @Value("${sqs.batch.linger-millis:5}") long lingerMillis,
+                          @Value("${sqs.batch.max-attempts:3}") int maxAttempts,
+                          @Value("${sqs.batch.retry-backoff-millis:100}") long retryBackoffMillis) {
+        this.sqsClient = sqsClient;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.batchSize = DistributionSummary.builder("sqs.batch.size")
+                .description("SendMessageBatch 한 번에 보낸 메시지 수")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("sqs.batch.send").register(meterRegistry);
+        this.sent = meterRegistry.counter("sqs.batch.messages", "result", "sent");
+        this.retried = meterRegistry.counter("sqs.batch.messages", "result", "retried");
+        this.failed = meterRegistry.counter("sqs.batch.messages", "result", "failed");
+    }
+
+    /**
+     * @apiNote 메시지를 전송 대기열에 넣습니다. 실제 전송은 다른 메시지와 묶어서 처리됩니다.
+     * @param request 보낼 메시지
+     * @return 전송된 메시지 ID Future, 재시도 후에도 실패하면 예외로 완료
+     */
+    public CompletableFuture<String> send(SendMessageRequest request) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        if (!running) {
+            result.completeExceptionally(new IllegalStateException("SQS 전송이 종료되었습니다."));
+            return result;
+        }
+        startIfNeeded();
+        buffer.add(new PendingMessage(request, result));
+        return result;
+    }
+
+    private synchronized void startIfNeeded() {
+        if (!started) {
+            started = true;
+            flusher.execute(this::flushLoop);
+        }
+    }
+
+    private void flushLoop() {
+        while (running) {
+            try {
+                flush(collect());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[SqsBatchSender] 배치 전송 처리 중 예외 발생", e);
+            }
+        }
+    }
+
+    // 첫 메시지를 기다린 뒤 linger 시간 동안 최대 배치 크기까지 모음
+    private List<PendingMessage> collect() throws InterruptedException {
+        List<PendingMessage> messages = new ArrayList<>(MAX_BATCH_SIZE);
+        messages.add(buffer.take());
+        long deadline = System.nanoTime() + lingerNanos;
+        while (messages.size() < MAX_BATCH_SIZE) {
+            PendingMessage next = buffer.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            messages.add(next);
+        }
+        return messages;
+    }
+
+    // 같은 대기열끼리 묶어서 전송
+    void flush(List<PendingMessage> messages) throws InterruptedException {
+        Map<String, List<PendingMessage>> byQueue = new LinkedHashMap<>();
+        for (PendingMessage message : messages) {
+            byQueue.computeIfAbsent(message.request().queueUrl(), key -> new ArrayList<>()).add(message);
+        }
+        for (Map.Entry<String, List<PendingMessage>> entry : byQueue.entrySet()) {
+            // 이번 묶음에서 최종 실패한 메시지 그룹, 뒤따르는 같은 그룹 메시지는 보내지 않음
+            Set<String> failedGroups = new HashSet<>();
+            for (List<PendingMessage> batch : split(entry.getValue())) {
+                sendWithRetry(entry.getKey(), batch, failedGroups);
+            }
+        }
+    }
+
+    // 메시지 수와 본문 크기 제한에 맞게 나눔
+    private static List<List<PendingMessage>> split(List<PendingMessage> messages) {
+        List<List<PendingMessage>> batches = new ArrayList<>();
+        List<PendingMessage> current = new ArrayList<>();
+        int currentBytes = 0;
+        for (PendingMessage message : messages) {
+            int bytes = message.request().messageBody().getBytes(StandardCharsets.UTF_8).length;
+            if (!current.isEmpty() && (current.size() == MAX_BATCH_SIZE || currentBytes + bytes > MAX_BATCH_BYTES)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+            current.add(message);
+            currentBytes += bytes;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    /*
+     * 실패한 메시지는 전송 대기열 뒤로 보내지 않고 이 자리에서 바로 다시 보냄
+     * 재시도하는 동안 새 메시지는 전송 대기열에서 기다리므로, 같은 그룹의 뒤 메시지가 먼저 나가지 않음
+     */
+    private void sendWithRetry(String queueUrl, List<PendingMessage> batch, Set<String> failedGroups)
+            throws InterruptedException {
+        List<PendingMessage> pending = new ArrayList<>(batch.size());
+        for (PendingMessage message : batch) {
+            if (groupOf(message).filter(failedGroups::contains).isPresent()) {
+                fail(message, 1, "앞선 같은 그룹 메시지 전송 실패");
+            } else {
+                pending.add(message);
+            }
+        }
+
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                retried.increment(pending.size());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(retryBackoffMillis * (attempt - 1));
+                } catch (InterruptedException e) {
+                    // 종료 중이면 다시 보내지 못한 메시지를 실패 처리
+                    for (PendingMessage message : pending) {
+                        fail(message, attempt - 1, "shutdown");
+                    }
+                    throw e;
+                }
+            }
+            pending = sendBatch(queueUrl, pending, attempt, failedGroups);
+        }
+    }
+
+    // 배치를 보내고, 다시 보낼 메시지를 순서대로 반환
+    private List<PendingMessage> sendBatch(String queueUrl, List<PendingMessage> batch, int attempt,
+                                           Set<String> failedGroups) {
+        // 배치 안의 ID 는 목록 순서
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(toEntry(String.valueOf(i), batch.get(i).request()));
+        }
+
+        // 전송에 성공한 메시지는 null, 실패한 메시지는 실패 사유
+        String[] reasons = new String[batch.size()];
+        boolean[] senderFaults = new boolean[batch.size()];
+        batchSize.record(batch.size());
+        long startedAt = System.nanoTime();
+        try {
+            SendMessageBatchResponse response = sqsClient.sendMessageBatch(builder -> builder.queueUrl(queueUrl).entries(entries));
+            for (SendMessageBatchResultEntry success : response.successful()) {
+                sent.increment();
+                batch.get(Integer.parseInt(success.id())).result().complete(success.messageId());
+            }
+            for (BatchResultErrorEntry error : response.failed()) {
+                int index = Integer.parseInt(error.id());
+                reasons[index] = error.code() + ": " + error.message();
+                senderFaults[index] = Boolean.TRUE.equals(error.senderFault());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[SqsBatchSender] 배치 전송 실패 - queue: {}, count: {}", queueUrl, batch.size(), e);
+            Arrays.fill(reasons, e.getMessage());
+        } finally {
+            sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        // 뒤에서부터 보면서, 같은 그룹의 뒤 메시지가 이미 전송되었으면 다시 보내도 순서가 맞지 않으므로 재시도하지 않음
+        boolean[] retryable = new boolean[batch.size()];
+        Set<String> sentGroups = new HashSet<>();
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            Optional<String> group = groupOf(batch.get(i));
+            if (reasons[i] == null) {
+                group.ifPresent(sentGroups::add);
+            } else {
+                retryable[i] = !senderFaults[i] && attempt < maxAttempts && running
+                        && group.filter(sentGroups::contains).isEmpty();
+            }
+        }
+
+        // 앞에서부터 보면서, 실패한 메시지 뒤의 같은 그룹 메시지는 다시 보내지 않고 함께 실패 처리
+        List<PendingMessage> retries = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (reasons[i] == null) {
+                continue;
+            }
+            PendingMessage message = batch.get(i);
+            Optional<String> group = groupOf(message);
+            if (retryable[i] && group.filter(failedGroups::contains).isEmpty()) {
+                retries.add(message);
+            } else {
+                fail(message, attempt, retryable[i] ? "앞선 같은 그룹 메시지 전송 실패" : reasons[i]);
+                group.ifPresent(failedGroups::add);
+            }
+        }
+        return retries;
+    }
+
+    // 순서를 지켜야 하는 단위, FIFO 대기열이 아니면 메시지 그룹이 없으므로 빈 Optional
+    private static Optional<String> groupOf(PendingMessage message) {
+        return Optional.ofNullable(message.request().messageGroupId());
+    }
+
+    private void fail(PendingMessage message, int attempt, String reason) {
+        failed.increment();
+        message.result().completeExceptionally(
+                new IllegalStateException("SQS 메시지 전송에 실패했습니다. (" + attempt + "회 시도) " + reason));
+    }
+
+    private static SendMessageBatchRequestEntry toEntry(String id, SendMessageRequest request) {
+        return SendMessageBatchRequestEntry.builder()
+                .id(id)
+                .messageBody(request.messageBody())
+                .messageAttributes(request.messageAttributes())
+                .messageGroupId(request.messageGroupId())
+                .messageDeduplicationId(request.messageDeduplicationId())
+                .delaySeconds(request.delaySeconds())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        flusher.shutdownNow();
+        // 보내지 못한 메시지는 실패 처리
+        List<PendingMessage> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        remaining.forEach(message -> fail(message, 0, "shutdown"));
+    }
+
+    // 전송 대기 중인 메시지와 결과
+    record PendingMessage(SendMessageRequest request, CompletableFuture<String> result) {
+    }
+}
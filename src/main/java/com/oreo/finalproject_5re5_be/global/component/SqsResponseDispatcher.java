@@ -0,0 +1,253 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @apiNote SQS 요청에 대한 응답 메시지를 하나의 스레드로 받아 요청별 {@link CompletableFuture} 에 전달하는 컴포넌트 입니다. <br>
+ * 요청마다 응답 대기열 URL 을 {@code 응답 대기열#요청 ID} 형태의 가상 대기열로 지정하면,
+ * 워커의 응답은 응답 대기열에 가상 대기열 이름(요청 ID) 속성과 함께 도착하므로 이 값으로 요청을 찾습니다. <br>
+ * 응답 대기열은 서버(인스턴스)마다 첫 요청이 등록될 때 {@code sqs.response.queue-prefix} 이름으로 새로 만들고 종료할 때 삭제하므로,
+ * 받은 응답은 모두 이 서버의 요청에 대한 것입니다. 기다리는 요청이 없는 응답(타임아웃 이후 도착)은 바로 삭제합니다. <br>
+ * 비정상 종료로 남은 대기열은 heartbeat 태그가 오래된 경우 다른 서버가 대기열을 만들 때 함께 삭제합니다. <br>
+ * 응답 처리(Future 완료)는 별도 스레드 풀에서 실행되어 느린 후속 작업이 응답 수신을 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class SqsResponseDispatcher {
+    // 가상 대기열로 보낸 메시지에 붙는 대기열 이름 속성 (temporary queues 클라이언트와 같은 이름)
+    static final String VIRTUAL_QUEUE_NAME_ATTRIBUTE = "__AmazonSQSVirtualQueuesClient.QueueName";
+    private static final int MAX_MESSAGES = 10;
+    private static final int WAIT_TIME_SECONDS = 20;
+    private static final long ERROR_BACKOFF_MILLIS = 1000L;
+    // 대기열이 사용 중인지 표시하는 태그, 마지막 갱신 시각(epoch millis)
+    static final String HEARTBEAT_TAG = "heartbeat";
+    private static final long HEARTBEAT_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    // heartbeat 가 이보다 오래된 대기열은 종료된 서버의 대기열로 보고 삭제
+    static final long ABANDONED_AFTER_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    // 응답 보관 기간 (초), 응답 대기 시간보다 길면 충분
+    private static final String MESSAGE_RETENTION_SECONDS = "300";
+
+    private final SqsClient sqsClient;
+    private final String queueNamePrefix;
+    private final Executor callbackExecutor;
+    private final Map<String, CompletableFuture<Message>> pending = new ConcurrentHashMap<>();
+    private final ExecutorService poller = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("sqs-response-"));
+    private volatile String responseQueueUrl;
+    private volatile boolean running = true;
+    private long lastHeartbeat;
+
+    @Autowired
+    public SqsResponseDispatcher(SqsClient sqsClient,
+                                 @Value("${sqs.response.queue-prefix:tts-response-}") String queueNamePrefix,
+                                 @Value("${sqs.response.callback-parallelism:4}") int callbackParallelism) {
+        this(sqsClient, queueNamePrefix, new ThreadPoolExecutor(callbackParallelism, callbackParallelism,
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new CustomizableThreadFactory("sqs-callback-")));
+    }
+
+    SqsResponseDispatcher(SqsClient sqsClient, String queueNamePrefix, Executor callbackExecutor) {
+        this.sqsClient = sqsClient;
+        this.queueNamePrefix = queueNamePrefix;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * @apiNote 응답을 기다릴 요청을 등록합니다. 시간 안에 응답이 없으면 Future 는 TimeoutException 으로 완료됩니다.
+     * @param timeout 응답 대기 시간
+     * @param unit    시간 단위
+     * @return 요청 ID 와 응답 Future
+     */
+    public PendingResponse register(long timeout, TimeUnit unit) {
+        String queueUrl = startIfNeeded();
+
+        String requestId = UUID.randomUUID().toString();
+        CompletableFuture<Message> response = new CompletableFuture<>();
+        pending.put(requestId, response);
+        // 응답, 타임아웃, 취소 어느 경우든 대기 목록에서 제거한 뒤 호출한 쪽에 전달
+        CompletableFuture<Message> completed = response.orTimeout(timeout, unit)
+                .whenComplete((message, error) -> pending.remove(requestId));
+        return new PendingResponse(requestId, queueUrl + "#" + requestId, completed);
+    }
+
+    /**
+     * @apiNote 응답을 보내기 전에 요청 전송이 실패한 경우 등록을 취소합니다.
+     * @param requestId 요청 ID
+     * @param cause     실패 원인
+     */
+    public void cancel(String requestId, Throwable cause) {
+        CompletableFuture<Message> response = pending.remove(requestId);
+        if (response != null) {
+            response.completeExceptionally(cause);
+        }
+    }
+
+    // 응답을 기다리는 요청 수
+    int pendingCount() {
+        return pending.size();
+    }
+
+    // 응답 대기열 URL (아직 만들지 않았으면 null)
+    String responseQueueUrl() {
+        return responseQueueUrl;
+    }
+
+    // 처음 호출될 때 이 서버의 응답 대기열을 만들고 수신 시작, 만들지 못하면 다음 요청에서 다시 시도
+    private synchronized String startIfNeeded() {
+        if (responseQueueUrl == null) {
+            if (!running) {
+                throw new IllegalStateException("SQS 응답 수신이 종료되었습니다.");
+            }
+            deleteAbandonedQueues();
+            lastHeartbeat = System.currentTimeMillis();
+            responseQueueUrl = sqsClient.createQueue(builder -> builder
+                    .queueName(queueNamePrefix + UUID.randomUUID())
+                    .attributes(Map.of(QueueAttributeName.MESSAGE_RETENTION_PERIOD, MESSAGE_RETENTION_SECONDS))
+                    .tags(Map.of(HEARTBEAT_TAG, String.valueOf(lastHeartbeat)))).queueUrl();
+            log.info("[SqsResponseDispatcher] 응답 대기열 생성 - queue: {}", responseQueueUrl);
+            poller.execute(this::pollLoop);
+        }
+        return responseQueueUrl;
+    }
+
+    // 종료된 서버가 남긴 응답 대기열 삭제 (heartbeat 가 오래된 대기열)
+    private void deleteAbandonedQueues() {
+        try {
+            long now = System.currentTimeMillis();
+            for (String queueUrl : sqsClient.listQueues(builder -> builder.queueNamePrefix(queueNamePrefix)).queueUrls()) {
+                String heartbeat = sqsClient.listQueueTags(builder -> builder.queueUrl(queueUrl)).tags().get(HEARTBEAT_TAG);
+                if (heartbeat == null || now - Long.parseLong(heartbeat) > ABANDONED_AFTER_MILLIS) {
+                    log.info("[SqsResponseDispatcher] 사용하지 않는 응답 대기열 삭제 - queue: {}", queueUrl);
+                    sqsClient.deleteQueue(builder -> builder.queueUrl(queueUrl));
+                }
+            }
+        } catch (RuntimeException e) {
+            // 정리에 실패해도 이 서버의 요청/응답은 계속 사용
+            log.warn("[SqsResponseDispatcher] 사용하지 않는 응답 대기열 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 대기열이 사용 중임을 다른 서버가 알 수 있도록 heartbeat 태그 갱신
+    private void heartbeatIfNeeded() {
+        long now = System.currentTimeMillis();
+        if (now - lastHeartbeat >= HEARTBEAT_INTERVAL_MILLIS) {
+            sqsClient.tagQueue(builder -> builder.queueUrl(responseQueueUrl)
+                    .tags(Map.of(HEARTBEAT_TAG, String.valueOf(now))));
+            lastHeartbeat = now;
+        }
+    }
+
+    private void pollLoop() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                heartbeatIfNeeded();
+                pollOnce();
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("[SqsResponseDispatcher] 응답 수신 실패 - queue: {}", responseQueueUrl, e);
+                sleepQuietly(ERROR_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    // 응답 메시지를 한 번 받아 요청별로 전달
+    // 이 서버의 대기열이므로 전달했든 기다리는 요청이 없든(타임아웃 이후 도착) 모두 삭제
+    void pollOnce() {
+        List<Message> messages = sqsClient.receiveMessage(ReceiveMessageRequest.builder()
+                .queueUrl(responseQueueUrl)
+                .maxNumberOfMessages(MAX_MESSAGES)
+                .waitTimeSeconds(WAIT_TIME_SECONDS)
+                .messageAttributeNames("All")
+                .build()).messages();
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<DeleteMessageBatchRequestEntry> deleted = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            MessageAttributeValue attribute = message.messageAttributes().get(VIRTUAL_QUEUE_NAME_ATTRIBUTE);
+            String requestId = attribute == null ? null : attribute.stringValue();
+            CompletableFuture<Message> response = requestId == null ? null : pending.remove(requestId);
+            if (response != null) {
+                callbackExecutor.execute(() -> response.complete(message));
+            } else {
+                log.debug("[SqsResponseDispatcher] 기다리는 요청이 없는 응답 삭제 - messageId: {}, requestId: {}",
+                        message.messageId(), requestId);
+            }
+            deleted.add(deleteEntry(message));
+        }
+        sqsClient.deleteMessageBatch(builder -> builder.queueUrl(responseQueueUrl).entries(deleted));
+    }
+
+    private static DeleteMessageBatchRequestEntry deleteEntry(Message message) {
+        return DeleteMessageBatchRequestEntry.builder()
+                .id(message.messageId())
+                .receiptHandle(message.receiptHandle())
+                .build();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        poller.shutdownNow();
+        if (callbackExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+        pending.values().forEach(response -> response.cancel(false));
+        deleteQueue();
+    }
+
+    // 이 서버의 응답 대기열 삭제
+    private synchronized void deleteQueue() {
+        if (responseQueueUrl == null) {
+            return;
+        }
+        try {
+            sqsClient.deleteQueue(builder -> builder.queueUrl(responseQueueUrl));
+            log.info("[SqsResponseDispatcher] 응답 대기열 삭제 - queue: {}", responseQueueUrl);
+        } catch (RuntimeException e) {
+            log.warn("[SqsResponseDispatcher] 응답 대기열 삭제 실패 - queue: {}, message: {}", responseQueueUrl, e.getMessage());
+        }
+    }
+
+    /**
+     * @apiNote 응답을 기다리는 요청 정보
+     * @param requestId        요청 ID (가상 대기열 이름)
+     * @param responseQueueUrl 워커가 응답을 보낼 가상 대기열 URL
+     * @param response         응답 Future
+     */
+    public record PendingResponse(String requestId, String responseQueueUrl, CompletableFuture<Message> response) {
+    }
+}
@@ -1,62 +1,126 @@
 package com.oreo.finalproject_5re5_be.global.component;
 
-import com.amazonaws.services.sqs.AmazonSQSRequester;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oreo.finalproject_5re5_be.global.component.SqsResponseDispatcher.PendingResponse;
 import com.oreo.finalproject_5re5_be.global.constant.MessageType;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 @Component
 public class SqsService {
-    private final SqsClient sqsClient;
-    private final AmazonSQSRequester amazonSQSRequester;
+    // 워커가 응답을 보낼 대기열 URL 속성 (AmazonSQSResponder 가 사용하는 이름)
+    static final String RESPONSE_QUEUE_URL_ATTRIBUTE = "ResponseQueueUrl";
+    private static final String MESSAGE_GROUP_PREFIX = "messageGroup";
 
-    @Value("${AWS_SQS_QUEUE_URL}")
-    private String sqsQueueUrl;
+    private final SqsBatchSender sqsBatchSender;
+    private final SqsResponseDispatcher sqsResponseDispatcher;
+    private final ObjectMapper objectMapper;
+    private final String requestQueueUrl;
+    private final int messageGroupCount;
+    private final long responseTimeoutSeconds;
+    // 메시지 타입 속성은 타입별로 한 번만 생성
+    private final Map<MessageType, MessageAttributeValue> messageTypeAttributes = new EnumMap<>(MessageType.class);
 
-    @Value("${AWS_SQS_VIRTUAL_QUEUE_NAME}")
-    private String virtualQueueName;
-
-    public SqsService(SqsClient sqsClient, AmazonSQSRequester amazonSQSRequester) {
-        this.sqsClient = sqsClient;
-        this.amazonSQSRequester = amazonSQSRequester;
+    @Autowired
+    public SqsService(SqsBatchSender sqsBatchSender,
+                      SqsResponseDispatcher sqsResponseDispatcher,
+                      ObjectMapper objectMapper,
+                      @Value("${AWS_SQS_QUEUE_URL}") String sqsQueueUrl,
+                      @Value("${AWS_SQS_VIRTUAL_QUEUE_NAME}") String virtualQueueName,
+                      @Value("${sqs.message-group-count:8}") int messageGroupCount,
+                      @Value("${sqs.response-timeout-seconds:50}") long responseTimeoutSeconds) {
+        this.sqsBatchSender = sqsBatchSender;
+        this.sqsResponseDispatcher = sqsResponseDispatcher;
+        this.objectMapper = objectMapper;
+        // 가상 대기열 사용
+        this.requestQueueUrl = sqsQueueUrl + virtualQueueName;
+        this.messageGroupCount = Math.max(1, messageGroupCount);
+        this.responseTimeoutSeconds = responseTimeoutSeconds;
+        for (MessageType messageType : MessageType.values()) {
+            messageTypeAttributes.put(messageType, stringAttribute(messageType.getType()));
+        }
     }
 
+    /**
+     * @apiNote 메시지를 보내고 응답을 받을 때까지 기다립니다. 같은 메시지 타입의 요청은 같은 메시지 그룹을 사용합니다.
+     * @see #sendMessageAsync(Object, MessageType, Object)
+     */
     public <T> Message sendMessage(T dto, MessageType messageType) throws TimeoutException, JsonProcessingException {
-        // 변수 설정
-        // 가상 대기열 사용
-        String requestQueueUrl = sqsQueueUrl + virtualQueueName;
+        try {
+            return sendMessageAsync(dto, messageType, messageType.getType()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("SQS 응답 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException timeoutException) {
+                throw timeoutException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("SQS 요청 처리 중 예외가 발생했습니다.", e.getCause());
+        }
+    }
 
+    /**
+     * @apiNote 메시지를 보내고 응답을 기다리지 않고 반환합니다. <br>
+     * 메시지는 {@link SqsBatchSender} 가 다른 요청과 묶어서 보내고, 응답은 {@link SqsResponseDispatcher} 가 받아 Future 를 완료하며, 응답 대기 시간이 지나면 TimeoutException 으로 완료됩니다. <br>
+     * FIFO 대기열의 순서 보장은 메시지 그룹 단위이므로, {@code groupKey} 로 메시지 그룹을 나눠 서로 관계 없는 요청(예: 다른 프로젝트)이
+     * 앞의 요청을 기다리지 않고 워커에서 동시에 처리되도록 합니다. 같은 groupKey 의 요청은 보낸 순서대로 처리됩니다.
+     * @param dto         메시지 본문으로 보낼 객체 (JSON 변환)
+     * @param messageType 메시지 타입
+     * @param groupKey    메시지 그룹을 나누는 기준 값
+     * @return 응답 메시지 Future
+     * @throws JsonProcessingException 메시지 본문 변환 실패
+     */
+    public <T> CompletableFuture<Message> sendMessageAsync(T dto, MessageType messageType, Object groupKey)
+            throws JsonProcessingException {
         // DTO를 JSON으로 변환
-        ObjectMapper objectMapper = new ObjectMapper();
         String messageBody = objectMapper.writeValueAsString(dto);
 
+        // 응답 대기 등록 (응답 대기열은 요청마다 다른 가상 대기열)
+        PendingResponse pending = sqsResponseDispatcher.register(responseTimeoutSeconds, TimeUnit.SECONDS);
+
         // 메시지 속성 설정
-        Map<String, MessageAttributeValue> messageAttributes = new HashMap<>();
-        messageAttributes.put("messageType",
-                MessageAttributeValue.builder().dataType("String").stringValue(messageType.getType()).build());
+        Map<String, MessageAttributeValue> messageAttributes = Map.of(
+                "messageType", messageTypeAttributes.get(messageType),
+                RESPONSE_QUEUE_URL_ATTRIBUTE, stringAttribute(pending.responseQueueUrl()));
 
-        // sqs에 메세지 보내기
+        // sqs에 메세지 보내기 (다른 메시지와 묶어서 SendMessageBatch 로 전송)
         SendMessageRequest sendRequest = SendMessageRequest.builder()
                 .queueUrl(requestQueueUrl)
                 .messageBody(messageBody)
                 .messageAttributes(messageAttributes)
-                .messageGroupId("messageGroup1")
+                .messageGroupId(messageGroupId(groupKey))
+                .messageDeduplicationId(pending.requestId())
                 .build();
+        sqsBatchSender.send(sendRequest).whenComplete((messageId, error) -> {
+            if (error != null) {
+                sqsResponseDispatcher.cancel(pending.requestId(), error);
+            }
+        });
+        return pending.response();
+    }
 
-        Message response = amazonSQSRequester.sendMessageAndGetResponse(sendRequest, 50,
-                TimeUnit.SECONDS);
+    // groupKey 로 메시지 그룹 ID 결정 (messageGroup1 ~ messageGroupN)
+    String messageGroupId(Object groupKey) {
+        int shard = groupKey == null ? 0 : Math.floorMod(groupKey.hashCode(), messageGroupCount);
+        return MESSAGE_GROUP_PREFIX + (shard + 1);
+    }
 
-        return response;
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
     }
 }
@@ -0,0 +1,265 @@
+package com.oreo.finalproject_5re5_be.global.component.audio;
+
+import javax.sound.sampled.AudioSystem;
+
+/**
+ * @apiNote 오디오 파일 앞부분의 헤더만 분석해서 포맷과 길이를 알아내는 클래스 입니다. <br>
+ * 디코딩하지 않고 WAVE는 RIFF 청크(fmt, data)를, MP3는 첫 프레임 헤더와 Xing/Info, VBRI, LAME 태그를 읽습니다. <br>
+ * 헤더에 길이가 없으면 파일 크기와 비트레이트(또는 block align)로 길이를 추정합니다.
+ */
+public final class AudioHeaderProbe {
+    public static final int HEAD_SIZE = 64 * 1024; // 헤더 분석에 사용할 앞부분 크기
+
+    private AudioHeaderProbe() {
+    }
+
+    /**
+     * @param type         파일 형식 (WAV, MP3)
+     * @param sampleRate   원본 샘플링 레이트
+     * @param channels     채널 수
+     * @param frameLength  원본 샘플링 레이트 기준 프레임 수, 알 수 없으면 {@link AudioSystem#NOT_SPECIFIED}
+     * @param estimated    파일 크기로 추정한 길이인지 여부
+     * @param bitrate      비트레이트 (bps)
+     * @param dataOffset   오디오 데이터 시작 위치 (byte)
+     * @param sampleSizeInBits 샘플 비트 수 (WAVE), 압축 포맷이면 {@link AudioSystem#NOT_SPECIFIED}
+     */
+    public record Header(String type, float sampleRate, int channels, long frameLength,
+                         boolean estimated, int bitrate, long dataOffset, int sampleSizeInBits) {
+
+        public boolean hasFrameLength() {
+            return frameLength != AudioSystem.NOT_SPECIFIED;
+        }
+
+        //원본 샘플링 레이트 기준 프레임 수를 대상 레이트 기준으로 변환
+        public long frameLengthAt(float targetFrameRate) {
+            if (!hasFrameLength()) {
+                return AudioSystem.NOT_SPECIFIED;
+            }
+            return Math.round(frameLength * (double) targetFrameRate / sampleRate);
+        }
+
+        //초 단위 길이
+        public double duration() {
+            return hasFrameLength() ? frameLength / (double) sampleRate : AudioSystem.NOT_SPECIFIED;
+        }
+    }
+
+    private static final int[][] MPEG1_BITRATES = {
+            {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448}, // Layer I
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384},    // Layer II
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320}      // Layer III
+    };
+    private static final int[][] MPEG2_BITRATES = {
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256},    // Layer I
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160},         // Layer II
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160}          // Layer III
+    };
+    private static final int[] MPEG1_SAMPLE_RATES = {44100, 48000, 32000};
+
+    /**
+     * @apiNote 파일 앞부분의 ID3v2 태그 크기를 반환합니다. MP3 프레임은 이 위치부터 시작합니다.
+     * @param head 파일 앞부분
+     * @return 태그 전체 크기 (byte), 태그가 없으면 0
+     */
+    public static int id3v2Size(byte[] head) {
+        if (head.length < 10 || head[0] != 'I' || head[1] != 'D' || head[2] != '3') {
+            return 0;
+        }
+        int size = ((head[6] & 0x7F) << 21) | ((head[7] & 0x7F) << 14) | ((head[8] & 0x7F) << 7) | (head[9] & 0x7F);
+        boolean footer = (head[5] & 0x10) != 0;
+        return 10 + size + (footer ? 10 : 0);
+    }
+
+    /**
+     * @apiNote 파일 앞부분을 분석합니다.
+     * @param head       파일 앞부분 (WAVE는 data 청크 헤더까지, MP3는 첫 프레임까지 포함해야 함)
+     * @param offset     head가 파일에서 시작하는 위치 (ID3 태그 뒤부터 읽은 경우)
+     * @param objectSize 전체 파일 크기, 모르면 {@link AudioSystem#NOT_SPECIFIED}
+     * @return 분석 결과, 지원하지 않는 형식이면 null
+     */
+    public static Header probe(byte[] head, long offset, long objectSize) {
+        if (isWave(head)) {
+            return probeWave(head, offset, objectSize);
+        }
+        return probeMp3(head, offset, objectSize);
+    }
+
+    private static boolean isWave(byte[] head) {
+        return head.length >= 12
+                && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                && head[8] == 'W' && head[9] == 'A' && head[10] == 'V' && head[11] == 'E';
+    }
+
+    //RIFF 청크를 따라가며 fmt, data 청크 찾기
+    private static Header probeWave(byte[] head, long offset, long objectSize) {
+        int pos = 12;
+        int channels = 0;
+        int sampleRate = 0;
+        int blockAlign = 0;
+        int byteRate = 0;
+        int bitsPerSample = AudioSystem.NOT_SPECIFIED;
+        while (pos + 8 <= head.length) {
+            long chunkSize = readIntLE(head, pos + 4) & 0xFFFFFFFFL;
+            if (matches(head, pos, "fmt ") && pos + 8 + 16 <= head.length) {
+                channels = readShortLE(head, pos + 10);
+                sampleRate = readIntLE(head, pos + 12);
+                byteRate = readIntLE(head, pos + 16);
+                blockAlign = readShortLE(head, pos + 20);
+                bitsPerSample = readShortLE(head, pos + 22);
+            } else if (matches(head, pos, "data")) {
+                if (sampleRate <= 0 || blockAlign <= 0) {
+                    return null;
+                }
+                long dataOffset = offset + pos + 8;
+                boolean unknownSize = chunkSize == 0 || chunkSize == 0xFFFFFFFFL; // 스트리밍으로 만든 WAVE
+                long frameLength = AudioSystem.NOT_SPECIFIED;
+                boolean estimated = false;
+                if (!unknownSize) {
+                    long available = objectSize > 0 ? objectSize - dataOffset : chunkSize;
+                    frameLength = Math.min(chunkSize, available) / blockAlign;
+                } else if (objectSize > 0) {
+                    frameLength = (objectSize - dataOffset) / blockAlign;
+                    estimated = true;
+                }
+                return new Header("WAV", sampleRate, channels, frameLength, estimated, byteRate * 8, dataOffset,
+                        bitsPerSample);
+            }
+            pos += 8 + (int) Math.min(chunkSize + (chunkSize & 1), Integer.MAX_VALUE - pos - 8); // 청크는 짝수 크기로 정렬
+        }
+        return null;
+    }
+
+    //첫 MPEG 오디오 프레임을 찾아 Xing/Info, VBRI 태그 확인, 없으면 CBR로 보고 파일 크기로 추정
+    private static Header probeMp3(byte[] head, long offset, long objectSize) {
+        int start = id3v2Size(head);
+        for (int pos = start; pos + 4 <= head.length; pos++) {
+            MpegFrame frame = MpegFrame.parse(head, pos);
+            if (frame == null) {
+                continue;
+            }
+            // 다음 프레임도 동기 신호가 있는지 확인해서 잘못된 동기 신호를 걸러냄
+            int next = pos + frame.length();
+            if (next + 4 <= head.length && MpegFrame.parse(head, next) == null) {
+                continue;
+            }
+            long dataOffset = offset + pos;
+
+            Header vbr = probeVbrTag(head, pos, frame, dataOffset);
+            if (vbr != null) {
+                return vbr;
+            }
+            long frameLength = AudioSystem.NOT_SPECIFIED;
+            if (objectSize > 0) {
+                // 파일 끝의 ID3v1 태그(128 byte)는 앞부분만으로 알 수 없으므로 오차로 둠
+                frameLength = (long) ((objectSize - dataOffset) * 8.0 / frame.bitrate() * frame.sampleRate());
+            }
+            return new Header("MP3", frame.sampleRate(), frame.channels(), frameLength,
+                    true, frame.bitrate(), dataOffset, AudioSystem.NOT_SPECIFIED);
+        }
+        return null;
+    }
+
+    private static Header probeVbrTag(byte[] head, int pos, MpegFrame frame, long dataOffset) {
+        int xing = pos + 4 + frame.sideInfoSize();
+        if (xing + 8 <= head.length && (matches(head, xing, "Xing") || matches(head, xing, "Info"))) {
+            int flags = readIntBE(head, xing + 4);
+            if ((flags & 0x1) == 0 || xing + 12 > head.length) {
+                return null;
+            }
+            long frames = readIntBE(head, xing + 8) & 0xFFFFFFFFL;
+            int lame = xing + 8;
+            lame += 4;                              // frames
+            lame += (flags & 0x2) != 0 ? 4 : 0;     // bytes
+            lame += (flags & 0x4) != 0 ? 100 : 0;   // TOC
+            lame += (flags & 0x8) != 0 ? 4 : 0;     // quality
+            long samples = frames * frame.samplesPerFrame();
+            if (lame + 24 <= head.length && matches(head, lame, "LAME")) {
+                // LAME 태그의 인코더 지연(encoder delay)과 패딩(12비트씩) 제외
+                int delay = ((head[lame + 21] & 0xFF) << 4) | ((head[lame + 22] & 0xFF) >> 4);
+                int padding = ((head[lame + 22] & 0x0F) << 8) | (head[lame + 23] & 0xFF);
+                samples = Math.max(0, samples - delay - padding);
+            }
+            return new Header("MP3", frame.sampleRate(), frame.channels(), samples,
+                    false, frame.bitrate(), dataOffset, AudioSystem.NOT_SPECIFIED);
+        }
+        int vbri = pos + 4 + 32; // VBRI는 항상 헤더 뒤 32바이트 위치
+        if (vbri + 18 <= head.length && matches(head, vbri, "VBRI")) {
+            long frames = readIntBE(head, vbri + 14) & 0xFFFFFFFFL;
+            return new Header("MP3", frame.sampleRate(), frame.channels(), frames * frame.samplesPerFrame(),
+                    false, frame.bitrate(), dataOffset, AudioSystem.NOT_SPECIFIED);
+        }
+        return null;
+    }
+
+    //MPEG 오디오 프레임 헤더 (4 byte)
+    private record MpegFrame(int version, int layer, int bitrate, int sampleRate, int channels, int length) {
+        static final int MPEG1 = 3;
+
+        static MpegFrame parse(byte[] b, int pos) {
+            if (pos + 4 > b.length || (b[pos] & 0xFF) != 0xFF || (b[pos + 1] & 0xE0) != 0xE0) {
+                return null;
+            }
+            int version = (b[pos + 1] >> 3) & 0x3;       // 0: MPEG2.5, 2: MPEG2, 3: MPEG1
+            int layerBits = (b[pos + 1] >> 1) & 0x3;     // 1: Layer III, 2: Layer II, 3: Layer I
+            int bitrateIndex = (b[pos + 2] >> 4) & 0xF;
+            int sampleRateIndex = (b[pos + 2] >> 2) & 0x3;
+            int padding = (b[pos + 2] >> 1) & 0x1;
+            int channelMode = (b[pos + 3] >> 6) & 0x3;
+            if (version == 1 || layerBits == 0 || bitrateIndex == 0 || bitrateIndex == 15 || sampleRateIndex == 3) {
+                return null;
+            }
+            int layer = 4 - layerBits;
+            int[][] table = version == MPEG1 ? MPEG1_BITRATES : MPEG2_BITRATES;
+            int bitrate = table[layer - 1][bitrateIndex] * 1000;
+            int sampleRate = MPEG1_SAMPLE_RATES[sampleRateIndex] >> (version == MPEG1 ? 0 : version == 2 ? 1 : 2);
+            int length;
+            if (layer == 1) {
+                length = (12 * bitrate / sampleRate + padding) * 4;
+            } else if (layer == 3 && version != MPEG1) {
+                length = 72 * bitrate / sampleRate + padding;
+            } else {
+                length = 144 * bitrate / sampleRate + padding;
+            }
+            return new MpegFrame(version, layer, bitrate, sampleRate, channelMode == 3 ? 1 : 2, length);
+        }
+
+        int samplesPerFrame() {
+            if (layer == 1) {
+                return 384;
+            }
+            return layer == 3 && version != MPEG1 ? 576 : 1152;
+        }
+
+        //Layer III 사이드 정보 크기, Xing 태그는 그 뒤에 위치
+        int sideInfoSize() {
+            if (version == MPEG1) {
+                return channels == 1 ? 17 : 32;
+            }
+            return channels == 1 ? 9 : 17;
+        }
+    }
+
+    private static boolean matches(byte[] b, int pos, String id) {
+        if (pos + id.length() > b.length) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (b[pos + i] != id.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readIntLE(byte[] b, int pos) {
+        return (b[pos] & 0xFF) | ((b[pos + 1] & 0xFF) << 8) | ((b[pos + 2] & 0xFF) << 16) | ((b[pos + 3] & 0xFF) << 24);
+    }
+
+    private static int readShortLE(byte[] b, int pos) {
+        return (b[pos] & 0xFF) | ((b[pos + 1] & 0xFF) << 8);
+    }
+
+    private static int readIntBE(byte[] b, int pos) {
+        return ((b[pos] & 0xFF) << 24) | ((b[pos + 1] & 0xFF) << 16) | ((b[pos + 2] & 0xFF) << 8) | (b[pos + 3] & 0xFF);
+    }
+}
@@ -48,13 +48,14 @@ public class BeepMaker {
      * <caption>기본 병합 클래스</caption>
      * </table>
      *
-     * @param duration  지속 시간 (초)
+     * @param duration  지속 시간 (밀리초)
      * @param format    대상 오디오 포맷
      * @return 무음 오디오 스트림
+     * @see SilenceAudioInputStream
      */
 
-    //무음 오디오 생성
+    //무음 오디오 생성 (바이트 배열을 만들지 않는 무음 스트림)
     public static AudioInputStream makeSound(float duration, AudioFormat format) {
-        return makeSound(0, duration, format);
+        return SilenceAudioInputStream.of(duration, format);
     }
 }
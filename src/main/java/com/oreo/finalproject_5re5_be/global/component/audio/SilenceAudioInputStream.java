@@ -0,0 +1,85 @@
+package com.oreo.finalproject_5re5_be.global.component.audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * @apiNote 무음 구간을 위한 {@link AudioInputStream} 입니다. <br>
+ * 무음 전체를 바이트 배열로 만들지 않고, 읽을 때마다 호출한 쪽의 버퍼를 무음 값으로 채웁니다. <br>
+ * 구간 길이와 상관없이 추가 메모리를 사용하지 않습니다.
+ * @see BeepMaker#makeSound(float, AudioFormat)
+ */
+public class SilenceAudioInputStream extends AudioInputStream {
+
+    /**
+     * @param format      대상 오디오 포맷
+     * @param frameLength 무음 프레임 수
+     */
+    public SilenceAudioInputStream(AudioFormat format, long frameLength) {
+        super(new SilenceSource(frameLength * format.getFrameSize(), silenceValue(format)), format, frameLength);
+    }
+
+    /**
+     * @param duration 지속 시간 (밀리초)
+     * @param format   대상 오디오 포맷
+     * @return 무음 오디오 스트림
+     */
+    public static SilenceAudioInputStream of(float duration, AudioFormat format) {
+        long frames = (long) (duration * format.getFrameRate() / 1000.0f); // 밀리초 단위를 초 단위로 변환하여 프레임 수 계산
+        return new SilenceAudioInputStream(format, frames);
+    }
+
+    //8비트 unsigned PCM은 0x80이 무음, 그 외 PCM은 0이 무음
+    private static byte silenceValue(AudioFormat format) {
+        return AudioFormat.Encoding.PCM_UNSIGNED.equals(format.getEncoding()) && format.getSampleSizeInBits() == 8
+                ? (byte) 0x80 : 0;
+    }
+
+    //지정한 바이트 수만큼 무음 값을 채워주는 내부 스트림
+    private static class SilenceSource extends InputStream {
+        private final byte value;
+        private long remaining;
+
+        SilenceSource(long length, byte value) {
+            this.remaining = length;
+            this.value = value;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return value & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + count, value);
+            remaining -= count;
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(remaining, Integer.MAX_VALUE);
+        }
+    }
+}
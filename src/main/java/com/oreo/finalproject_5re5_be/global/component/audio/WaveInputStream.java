@@ -0,0 +1,151 @@
+package com.oreo.finalproject_5re5_be.global.component.audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * @apiNote PCM {@link AudioInputStream} 앞에 WAVE 헤더를 붙여 읽는 스트림 입니다. <br>
+ * {@link AudioSystem#write} 처럼 결과를 메모리에 모으지 않고, 읽는 만큼만 원본 오디오를 읽어 그대로 전달합니다. <br>
+ * 프레임 길이가 지정된 오디오는 전체 크기를 미리 알 수 있으므로 S3 업로드 시 Content-Length로 사용할 수 있습니다. <br>
+ * 길이를 알 수 없는 오디오는 헤더의 크기 값을 0으로 두고, 끝까지 읽은 뒤 {@link #completeHeader(byte[])} 로
+ * 실제 길이가 들어간 헤더를 다시 작성합니다.
+ */
+public class WaveInputStream extends InputStream {
+    public static final int HEADER_SIZE = 44;
+
+    private final byte[] header;
+    private final AudioInputStream pcm;
+    private final byte[] frame; //프레임보다 작은 단위로 읽을 때 사용하는 버퍼
+    private final long size;
+    private long dataBytes; //지금까지 전달한 오디오 데이터 크기
+    private int headerPos;
+    private int framePos;
+    private int frameLen;
+
+    public WaveInputStream(AudioInputStream audioInputStream) {
+        this.pcm = toWaveCompatible(audioInputStream);
+        AudioFormat format = pcm.getFormat();
+        boolean known = pcm.getFrameLength() != AudioSystem.NOT_SPECIFIED;
+        long dataSize = known ? pcm.getFrameLength() * format.getFrameSize() : 0;
+        this.header = createHeader(format, dataSize);
+        this.frame = new byte[format.getFrameSize()];
+        this.size = known ? HEADER_SIZE + dataSize : AudioSystem.NOT_SPECIFIED;
+    }
+
+    /**
+     * @return 헤더를 포함한 WAVE 파일 전체 크기 (byte), 길이를 알 수 없으면 {@link AudioSystem#NOT_SPECIFIED}
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @apiNote 지금까지 읽은 오디오 데이터 길이로 WAVE 헤더를 다시 작성합니다. <br>
+     * 스트림을 끝까지 읽은 뒤, 헤더가 들어있는 첫 번째 버퍼에 호출합니다.
+     * @param buffer 스트림의 처음 {@value #HEADER_SIZE} 바이트 이상을 담고 있는 버퍼
+     */
+    public void completeHeader(byte[] buffer) {
+        byte[] completed = createHeader(pcm.getFormat(), dataBytes);
+        System.arraycopy(completed, 0, buffer, 0, HEADER_SIZE);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int bytesRead = read(one, 0, 1);
+        return bytesRead == -1 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (headerPos < header.length) { //헤더 먼저 전달
+            int count = Math.min(len, header.length - headerPos);
+            System.arraycopy(header, headerPos, b, off, count);
+            headerPos += count;
+            return count;
+        }
+        if (framePos < frameLen) { //이전에 남은 프레임 조각 전달
+            int count = Math.min(len, frameLen - framePos);
+            System.arraycopy(frame, framePos, b, off, count);
+            framePos += count;
+            return count;
+        }
+        if (len >= frame.length) { //프레임 단위로 바로 읽기
+            int bytesRead = pcm.read(b, off, len - (len % frame.length));
+            if (bytesRead > 0) {
+                dataBytes += bytesRead;
+            }
+            return bytesRead;
+        }
+        //요청 크기가 프레임보다 작으면 한 프레임을 버퍼에 읽어서 나눠 전달
+        frameLen = pcm.read(frame, 0, frame.length);
+        framePos = 0;
+        if (frameLen <= 0) {
+            frameLen = 0;
+            return -1;
+        }
+        dataBytes += frameLen;
+        int count = Math.min(len, frameLen);
+        System.arraycopy(frame, 0, b, off, count);
+        framePos = count;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        pcm.close();
+    }
+
+    //WAVE는 8비트 unsigned, 그 외 signed 리틀 엔디안 PCM만 지원하므로 필요하면 변환
+    private static AudioInputStream toWaveCompatible(AudioInputStream audioInputStream) {
+        AudioFormat format = audioInputStream.getFormat();
+        int sampleSize = format.getSampleSizeInBits();
+        AudioFormat.Encoding encoding = sampleSize <= 8
+                ? AudioFormat.Encoding.PCM_UNSIGNED : AudioFormat.Encoding.PCM_SIGNED;
+        if (format.getEncoding().equals(encoding) && (sampleSize <= 8 || !format.isBigEndian())) {
+            return audioInputStream;
+        }
+        AudioFormat target = new AudioFormat(
+                encoding,
+                format.getSampleRate(),
+                sampleSize,
+                format.getChannels(),
+                format.getFrameSize(),
+                format.getFrameRate(),
+                false
+        );
+        return AudioSystem.getAudioInputStream(target, audioInputStream);
+    }
+
+    //RIFF/WAVE PCM 헤더 생성
+    private static byte[] createHeader(AudioFormat format, long dataSize) {
+        if (dataSize + HEADER_SIZE - 8 > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("WAVE 파일 최대 크기를 초과했습니다.");
+        }
+        int sampleRate = (int) format.getSampleRate();
+        int frameSize = format.getFrameSize();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(new byte[]{'R', 'I', 'F', 'F'});
+        buffer.putInt((int) (dataSize + HEADER_SIZE - 8));
+        buffer.put(new byte[]{'W', 'A', 'V', 'E'});
+        buffer.put(new byte[]{'f', 'm', 't', ' '});
+        buffer.putInt(16);                              // fmt 청크 크기
+        buffer.putShort((short) 1);                     // PCM
+        buffer.putShort((short) format.getChannels());
+        buffer.putInt(sampleRate);
+        buffer.putInt(sampleRate * frameSize);          // byte rate
+        buffer.putShort((short) frameSize);             // block align
+        buffer.putShort((short) format.getSampleSizeInBits());
+        buffer.put(new byte[]{'d', 'a', 't', 'a'});
+        buffer.putInt((int) dataSize);
+        return buffer.array();
+    }
+}
@@ -4,6 +4,7 @@ package com.oreo.finalproject_5re5_be.global.config;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.AuditorAware;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.Optional;
 
@@ -14,6 +15,10 @@ public class AuditorAwareImpl implements AuditorAware<Long> {
     //session 값으로 memberSeq 가지고 오기
     @Override
     public Optional<Long> getCurrentAuditor() {
+        // 요청 스레드가 아닌 곳(비동기 작업)에서 저장하는 경우 세션을 사용할 수 없음
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            return Optional.empty();
+        }
         Long memberID = (Long) session.getAttribute("memberSeq");
         return Optional.ofNullable(memberID);
     }
@@ -1,7 +1,5 @@
 package com.oreo.finalproject_5re5_be.global.config;
 
-import com.amazonaws.services.sqs.AmazonSQSRequester;
-import com.amazonaws.services.sqs.AmazonSQSRequesterClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,11 +29,4 @@ public class SqsConfig {
             .credentialsProvider(staticCredentialsProvider)
             .build();
     }
-
-    @Bean
-    public AmazonSQSRequester amazonSQSRequester(SqsClient sqsClient) {
-        return AmazonSQSRequesterClientBuilder.standard()
-            .withAmazonSQS(sqsClient)
-            .build();
-    }
 }
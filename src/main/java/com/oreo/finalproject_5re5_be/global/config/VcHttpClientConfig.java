@@ -0,0 +1,52 @@
+package com.oreo.finalproject_5re5_be.global.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @apiNote VC API 호출용 HTTP 클라이언트 설정 입니다. <br>
+ * 요청마다 클라이언트를 만들면 매번 TCP/TLS 연결을 새로 맺으므로, 연결 풀(keep-alive)을 가진 비동기 클라이언트 하나를 공유합니다.
+ * 같은 호스트로 동시에 보내는 요청 수는 {@code vc.http.max-per-route} 로 제한되고, 넘는 요청은 풀에서 연결을 기다립니다.
+ */
+@Configuration
+public class VcHttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient vcHttpClient(
+            @Value("${vc.http.max-connections:20}") int maxConnections,
+            @Value("${vc.http.max-per-route:10}") int maxPerRoute,
+            @Value("${vc.http.connect-timeout-millis:5000}") long connectTimeoutMillis,
+            @Value("${vc.http.response-timeout-millis:120000}") long responseTimeoutMillis,
+            @Value("${vc.http.idle-timeout-seconds:30}") long idleTimeoutSeconds) {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .build())
+                .build();
+
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀에서 연결을 기다리는 시간은 응답 대기 시간과 같게 (동시 요청이 많으면 앞 요청이 끝나야 받음)
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .build())
+                // 오래 쉬고 있는 연결은 서버가 먼저 끊기 전에 정리
+                .evictIdleConnections(TimeValue.ofSeconds(idleTimeoutSeconds))
+                .build();
+        client.start();
+        return client;
+    }
+}
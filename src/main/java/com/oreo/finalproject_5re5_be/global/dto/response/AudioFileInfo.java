@@ -13,4 +13,7 @@ public class AudioFileInfo {
     private String size;      //크기 (용량)
     private Integer length;    // 초 단위 길이
     private String extension; //확장자
+    private Integer sampleRate; // 샘플링 레이트
+    private Integer channels;   // 채널 수
+    private Integer bitDepth;   // 샘플 비트 수 (MP3 등 압축 포맷은 null)
 }
@@ -4,28 +4,66 @@ import com.google.cloud.texttospeech.v1.*;
 import com.google.protobuf.ByteString;
 import com.oreo.finalproject_5re5_be.global.component.ByteArrayMultipartFile;
 import com.oreo.finalproject_5re5_be.tts.exception.InvalidTTSParamException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @apiNote Google TTS 합성 서비스 입니다. <br>
+ * 입력이 {@code tts.chunk.max-bytes} 보다 길고 LINEAR16 으로 합성하는 경우, 문장/구절 경계에서 나눠
+ * 최대 {@code tts.chunk.parallelism} 개씩 동시에 합성한 뒤 짧은 크로스페이드로 이어 붙여 하나의 WAV로 반환합니다. <br>
+ * 긴 문단도 API 입력 제한에 걸리지 않고, 합성 시간이 텍스트 길이가 아니라 동시 처리 수에 따라 줄어듭니다.
+ */
+@Slf4j
 @Service
 public class GoogleTTSService {
+    private final TextToSpeechClient ttsClient;
+    private final int chunkMaxBytes;
+    private final int crossfadeMillis;
+    private final Executor chunkExecutor;
+
     @Autowired
-    TextToSpeechClient ttsClient;
+    public GoogleTTSService(TextToSpeechClient ttsClient,
+                            @Value("${tts.chunk.max-bytes:1000}") int chunkMaxBytes,
+                            @Value("${tts.chunk.crossfade-millis:10}") int crossfadeMillis,
+                            @Value("${tts.chunk.parallelism:4}") int parallelism) {
+        this(ttsClient, chunkMaxBytes, crossfadeMillis,
+                Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("tts-chunk-")));
+    }
+
+    GoogleTTSService(TextToSpeechClient ttsClient, int chunkMaxBytes, int crossfadeMillis, Executor chunkExecutor) {
+        this.ttsClient = ttsClient;
+        this.chunkMaxBytes = chunkMaxBytes;
+        this.crossfadeMillis = crossfadeMillis;
+        this.chunkExecutor = chunkExecutor;
+    }
 
     public byte[] make(SynthesisInput input, VoiceSelectionParams voice, AudioConfig audioConfig) {
         if(checkInvalidParams(input, voice, audioConfig)) {
             throw new InvalidTTSParamException("TTS 요청 파라미터가 부족합니다");
         }
 
-        // tts 요청
-        SynthesizeSpeechResponse response = ttsClient.synthesizeSpeech(input, voice, audioConfig);
-
-        // 응답으로부터 오디오 컨텐츠 얻기
-        ByteString audioContents = response.getAudioContent();
-
-        return audioContents.toByteArray();
+        // 긴 입력은 나눠서 동시에 합성 (이어 붙이기는 LINEAR16 만 가능)
+        if (audioConfig.getAudioEncoding() == AudioEncoding.LINEAR16) {
+            List<SynthesisInput> chunks = TtsTextChunker.split(input, chunkMaxBytes);
+            if (chunks.size() > 1) {
+                return makeChunked(chunks, voice, audioConfig);
+            }
+        }
 
+        return synthesize(input, voice, audioConfig);
     }
 
 
@@ -36,9 +74,47 @@ public class GoogleTTSService {
         );
     }
 
+    // 조각별로 동시에 합성한 뒤 순서대로 이어 붙임
+    private byte[] makeChunked(List<SynthesisInput> chunks, VoiceSelectionParams voice, AudioConfig audioConfig) {
+        log.debug("[GoogleTTSService] 긴 입력을 나눠서 합성 - chunks: {}", chunks.size());
+        List<CompletableFuture<byte[]>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> synthesize(chunk, voice, audioConfig), chunkExecutor))
+                .toList();
+        List<byte[]> wavChunks = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<byte[]> future : futures) {
+                wavChunks.add(future.join());
+            }
+        } catch (CompletionException e) {
+            // 하나라도 실패하면 아직 시작하지 않은 조각은 취소
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return LinearPcmStitcher.stitch(wavChunks, crossfadeMillis);
+    }
+
+    private byte[] synthesize(SynthesisInput input, VoiceSelectionParams voice, AudioConfig audioConfig) {
+        // tts 요청
+        SynthesizeSpeechResponse response = ttsClient.synthesizeSpeech(input, voice, audioConfig);
+
+        // 응답으로부터 오디오 컨텐츠 얻기
+        ByteString audioContents = response.getAudioContent();
+
+        return audioContents.toByteArray();
+    }
+
     // tts 생성에 필요한 파라미터들 null 아닌지 검사
     private boolean checkInvalidParams(SynthesisInput input, VoiceSelectionParams voice, AudioConfig audioConfig) {
         return input == null || voice == null || audioConfig == null;
     }
 
+    @PreDestroy
+    public void shutdown() {
+        if (chunkExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
 }
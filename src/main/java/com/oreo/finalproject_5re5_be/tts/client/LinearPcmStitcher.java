@@ -0,0 +1,122 @@
+package com.oreo.finalproject_5re5_be.tts.client;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioHeaderProbe;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * @apiNote 나눠서 합성한 LINEAR16(16비트 signed little-endian PCM) WAV 조각을 하나의 WAV로 이어 붙이는 클래스 입니다. <br>
+ * 조각 경계에서 앞 조각의 끝과 다음 조각의 시작을 짧게 겹쳐(크로스페이드) 이음새의 튀는 소리를 없앱니다. <br>
+ * 헤더는 {@link AudioHeaderProbe} 로 읽고, 모든 조각의 샘플링 레이트와 채널 수가 같아야 합니다.
+ */
+final class LinearPcmStitcher {
+    private static final int BYTES_PER_SAMPLE = 2;
+
+    private LinearPcmStitcher() {
+    }
+
+    /**
+     * @apiNote WAV 조각들을 크로스페이드로 이어 붙입니다.
+     * @param wavChunks      LINEAR16 WAV 조각 목록 (순서대로)
+     * @param crossfadeMillis 조각 경계에서 겹칠 길이 (ms)
+     * @return 이어 붙인 WAV
+     */
+    static byte[] stitch(List<byte[]> wavChunks, int crossfadeMillis) {
+        if (wavChunks.size() == 1) {
+            return wavChunks.get(0);
+        }
+        AudioHeaderProbe.Header first = header(wavChunks.get(0));
+        int frameSize = first.channels() * BYTES_PER_SAMPLE;
+
+        // 조각별 PCM 구간
+        int[] offsets = new int[wavChunks.size()];
+        int[] lengths = new int[wavChunks.size()];
+        int minFrames = Integer.MAX_VALUE;
+        for (int i = 0; i < wavChunks.size(); i++) {
+            AudioHeaderProbe.Header header = i == 0 ? first : header(wavChunks.get(i));
+            if (header.sampleRate() != first.sampleRate() || header.channels() != first.channels()) {
+                throw new IllegalStateException("TTS 조각의 오디오 포맷이 서로 다릅니다.");
+            }
+            offsets[i] = (int) header.dataOffset();
+            lengths[i] = (int) (header.frameLength() * frameSize);
+            minFrames = Math.min(minFrames, (int) header.frameLength());
+        }
+
+        // 겹치는 길이는 가장 짧은 조각의 절반을 넘지 않음
+        int fadeFrames = (int) Math.min((long) first.sampleRate() * crossfadeMillis / 1000, minFrames / 2);
+        int fadeBytes = fadeFrames * frameSize;
+
+        int total = 0;
+        for (int length : lengths) {
+            total += length;
+        }
+        total -= fadeBytes * (wavChunks.size() - 1);
+
+        byte[] pcm = new byte[total];
+        int position = 0;
+        for (int i = 0; i < wavChunks.size(); i++) {
+            byte[] chunk = wavChunks.get(i);
+            int start = offsets[i];
+            int length = lengths[i];
+            if (i > 0 && fadeBytes > 0) {
+                // 이미 쓴 앞 조각의 끝부분과 이번 조각의 시작부분을 섞음
+                crossfade(pcm, position - fadeBytes, chunk, start, fadeFrames, first.channels());
+                start += fadeBytes;
+                length -= fadeBytes;
+            }
+            System.arraycopy(chunk, start, pcm, position, length);
+            position += length;
+        }
+        return toWav(pcm, new AudioFormat(first.sampleRate(), 16, first.channels(), true, false));
+    }
+
+    // 선형 크로스페이드 (앞 조각은 점점 작게, 다음 조각은 점점 크게)
+    private static void crossfade(byte[] out, int outOffset, byte[] next, int nextOffset, int frames, int channels) {
+        for (int frame = 0; frame < frames; frame++) {
+            double gain = (frame + 0.5) / frames;
+            for (int channel = 0; channel < channels; channel++) {
+                int index = (frame * channels + channel) * BYTES_PER_SAMPLE;
+                int previous = readSample(out, outOffset + index);
+                int incoming = readSample(next, nextOffset + index);
+                writeSample(out, outOffset + index, previous * (1 - gain) + incoming * gain);
+            }
+        }
+    }
+
+    private static int readSample(byte[] bytes, int offset) {
+        return (short) ((bytes[offset] & 0xFF) | (bytes[offset + 1] << 8));
+    }
+
+    private static void writeSample(byte[] bytes, int offset, double value) {
+        int sample = (int) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(value)));
+        bytes[offset] = (byte) sample;
+        bytes[offset + 1] = (byte) (sample >> 8);
+    }
+
+    private static AudioHeaderProbe.Header header(byte[] wav) {
+        AudioHeaderProbe.Header header = AudioHeaderProbe.probe(wav, 0, wav.length);
+        if (header == null || !"WAV".equals(header.type()) || !header.hasFrameLength()) {
+            throw new IllegalStateException("LINEAR16 WAV 형식의 TTS 응답이 아닙니다.");
+        }
+        return header;
+    }
+
+    private static byte[] toWav(byte[] pcm, AudioFormat format) {
+        try (AudioInputStream stream = new AudioInputStream(
+                new ByteArrayInputStream(pcm), format, pcm.length / format.getFrameSize())) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(pcm.length + 44);
+            AudioSystem.write(stream, AudioFileFormat.Type.WAVE, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.oreo.finalproject_5re5_be.tts.client;
+
+import com.google.cloud.texttospeech.v1.AudioConfig;
+import com.google.cloud.texttospeech.v1.SynthesisInput;
+import com.google.cloud.texttospeech.v1.VoiceSelectionParams;
+import com.google.protobuf.Message;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * @apiNote Google TTS 합성 요청 파라미터 묶음 입니다. <br>
+ * 세 파라미터를 직렬화한 값의 SHA-256 해시를 캐시 키로 사용하므로,
+ * 텍스트, 보이스, 언어, 속도, 피치, 볼륨 등이 모두 같으면 같은 키가 만들어집니다.
+ *
+ * @param input       텍스트 입력 정보
+ * @param voice       보이스 입력 정보
+ * @param audioConfig 오디오 옵션 정보
+ */
+public record TtsSynthesisRequest(SynthesisInput input, VoiceSelectionParams voice, AudioConfig audioConfig) {
+    // 키 생성 방식이 바뀌면 이전 캐시와 섞이지 않도록 버전을 올림
+    private static final String KEY_VERSION = "v1";
+
+    /**
+     * @apiNote 합성 파라미터의 캐시 키를 반환합니다.
+     * @return SHA-256 해시 (16진수 64자리)
+     */
+    public String cacheKey() {
+        MessageDigest digest = sha256();
+        digest.update(KEY_VERSION.getBytes(StandardCharsets.UTF_8));
+        update(digest, input);
+        update(digest, voice);
+        update(digest, audioConfig);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 필드 경계가 섞이지 않도록 길이를 먼저 기록
+    private static void update(MessageDigest digest, Message message) {
+        byte[] bytes = message.toByteArray();
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.oreo.finalproject_5re5_be.tts.client;
+
+import com.google.cloud.texttospeech.v1.SynthesisInput;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @apiNote 긴 TTS 입력을 문장/구절 경계에서 나누는 클래스 입니다. <br>
+ * Google TTS 입력 제한이 UTF-8 바이트 기준이므로 조각 크기도 바이트로 계산합니다. <br>
+ * 문장 끝(. ! ? 줄바꿈)에서 먼저 나누고, 한 문장이 너무 길면 구절(, ; :), 공백 순서로 더 나눕니다.
+ * 일반 텍스트는 그래도 길면 글자 단위로 자르고, SSML은 태그 안이나 요소 안쪽에서는 나누지 않습니다.
+ */
+final class TtsTextChunker {
+    private static final Pattern SENTENCE_END = Pattern.compile("[.!?。！？…]+[\"')\\]」』]*\\s+|\\n+");
+    private static final Pattern CLAUSE_END = Pattern.compile("[,;:，、]\\s*");
+    private static final Pattern WORD_END = Pattern.compile("\\s+");
+    private static final List<Pattern> BOUNDARIES = List.of(SENTENCE_END, CLAUSE_END, WORD_END);
+
+    private static final Pattern SPEAK_ELEMENT = Pattern.compile("^\\s*<speak\\b[^>]*>(.*)</speak>\\s*$", Pattern.DOTALL);
+
+    private TtsTextChunker() {
+    }
+
+    /**
+     * @apiNote 입력을 최대 바이트 수 이하의 조각으로 나눕니다.
+     * @param input    TTS 입력 (text 또는 ssml)
+     * @param maxBytes 조각 최대 크기 (UTF-8 byte)
+     * @return 나눈 입력 목록, 나눌 필요가 없거나 나눌 수 없는 입력이면 원래 입력 하나
+     */
+    static List<SynthesisInput> split(SynthesisInput input, int maxBytes) {
+        return switch (input.getInputSourceCase()) {
+            case TEXT -> splitText(input.getText(), maxBytes).stream()
+                    .map(text -> SynthesisInput.newBuilder().setText(text).build())
+                    .toList();
+            case SSML -> splitSsml(input.getSsml(), maxBytes).stream()
+                    .map(ssml -> SynthesisInput.newBuilder().setSsml(ssml).build())
+                    .toList();
+            default -> List.of(input);
+        };
+    }
+
+    // 일반 텍스트 나누기
+    static List<String> splitText(String text, int maxBytes) {
+        if (byteLength(text) <= maxBytes) {
+            return List.of(text);
+        }
+        List<String> chunks = new ArrayList<>();
+        pack(segments(text, 0, null, maxBytes, true), maxBytes, chunks);
+        return chunks;
+    }
+
+    // SSML 나누기, 최상위 위치에서만 나누고 각 조각을 다시 speak 요소로 감쌈
+    static List<String> splitSsml(String ssml, int maxBytes) {
+        Matcher speak = SPEAK_ELEMENT.matcher(ssml);
+        if (byteLength(ssml) <= maxBytes || !speak.matches()) {
+            return List.of(ssml);
+        }
+        String body = speak.group(1);
+        int wrapperBytes = byteLength("<speak></speak>");
+        List<String> chunks = new ArrayList<>();
+        pack(segments(body, 0, topLevelPositions(body), maxBytes - wrapperBytes, false), maxBytes - wrapperBytes, chunks);
+        return chunks.stream().map(chunk -> "<speak>" + chunk + "</speak>").toList();
+    }
+
+    // 경계 수준(문장 > 구절 > 공백)을 낮춰가며 최대 크기 이하의 구간으로 나눔
+    private static List<String> segments(String text, int level, boolean[] splittable, int maxBytes, boolean hardCut) {
+        if (byteLength(text) <= maxBytes) {
+            return List.of(text);
+        }
+        if (level == BOUNDARIES.size()) {
+            return hardCut ? cut(text, maxBytes) : List.of(text);
+        }
+        List<String> segments = new ArrayList<>();
+        Matcher matcher = BOUNDARIES.get(level).matcher(text);
+        int start = 0;
+        while (matcher.find()) {
+            int end = matcher.end();
+            if (end == text.length() || (splittable != null && !splittable[end])) {
+                continue;
+            }
+            addSegments(segments, text, start, end, level, splittable, maxBytes, hardCut);
+            start = end;
+        }
+        addSegments(segments, text, start, text.length(), level, splittable, maxBytes, hardCut);
+        return segments;
+    }
+
+    private static void addSegments(List<String> segments, String text, int start, int end, int level,
+                                    boolean[] splittable, int maxBytes, boolean hardCut) {
+        boolean[] sub = splittable == null ? null : Arrays.copyOfRange(splittable, start, end + 1);
+        segments.addAll(segments(text.substring(start, end), level + 1, sub, maxBytes, hardCut));
+    }
+
+    // 구간을 순서대로 최대 크기까지 이어 붙여 조각을 만듦
+    private static void pack(List<String> segments, int maxBytes, List<String> chunks) {
+        StringBuilder chunk = new StringBuilder();
+        int chunkBytes = 0;
+        for (String segment : segments) {
+            int segmentBytes = byteLength(segment);
+            if (chunkBytes > 0 && chunkBytes + segmentBytes > maxBytes) {
+                addChunk(chunks, chunk);
+                chunk.setLength(0);
+                chunkBytes = 0;
+            }
+            chunk.append(segment);
+            chunkBytes += segmentBytes;
+        }
+        addChunk(chunks, chunk);
+    }
+
+    private static void addChunk(List<String> chunks, StringBuilder chunk) {
+        String text = chunk.toString().strip();
+        if (!text.isEmpty()) {
+            chunks.add(text);
+        }
+    }
+
+    // 경계를 찾지 못한 긴 텍스트는 코드 포인트 단위로 자름
+    private static List<String> cut(String text, int maxBytes) {
+        List<String> pieces = new ArrayList<>();
+        StringBuilder piece = new StringBuilder();
+        int pieceBytes = 0;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            String character = new String(Character.toChars(codePoint));
+            int characterBytes = byteLength(character);
+            if (pieceBytes > 0 && pieceBytes + characterBytes > maxBytes) {
+                pieces.add(piece.toString());
+                piece.setLength(0);
+                pieceBytes = 0;
+            }
+            piece.append(character);
+            pieceBytes += characterBytes;
+            i += Character.charCount(codePoint);
+        }
+        pieces.add(piece.toString());
+        return pieces;
+    }
+
+    // 태그 밖이면서 요소 깊이가 0인 위치만 나눌 수 있음 (index: 해당 위치 앞에서 나누는지)
+    private static boolean[] topLevelPositions(String body) {
+        boolean[] splittable = new boolean[body.length() + 1];
+        int depth = 0;
+        int tagStart = -1;
+        for (int i = 0; i < body.length(); i++) {
+            splittable[i] = depth == 0 && tagStart < 0;
+            char c = body.charAt(i);
+            if (c == '<' && tagStart < 0) {
+                tagStart = i;
+            } else if (c == '>' && tagStart >= 0) {
+                if (body.charAt(tagStart + 1) == '/') {
+                    depth--;
+                } else if (body.charAt(i - 1) != '/' && body.charAt(tagStart + 1) != '!' && body.charAt(tagStart + 1) != '?') {
+                    depth++;
+                }
+                tagStart = -1;
+            }
+        }
+        splittable[body.length()] = true;
+        return splittable;
+    }
+
+    private static int byteLength(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
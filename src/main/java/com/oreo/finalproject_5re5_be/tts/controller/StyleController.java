@@ -6,6 +6,7 @@ import com.oreo.finalproject_5re5_be.global.exception.BusinessException;
 import com.oreo.finalproject_5re5_be.global.exception.ErrorCode;
 import com.oreo.finalproject_5re5_be.tts.dto.response.StyleListDto;
 import com.oreo.finalproject_5re5_be.tts.service.StyleService;
+import com.oreo.finalproject_5re5_be.tts.service.VoiceCatalog;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -74,11 +75,17 @@ public class StyleController {
     @GetMapping("")
     public ResponseEntity<ResponseDto<StyleListDto>> getStyleList() {
 
+        // 카탈로그 스냅샷 하나로 버전과 본문을 만듦, 버전이 요청의 If-None-Match/If-Modified-Since 와 같으면 304 응답
+        VoiceCatalog.Snapshot catalog = styleService.getCatalog();
+        VoiceCatalog.Version catalogVersion = catalog.version();
+
         // 스타일 전체 조회 결과 가져오기
-        StyleListDto styleListDto = styleService.getStyleList();
+        StyleListDto styleListDto = styleService.getStyleList(catalog);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .eTag(catalogVersion.etag())
+                .lastModified(catalogVersion.lastModified())
                 .body(new ResponseDto<>(HttpStatus.OK.value(), styleListDto));
     }
 
@@ -88,11 +95,17 @@ public class StyleController {
     public ResponseEntity<ResponseDto<StyleListDto>> getStyleListByLang(
             @RequestParam("languagecode") @NotNull String langCode
     ) {
+        // 카탈로그 스냅샷 하나로 버전과 본문을 만듦, 버전이 요청의 If-None-Match/If-Modified-Since 와 같으면 304 응답
+        VoiceCatalog.Snapshot catalog = styleService.getCatalog();
+        VoiceCatalog.Version catalogVersion = catalog.version();
+
         // langCode로 목소리가 존재하는 스타일 조회 결과 가져오기
-        StyleListDto styleListDto = styleService.getStyleListByLang(langCode);
+        StyleListDto styleListDto = styleService.getStyleListByLang(catalog, langCode);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .eTag(catalogVersion.etag())
+                .lastModified(catalogVersion.lastModified())
                 .body(new ResponseDto<>(HttpStatus.OK.value(), styleListDto));
     }
 
@@ -7,9 +7,11 @@ import com.oreo.finalproject_5re5_be.global.exception.ErrorCode;
 import com.oreo.finalproject_5re5_be.project.service.ProjectService;
 import com.oreo.finalproject_5re5_be.tts.dto.request.TtsSentenceBatchRequest;
 import com.oreo.finalproject_5re5_be.tts.dto.request.TtsSentenceRequest;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsRenderResponse;
 import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceDto;
 import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListDto;
 import com.oreo.finalproject_5re5_be.tts.service.TtsMakeService;
+import com.oreo.finalproject_5re5_be.tts.service.TtsRenderService;
 import com.oreo.finalproject_5re5_be.tts.service.TtsSentenceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,7 +22,10 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -35,6 +40,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.SessionAttribute;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @Slf4j
 @Tag(name = "TTS", description = "TTS 관련 API")
@@ -42,16 +48,23 @@ import org.springframework.web.bind.annotation.SessionAttribute;
 @RestController
 @RequestMapping("/api/project/{proSeq}/tts")
 public class TtsController {
+    private static final long ASYNC_TIMEOUT_MARGIN_SECONDS = 10L;
 
     private final TtsSentenceService ttsSentenceService;
     private final TtsMakeService ttsMakeService;
+    private final TtsRenderService ttsRenderService;
     private final ProjectService projectService;
+    // 비동기 응답 대기 시간 (SQS 응답 대기 시간보다 길게 잡아 SQS 타임아웃이 먼저 처리되도록 함)
+    private final long asyncTimeoutMillis;
 
     public TtsController(TtsSentenceService ttsSentenceService, TtsMakeService ttsMakeService,
-        ProjectService projectService) {
+        TtsRenderService ttsRenderService, ProjectService projectService,
+        @Value("${sqs.response-timeout-seconds:50}") long sqsResponseTimeoutSeconds) {
         this.ttsSentenceService = ttsSentenceService;
         this.ttsMakeService = ttsMakeService;
+        this.ttsRenderService = ttsRenderService;
         this.projectService = projectService;
+        this.asyncTimeoutMillis = TimeUnit.SECONDS.toMillis(sqsResponseTimeoutSeconds + ASYNC_TIMEOUT_MARGIN_SECONDS);
     }
 
     @ExceptionHandler(RuntimeException.class)
@@ -245,7 +258,7 @@ public class TtsController {
 
     @Operation(summary = "TTS 생성 요청(큐 작업)", description = "TTS 문장을 저장한 후 수행해주세요!")
     @GetMapping("/sentence/{tsSeq}/maketts/multi")
-    public ResponseEntity<ResponseDto<TtsSentenceDto>> makeTtsMuti(
+    public DeferredResult<ResponseEntity<ResponseDto<TtsSentenceDto>>> makeTtsMuti(
              @Parameter(description = "TTS Sentence ID (문장 식별 번호)") @Min(value = 1L) @PathVariable Long tsSeq
             ,@Parameter(description = "Project ID") @Min(value = 1L) @PathVariable Long proSeq
             , @SessionAttribute(value = "memberSeq") Long memberSeq
@@ -257,17 +270,43 @@ public class TtsController {
         // 해당 문장을 소유한 멤버인지 확인 (문장 수정 권한 확인)
         ttsSentenceService.checkSentenceWithMember(memberSeq, proSeq, tsSeq);
 
-        // tts 생성
-        TtsSentenceDto ttsMakeResult = ttsMakeService.makeTtsMulti(tsSeq);
+        // tts 생성 (응답을 기다리는 동안 요청 스레드를 반환)
+        // 서블릿 기본 비동기 타임아웃(30초) 대신 SQS 응답 대기 시간에 맞춘 타임아웃 사용
+        DeferredResult<ResponseEntity<ResponseDto<TtsSentenceDto>>> result = new DeferredResult<>(asyncTimeoutMillis);
+        ttsMakeService.makeTtsMulti(tsSeq).whenComplete((ttsMakeResult, error) -> {
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+                return;
+            }
+            result.setResult(ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .body(
+                            new ResponseDto<>(
+                                    HttpStatus.CREATED.value(),
+                                    ttsMakeResult
+                            )
+                    ));
+        });
+        return result;
+    }
+
+    @Operation(summary = "프로젝트 TTS 일괄 생성 요청",
+        description = "TTS 오디오가 없는 문장(새로 추가되거나 수정된 문장)을 동시에 생성합니다. 실패한 문장 번호는 응답에 포함됩니다.")
+    @PostMapping("/render")
+    public ResponseEntity<ResponseDto<TtsRenderResponse>> renderProject(
+        @Parameter(description = "Project ID") @Min(value = 1L) @PathVariable Long proSeq,
+        @SessionAttribute(value = "memberSeq") Long memberSeq) {
+
+        // 회원의 정보인지 확인
+        projectService.projectCheck(memberSeq, proSeq);
+
+        // 프로젝트 tts 일괄 생성
+        TtsRenderResponse response = ttsRenderService.renderProject(proSeq);
 
         return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(
-                        new ResponseDto<>(
-                                HttpStatus.CREATED.value(),
-                                ttsMakeResult
-                        )
-                );
+            .status(HttpStatus.CREATED)
+            .body(new ResponseDto<>(HttpStatus.CREATED.value(), response));
     }
 
     @Operation(summary = "TTS 문장 삭제 요청")
@@ -0,0 +1,46 @@
+package com.oreo.finalproject_5re5_be.tts.controller;
+
+import com.oreo.finalproject_5re5_be.project.service.ProjectService;
+import com.oreo.finalproject_5re5_be.tts.service.TtsProgressService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.SessionAttribute;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "TTS", description = "TTS 관련 API")
+@Validated
+@RestController
+@RequestMapping("/api/project/{proSeq}/tts")
+public class TtsProgressController {
+
+    private final TtsProgressService ttsProgressService;
+    private final ProjectService projectService;
+
+    public TtsProgressController(TtsProgressService ttsProgressService, ProjectService projectService) {
+        this.ttsProgressService = ttsProgressService;
+        this.projectService = projectService;
+    }
+
+    @Operation(summary = "프로젝트 TTS 진행 상태 스트림",
+        description = "SSE 로 문장의 TTS 상태 변경(IN_PROGRESS, FINISHED, FAILED)을 실시간으로 전달합니다. "
+            + "연결 직후 connected 이벤트, 이후 상태가 바뀔 때마다 progress 이벤트를 보냅니다.")
+    @GetMapping(value = "/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeProgress(
+        @Parameter(description = "Project ID") @Min(value = 1L) @PathVariable Long proSeq,
+        @SessionAttribute(value = "memberSeq") Long memberSeq) {
+
+        // 회원의 정보인지 확인
+        projectService.projectCheck(memberSeq, proSeq);
+
+        // 진행 상태 스트림 연결
+        return ttsProgressService.subscribe(proSeq);
+    }
+}
@@ -5,6 +5,7 @@ import com.oreo.finalproject_5re5_be.global.dto.response.ResponseDto;
 import com.oreo.finalproject_5re5_be.global.exception.BusinessException;
 import com.oreo.finalproject_5re5_be.global.exception.ErrorCode;
 import com.oreo.finalproject_5re5_be.tts.dto.response.VoiceListDto;
+import com.oreo.finalproject_5re5_be.tts.service.VoiceCatalog;
 import com.oreo.finalproject_5re5_be.tts.service.VoiceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -70,17 +71,24 @@ public class VoiceController {
     }
 
     // 보이스 조건 조회 컨트롤러
-    @Operation(summary = "언어코드, 스타일명으로 목소리 조회", description = "DB에 저장된 언어 코드, 스타일 명을 쿼리스트링으로 반드시 전달해야합니다.")
+    @Operation(summary = "언어코드, 스타일명으로 목소리 조회", description = "DB에 저장된 언어 코드, 스타일 명을 쿼리스트링으로 반드시 전달해야합니다. "
+            + "응답의 ETag, Last-Modified 로 조건부 요청하면 카탈로그가 바뀌지 않은 경우 304를 반환합니다.")
     @GetMapping("")
     public ResponseEntity<ResponseDto<VoiceListDto>> getVoiceList(
             @Parameter(description = "언어 코드(언어 식별 번호가 아닙니다)") @RequestParam("languagecode") @NotNull String langCode,
             @Parameter(description = "스타일명(스타일 식별 번호가 아닙니다)") @RequestParam("stylename") @NotNull String styleName
     ) {
+        // 카탈로그 스냅샷 하나로 버전과 본문을 만듦, 버전이 요청의 If-None-Match/If-Modified-Since 와 같으면 304 응답
+        VoiceCatalog.Snapshot catalog = voiceService.getCatalog();
+        VoiceCatalog.Version catalogVersion = catalog.version();
+
         // 보이스 조회 결과 가져오기
-        VoiceListDto voiceListDto = voiceService.getVoiceList(langCode, styleName);
+        VoiceListDto voiceListDto = voiceService.getVoiceList(catalog, langCode, styleName);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .eTag(catalogVersion.etag())
+                .lastModified(catalogVersion.lastModified())
                 .body(new ResponseDto<>(
                         HttpStatus.OK.value(),
                         voiceListDto
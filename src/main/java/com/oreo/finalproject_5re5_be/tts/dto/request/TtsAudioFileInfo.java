@@ -1,5 +1,6 @@
 package com.oreo.finalproject_5re5_be.tts.dto.request;
 
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListRow;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsAudioFile;
 import lombok.*;
 
@@ -26,4 +27,18 @@ public class TtsAudioFileInfo {
                 .audioPlayYn(ttsAudioFile.getAudioPlayYn())
                 .build();
     }
+
+    public static TtsAudioFileInfo of(TtsSentenceListRow row) {
+        // 오디오가 없는 문장
+        if (row.getTtsAudioSeq() == null) {
+            return null;
+        }
+
+        return TtsAudioFileInfo.builder()
+                .ttsAudioSeq(row.getTtsAudioSeq())
+                .audioUrl(row.getAudioPath())
+                .downloadYn(row.getDownloadYn())
+                .audioPlayYn(row.getAudioPlayYn())
+                .build();
+    }
 }
@@ -2,6 +2,7 @@ package com.oreo.finalproject_5re5_be.tts.dto.response;
 
 import com.oreo.finalproject_5re5_be.tts.dto.request.TtsAttributeInfo;
 import com.oreo.finalproject_5re5_be.tts.dto.request.TtsAudioFileInfo;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
 import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
@@ -23,6 +24,7 @@ public class SentenceInfo {
 
     private TtsAttributeInfo ttsAttributeInfo; // 옵션 정보
     private TtsAudioFileInfo ttsAudioFileInfo;     // TTS 오디오 정보
+    private TtsProgressStatusCode progressStatus;  // 최근 진행 상태 (목록 조회 시)
 
     public static SentenceInfo of(TtsSentence ttsSentence) {
 
@@ -36,6 +38,21 @@ public class SentenceInfo {
                 .build();
     }
 
+    public static SentenceInfo of(TtsSentenceListRow row) {
+
+        return SentenceInfo.builder()
+                .tsSeq(row.getTsSeq())
+                .voiceSeq(row.getVoiceSeq())
+                .text(row.getText())
+                .order(row.getSortOrder())
+                .ttsAttributeInfo(TtsAttributeInfo.of(row.getVolume(), row.getSpeed(), row.getStartPitch(),
+                        row.getEmotion(), row.getEmotionStrength(), row.getSampleRate(), row.getAlpha(),
+                        row.getEndPitch(), row.getAudioFormat()))
+                .ttsAudioFileInfo(TtsAudioFileInfo.of(row))
+                .progressStatus(row.getProgressStatus())
+                .build();
+    }
+
     public static SentenceInfo withOrder(SentenceInfo sentenceInfo, Integer order) {
         return SentenceInfo.builder()
                 .tsSeq(sentenceInfo.getTsSeq())
@@ -44,6 +61,7 @@ public class SentenceInfo {
                 .order(order)
                 .ttsAttributeInfo(sentenceInfo.getTtsAttributeInfo())
                 .ttsAudioFileInfo(sentenceInfo.getTtsAudioFileInfo())
+                .progressStatus(sentenceInfo.getProgressStatus())
                 .build();
     }
 }
@@ -0,0 +1,25 @@
+package com.oreo.finalproject_5re5_be.tts.dto.response;
+
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * @apiNote TTS 문장의 상태 변경 이벤트 입니다. 프로젝트 진행 상태 스트림(SSE)으로 전달됩니다.
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TtsProgressEvent {
+    private Long proSeq;
+    private Long tsSeq;
+    private TtsProgressStatusCode status;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,21 @@
+package com.oreo.finalproject_5re5_be.tts.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TtsRenderResponse {
+    private int requestedCount;            // 생성 요청한 문장 수
+    private int finishedCount;             // 생성 완료된 문장 수
+    private int cachedCount;               // 완료된 문장 중 캐시를 사용한 문장 수
+    private List<Long> failedSentenceSeqs; // 생성 실패한 문장 번호
+    private long elapsedMillis;            // 전체 소요 시간
+    private List<TtsSentenceDto> sentenceList; // 생성 완료된 문장 정보
+}
@@ -21,4 +21,10 @@ public class TtsSentenceDto {
                 .sentence(sentence)
                 .build();
     }
+
+    public static TtsSentenceDto of(TtsSentenceListRow row) {
+        return TtsSentenceDto.builder()
+                .sentence(SentenceInfo.of(row))
+                .build();
+    }
 }
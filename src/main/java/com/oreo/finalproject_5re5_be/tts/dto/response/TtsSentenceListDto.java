@@ -25,4 +25,14 @@ public class TtsSentenceListDto {
             .sentenceList(sentenceList)
             .build();
     }
+
+    public static TtsSentenceListDto ofRows(List<TtsSentenceListRow> rows) {
+        List<TtsSentenceDto> sentenceList = rows.stream()
+            .map(TtsSentenceDto::of)
+            .toList();
+
+        return TtsSentenceListDto.builder()
+            .sentenceList(sentenceList)
+            .build();
+    }
 }
@@ -0,0 +1,36 @@
+package com.oreo.finalproject_5re5_be.tts.dto.response;
+
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * @apiNote 문장 목록 조회용 읽기 모델 입니다. <br>
+ * {@link com.oreo.finalproject_5re5_be.tts.repository.TtsSentenceRepository#findSentenceListRows(Long)} 의
+ * 생성자 표현식(SELECT new)으로 만들어지며, 엔티티 그래프(Project, Voice, TtsAudioFile) 대신
+ * {@link TtsSentenceDto} 에 필요한 컬럼과 최근 진행 상태만 담습니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class TtsSentenceListRow {
+    private Long tsSeq;
+    private Long voiceSeq;
+    private String text;
+    private Integer sortOrder;
+    private Integer volume;
+    private Float speed;
+    private Integer startPitch;
+    private String emotion;
+    private Integer emotionStrength;
+    private Integer sampleRate;
+    private Integer alpha;
+    private Float endPitch;
+    private String audioFormat;
+    private Long ttsAudioSeq;           // 오디오가 없으면 null
+    private String audioPath;
+    private Character downloadYn;
+    private Character audioPlayYn;
+    private TtsProgressStatusCode progressStatus;   // 상태 기록이 없으면 null
+}
@@ -0,0 +1,29 @@
+package com.oreo.finalproject_5re5_be.tts.entity;
+
+import com.oreo.finalproject_5re5_be.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "tts_synth_cache")
+@Getter
+@ToString
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode(callSuper = false)
+public class TtsSynthesisCache extends BaseEntity {
+    @Id
+    @Column(name = "cache_seq")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long cacheSeq;
+
+    // 합성 파라미터 해시 (TtsSynthesisRequest.cacheKey)
+    @Column(name = "cache_key", nullable = false, unique = true, length = 64)
+    private String cacheKey;
+
+    // 합성 결과가 처음 저장된 오디오 파일 (S3 URL, 메타 정보)
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "tts_aud_seq", nullable = false)
+    private TtsAudioFile ttsAudioFile;
+}
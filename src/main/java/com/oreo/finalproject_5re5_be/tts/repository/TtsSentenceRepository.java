@@ -1,14 +1,37 @@
 package com.oreo.finalproject_5re5_be.tts.repository;
 
 import com.oreo.finalproject_5re5_be.project.entity.Project;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListRow;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TtsSentenceRepository extends JpaRepository<TtsSentence, Long> {
     List<TtsSentence> findAllByProjectOrderBySortOrder(Project project);
     Boolean existsByProject_ProSeq(Long proSeq);
+    // TTS 오디오가 없는(새로 생성해야 하는) 문장 목록
+    List<TtsSentence> findAllByProject_ProSeqAndTtsAudiofileIsNullOrderBySortOrder(Long proSeq);
+    // 프로젝트에 속한 문장 번호만 조회 (일괄 저장 시 존재 여부 확인)
+    @Query( "SELECT s.tsSeq FROM TtsSentence s " +
+            "WHERE s.project.proSeq = :proSeq AND s.tsSeq IN :tsSeqs")
+    List<Long> findTsSeqsInProject(@Param("proSeq") Long proSeq, @Param("tsSeqs") Collection<Long> tsSeqs);
+    // 문장 목록 조회 (필요한 컬럼과 최근 진행 상태를 한 번의 쿼리로 조회, 연관 엔티티는 읽지 않음)
+    @Query( "SELECT new com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListRow(" +
+            "s.tsSeq, s.voice.voiceSeq, s.text, s.sortOrder, s.volume, s.speed, s.startPitch, s.emotion, " +
+            "s.emotionStrength, s.sampleRate, s.alpha, s.endPitch, s.audioFormat, " +
+            "a.ttsAudioSeq, a.audioPath, a.downloadYn, a.audioPlayYn, ps.progressStatus) " +
+            "FROM TtsSentence s " +
+            "LEFT JOIN s.ttsAudiofile a " +
+            "LEFT JOIN TtsProgressStatus ps ON ps.ttsSentence = s " +
+            "WHERE s.project.proSeq = :proSeq " +
+            "AND (ps.tpsSeq IS NULL OR ps.tpsSeq = " +
+            "(SELECT MAX(latest.tpsSeq) FROM TtsProgressStatus latest WHERE latest.ttsSentence = s)) " +
+            "ORDER BY s.sortOrder, s.tsSeq")
+    List<TtsSentenceListRow> findSentenceListRows(@Param("proSeq") Long proSeq);
 }
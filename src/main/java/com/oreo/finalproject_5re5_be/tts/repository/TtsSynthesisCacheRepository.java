@@ -0,0 +1,13 @@
+package com.oreo.finalproject_5re5_be.tts.repository;
+
+import com.oreo.finalproject_5re5_be.tts.entity.TtsSynthesisCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TtsSynthesisCacheRepository extends JpaRepository<TtsSynthesisCache, Long> {
+    Optional<TtsSynthesisCache> findByCacheKey(String cacheKey);
+    boolean existsByCacheKey(String cacheKey);
+}
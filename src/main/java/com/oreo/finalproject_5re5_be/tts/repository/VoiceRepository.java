@@ -4,6 +4,7 @@ import com.oreo.finalproject_5re5_be.tts.entity.Language;
 import com.oreo.finalproject_5re5_be.tts.entity.Style;
 import com.oreo.finalproject_5re5_be.tts.entity.Voice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +15,8 @@ public interface VoiceRepository extends JpaRepository<Voice, Long> {
     List<Voice> findAllByName(String name);
     List<Voice> findAllByNameContaining(String name);
     List<Voice> findAllByLanguageAndStyleAndEnabled(Language language, Style style, char enabled);
+
+    // 카탈로그 스냅샷용 전체 조회, 언어와 스타일을 한 번에 가져옴
+    @Query("SELECT v FROM Voice v LEFT JOIN FETCH v.language LEFT JOIN FETCH v.style ORDER BY v.voiceSeq")
+    List<Voice> findAllWithLanguageAndStyle();
 }
@@ -2,22 +2,21 @@ package com.oreo.finalproject_5re5_be.tts.service;
 
 import com.oreo.finalproject_5re5_be.tts.dto.response.LanguageListDto;
 import com.oreo.finalproject_5re5_be.tts.entity.Language;
-import com.oreo.finalproject_5re5_be.tts.repository.LanguageRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
 public class LanguageService {
-    private final LanguageRepository languageRepository;
+    private final VoiceCatalog voiceCatalog;
 
-    public LanguageService(LanguageRepository languageRepository) {
-        this.languageRepository = languageRepository;
+    public LanguageService(VoiceCatalog voiceCatalog) {
+        this.voiceCatalog = voiceCatalog;
     }
 
     public LanguageListDto getLanguageList() {
         // 전체 언어 목록 조회
-        List<Language> languageList = languageRepository.findAll();
+        List<Language> languageList = voiceCatalog.current().languages();
 
         // 언어 목록 응답 형태로 변환하여 반환
         return LanguageListDto.of(languageList);
@@ -21,6 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @Validated
 public class SaveTtsMakeResultService {
@@ -97,6 +100,39 @@ public class SaveTtsMakeResultService {
         return TtsSentenceDto.of(updatedSentence);
     }
 
+    /**
+     * @apiNote 여러 문장의 TTS 생성 결과를 한 트랜잭션으로 저장합니다. <br>
+     * 오디오 파일, 문장, 처리 내역을 각각 한 번의 saveAll 로 저장하며, 실패하면 전체가 롤백됩니다.
+     * @param results 합성과 업로드를 마친 문장 결과 목록
+     * @return 업데이트 된 문장 정보 목록 (입력 순서)
+     */
+    @Transactional(rollbackFor = RuntimeException.class)
+    public List<TtsSentenceDto> saveTtsMakeResults(@NotNull List<TtsRenderResult> results) {
+        // 1. 오디오 파일 메타데이터 DB 저장
+        List<TtsAudioFile> savedTtsAudioFiles = ttsAudioFileRepository.saveAll(results.stream()
+                .map(result -> toTtsAudioFile(result.audioFileInfo(), result.uploadedUrl()))
+                .toList());
+
+        // 2. TTS 문장 정보 업데이트
+        List<TtsSentence> updatedSentences = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            updatedSentences.add(results.get(i).ttsSentence().toBuilder()
+                    .ttsAudiofile(savedTtsAudioFiles.get(i))
+                    .build());
+        }
+        List<TtsSentence> savedSentences = ttsSentenceRepository.saveAll(updatedSentences);
+
+        // 3. TTS 처리 내역 저장
+        List<TtsProcessHistory> histories = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            histories.add(toTtsProcessHistory(savedSentences.get(i), savedTtsAudioFiles.get(i)));
+        }
+        ttsProcessHistoryRepository.saveAll(histories);
+
+        // 4. 업데이트 된 문장 정보 반환
+        return updatedSentences.stream().map(TtsSentenceDto::of).toList();
+    }
+
     // tts 생성 결과 저장 실패할 경우 처리
     @Recover
     public TtsSentenceDto recoverSaveTtsMakeResult(RuntimeException e, MultipartFile ttsFile, String uploadUrl, TtsSentence ttsSentence) {
@@ -119,9 +155,13 @@ public class SaveTtsMakeResultService {
         // TTS 오디오 파일로부터 메타 정보 추출
         AudioFileInfo audioFileInfo = audioInfo.extractAudioFileInfo(ttsFile);
 
+        // TTS 오디오 파일 엔티티 저장
+        return ttsAudioFileRepository.save(toTtsAudioFile(audioFileInfo, url));
+    }
 
-        // 저장할 TTS 오디오 파일 엔티티 생성
-        TtsAudioFile ttsAudioFile = TtsAudioFile.builder()
+    // 오디오 파일 메타 정보로 저장할 TTS 오디오 파일 엔티티 생성
+    private TtsAudioFile toTtsAudioFile(AudioFileInfo audioFileInfo, String url) {
+        return TtsAudioFile.builder()
                 .audioName(audioFileInfo.getName())
                 .audioExtension(audioFileInfo.getExtension())
                 .audioPath(url)
@@ -131,9 +171,6 @@ public class SaveTtsMakeResultService {
                 .downloadYn('y')
                 .downloadCount(0)
                 .build();
-
-        // TTS 오디오 파일 엔티티 저장
-        return ttsAudioFileRepository.save(ttsAudioFile);
     }
 
     private TtsAudioFile saveTtsAudioFile(TtsMakeResponse ttsMakeResponse) {
@@ -155,9 +192,12 @@ public class SaveTtsMakeResultService {
 
     // TTS 처리 내역 엔티티 저장
     private TtsProcessHistory saveTtsProcessHistory(TtsSentence sentence, TtsAudioFile audioFile) {
+        return ttsProcessHistoryRepository.save(toTtsProcessHistory(sentence, audioFile));
+    }
 
-        // TTS 행 엔티티와 TtsAudioFile 엔티티 정보로 TTS 처리 내역 엔티티 생성
-        TtsProcessHistory processHistory = TtsProcessHistory.builder()
+    // TTS 행 엔티티와 TtsAudioFile 엔티티 정보로 TTS 처리 내역 엔티티 생성
+    private TtsProcessHistory toTtsProcessHistory(TtsSentence sentence, TtsAudioFile audioFile) {
+        return TtsProcessHistory.builder()
                 .text(sentence.getText())
                 .voice(sentence.getVoice())
                 .volume(sentence.getVolume())
@@ -171,9 +211,6 @@ public class SaveTtsMakeResultService {
                 .ttsAudiofile(audioFile)
                 .project(sentence.getProject())
                 .build();
-
-        // TTS 처리 내역 엔티티 저장
-        return ttsProcessHistoryRepository.save(processHistory);
     }
 
 
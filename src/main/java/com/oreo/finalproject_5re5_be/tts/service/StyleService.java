@@ -4,39 +4,50 @@ import com.oreo.finalproject_5re5_be.global.exception.EntityNotFoundException;
 import com.oreo.finalproject_5re5_be.tts.dto.response.StyleListDto;
 import com.oreo.finalproject_5re5_be.tts.entity.Language;
 import com.oreo.finalproject_5re5_be.tts.entity.Style;
-import com.oreo.finalproject_5re5_be.tts.repository.LanguageRepository;
-import com.oreo.finalproject_5re5_be.tts.repository.StyleRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
 public class StyleService {
-    private final StyleRepository styleRepository;
-    private final LanguageRepository languageRepository;
+    private final VoiceCatalog voiceCatalog;
 
-    public StyleService(StyleRepository styleRepository, LanguageRepository languageRepository) {
-        this.styleRepository = styleRepository;
-        this.languageRepository = languageRepository;
+    public StyleService(VoiceCatalog voiceCatalog) {
+        this.voiceCatalog = voiceCatalog;
     }
 
     public StyleListDto getStyleList() {
+        return getStyleList(voiceCatalog.current());
+    }
+
+    // ETag 와 같은 스냅샷에서 조회할 때 사용
+    public StyleListDto getStyleList(VoiceCatalog.Snapshot catalog) {
         // 전체 스타일 목록 조회
-        List<Style> styleList = styleRepository.findAll();
+        List<Style> styleList = catalog.styles();
 
         // 스타일 목록 응답 형태로 변환하여 반환
         return StyleListDto.of(styleList);
     }
 
     public StyleListDto getStyleListByLang(String langCode) {
+        return getStyleListByLang(voiceCatalog.current(), langCode);
+    }
+
+    // ETag 와 같은 스냅샷에서 조회할 때 사용
+    public StyleListDto getStyleListByLang(VoiceCatalog.Snapshot catalog, String langCode) {
         // langCode로 유효한 Language 조회
-        Language findLanguage = languageRepository.findByLangCode(langCode)
+        Language findLanguage = catalog.language(langCode)
                 .orElseThrow(() -> new EntityNotFoundException("해당 언어 코드로 언어 정보를 조회할 수 없습니다. lanuageCode: " + langCode));
 
-        // langSeq로 voice가 있는 style 조회
-        List<Style> styleList = styleRepository.findListBylangSeq(findLanguage.getLangSeq());
+        // 언어에 voice가 있는 style 조회
+        List<Style> styleList = catalog.stylesWithVoices(findLanguage);
 
         // 응답 형태로 변환하여 반환
         return StyleListDto.of(styleList);
     }
+
+    // 현재 카탈로그 스냅샷, 응답의 ETag/Last-Modified 와 본문을 같은 스냅샷으로 만들 때 사용
+    public VoiceCatalog.Snapshot getCatalog() {
+        return voiceCatalog.current();
+    }
 }
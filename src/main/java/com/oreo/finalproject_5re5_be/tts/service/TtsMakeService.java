@@ -9,55 +9,63 @@ import com.oreo.finalproject_5re5_be.global.exception.EntityNotFoundException;
 import com.oreo.finalproject_5re5_be.tts.client.AudioConfigGenerator;
 import com.oreo.finalproject_5re5_be.tts.client.GoogleTTSService;
 import com.oreo.finalproject_5re5_be.tts.client.SynthesisInputGenerator;
+import com.oreo.finalproject_5re5_be.tts.client.TtsSynthesisRequest;
 import com.oreo.finalproject_5re5_be.tts.client.VoiceParamsGenerator;
 import com.oreo.finalproject_5re5_be.tts.dto.external.TtsMakeRequest;
 import com.oreo.finalproject_5re5_be.tts.dto.external.TtsMakeResponse;
 import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceDto;
-import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatus;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsAudioFile;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
 import com.oreo.finalproject_5re5_be.tts.entity.Voice;
 import com.oreo.finalproject_5re5_be.tts.exception.TtsMakeException;
-import com.oreo.finalproject_5re5_be.tts.repository.TtsProgressStatusRepository;
 import com.oreo.finalproject_5re5_be.tts.repository.TtsSentenceRepository;
-import com.oreo.finalproject_5re5_be.tts.repository.VoiceRepository;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.services.sqs.model.Message;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeoutException;
 
 @Service
 @Validated
 public class TtsMakeService {
 
-    private final TtsProgressStatusRepository ttsProgressStatusRepository;
+    private final TtsProgressService ttsProgressService;
     private final TtsSentenceRepository ttsSentenceRepository;
-    private final VoiceRepository voiceRepository;
+    private final VoiceCatalog voiceCatalog;
     private final GoogleTTSService googleTTSService;
     private final S3Service s3Service;
     private final SaveTtsMakeResultService saveTtsMakeResultService;
     private final SqsService sqsService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TtsSynthesisCacheService ttsSynthesisCacheService;
+    private final ObjectMapper objectMapper;
 
     public TtsMakeService(
             TtsSentenceRepository ttsSentenceRepository,
             GoogleTTSService googleTTSService,
             S3Service s3Service,
             SaveTtsMakeResultService saveTtsMakeResultService,
-            VoiceRepository voiceRepository,
-            TtsProgressStatusRepository ttsProgressStatusRepository,
-            SqsService sqsService
+            VoiceCatalog voiceCatalog,
+            TtsProgressService ttsProgressService,
+            SqsService sqsService,
+            TtsSynthesisCacheService ttsSynthesisCacheService,
+            ObjectMapper objectMapper
     ) {
         this.ttsSentenceRepository = ttsSentenceRepository;
         this.googleTTSService = googleTTSService;
         this.s3Service = s3Service;
         this.saveTtsMakeResultService = saveTtsMakeResultService;
-        this.voiceRepository = voiceRepository;
-        this.ttsProgressStatusRepository = ttsProgressStatusRepository;
+        this.voiceCatalog = voiceCatalog;
+        this.ttsProgressService = ttsProgressService;
         this.sqsService = sqsService;
+        this.ttsSynthesisCacheService = ttsSynthesisCacheService;
+        this.objectMapper = objectMapper;
     }
 
     // TTS 생성 서비스
@@ -70,16 +78,31 @@ public class TtsMakeService {
         saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.IN_PROGRESS);
 
         try {
-            // 1. TTS 생성
-            MultipartFile ttsFile = makeTtsAudioFile(ttsSentence);
-
-            // 2. TTS 결과 파일 AWS S3에 업로드
-            String uploadedUrl = s3Service.upload(ttsFile, "tts");
-
-            // 3. TTS 결과 정보 저장
-            TtsSentenceDto saveResult =  saveTtsMakeResultService.saveTtsMakeResult(ttsFile, uploadedUrl, ttsSentence);
-
-            // 4. TTS 문장 '성공' 상태 저장
+            // 1. 같은 파라미터로 생성한 결과가 있으면 합성, 업로드 없이 재사용
+            TtsSynthesisRequest synthesisRequest = createSynthesisRequest(ttsSentence);
+            Optional<TtsAudioFile> cachedAudioFile = ttsSynthesisCacheService.find(synthesisRequest.cacheKey());
+
+            TtsSentenceDto saveResult;
+            if (cachedAudioFile.isPresent()) {
+                saveResult = saveTtsMakeResultService.saveTtsMakeResults(List.of(
+                        TtsRenderResult.cached(ttsSentence, cachedAudioFile.get(), synthesisRequest.cacheKey())
+                )).get(0);
+            } else {
+                // 2. TTS 생성
+                MultipartFile ttsFile = makeTtsAudioFile(ttsSentence, synthesisRequest);
+
+                // 3. TTS 결과 파일 AWS S3에 업로드
+                String uploadedUrl = s3Service.upload(ttsFile, "tts");
+
+                // 4. TTS 결과 정보 저장
+                saveResult = saveTtsMakeResultService.saveTtsMakeResult(ttsFile, uploadedUrl, ttsSentence);
+
+                // 5. 합성 결과 캐시 등록
+                ttsSynthesisCacheService.register(synthesisRequest.cacheKey(),
+                        saveResult.getSentence().getTtsAudioFileInfo().getTtsAudioSeq());
+            }
+
+            // 6. TTS 문장 '성공' 상태 저장
             saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.FINISHED);
 
             return saveResult;
@@ -89,80 +112,115 @@ public class TtsMakeService {
         }
     }
 
-    public TtsSentenceDto makeTtsMulti(@NotNull Long sentenceSeq) {
+    /**
+     * @apiNote SQS 워커에 TTS 생성을 요청하고, 응답을 기다리지 않고 반환합니다. <br>
+     * 응답을 받으면 결과를 저장한 TTS 문장 정보로 Future 가 완료되며, 실패하면 TtsMakeException 으로 완료됩니다. <br>
+     * 같은 프로젝트의 요청은 같은 메시지 그룹으로 보내 순서대로 처리되고, 다른 프로젝트의 요청은 워커에서 동시에 처리됩니다.
+     * @param sentenceSeq TTS 문장 번호
+     * @return TTS 생성 결과 Future
+     */
+    public CompletableFuture<TtsSentenceDto> makeTtsMulti(@NotNull Long sentenceSeq) {
 
         // 0. sentenceSeq 로 행 정보 조회
         TtsSentence ttsSentence = ttsSentenceRepository.findById(sentenceSeq)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 TTS 행입니다. id:" + sentenceSeq));
-        try {
-            // 1. TTS 문장 '진행중' 상태 저장
-            saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.IN_PROGRESS);
 
-            // 2. TTS 생성 및 s3 업로드 요청
-            Message message = sqsService.sendMessage(
+        // 1. TTS 문장 '진행중' 상태 저장
+        saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.IN_PROGRESS);
+
+        // 2. TTS 생성 및 s3 업로드 요청
+        CompletableFuture<Message> response;
+        try {
+            response = sqsService.sendMessageAsync(
                     TtsMakeRequest.of(ttsSentence, makeFilename(ttsSentence)),
-                    MessageType.TTS_MAKE
+                    MessageType.TTS_MAKE,
+                    ttsSentence.getProject().getProSeq()
             );
-            TtsMakeResponse ttsMakeResponse = objectMapper.readValue(message.body(), TtsMakeResponse.class);
-
-            // 3. TTS 결과 저장
-            TtsSentenceDto ttsSentenceDto = saveTtsMakeResultService.saveTtsMakeResult(ttsMakeResponse, ttsSentence);
-
-            // 4. TTS 문장 '완료' 상태 저장
-            saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.FINISHED);
-
-            return ttsSentenceDto;
-
+        } catch (JsonProcessingException e) {
+            saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.FAILED);
+            throw new TtsMakeException("tts 생성 요청 객체를 메세지 body 값으로 변환 중 에러 발생");
         } catch (RuntimeException e) {
-            // 예외 발생 시 TTS 문장 '실패' 상태 저장
             saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.FAILED);
             throw new TtsMakeException("TTS 생성 중 예외 발생");
+        }
+
+        return response
+                .thenApply(message -> {
+                    // 3. TTS 결과 저장
+                    TtsSentenceDto ttsSentenceDto =
+                            saveTtsMakeResultService.saveTtsMakeResult(readTtsMakeResponse(message), ttsSentence);
+
+                    // 4. TTS 문장 '완료' 상태 저장
+                    saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.FINISHED);
+
+                    return ttsSentenceDto;
+                })
+                .exceptionally(error -> {
+                    // 예외 발생 시 TTS 문장 '실패' 상태 저장
+                    saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.FAILED);
+                    throw toTtsMakeException(error);
+                });
+    }
+
+    // 응답 메세지 body 를 TtsMakeResponse 로 변환
+    private TtsMakeResponse readTtsMakeResponse(Message message) {
+        try {
+            return objectMapper.readValue(message.body(), TtsMakeResponse.class);
         } catch (JsonProcessingException e) {
-            saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.FAILED);
             throw new TtsMakeException("tts 생성 응답 메세지 body 값을 TtsMakeResponse 객체로 변환 중 에러 발생");
-        } catch (TimeoutException e) {
-            saveTtsProgressStatus(ttsSentence, TtsProgressStatusCode.FAILED);
-            throw new TtsMakeException("tts make sqs request timeout...");
         }
     }
 
-    // TTS 생성
-    private MultipartFile makeTtsAudioFile(@NotNull TtsSentence ttsSentence) {
-        // 행 정보로부터 Voice 정보 얻기
-        Voice voice = voiceRepository.findById(ttsSentence.getVoice().getVoiceSeq())
-                .orElseThrow(() -> new EntityNotFoundException("voice 정보를 찾을 수 없습니다."));
+    // 비동기 처리 중 발생한 예외를 TtsMakeException 으로 변환
+    private static TtsMakeException toTtsMakeException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TtsMakeException ttsMakeException) {
+            return ttsMakeException;
+        }
+        if (cause instanceof TimeoutException) {
+            return new TtsMakeException("tts make sqs request timeout...");
+        }
+        return new TtsMakeException("TTS 생성 중 예외 발생");
+    }
 
-        // 행 정보로부터 TTS 파일명 생성
-        String ttsFileName = makeFilename(ttsSentence);
+    // 행 정보로 TTS 합성 요청 파라미터 생성
+    TtsSynthesisRequest createSynthesisRequest(@NotNull TtsSentence ttsSentence) {
+        // 행 정보로부터 Voice 정보 얻기 (카탈로그 스냅샷에서 조회)
+        Voice voice = voiceCatalog.findVoice(ttsSentence.getVoice().getVoiceSeq())
+                .orElseThrow(() -> new EntityNotFoundException("voice 정보를 찾을 수 없습니다."));
 
-        // 행 정보와 voice 정보를 가지고 TTS 오디오 파일 생성
-        MultipartFile ttsFile = googleTTSService.makeToMultipartFile(
+        return new TtsSynthesisRequest(
                 SynthesisInputGenerator.generate(ttsSentence.getText()), // text 입력 정보 세팅
                 VoiceParamsGenerator.generate(                           // 보이스 입력 정보 세팅
                         voice.getLanguage().getLangCode(),
                         voice.getName(),
                         voice.getGender()),
-                AudioConfigGenerator.generate(                          // 오디오 옵션 정보 세팅
+                AudioConfigGenerator.generate(                           // 오디오 옵션 정보 세팅
                         ttsSentence.getSpeed(),
                         ttsSentence.getEndPitch(),
                         ttsSentence.getVolume())
-                , ttsFileName                                           // 파일명 세팅
         );
-        return ttsFile;
+    }
+
+    // TTS 생성
+    MultipartFile makeTtsAudioFile(@NotNull TtsSentence ttsSentence, @NotNull TtsSynthesisRequest synthesisRequest) {
+        // 행 정보와 voice 정보를 가지고 TTS 오디오 파일 생성
+        return googleTTSService.makeToMultipartFile(
+                synthesisRequest.input(),
+                synthesisRequest.voice(),
+                synthesisRequest.audioConfig(),
+                makeFilename(ttsSentence)                                // 파일명 세팅
+        );
     }
 
 
     // TTS 파일 이름 생성 메서드
-    private String makeFilename(TtsSentence ttsSentence) {
+    String makeFilename(TtsSentence ttsSentence) {
         return "project-" + ttsSentence.getProject().getProSeq() + "-tts-" + ttsSentence.getTsSeq();
     }
 
-    // TTS 문장 상태 저장 메서드
-    private TtsProgressStatus saveTtsProgressStatus(TtsSentence ttsSentence, TtsProgressStatusCode statusCode) {
-        TtsProgressStatus ttsProgressStatus = TtsProgressStatus.builder()
-                .ttsSentence(ttsSentence)
-                .progressStatus(statusCode)
-                .build();
-        return ttsProgressStatusRepository.save(ttsProgressStatus);
+    // TTS 문장 상태 저장 메서드 (저장은 비동기, 진행 상태 스트림으로 바로 전달)
+    private void saveTtsProgressStatus(TtsSentence ttsSentence, TtsProgressStatusCode statusCode) {
+        ttsProgressService.record(ttsSentence, statusCode);
     }
 }
@@ -0,0 +1,168 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsProgressEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * @apiNote 프로젝트별 TTS 진행 상태 이벤트를 구독자에게 전달하는 서버 내부 이벤트 버스 입니다. <br>
+ * 발행은 구독자별 버퍼에 넣기만 하고 바로 반환하며, 전달은 별도 스레드에서 버퍼에 쌓인 이벤트를 모아 처리합니다. <br>
+ * 구독자 버퍼는 {@code tts.progress.subscriber-buffer} 개로 제한되고, 가득 차면 가장 오래된 이벤트를 버리므로
+ * 느린 구독자가 TTS 생성이나 다른 구독자를 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class TtsProgressEventBus {
+    private final int bufferSize;
+    private final Executor deliveryExecutor;
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TtsProgressEventBus(@Value("${tts.progress.subscriber-buffer:256}") int bufferSize,
+                               @Value("${tts.progress.delivery-parallelism:2}") int deliveryParallelism) {
+        this(bufferSize, new ThreadPoolExecutor(deliveryParallelism, deliveryParallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("tts-progress-")));
+    }
+
+    TtsProgressEventBus(int bufferSize, Executor deliveryExecutor) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    /**
+     * @apiNote 프로젝트의 진행 상태 이벤트를 구독합니다.
+     * @param proSeq   프로젝트 번호
+     * @param listener 쌓인 이벤트 목록을 받는 함수, 예외를 던지면 구독이 해제됨
+     * @return 구독 정보 (close 로 해제)
+     */
+    public Subscription subscribe(Long proSeq, Consumer<List<TtsProgressEvent>> listener) {
+        Subscription subscription = new Subscription(proSeq, listener);
+        subscriptions.computeIfAbsent(proSeq, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        return subscription;
+    }
+
+    /**
+     * @apiNote 이벤트를 프로젝트의 모든 구독자에게 발행합니다. 구독자가 없으면 아무것도 하지 않습니다.
+     * @param event 진행 상태 이벤트
+     */
+    public void publish(TtsProgressEvent event) {
+        Set<Subscription> projectSubscriptions = subscriptions.get(event.getProSeq());
+        if (projectSubscriptions == null) {
+            return;
+        }
+        projectSubscriptions.forEach(subscription -> subscription.offer(event));
+    }
+
+    // 프로젝트 구독자 수
+    int subscriberCount(Long proSeq) {
+        Set<Subscription> projectSubscriptions = subscriptions.get(proSeq);
+        return projectSubscriptions == null ? 0 : projectSubscriptions.size();
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.proSeq, (key, projectSubscriptions) -> {
+            projectSubscriptions.remove(subscription);
+            return projectSubscriptions.isEmpty() ? null : projectSubscriptions;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (deliveryExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * @apiNote 한 구독자의 버퍼와 전달 상태
+     */
+    public class Subscription implements AutoCloseable {
+        private final Long proSeq;
+        private final Consumer<List<TtsProgressEvent>> listener;
+        private final BlockingQueue<TtsProgressEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile boolean closed;
+
+        private Subscription(Long proSeq, Consumer<List<TtsProgressEvent>> listener) {
+            this.proSeq = proSeq;
+            this.listener = listener;
+        }
+
+        // 버퍼가 가득 차면 가장 오래된 이벤트를 버리고 추가
+        private void offer(TtsProgressEvent event) {
+            while (!buffer.offer(event)) {
+                if (buffer.poll() != null) {
+                    dropped.incrementAndGet();
+                }
+            }
+            schedule();
+        }
+
+        // 전달 작업이 없을 때만 새로 등록 (구독자별 전달 순서 유지)
+        private void schedule() {
+            if (closed || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                deliveryExecutor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void deliver() {
+            try {
+                List<TtsProgressEvent> events = new ArrayList<>();
+                buffer.drainTo(events);
+                if (!events.isEmpty() && !closed) {
+                    listener.accept(events);
+                }
+            } catch (RuntimeException e) {
+                log.debug("[TtsProgressEventBus] 이벤트 전달 실패로 구독 해제 - proSeq: {}", proSeq, e);
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            // 전달하는 동안 들어온 이벤트 처리
+            if (!buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        // 버퍼가 가득 차서 버린 이벤트 수
+        public long getDroppedCount() {
+            return dropped.get();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                buffer.clear();
+                unsubscribe(this);
+            }
+        }
+    }
+}
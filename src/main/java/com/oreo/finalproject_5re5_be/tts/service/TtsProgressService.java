@@ -0,0 +1,115 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsProgressEvent;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
+import com.oreo.finalproject_5re5_be.tts.service.TtsProgressStatusWriter.PendingStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @apiNote TTS 문장 상태 변경을 기록하고 실시간으로 전달하는 서비스 입니다. <br>
+ * 상태 행은 {@link TtsProgressStatusWriter} 가 모아서 비동기로 저장하고,
+ * 같은 변경은 {@link TtsProgressEventBus} 로 발행되어 프로젝트 진행 상태 스트림(SSE)을 구독 중인 클라이언트에 바로 전달됩니다. <br>
+ * 클라이언트는 문장 목록을 다시 조회하지 않고 진행 상태를 확인할 수 있습니다.
+ */
+@Slf4j
+@Service
+@Validated
+public class TtsProgressService {
+    private static final String PROGRESS_EVENT = "progress";
+    private static final String CONNECTED_EVENT = "connected";
+
+    private final TtsProgressEventBus ttsProgressEventBus;
+    private final TtsProgressStatusWriter ttsProgressStatusWriter;
+    private final AuditorAware<Long> auditorAware;
+    private final long sseTimeoutMillis;
+
+    public TtsProgressService(TtsProgressEventBus ttsProgressEventBus,
+                              TtsProgressStatusWriter ttsProgressStatusWriter,
+                              AuditorAware<Long> auditorAware,
+                              @Value("${tts.progress.sse-timeout-millis:1800000}") long sseTimeoutMillis) {
+        this.ttsProgressEventBus = ttsProgressEventBus;
+        this.ttsProgressStatusWriter = ttsProgressStatusWriter;
+        this.auditorAware = auditorAware;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+    }
+
+    /**
+     * @apiNote TTS 문장의 상태 변경을 기록합니다.
+     * @param ttsSentence TTS 문장
+     * @param statusCode  변경된 상태
+     */
+    public void record(@NotNull TtsSentence ttsSentence, @NotNull TtsProgressStatusCode statusCode) {
+        recordAll(List.of(ttsSentence), statusCode);
+    }
+
+    /**
+     * @apiNote 여러 TTS 문장의 상태 변경을 한 번에 기록합니다.
+     * @param ttsSentences TTS 문장 목록
+     * @param statusCode   변경된 상태
+     */
+    public void recordAll(@NotNull List<TtsSentence> ttsSentences, @NotNull TtsProgressStatusCode statusCode) {
+        if (ttsSentences.isEmpty()) {
+            return;
+        }
+        LocalDateTime changedAt = LocalDateTime.now();
+        // 저장은 다른 스레드에서 하므로 요청한 회원은 지금 확인
+        Long memberSeq = auditorAware.getCurrentAuditor().orElse(null);
+
+        ttsProgressStatusWriter.writeAll(ttsSentences.stream()
+                .map(sentence -> new PendingStatus(sentence.getTsSeq(), statusCode, changedAt, memberSeq))
+                .toList());
+        ttsSentences.forEach(sentence -> ttsProgressEventBus.publish(TtsProgressEvent.builder()
+                .proSeq(sentence.getProject().getProSeq())
+                .tsSeq(sentence.getTsSeq())
+                .status(statusCode)
+                .changedAt(changedAt)
+                .build()));
+    }
+
+    /**
+     * @apiNote 프로젝트의 TTS 진행 상태 스트림을 엽니다. 연결 직후 connected 이벤트를 보내고,
+     * 이후 상태가 바뀔 때마다 progress 이벤트를 보냅니다.
+     * @param proSeq 프로젝트 번호
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(@NotNull Long proSeq) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        TtsProgressEventBus.Subscription subscription =
+                ttsProgressEventBus.subscribe(proSeq, events -> send(emitter, events));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscription.close());
+
+        try {
+            emitter.send(SseEmitter.event().name(CONNECTED_EVENT).data(proSeq));
+        } catch (IOException e) {
+            subscription.close();
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    // 쌓인 이벤트 전송, 연결이 끊겼으면 예외를 던져 구독 해제
+    private static void send(SseEmitter emitter, List<TtsProgressEvent> events) {
+        try {
+            for (TtsProgressEvent event : events) {
+                emitter.send(SseEmitter.event().name(PROGRESS_EVENT).data(event));
+            }
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * @apiNote TTS 문장 상태(tts_progress_status) 행을 모아서 비동기로 저장하는 컴포넌트 입니다. <br>
+ * 상태 변경은 대기열에 넣고 바로 반환하며, 별도 스레드가 {@code tts.progress.flush-interval-millis} 동안 모은 행을
+ * 최대 {@code tts.progress.batch-size} 개씩 JDBC 배치 insert 로 저장합니다. <br>
+ * 저장은 한 스레드에서 넣은 순서대로 처리하므로 같은 문장의 상태 순서가 바뀌지 않으며,
+ * 배치 저장이 실패하면 한 행씩 다시 저장해 문제가 있는 행만 버립니다.
+ */
+@Slf4j
+@Component
+public class TtsProgressStatusWriter {
+    private static final String INSERT_SQL = "INSERT INTO tts_progress_status "
+            + "(ts_seq, prog_stat, chg_date, reg_date, up_date, reg_seq, up_seq) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final Consumer<List<PendingStatus>> batchWriter;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final BlockingQueue<PendingStatus> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("tts-status-"));
+    private volatile boolean started;
+    private volatile boolean running = true;
+
+    @Autowired
+    public TtsProgressStatusWriter(JdbcTemplate jdbcTemplate,
+                                   @Value("${tts.progress.batch-size:100}") int batchSize,
+                                   @Value("${tts.progress.flush-interval-millis:200}") long flushIntervalMillis) {
+        this(statuses -> insert(jdbcTemplate, statuses), batchSize, flushIntervalMillis);
+    }
+
+    TtsProgressStatusWriter(Consumer<List<PendingStatus>> batchWriter, int batchSize, long flushIntervalMillis) {
+        this.batchWriter = batchWriter;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+    }
+
+    /**
+     * @apiNote 상태 행을 저장 대기열에 넣습니다.
+     * @param status 저장할 상태
+     */
+    public void write(PendingStatus status) {
+        if (!running) {
+            // 종료 중에는 호출한 스레드에서 바로 저장
+            save(List.of(status));
+            return;
+        }
+        startIfNeeded();
+        queue.add(status);
+    }
+
+    /**
+     * @apiNote 여러 상태 행을 저장 대기열에 넣습니다.
+     * @param statuses 저장할 상태 목록
+     */
+    public void writeAll(List<PendingStatus> statuses) {
+        statuses.forEach(this::write);
+    }
+
+    // 저장 대기 중인 행 수
+    int pendingCount() {
+        return queue.size();
+    }
+
+    private synchronized void startIfNeeded() {
+        if (!started) {
+            started = true;
+            writer.execute(this::writeLoop);
+        }
+    }
+
+    private void writeLoop() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                save(collect());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 첫 행을 기다린 뒤 저장 간격 동안 최대 묶음 크기까지 모음
+    private List<PendingStatus> collect() throws InterruptedException {
+        List<PendingStatus> statuses = new ArrayList<>();
+        statuses.add(queue.take());
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        try {
+            while (statuses.size() < batchSize) {
+                PendingStatus next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                statuses.add(next);
+            }
+        } catch (InterruptedException e) {
+            // 종료 중이면 이미 꺼낸 행까지 저장하고 끝냄
+            Thread.currentThread().interrupt();
+        }
+        return statuses;
+    }
+
+    private void save(List<PendingStatus> statuses) {
+        try {
+            batchWriter.accept(statuses);
+        } catch (RuntimeException e) {
+            if (statuses.size() == 1) {
+                log.error("[TtsProgressStatusWriter] 상태 저장 실패 - {}", statuses.get(0), e);
+                return;
+            }
+            log.warn("[TtsProgressStatusWriter] 상태 배치 저장 실패, 한 행씩 다시 저장 - count: {}", statuses.size(), e);
+            statuses.forEach(status -> save(List.of(status)));
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<PendingStatus> statuses) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, statuses, statuses.size(), (ps, status) -> {
+            Timestamp changedAt = Timestamp.valueOf(status.changedAt());
+            ps.setLong(1, status.tsSeq());
+            ps.setString(2, status.status().name());
+            ps.setTimestamp(3, changedAt);
+            ps.setTimestamp(4, changedAt);
+            ps.setTimestamp(5, changedAt);
+            ps.setObject(6, status.memberSeq());
+            ps.setObject(7, status.memberSeq());
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writer.shutdownNow();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 행은 종료 전에 저장
+        List<PendingStatus> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            save(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    /**
+     * @apiNote 저장 대기 중인 상태 행
+     * @param tsSeq     TTS 문장 번호
+     * @param status    상태
+     * @param changedAt 상태가 바뀐 시각
+     * @param memberSeq 요청한 회원 번호 (없으면 null)
+     */
+    public record PendingStatus(Long tsSeq, TtsProgressStatusCode status, LocalDateTime changedAt, Long memberSeq) {
+    }
+}
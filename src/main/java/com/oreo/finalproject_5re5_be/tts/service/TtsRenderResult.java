@@ -0,0 +1,37 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.global.dto.response.AudioFileInfo;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsAudioFile;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
+
+/**
+ * @apiNote 합성과 S3 업로드를 마쳤거나 캐시에서 찾은 한 문장의 TTS 결과 입니다. <br>
+ * DB 저장은 여러 결과를 모아 한 트랜잭션으로 처리합니다.
+ *
+ * @param ttsSentence   TTS 문장
+ * @param uploadedUrl   S3 오디오 URL
+ * @param audioFileInfo 오디오 파일 메타 정보
+ * @param cacheKey      합성 파라미터 해시
+ * @param cached        캐시에서 찾은 결과인지 여부 (true 이면 다른 문장과 S3 파일을 공유하므로 삭제하면 안 됨)
+ * @see SaveTtsMakeResultService#saveTtsMakeResults(java.util.List)
+ */
+public record TtsRenderResult(TtsSentence ttsSentence, String uploadedUrl, AudioFileInfo audioFileInfo,
+                              String cacheKey, boolean cached) {
+
+    // 새로 합성해서 업로드한 결과
+    public static TtsRenderResult synthesized(TtsSentence ttsSentence, String uploadedUrl,
+                                              AudioFileInfo audioFileInfo, String cacheKey) {
+        return new TtsRenderResult(ttsSentence, uploadedUrl, audioFileInfo, cacheKey, false);
+    }
+
+    // 캐시에서 찾은 오디오 파일을 그대로 사용하는 결과
+    public static TtsRenderResult cached(TtsSentence ttsSentence, TtsAudioFile ttsAudioFile, String cacheKey) {
+        AudioFileInfo audioFileInfo = AudioFileInfo.builder()
+                .name(ttsAudioFile.getAudioName())
+                .extension(ttsAudioFile.getAudioExtension())
+                .size(ttsAudioFile.getAudioSize())
+                .length(ttsAudioFile.getAudioTime())
+                .build();
+        return new TtsRenderResult(ttsSentence, ttsAudioFile.getAudioPath(), audioFileInfo, cacheKey, true);
+    }
+}
@@ -0,0 +1,375 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.global.component.AudioInfo;
+import com.oreo.finalproject_5re5_be.global.component.S3Service;
+import com.oreo.finalproject_5re5_be.global.dto.response.AudioFileInfo;
+import com.oreo.finalproject_5re5_be.tts.client.TtsSynthesisRequest;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsRenderResponse;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceDto;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsAudioFile;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
+import com.oreo.finalproject_5re5_be.tts.exception.TtsMakeException;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsSentenceRepository;
+import com.oreo.finalproject_5re5_be.tts.util.TokenBucket;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @apiNote 프로젝트의 TTS 오디오가 없는 문장을 한 번에 생성하는 서비스 입니다. <br>
+ * Google TTS 합성은 크기가 제한된 스레드 풀에서 동시에 실행되고, 합성이 끝난 문장은 별도 스레드 풀에서 S3에 업로드되므로
+ * 업로드와 다음 문장의 합성이 겹쳐서 진행됩니다. <br>
+ * 같은 파라미터로 합성한 결과가 캐시에 있으면 합성과 업로드 없이 재사용하고, 한 프로젝트 안의 중복 문장은 한 번만 합성합니다. <br>
+ * 프로젝트마다 토큰 버킷으로 초당 합성 요청 수를 제한해 Google TTS 할당량을 넘지 않도록 하며
+ * (생성 중이 아니고 토큰이 다시 가득 찬 프로젝트의 버킷은 정리),
+ * 결과는 {@code tts.render.save-batch-size} 개씩 모아 한 트랜잭션으로 저장합니다. <br>
+ * 일부 문장이 실패해도 나머지 문장은 계속 생성하며, 실패한 문장은 FAILED 상태로 기록하고 응답에 번호를 담아 반환합니다.
+ */
+@Slf4j
+@Service
+@Validated
+public class TtsRenderService {
+    private static final String TTS_DIR = "tts";
+
+    private final TtsSentenceRepository ttsSentenceRepository;
+    private final TtsProgressService ttsProgressService;
+    private final TtsMakeService ttsMakeService;
+    private final SaveTtsMakeResultService saveTtsMakeResultService;
+    private final TtsSynthesisCacheService ttsSynthesisCacheService;
+    private final S3Service s3Service;
+    private final AudioInfo audioInfo;
+    private final Executor synthesisExecutor;
+    private final Executor uploadExecutor;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int saveBatchSize;
+    private final Map<Long, ProjectBucket> projectBuckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TtsRenderService(TtsSentenceRepository ttsSentenceRepository,
+                            TtsProgressService ttsProgressService,
+                            TtsMakeService ttsMakeService,
+                            SaveTtsMakeResultService saveTtsMakeResultService,
+                            TtsSynthesisCacheService ttsSynthesisCacheService,
+                            S3Service s3Service,
+                            AudioInfo audioInfo,
+                            @Value("${tts.render.parallelism:4}") int parallelism,
+                            @Value("${tts.render.upload-parallelism:4}") int uploadParallelism,
+                            @Value("${tts.render.rate-per-second:5}") double permitsPerSecond,
+                            @Value("${tts.render.burst:5}") int burst,
+                            @Value("${tts.render.save-batch-size:20}") int saveBatchSize) {
+        this(ttsSentenceRepository, ttsProgressService, ttsMakeService, saveTtsMakeResultService,
+                ttsSynthesisCacheService, s3Service, audioInfo,
+                newExecutor(parallelism, "tts-render-"), newExecutor(uploadParallelism, "tts-upload-"),
+                permitsPerSecond, burst, saveBatchSize);
+    }
+
+    TtsRenderService(TtsSentenceRepository ttsSentenceRepository,
+                     TtsProgressService ttsProgressService,
+                     TtsMakeService ttsMakeService,
+                     SaveTtsMakeResultService saveTtsMakeResultService,
+                     TtsSynthesisCacheService ttsSynthesisCacheService,
+                     S3Service s3Service,
+                     AudioInfo audioInfo,
+                     Executor synthesisExecutor,
+                     Executor uploadExecutor,
+                     double permitsPerSecond,
+                     int burst,
+                     int saveBatchSize) {
+        this.ttsSentenceRepository = ttsSentenceRepository;
+        this.ttsProgressService = ttsProgressService;
+        this.ttsMakeService = ttsMakeService;
+        this.saveTtsMakeResultService = saveTtsMakeResultService;
+        this.ttsSynthesisCacheService = ttsSynthesisCacheService;
+        this.s3Service = s3Service;
+        this.audioInfo = audioInfo;
+        this.synthesisExecutor = synthesisExecutor;
+        this.uploadExecutor = uploadExecutor;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.saveBatchSize = Math.max(1, saveBatchSize);
+    }
+
+    private static ExecutorService newExecutor(int threads, String threadNamePrefix) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * @apiNote 프로젝트에서 TTS 오디오가 없는 문장을 모두 생성합니다.
+     * @param proSeq 프로젝트 번호
+     * @return 요청/완료/실패 문장 수, 소요 시간, 완료된 문장 정보
+     */
+    public TtsRenderResponse renderProject(@NotNull Long proSeq) {
+        long startedAt = System.currentTimeMillis();
+
+        // 0. 생성할 문장 조회 후 '진행중' 상태 저장
+        List<TtsSentence> sentences =
+                ttsSentenceRepository.findAllByProject_ProSeqAndTtsAudiofileIsNullOrderBySortOrder(proSeq);
+        RenderBatch batch = new RenderBatch(sentences.size());
+        if (sentences.isEmpty()) {
+            return batch.toResponse(startedAt);
+        }
+        saveTtsProgressStatus(sentences, TtsProgressStatusCode.IN_PROGRESS);
+
+        TokenBucket bucket = acquireBucket(proSeq);
+        try {
+            // 1. 문장 생성, 같은 파라미터의 문장이 여러 개면 하나만 먼저 생성
+            List<TtsSentence> duplicated = new ArrayList<>();
+            render(sentences, bucket, batch, duplicated);
+            batch.flush();
+
+            // 2. 먼저 생성한 결과가 캐시에 등록된 뒤 나머지 중복 문장 처리
+            render(duplicated, bucket, batch, null);
+            batch.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TtsMakeException("프로젝트 TTS 생성이 중단되었습니다.");
+        } finally {
+            releaseBucket(proSeq);
+        }
+
+        TtsRenderResponse response = batch.toResponse(startedAt);
+        log.info("[TtsRenderService] 프로젝트 TTS 생성 완료 - proSeq: {}, requested: {}, finished: {}, cached: {}, failed: {}, {}ms",
+                proSeq, response.getRequestedCount(), response.getFinishedCount(), response.getCachedCount(),
+                response.getFailedSentenceSeqs().size(), response.getElapsedMillis());
+        return response;
+    }
+
+    // 프로젝트 버킷을 사용 중으로 표시하고 반환, 정리할 수 있는 다른 프로젝트의 버킷은 먼저 정리
+    private TokenBucket acquireBucket(Long proSeq) {
+        evictIdleBuckets();
+        return projectBuckets.compute(proSeq, (key, projectBucket) -> {
+            ProjectBucket result = projectBucket != null
+                    ? projectBucket : new ProjectBucket(new TokenBucket(permitsPerSecond, burst));
+            result.users++;
+            return result;
+        }).bucket;
+    }
+
+    private void releaseBucket(Long proSeq) {
+        projectBuckets.computeIfPresent(proSeq, (key, projectBucket) -> {
+            projectBucket.users--;
+            return projectBucket;
+        });
+    }
+
+    // 생성 중이 아니고 토큰이 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거
+    private void evictIdleBuckets() {
+        for (Long proSeq : projectBuckets.keySet()) {
+            projectBuckets.computeIfPresent(proSeq, (key, projectBucket) ->
+                    projectBucket.users == 0 && projectBucket.bucket.isFull() ? null : projectBucket);
+        }
+    }
+
+    int bucketCount() {
+        return projectBuckets.size();
+    }
+
+    /*
+     * 캐시에 있는 문장은 바로 결과로 사용하고, 없는 문장만 할당량 안에서 합성을 요청합니다.
+     * 기다리는 동안 끝난 결과부터 저장합니다.
+     * duplicated 가 있으면 이번 호출에서 이미 합성을 요청한 파라미터의 문장은 합성하지 않고 duplicated 에 담습니다.
+     */
+    private void render(List<TtsSentence> sentences, TokenBucket bucket, RenderBatch batch,
+                        List<TtsSentence> duplicated) throws InterruptedException {
+        BlockingQueue<RenderOutcome> completed = new LinkedBlockingQueue<>();
+        Set<String> requestedKeys = new HashSet<>();
+        int submitted = 0;
+        int received = 0;
+        for (TtsSentence sentence : sentences) {
+            TtsSynthesisRequest synthesisRequest;
+            try {
+                synthesisRequest = ttsMakeService.createSynthesisRequest(sentence);
+            } catch (RuntimeException e) {
+                completed.add(new RenderOutcome(sentence, null, e));
+                submitted++;
+                continue;
+            }
+
+            String cacheKey = synthesisRequest.cacheKey();
+            Optional<TtsAudioFile> cachedAudioFile = ttsSynthesisCacheService.find(cacheKey);
+            if (cachedAudioFile.isPresent()) {
+                completed.add(new RenderOutcome(sentence,
+                        TtsRenderResult.cached(sentence, cachedAudioFile.get(), cacheKey), null));
+            } else if (duplicated != null && !requestedKeys.add(cacheKey)) {
+                duplicated.add(sentence);
+                continue;
+            } else {
+                bucket.acquire();
+                submit(sentence, synthesisRequest, completed);
+            }
+            submitted++;
+
+            RenderOutcome outcome;
+            while ((outcome = completed.poll()) != null) {
+                batch.add(outcome);
+                received++;
+            }
+        }
+        // 남은 결과 수신
+        while (received < submitted) {
+            batch.add(completed.take());
+            received++;
+        }
+    }
+
+    // 합성 -> 업로드 순서로 실행하고 결과(또는 예외)를 완료 큐에 전달
+    private void submit(TtsSentence sentence, TtsSynthesisRequest synthesisRequest,
+                        BlockingQueue<RenderOutcome> completed) {
+        try {
+            CompletableFuture
+                    .supplyAsync(() -> ttsMakeService.makeTtsAudioFile(sentence, synthesisRequest), synthesisExecutor)
+                    .thenApplyAsync(ttsFile -> upload(sentence, ttsFile, synthesisRequest.cacheKey()), uploadExecutor)
+                    .whenComplete((result, error) -> completed.add(new RenderOutcome(sentence, result, error)));
+        } catch (RejectedExecutionException e) {
+            completed.add(new RenderOutcome(sentence, null, e));
+        }
+    }
+
+    // 메타 정보 추출 후 S3 업로드 (DB 트랜잭션 밖에서 실행)
+    private TtsRenderResult upload(TtsSentence sentence, MultipartFile ttsFile, String cacheKey) {
+        AudioFileInfo audioFileInfo = audioInfo.extractAudioFileInfo(ttsFile);
+        String uploadedUrl = s3Service.upload(ttsFile, TTS_DIR);
+        return TtsRenderResult.synthesized(sentence, uploadedUrl, audioFileInfo, cacheKey);
+    }
+
+    // TTS 문장 상태 일괄 저장 (저장은 비동기, 진행 상태 스트림으로 바로 전달)
+    private void saveTtsProgressStatus(List<TtsSentence> sentences, TtsProgressStatusCode statusCode) {
+        ttsProgressService.recordAll(sentences, statusCode);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Executor executor : List.of(synthesisExecutor, uploadExecutor)) {
+            if (executor instanceof ExecutorService executorService) {
+                executorService.shutdown();
+            }
+        }
+    }
+
+    //프로젝트 토큰 버킷과 사용 중인 생성 요청 수 (projectBuckets 의 compute 안에서만 변경)
+    private static final class ProjectBucket {
+        private final TokenBucket bucket;
+        private int users;
+
+        private ProjectBucket(TokenBucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+
+    //한 문장의 처리 결과, 실패한 경우 error 가 있음
+    private record RenderOutcome(TtsSentence sentence, TtsRenderResult result, Throwable error) {
+    }
+
+    //완료된 결과를 모아 일정 개수마다 저장
+    private class RenderBatch {
+        private final int requestedCount;
+        private final List<TtsRenderResult> pending = new ArrayList<>();
+        private final List<TtsSentence> failed = new ArrayList<>();
+        private final List<TtsSentenceDto> saved = new ArrayList<>();
+        private final List<Long> failedSeqs = new ArrayList<>();
+        private int cachedCount;
+
+        RenderBatch(int requestedCount) {
+            this.requestedCount = requestedCount;
+        }
+
+        void add(RenderOutcome outcome) {
+            if (outcome.error() != null) {
+                log.warn("[TtsRenderService] TTS 생성 실패 - tsSeq: {}", outcome.sentence().getTsSeq(), outcome.error());
+                failed.add(outcome.sentence());
+            } else {
+                pending.add(outcome.result());
+            }
+            if (pending.size() + failed.size() >= saveBatchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!pending.isEmpty()) {
+                List<TtsSentence> sentences = pending.stream().map(TtsRenderResult::ttsSentence).toList();
+                try {
+                    List<TtsSentenceDto> savedSentences = saveTtsMakeResultService.saveTtsMakeResults(pending);
+                    saveTtsProgressStatus(sentences, TtsProgressStatusCode.FINISHED);
+                    registerCache(savedSentences);
+                    saved.addAll(savedSentences);
+                } catch (RuntimeException e) {
+                    log.error("[TtsRenderService] TTS 생성 결과 저장 실패 - count: {}", pending.size(), e);
+                    // 캐시에서 가져온 파일은 다른 문장도 사용하므로 새로 업로드한 파일만 삭제
+                    pending.stream()
+                            .filter(result -> !result.cached())
+                            .forEach(result -> deleteUploadedFile(result.uploadedUrl()));
+                    failed.addAll(sentences);
+                }
+                pending.clear();
+            }
+            if (!failed.isEmpty()) {
+                saveTtsProgressStatus(failed, TtsProgressStatusCode.FAILED);
+                failed.forEach(sentence -> failedSeqs.add(sentence.getTsSeq()));
+                failed.clear();
+            }
+        }
+
+        // 새로 합성한 결과를 캐시에 등록 (저장 결과는 입력 순서와 같음)
+        private void registerCache(List<TtsSentenceDto> savedSentences) {
+            for (int i = 0; i < pending.size(); i++) {
+                TtsRenderResult result = pending.get(i);
+                if (result.cached()) {
+                    cachedCount++;
+                } else {
+                    ttsSynthesisCacheService.register(result.cacheKey(),
+                            savedSentences.get(i).getSentence().getTtsAudioFileInfo().getTtsAudioSeq());
+                }
+            }
+        }
+
+        // 저장에 실패한 결과의 업로드 파일 삭제
+        private void deleteUploadedFile(String uploadedUrl) {
+            try {
+                s3Service.deleteFileByUrl(uploadedUrl);
+            } catch (RuntimeException e) {
+                log.warn("[TtsRenderService] 업로드 파일 삭제 실패 - url: {}", uploadedUrl, e);
+            }
+        }
+
+        TtsRenderResponse toResponse(long startedAt) {
+            return TtsRenderResponse.builder()
+                    .requestedCount(requestedCount)
+                    .finishedCount(saved.size())
+                    .cachedCount(cachedCount)
+                    .failedSentenceSeqs(List.copyOf(failedSeqs))
+                    .elapsedMillis(System.currentTimeMillis() - startedAt)
+                    .sentenceList(saved.stream()  // 완료 순서가 아닌 문장 순서로 반환
+                            .sorted(Comparator.comparing(dto -> dto.getSentence().getOrder(),
+                                    Comparator.nullsLast(Comparator.naturalOrder())))
+                            .toList())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * @apiNote TTS 문장(tts_sentence)을 여러 행씩 한 번에 저장하는 컴포넌트 입니다. <br>
+ * 문장 번호가 IDENTITY 로 생성되어 JPA 저장은 행마다 insert 를 바로 실행하므로({@code hibernate.jdbc.batch_size} 미적용),
+ * 문장 일괄 저장은 JDBC 배치로 최대 {@code tts.sentence.batch-size} 행씩 보내고 생성된 번호는 getGeneratedKeys 로 받습니다. <br>
+ * 호출한 쪽의 트랜잭션 안에서 실행되며, JPA 감사(Auditing) 대신 등록/수정 일시와 회원 번호를 직접 채웁니다.
+ */
+@Slf4j
+@Component
+public class TtsSentenceBatchWriter {
+    private static final String INSERT_SQL = "INSERT INTO tts_sentence "
+            + "(text, sort_ord, volume, speed, st_pitch, emotion, emt_strength, smpl_rate, alpha, end_pitch, aud_fmt, "
+            + "pro_seq, voice_seq, reg_date, up_date, reg_seq, up_seq) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // 수정하면 기존 TTS 오디오 연결은 끊음 (updateSentence 와 같음)
+    private static final String UPDATE_SQL = "UPDATE tts_sentence SET "
+            + "text = ?, sort_ord = ?, volume = ?, speed = ?, st_pitch = ?, emotion = ?, emt_strength = ?, smpl_rate = ?, "
+            + "alpha = ?, end_pitch = ?, aud_fmt = ?, voice_seq = ?, tts_aud_seq = NULL, up_date = ?, up_seq = ? "
+            + "WHERE ts_seq = ?";
+    private static final String INSERT_STATUS_SQL = "INSERT INTO tts_progress_status "
+            + "(ts_seq, prog_stat, chg_date, reg_date, up_date, reg_seq, up_seq) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_STATUS_SQL = "DELETE FROM tts_progress_status WHERE ts_seq IN (:tsSeqs)";
+    private static final String DELETE_SQL = "DELETE FROM tts_sentence WHERE ts_seq IN (:tsSeqs)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final AuditorAware<Long> auditorAware;
+    private final int batchSize;
+
+    public TtsSentenceBatchWriter(JdbcTemplate jdbcTemplate,
+                                  AuditorAware<Long> auditorAware,
+                                  @Value("${tts.sentence.batch-size:100}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.auditorAware = auditorAware;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * @apiNote 새 문장을 배치 insert 합니다.
+     * @param sentences 저장할 문장 목록 (project, voice 필수)
+     * @return 생성된 문장 번호 (입력 순서)
+     */
+    public List<Long> insertAll(List<TtsSentence> sentences) {
+        if (sentences.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long memberSeq = auditorAware.getCurrentAuditor().orElse(null);
+
+        List<Long> tsSeqs = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> keys = new ArrayList<>(sentences.size());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < sentences.size(); from += batchSize) {
+                    for (TtsSentence sentence : sentences.subList(from, Math.min(from + batchSize, sentences.size()))) {
+                        int index = setSentence(ps, sentence);
+                        ps.setLong(index++, sentence.getProject().getProSeq());
+                        ps.setLong(index++, sentence.getVoice().getVoiceSeq());
+                        ps.setTimestamp(index++, now);
+                        ps.setTimestamp(index++, now);
+                        ps.setObject(index++, memberSeq);
+                        ps.setObject(index, memberSeq);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                        while (generatedKeys.next()) {
+                            keys.add(generatedKeys.getLong(1));
+                        }
+                    }
+                }
+            }
+            return keys;
+        });
+        if (tsSeqs == null || tsSeqs.size() != sentences.size()) {
+            throw new IllegalStateException("생성된 TTS 문장 번호를 모두 받지 못했습니다.");
+        }
+        log.debug("[TtsSentenceBatchWriter] insert - count: {}", tsSeqs.size());
+        return tsSeqs;
+    }
+
+    /**
+     * @apiNote 기존 문장을 배치 update 합니다.
+     * @param sentences 수정할 문장 목록 (tsSeq, voice 필수)
+     */
+    public void updateAll(List<TtsSentence> sentences) {
+        if (sentences.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long memberSeq = auditorAware.getCurrentAuditor().orElse(null);
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, sentences, batchSize, (ps, sentence) -> {
+            int index = setSentence(ps, sentence);
+            ps.setLong(index++, sentence.getVoice().getVoiceSeq());
+            ps.setTimestamp(index++, now);
+            ps.setObject(index++, memberSeq);
+            ps.setLong(index, sentence.getTsSeq());
+        });
+        log.debug("[TtsSentenceBatchWriter] update - count: {}", sentences.size());
+    }
+
+    /**
+     * @apiNote 문장 상태를 배치 insert 합니다.
+     * @param tsSeqs 문장 번호 목록
+     * @param status 상태
+     */
+    public void insertStatuses(List<Long> tsSeqs, TtsProgressStatusCode status) {
+        if (tsSeqs.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long memberSeq = auditorAware.getCurrentAuditor().orElse(null);
+
+        jdbcTemplate.batchUpdate(INSERT_STATUS_SQL, tsSeqs, batchSize, (ps, tsSeq) -> {
+            ps.setLong(1, tsSeq);
+            ps.setString(2, status.name());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.setObject(6, memberSeq);
+            ps.setObject(7, memberSeq);
+        });
+    }
+
+    /**
+     * @apiNote 문장과 문장 상태를 IN 조건으로 한 번에 삭제합니다.
+     * @param tsSeqs 삭제할 문장 번호 목록
+     */
+    public void deleteAll(Collection<Long> tsSeqs) {
+        if (tsSeqs.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("tsSeqs", tsSeqs);
+        namedParameterJdbcTemplate.update(DELETE_STATUS_SQL, params);
+        int deleted = namedParameterJdbcTemplate.update(DELETE_SQL, params);
+        log.debug("[TtsSentenceBatchWriter] delete - count: {}", deleted);
+    }
+
+    // 문장 내용 컬럼 (text ~ aud_fmt), 다음 파라미터 위치 반환
+    private static int setSentence(PreparedStatement ps, TtsSentence sentence) throws SQLException {
+        ps.setString(1, sentence.getText());
+        ps.setObject(2, sentence.getSortOrder());
+        ps.setObject(3, sentence.getVolume());
+        ps.setObject(4, sentence.getSpeed());
+        ps.setObject(5, sentence.getStartPitch());
+        ps.setString(6, sentence.getEmotion());
+        ps.setObject(7, sentence.getEmotionStrength());
+        ps.setObject(8, sentence.getSampleRate());
+        ps.setObject(9, sentence.getAlpha());
+        ps.setObject(10, sentence.getEndPitch());
+        ps.setString(11, sentence.getAudioFormat());
+        return 12;
+    }
+}
@@ -12,6 +12,7 @@ import com.oreo.finalproject_5re5_be.tts.dto.request.TtsSentenceRequest;
 import com.oreo.finalproject_5re5_be.tts.dto.response.SentenceInfo;
 import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceDto;
 import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListDto;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListRow;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatus;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
@@ -25,10 +26,16 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @Slf4j
@@ -41,15 +48,20 @@ public class TtsSentenceServiceImpl implements TtsSentenceService {
     private final VoiceRepository voiceRepository;
     private final TtsProgressStatusRepository ttsProgressStatusRepository;
     private final ProjectService projectService;
+    private final VoiceCatalog voiceCatalog;
+    private final TtsSentenceBatchWriter ttsSentenceBatchWriter;
 
     public TtsSentenceServiceImpl(TtsSentenceRepository ttsSentenceRepository,
         ProjectRepository projectRepository, VoiceRepository voiceRepository,
-        TtsProgressStatusRepository ttsProgressStatusRepository, ProjectService projectService) {
+        TtsProgressStatusRepository ttsProgressStatusRepository, ProjectService projectService,
+        VoiceCatalog voiceCatalog, TtsSentenceBatchWriter ttsSentenceBatchWriter) {
         this.ttsSentenceRepository = ttsSentenceRepository;
         this.projectRepository = projectRepository;
         this.voiceRepository = voiceRepository;
         this.ttsProgressStatusRepository = ttsProgressStatusRepository;
         this.projectService = projectService;
+        this.voiceCatalog = voiceCatalog;
+        this.ttsSentenceBatchWriter = ttsSentenceBatchWriter;
     }
 
     @Override
@@ -160,81 +172,123 @@ public class TtsSentenceServiceImpl implements TtsSentenceService {
     }
 
     /**
-     * @apiNote TtsSentence 엔티티 Batch 저장
+     * @apiNote TtsSentence 엔티티 Batch 저장 <br>
+     * 수정/삭제할 문장과 목소리는 IN 조건으로 한 번에 확인하고, 정렬은 메모리에서 처리한 뒤
+     * 삭제/수정/추가를 {@link TtsSentenceBatchWriter} 로 JDBC 배치 저장합니다. <br>
+     * JDBC 배치 저장은 영속성 컨텍스트를 거치지 않으므로, 저장 후 프로젝트의 전체 문장 목록을
+     * {@link TtsSentenceRepository#findSentenceListRows(Long)} 한 번으로 다시 조회해 반환합니다.
      */
     @Override
+    @Transactional(rollbackFor = RuntimeException.class)
     public TtsSentenceListDto batchSaveSentence(@Valid @NotNull Long projectSeq,
         @Valid TtsSentenceBatchRequest batchRequest) {
-        // 10개의 TTSSentence 가 있다고 가정했을 때 5개의 TTSSentence 를 수정하고 전체 정렬을 했을 때, 순서를 보장하기 위해서는?
+        // 1. 요청 검증 (SentenceInfo, BatchProcessType)
+        batchRequest.getSentenceList().forEach(this::validateBatchInfo);
 
+        // 2. Project 엔티티 조회
+        Project project = projectRepository.findById(projectSeq)
+            .orElseThrow(
+                () -> new EntityNotFoundException("Project not found with id: " + projectSeq));
 
-        // 1. DELETE 를 먼저 삭제한다. (삭제할 것들은 삭제 후에 정렬)
-        batchRequest.getSentenceList().stream()
-            .filter(sentence -> sentence.getBatchProcessType() == BatchProcessType.DELETE)
-            .forEach(sentence -> deleteSentence(projectSeq, sentence.getSentence().getTsSeq()));
+        // 3. 수정/삭제할 TtsSentence 가 프로젝트에 있는지 한 번에 확인
+        Set<Long> referencedSeqs = batchRequest.getSentenceList().stream()
+            .filter(batchInfo -> batchInfo.getBatchProcessType() != BatchProcessType.CREATE)
+            .map(batchInfo -> batchInfo.getSentence().getTsSeq())
+            .collect(Collectors.toCollection(HashSet::new));
+        referencedSeqs.remove(null);
+        Set<Long> foundSeqs = referencedSeqs.isEmpty() ? new HashSet<>()
+            : new HashSet<>(ttsSentenceRepository.findTsSeqsInProject(projectSeq, referencedSeqs));
+        for (TtsSentenceBatchInfo batchInfo : batchRequest.getSentenceList()) {
+            Long tsSeq = batchInfo.getSentence().getTsSeq();
+            if (batchInfo.getBatchProcessType() != BatchProcessType.CREATE && !foundSeqs.contains(tsSeq)) {
+                throw new EntityNotFoundException("TtsSentence not found with id: " + tsSeq);
+            }
+        }
 
+        // 4. DELETE 를 먼저 삭제한다. (삭제할 것들은 삭제 후에 정렬)
+        List<Long> deleteSeqs = batchRequest.getSentenceList().stream()
+            .filter(batchInfo -> batchInfo.getBatchProcessType() == BatchProcessType.DELETE)
+            .map(batchInfo -> batchInfo.getSentence().getTsSeq())
+            .distinct()
+            .toList();
+        ttsSentenceBatchWriter.deleteAll(deleteSeqs);
 
+        // 5. 살아남은 ttsSentenceList 정렬 및 정렬 순서 수정
         List<TtsSentenceBatchInfo> alivedList = batchRequest.getSentenceList().stream()
-            .filter(sentence -> sentence.getBatchProcessType() != BatchProcessType.DELETE)
+            .filter(batchInfo -> batchInfo.getBatchProcessType() != BatchProcessType.DELETE)
             .toList();
+        List<TtsSentenceBatchInfo> batchList = TtsSentenceBatchRequest.builder()
+            .sentenceList(alivedList).build()
+            .sortSentenceList();
+
+        // 6. Voice 한 번에 조회
+        Set<Long> voiceSeqs = batchList.stream()
+            .map(batchInfo -> batchInfo.getSentence().getVoiceSeq())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, Voice> voices = voiceCatalog.findVoices(voiceSeqs);
+
+        // 7. TtsSentence 변환 후 수정/추가 배치 저장
+        List<TtsSentence> updateSentences = new ArrayList<>();
+        List<TtsSentence> createSentences = new ArrayList<>();
+        for (TtsSentenceBatchInfo batchInfo : batchList) {
+            SentenceInfo sentenceInfo = batchInfo.getSentence();
+            Voice voice = voices.get(sentenceInfo.getVoiceSeq());
+            if (voice == null) {
+                throw new EntityNotFoundException("Voice not found with id: " + sentenceInfo.getVoiceSeq());
+            }
+            Long tsSeq = batchInfo.getBatchProcessType() == BatchProcessType.UPDATE ? sentenceInfo.getTsSeq() : null;
+            TtsSentence sentence = toSentence(project, voice, tsSeq, sentenceInfo);
+            if (tsSeq == null) {
+                createSentences.add(sentence);
+            } else {
+                updateSentences.add(sentence);
+            }
+        }
+        ttsSentenceBatchWriter.updateAll(updateSentences);
 
-        // 살아남은 ttsSentenceList
-        TtsSentenceBatchRequest alivedRequest = TtsSentenceBatchRequest.builder()
-            .sentenceList(alivedList).build();
-
-        // 2. TtsSentenceBatchRequest.sentenceList -> TtsSentenceDto List 변환
-        // 3. 정렬 및 정렬 순서 수정
-        List<TtsSentenceBatchInfo> batchList = alivedRequest.sortSentenceList();
-
-        // 4. TtsSentenceDto List 변환
-        List<TtsSentenceDto> batchedList = batchList.stream()
-            .map(batchInfo -> toSentenceDto(projectSeq, batchInfo))
-            .filter(Objects::nonNull) // not null
-            .toList();
+        List<Long> createdSeqs = ttsSentenceBatchWriter.insertAll(createSentences);
+        // 7.1 추가한 TtsSentence 의 TtsProgressStatus 저장
+        ttsSentenceBatchWriter.insertStatuses(createdSeqs, TtsProgressStatusCode.CREATED);
+        log.info("[ttsSentenceBatch] projectSeq: {}, created: {}, updated: {}, deleted: {}",
+            projectSeq, createdSeqs.size(), updateSentences.size(), deleteSeqs.size());
 
-        return getSentenceList(projectSeq);
+        // 8. 요청에 없는 문장까지 포함한 프로젝트 전체 문장 목록 반환 (오디오, 진행 상태 포함, 쿼리 1번)
+        return TtsSentenceListDto.ofRows(ttsSentenceRepository.findSentenceListRows(projectSeq));
     }
 
-    // batchInfo -> sentenceDto 변환
-    private TtsSentenceDto toSentenceDto(Long projectSeq, TtsSentenceBatchInfo batchInfo) {
-        SentenceInfo sentenceInfo = batchInfo.getSentence();
-
-        // 1. TtsSentenceRequest 유효성 검증
-        if (sentenceInfo == null) {
+    // batchInfo 유효성 검증
+    private void validateBatchInfo(TtsSentenceBatchInfo batchInfo) {
+        // 1. SentenceInfo 가 없으면 예외 발생
+        if (batchInfo.getSentence() == null) {
             throw new TtsSentenceInValidInput("SentenceInfo is null");
         }
 
-        // 2. sentenceInfo -> TtsSentenceRequest 변환
-        TtsSentenceRequest sentenceRequest = TtsSentenceRequest.builder()
-            .text(sentenceInfo.getText())
-            .voiceSeq(sentenceInfo.getVoiceSeq())
-            .order(sentenceInfo.getOrder())
-            .attribute(sentenceInfo.getTtsAttributeInfo())
-            .build();
-
-        // 3. BatchProcessType 에 따른 분기처리
-        // 3.1 CREATE : addSentence
-        if (batchInfo.getBatchProcessType() == BatchProcessType.CREATE) {
-            return addSentence(projectSeq, sentenceRequest);
-        }
-
-        // 3.2 UPDATE : updateSentence
-        if (batchInfo.getBatchProcessType() == BatchProcessType.UPDATE) {
-            return updateSentence(projectSeq, sentenceInfo.getTsSeq(), sentenceRequest);
-        }
-
-        // 3.3 DELETE : updateSentence
-        if (batchInfo.getBatchProcessType() == BatchProcessType.DELETE) {
-            boolean deleteResult = deleteSentence(projectSeq, sentenceInfo.getTsSeq());
-
-            // deleteResult == false, 삭제 안됨
-            if (deleteResult) {
-                return null;
-            }
+        // 2 해당하는 BatchProcessType 가 없으면 예외 발생
+        if (batchInfo.getBatchProcessType() == null) {
+            throw new TtsSentenceInValidInput("BatchProcessType is invalid");
         }
+    }
 
-        // 4 해당하는 BatchProcessType 가 없으면 예외 발생
-        throw new TtsSentenceInValidInput("BatchProcessType is invalid");
+    // sentenceInfo -> TtsSentence 변환 (tsSeq 가 없으면 새 문장)
+    private TtsSentence toSentence(Project project, Voice voice, Long tsSeq, SentenceInfo sentenceInfo) {
+        TtsAttributeInfo attribute = sentenceInfo.getTtsAttributeInfo();
+        return TtsSentence.builder()
+            .tsSeq(tsSeq)
+            .text(sentenceInfo.getText())
+            .sortOrder(sentenceInfo.getOrder())
+            .volume(attribute.getVolume())
+            .speed(attribute.getSpeed())
+            .startPitch(attribute.getStPitch())
+            .emotion(attribute.getEmotion())
+            .emotionStrength(attribute.getEmotionStrength())
+            .sampleRate(attribute.getSampleRate())
+            .alpha(attribute.getAlpha())
+            .endPitch(attribute.getEndPitch())
+            .audioFormat(attribute.getAudioFormat())
+            .project(project)
+            .voice(voice)
+            .build();
     }
 
     @Override
@@ -256,11 +310,11 @@ public class TtsSentenceServiceImpl implements TtsSentenceService {
             .orElseThrow(
                 () -> new EntityNotFoundException("Project not found with id: " + projectSeq));
 
-        // 2. Project 에 연관된 TtsSentence 리스트 조회
-        List<TtsSentence> ttsSentenceList = ttsSentenceRepository.findAllByProjectOrderBySortOrder(project);
+        // 2. Project 에 연관된 TtsSentence 목록과 최근 진행 상태를 한 번에 조회 (문장 수와 관계없이 쿼리 1번)
+        List<TtsSentenceListRow> rows = ttsSentenceRepository.findSentenceListRows(project.getProSeq());
 
         // 3. TtsSentenceDto 리스트 변환 및 반환
-        return TtsSentenceListDto.of(ttsSentenceList);
+        return TtsSentenceListDto.ofRows(rows);
     }
 
     @Override
@@ -0,0 +1,82 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.tts.entity.TtsAudioFile;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsSynthesisCache;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsAudioFileRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsSynthesisCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * @apiNote 같은 파라미터로 합성한 TTS 결과를 다시 사용하기 위한 캐시 서비스 입니다. <br>
+ * 합성 파라미터 해시(캐시 키)를 이미 업로드된 S3 오디오와 메타 정보({@link TtsAudioFile})에 연결해 DB에 저장하고,
+ * 자주 쓰는 키는 메모리(LRU)에 보관해 DB 조회 없이 찾습니다. <br>
+ * 캐시가 가리키는 S3 파일은 여러 문장이 함께 사용하므로 삭제하면 안 됩니다.
+ */
+@Slf4j
+@Service
+public class TtsSynthesisCacheService {
+    private final TtsSynthesisCacheRepository ttsSynthesisCacheRepository;
+    private final TtsAudioFileRepository ttsAudioFileRepository;
+    private final Map<String, TtsAudioFile> localCache;
+
+    public TtsSynthesisCacheService(TtsSynthesisCacheRepository ttsSynthesisCacheRepository,
+                                    TtsAudioFileRepository ttsAudioFileRepository,
+                                    @Value("${tts.cache.local-size:1000}") int localSize) {
+        this.ttsSynthesisCacheRepository = ttsSynthesisCacheRepository;
+        this.ttsAudioFileRepository = ttsAudioFileRepository;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TtsAudioFile> eldest) {
+                return size() > localSize;
+            }
+        });
+    }
+
+    /**
+     * @apiNote 캐시 키로 이미 합성된 오디오 파일을 찾습니다. 메모리, DB 순서로 찾습니다.
+     * @param cacheKey 합성 파라미터 해시
+     * @return 오디오 파일 정보, 없으면 empty
+     */
+    public Optional<TtsAudioFile> find(String cacheKey) {
+        TtsAudioFile cached = localCache.get(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<TtsAudioFile> found = ttsSynthesisCacheRepository.findByCacheKey(cacheKey)
+                .map(TtsSynthesisCache::getTtsAudioFile);
+        found.ifPresent(audioFile -> localCache.put(cacheKey, audioFile));
+        return found;
+    }
+
+    /**
+     * @apiNote 새로 합성해서 저장한 오디오 파일을 캐시에 등록합니다. <br>
+     * 캐시 등록 실패는 TTS 생성 결과에 영향을 주지 않도록 로그만 남깁니다.
+     * @param cacheKey    합성 파라미터 해시
+     * @param ttsAudioSeq 저장된 TTS 오디오 파일 번호
+     */
+    public void register(String cacheKey, Long ttsAudioSeq) {
+        try {
+            if (ttsSynthesisCacheRepository.existsByCacheKey(cacheKey)) {
+                return;
+            }
+            ttsSynthesisCacheRepository.save(TtsSynthesisCache.builder()
+                    .cacheKey(cacheKey)
+                    .ttsAudioFile(ttsAudioFileRepository.getReferenceById(ttsAudioSeq))
+                    .build());
+            log.debug("[TtsSynthesisCacheService] 캐시 등록 - key: {}, ttsAudioSeq: {}", cacheKey, ttsAudioSeq);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 키를 먼저 등록한 경우
+            log.debug("[TtsSynthesisCacheService] 이미 등록된 캐시 키 - key: {}", cacheKey);
+        } catch (RuntimeException e) {
+            log.warn("[TtsSynthesisCacheService] 캐시 등록 실패 - key: {}", cacheKey, e);
+        }
+    }
+}
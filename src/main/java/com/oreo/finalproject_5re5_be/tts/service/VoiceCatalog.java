@@ -0,0 +1,254 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.global.entity.BaseEntity;
+import com.oreo.finalproject_5re5_be.tts.entity.Language;
+import com.oreo.finalproject_5re5_be.tts.entity.Style;
+import com.oreo.finalproject_5re5_be.tts.entity.Voice;
+import com.oreo.finalproject_5re5_be.tts.repository.LanguageRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.StyleRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.VoiceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * @apiNote 언어, 스타일, 목소리 목록(카탈로그)을 메모리에 보관하는 컴포넌트 입니다. <br>
+ * 카탈로그는 거의 바뀌지 않지만 에디터를 열 때마다 조회되므로, 세 테이블을 한 번에 읽어 색인을 만든 스냅샷을 보관하고
+ * 조회는 DB 없이 스냅샷에서 처리합니다. <br>
+ * 스냅샷은 처음 조회할 때 만들고, {@code tts.catalog.refresh-interval-millis} 마다 또는 {@link #refresh()} 호출 시
+ * 새로 만든 뒤 한 번에 교체하므로 조회 중에 일부만 바뀐 카탈로그를 보는 일은 없습니다.
+ */
+@Slf4j
+@Component
+public class VoiceCatalog {
+    private final LanguageRepository languageRepository;
+    private final StyleRepository styleRepository;
+    private final VoiceRepository voiceRepository;
+    private volatile Snapshot snapshot;
+
+    public VoiceCatalog(LanguageRepository languageRepository,
+                        StyleRepository styleRepository,
+                        VoiceRepository voiceRepository) {
+        this.languageRepository = languageRepository;
+        this.styleRepository = styleRepository;
+        this.voiceRepository = voiceRepository;
+    }
+
+    /**
+     * @apiNote 현재 카탈로그 스냅샷을 반환합니다. 아직 없으면 DB에서 읽어 만듭니다.
+     * @return 카탈로그 스냅샷
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @apiNote 목소리 정보를 반환합니다. 스냅샷에 없으면(스냅샷 이후 추가된 목소리) DB에서 조회합니다.
+     * @param voiceSeq 목소리 번호
+     * @return 목소리 정보
+     */
+    public Optional<Voice> findVoice(Long voiceSeq) {
+        Voice voice = current().voice(voiceSeq);
+        return voice != null ? Optional.of(voice) : voiceRepository.findById(voiceSeq);
+    }
+
+    /**
+     * @apiNote 여러 목소리 정보를 반환합니다. 스냅샷에 없는 목소리는 IN 조건 한 번으로 DB에서 조회합니다.
+     * @param voiceSeqs 목소리 번호 목록
+     * @return 목소리 번호 -> 목소리 정보 (없는 번호는 포함하지 않음)
+     */
+    public Map<Long, Voice> findVoices(Collection<Long> voiceSeqs) {
+        Snapshot current = current();
+        Map<Long, Voice> voices = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long voiceSeq : voiceSeqs) {
+            Voice voice = current.voice(voiceSeq);
+            if (voice != null) {
+                voices.put(voiceSeq, voice);
+            } else {
+                missing.add(voiceSeq);
+            }
+        }
+        if (!missing.isEmpty()) {
+            voiceRepository.findAllById(missing).forEach(voice -> voices.put(voice.getVoiceSeq(), voice));
+        }
+        return voices;
+    }
+
+    /**
+     * @apiNote DB에서 카탈로그를 다시 읽어 스냅샷을 교체합니다. 내용이 같으면 버전(ETag, Last-Modified)은 유지됩니다.
+     */
+    @Scheduled(fixedDelayString = "${tts.catalog.refresh-interval-millis:600000}",
+            initialDelayString = "${tts.catalog.refresh-interval-millis:600000}")
+    public synchronized void refresh() {
+        Snapshot loaded = new Snapshot(
+                languageRepository.findAll(),
+                styleRepository.findAll(),
+                voiceRepository.findAllWithLanguageAndStyle(),
+                snapshot);
+        if (snapshot == null || !loaded.version().equals(snapshot.version())) {
+            log.info("[VoiceCatalog] 카탈로그 갱신 - languages: {}, styles: {}, voices: {}, etag: {}",
+                    loaded.languages().size(), loaded.styles().size(), loaded.voiceCount(), loaded.version().etag());
+        }
+        snapshot = loaded;
+    }
+
+    /**
+     * @apiNote 카탈로그 버전, 조건부 요청(If-None-Match, If-Modified-Since) 처리에 사용
+     * @param etag         카탈로그 내용의 해시
+     * @param lastModified 카탈로그가 마지막으로 바뀐 시각 (초 단위)
+     */
+    public record Version(String etag, Instant lastModified) {
+    }
+
+    /**
+     * @apiNote 한 시점의 카탈로그와 색인, 만든 뒤에는 바뀌지 않습니다.
+     */
+    public static final class Snapshot {
+        private final List<Language> languages;
+        private final List<Style> styles;
+        private final Map<String, Language> languageByCode = new LinkedHashMap<>();
+        private final Map<String, Style> styleByName = new LinkedHashMap<>();
+        private final Map<Long, Voice> voiceBySeq = new LinkedHashMap<>();
+        // 언어 번호 -> 스타일 번호 -> 사용 가능한 목소리
+        private final Map<Long, Map<Long, List<Voice>>> enabledVoices = new LinkedHashMap<>();
+        // 언어 번호 -> 목소리가 있는 스타일
+        private final Map<Long, List<Style>> stylesWithVoices = new LinkedHashMap<>();
+        private final Version version;
+
+        private Snapshot(List<Language> languages, List<Style> styles, List<Voice> voices, Snapshot previous) {
+            this.languages = List.copyOf(languages);
+            this.styles = List.copyOf(styles);
+            // MySQL 기본 정렬에서 대소문자를 구분하지 않던 조회 조건과 맞추기 위해 소문자로 색인
+            languages.forEach(language -> languageByCode.putIfAbsent(key(language.getLangCode()), language));
+            styles.forEach(style -> styleByName.putIfAbsent(key(style.getName()), style));
+
+            Map<Long, Set<Style>> styleSets = new LinkedHashMap<>();
+            for (Voice voice : voices) {
+                voiceBySeq.put(voice.getVoiceSeq(), voice);
+                if (voice.getLanguage() == null || voice.getStyle() == null) {
+                    continue;
+                }
+                Long langSeq = voice.getLanguage().getLangSeq();
+                styleSets.computeIfAbsent(langSeq, key -> new LinkedHashSet<>()).add(voice.getStyle());
+                // MySQL 기본 정렬에서 'Y'와 'y'를 같게 비교하던 조회 조건과 맞춤
+                if (Character.toLowerCase(voice.getEnabled()) == 'y') {
+                    enabledVoices.computeIfAbsent(langSeq, key -> new LinkedHashMap<>())
+                            .computeIfAbsent(voice.getStyle().getStyleSeq(), key -> new ArrayList<>())
+                            .add(voice);
+                }
+            }
+            styleSets.forEach((langSeq, styleSet) -> stylesWithVoices.put(langSeq, List.copyOf(styleSet)));
+
+            String etag = etag(this.languages, this.styles, voices);
+            this.version = previous != null && previous.version.etag().equals(etag)
+                    ? previous.version
+                    : new Version(etag, lastModified(this.languages, this.styles, voices));
+        }
+
+        public List<Language> languages() {
+            return languages;
+        }
+
+        public List<Style> styles() {
+            return styles;
+        }
+
+        public Optional<Language> language(String langCode) {
+            return Optional.ofNullable(languageByCode.get(key(langCode)));
+        }
+
+        public Optional<Style> style(String name) {
+            return Optional.ofNullable(styleByName.get(key(name)));
+        }
+
+        // 언어, 스타일에 해당하는 사용 가능한 목소리 목록
+        public List<Voice> enabledVoices(Language language, Style style) {
+            return enabledVoices.getOrDefault(language.getLangSeq(), Map.of())
+                    .getOrDefault(style.getStyleSeq(), List.of());
+        }
+
+        // 언어에 목소리가 있는 스타일 목록
+        public List<Style> stylesWithVoices(Language language) {
+            return stylesWithVoices.getOrDefault(language.getLangSeq(), List.of());
+        }
+
+        public Version version() {
+            return version;
+        }
+
+        Voice voice(Long voiceSeq) {
+            return voiceBySeq.get(voiceSeq);
+        }
+
+        int voiceCount() {
+            return voiceBySeq.size();
+        }
+
+        private static String key(String value) {
+            return value != null ? value.toLowerCase(Locale.ROOT) : null;
+        }
+
+        // 내용이 같으면 서버가 달라도 같은 값이 나오도록 필드 문자열로 해시
+        private static String etag(List<Language> languages, List<Style> styles, List<Voice> voices) {
+            MessageDigest digest = sha256();
+            rows(languages, styles, voices)
+                    .forEach(row -> digest.update((row + "\n").getBytes(StandardCharsets.UTF_8)));
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        }
+
+        // 행의 마지막 수정 시각 중 가장 늦은 시각, 없으면 지금
+        private static Instant lastModified(List<Language> languages, List<Style> styles, List<Voice> voices) {
+            return rows(languages, styles, voices)
+                    .map(row -> row.getUpDate() != null ? row.getUpDate() : row.getRegDate())
+                    .filter(Objects::nonNull)
+                    .max(LocalDateTime::compareTo)
+                    .map(dateTime -> dateTime.atZone(ZoneId.systemDefault()).toInstant())
+                    .orElseGet(Instant::now)
+                    .truncatedTo(ChronoUnit.SECONDS);
+        }
+
+        private static Stream<BaseEntity> rows(List<Language> languages, List<Style> styles, List<Voice> voices) {
+            return Stream.<List<? extends BaseEntity>>of(languages, styles, voices).flatMap(List::stream);
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+}
@@ -5,9 +5,6 @@ import com.oreo.finalproject_5re5_be.tts.dto.response.VoiceListDto;
 import com.oreo.finalproject_5re5_be.tts.entity.Language;
 import com.oreo.finalproject_5re5_be.tts.entity.Style;
 import com.oreo.finalproject_5re5_be.tts.entity.Voice;
-import com.oreo.finalproject_5re5_be.tts.repository.LanguageRepository;
-import com.oreo.finalproject_5re5_be.tts.repository.StyleRepository;
-import com.oreo.finalproject_5re5_be.tts.repository.VoiceRepository;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -18,33 +15,37 @@ import java.util.List;
 @Service
 @Validated
 public class VoiceService {
-    private final VoiceRepository voiceRepository;
-    private final LanguageRepository languageRepository;
-    private final StyleRepository styleRepository;
-
-    public VoiceService(
-            VoiceRepository voiceRepository,
-            LanguageRepository languageRepository,
-            StyleRepository styleRepository
-    ) {
-        this.voiceRepository = voiceRepository;
-        this.languageRepository = languageRepository;
-        this.styleRepository = styleRepository;
+    private final VoiceCatalog voiceCatalog;
+
+    public VoiceService(VoiceCatalog voiceCatalog) {
+        this.voiceCatalog = voiceCatalog;
     }
 
     public VoiceListDto getVoiceList(@NotNull String languageCode, @NotNull String styleName) {
+        return getVoiceList(voiceCatalog.current(), languageCode, styleName);
+    }
+
+    // ETag 와 같은 스냅샷에서 조회할 때 사용
+    public VoiceListDto getVoiceList(@NotNull VoiceCatalog.Snapshot catalog,
+                                     @NotNull String languageCode, @NotNull String styleName) {
+        // 메모리에 보관 중인 카탈로그 스냅샷에서 조회 (DB 조회 없음)
         // 1. languageCode로 language 정보 조회
-        Language findLanguage = languageRepository.findByLangCode(languageCode)
+        Language findLanguage = catalog.language(languageCode)
                 .orElseThrow(() -> new EntityNotFoundException("유효하지 않는 언어 코드 입니다. languageCode:"+languageCode));
 
         // 2. styleName으로 style 정보 조회
-        Style findStyle = styleRepository.findByName(styleName)
+        Style findStyle = catalog.style(styleName)
                 .orElseThrow(() -> new EntityNotFoundException("유효하지 않는 스타일명 입니다. styleName:" + styleName));
 
         // 3. language, style 정보로 목소리 리스트 조회
-        List<Voice> findVoiceList = voiceRepository.findAllByLanguageAndStyleAndEnabled(findLanguage, findStyle, 'y');
+        List<Voice> findVoiceList = catalog.enabledVoices(findLanguage, findStyle);
 
         // 4. 조회 결과 응답 형태로 변환 후 반환
         return VoiceListDto.of(findVoiceList);
     }
+
+    // 현재 카탈로그 스냅샷, 응답의 ETag/Last-Modified 와 본문을 같은 스냅샷으로 만들 때 사용
+    public VoiceCatalog.Snapshot getCatalog() {
+        return voiceCatalog.current();
+    }
 }
@@ -0,0 +1,69 @@
+package com.oreo.finalproject_5re5_be.tts.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * @apiNote 초당 요청 수를 제한하는 토큰 버킷 입니다. <br>
+ * 토큰은 초당 {@code permitsPerSecond} 개씩 최대 {@code capacity} 개까지 쌓이며, 요청 하나에 토큰 하나를 사용합니다. <br>
+ * 토큰이 없으면 다음 토큰이 생길 시점을 미리 예약하고 그만큼 기다리므로, 동시에 요청해도 순서대로 일정한 간격을 유지합니다.
+ */
+public class TokenBucket {
+    private final double capacity;
+    private final double permitsPerNano;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    public TokenBucket(double permitsPerSecond, int capacity, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("초당 토큰 수는 0보다 크고 버킷 크기는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * @apiNote 토큰을 하나 사용합니다. 토큰이 없으면 생길 때까지 기다립니다.
+     * @throws InterruptedException 기다리는 중 인터럽트
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * @apiNote 토큰을 하나 예약하고 사용할 수 있을 때까지 기다려야 하는 시간을 반환합니다.
+     * @return 대기 시간(나노초), 바로 사용할 수 있으면 0
+     */
+    public synchronized long reserve() {
+        refill();
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+    }
+
+    /**
+     * @apiNote 토큰이 가득 찼는지 확인합니다. 가득 찬 버킷은 새로 만든 버킷과 같으므로 버려도 제한이 느슨해지지 않습니다.
+     * @return 토큰이 버킷 크기만큼 쌓였으면 true
+     */
+    public synchronized boolean isFull() {
+        refill();
+        return tokens >= capacity;
+    }
+
+    //지난 시간만큼 토큰 보충 (예약으로 음수가 된 토큰도 같은 방식으로 채워짐)
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+    }
+}
@@ -8,9 +8,11 @@ import com.oreo.finalproject_5re5_be.project.service.ProjectService;
 import com.oreo.finalproject_5re5_be.vc.dto.request.VcRowRequest;
 import com.oreo.finalproject_5re5_be.vc.dto.request.VcTextRequest;
 import com.oreo.finalproject_5re5_be.vc.dto.response.VcResponse;
+import com.oreo.finalproject_5re5_be.vc.dto.response.VcResultUpload;
 import com.oreo.finalproject_5re5_be.vc.service.VcApiService;
 import com.oreo.finalproject_5re5_be.vc.service.VcHistoryService;
 import com.oreo.finalproject_5re5_be.vc.service.VcService;
+import com.oreo.finalproject_5re5_be.vc.service.VcTrgVoiceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,7 +28,6 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
@@ -46,6 +47,7 @@ public class VcController {
     private VcApiService vcApiService;
     private VcHistoryService vcHistoryService;
     private ProjectService projectService;
+    private VcTrgVoiceService vcTrgVoiceService;
 
     @Autowired
     public VcController(VcService vcService,
@@ -53,13 +55,15 @@ public class VcController {
                         S3Service s3Service,
                         VcApiService vcApiService,
                         VcHistoryService vcHistoryService,
-                        ProjectService projectService) {
+                        ProjectService projectService,
+                        VcTrgVoiceService vcTrgVoiceService) {
         this.vcService = vcService;
         this.audioInfo = audioInfo;
         this.s3Service = s3Service;
         this.vcApiService = vcApiService;
         this.vcHistoryService = vcHistoryService;
         this.projectService = projectService;
+        this.vcTrgVoiceService = vcTrgVoiceService;
     }
 
     @Operation(
@@ -136,25 +140,27 @@ public class VcController {
             @RequestParam("trgSeq") @Valid Long trgSeq,
             HttpSession session) throws IOException {
         //회원의 정보인지 확인
-        vcService.srcCheck((Long) session.getAttribute("memberSeq"), srcSeq);
-        //결과 파일 생성(VC API)
-        List<MultipartFile> resultFile = vcApiService.resultFileCreate(
-                vcService.getSrcFile(srcSeq),//srcFile
-                "cF93iu2tCjN27q5YbEHg");//trgId
+        Long memberSeq = (Long) session.getAttribute("memberSeq");
+        vcService.srcCheck(memberSeq, srcSeq);
+        //TRG 도 회원의 파일이고 SRC 와 같은 프로젝트인지 확인
+        vcService.trgCheck(memberSeq, trgSeq, srcSeq);
+        //결과 파일 생성(VC API), 응답을 받는 대로 S3에 업로드하고 크기와 길이를 함께 받음
+        //trgId 는 TRG 파일로 등록해 둔 voice_id 를 사용 (없거나 만료되면 등록)
+        List<MultipartFile> srcFile = vcService.getSrcFile(srcSeq);
+        List<VcResultUpload> resultFile = vcTrgVoiceService.withVoiceId(trgSeq,
+                trgId -> vcApiService.resultFileCreate(srcFile, trgId, "vc/result"));
 //        List<MultipartFile> resultFile = new ArrayList<>();
 //        MultipartFile file = AudioFileTypeConverter.convertFileToMultipartFile(new File("ttsoutput.mp3"));
 //        resultFile.add(file);//API가 사용되지 않게 test로 반환
         log.info("[VcController] resultSave  resultFile: {} ", resultFile);
 
-        //SRC 파일 삭제(spring 서버에서 삭제)
-        s3Service.deleteFolder(new File("file"));
         //응답 생성
         return ResponseEntity.ok()
                 .body(new ResponseDto<>(HttpStatus.OK.value(),
                         mapCreate(vcService.resultSave(
                                         vcService.audioRequestBuilder(vcService.vcSrcUrlRequests(srcSeq),
-                                                audioInfo.extractAudioFileInfo(resultFile),
-                                                s3Service.upload(resultFile, "vc/result"))),
+                                                resultFile.stream().map(VcResultUpload::getAudioFileInfo).toList(),
+                                                resultFile.stream().map(VcResultUpload::getFileUrl).toList())),
                                 "result 파일 저장이 완료되었습니다.")));
     }
 
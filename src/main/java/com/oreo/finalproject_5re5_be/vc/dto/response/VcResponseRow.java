@@ -0,0 +1,26 @@
+package com.oreo.finalproject_5re5_be.vc.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * @apiNote VC 탭 조회용 읽기 모델 입니다. <br>
+ * {@link com.oreo.finalproject_5re5_be.vc.repository.VcSrcFileRepository#findVcResponseRows(Long)} 의
+ * 생성자 표현식(SELECT new)으로 만들어지며, SRC 한 행과 그 SRC 의 최근 Result, 최근 텍스트를 담습니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class VcResponseRow {
+    private Long srcSeq;
+    private Integer rowOrder;
+    private String srcName;
+    private String srcFileUrl;
+    private Character activate;
+    private Long resSeq;         // Result 가 없으면 null
+    private String resName;
+    private String resFileUrl;
+    private Long vtSeq;          // 텍스트가 없으면 null
+    private String comment;
+}
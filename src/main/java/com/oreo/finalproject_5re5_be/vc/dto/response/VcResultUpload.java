@@ -0,0 +1,17 @@
+package com.oreo.finalproject_5re5_be.vc.dto.response;
+
+import com.oreo.finalproject_5re5_be.global.dto.response.AudioFileInfo;
+import lombok.*;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class VcResultUpload {
+    //VC API 응답을 S3에 바로 올린 결과, 업로드하면서 구한 파일 정보
+    private String fileUrl;
+    private AudioFileInfo audioFileInfo;
+
+    public static VcResultUpload of(String fileUrl, AudioFileInfo audioFileInfo) {
+        return new VcResultUpload(fileUrl, audioFileInfo);
+    }
+}
@@ -0,0 +1,46 @@
+package com.oreo.finalproject_5re5_be.vc.entity;
+
+import com.oreo.finalproject_5re5_be.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * TRG 파일로 VC API 에 등록한 voice_id (TRG 파일마다 하나)
+ * 같은 TRG 파일로 다시 변환할 때 타겟 음성을 다시 업로드하지 않고 사용한다.
+ */
+@Entity
+@Table(name = "vc_trg_voice")
+@Getter
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(callSuper = false)
+public class VcTrgVoice extends BaseEntity {
+    @Id
+    @Column(name = "trg_seq")
+    private Long trgSeq;
+    @Column(nullable = false, name = "file_url")
+    private String fileUrl;//등록할 때의 TRG 파일 URL (파일이 바뀌면 다시 등록)
+    @Column(nullable = false, name = "voice_id")
+    private String voiceId;
+    @Column(nullable = false, name = "expire_date")
+    private LocalDateTime expireDate;
+
+    public static VcTrgVoice create(Long trgSeq, String fileUrl,
+                                    String voiceId, LocalDateTime expireDate){
+        return VcTrgVoice.builder()
+                .trgSeq(trgSeq)
+                .fileUrl(fileUrl)
+                .voiceId(voiceId)
+                .expireDate(expireDate)
+                .build();
+    }
+
+    //같은 파일로 등록했고 아직 만료되지 않았는지
+    public boolean isUsableFor(String fileUrl, LocalDateTime now) {
+        return this.fileUrl.equals(fileUrl) && now.isBefore(expireDate);
+    }
+}
@@ -0,0 +1,31 @@
+package com.oreo.finalproject_5re5_be.vc.exception;
+
+/**
+ * VC API 가 400 이상으로 응답한 경우 (상태 코드와 응답 본문 보관)
+ */
+public class VcApiStatusException extends IllegalArgumentException {
+    private static final String VOICE_NOT_FOUND = "voice_not_found"; // VC API 오류 본문의 상태 값
+
+    private final int statusCode;
+    private final String responseBody;
+
+    public VcApiStatusException(int statusCode, String responseBody) {
+        super("Request failed with status code: " + statusCode);
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    //voice_id 가 VC API 에서 지워졌거나 잘못된 경우 (404, 또는 4xx 본문에 voice_not_found)
+    public boolean isVoiceNotFound() {
+        return statusCode == 404
+                || (statusCode / 100 == 4 && responseBody != null && responseBody.contains(VOICE_NOT_FOUND));
+    }
+}
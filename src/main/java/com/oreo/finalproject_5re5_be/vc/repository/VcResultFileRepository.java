@@ -7,5 +7,4 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface VcResultFileRepository extends JpaRepository<VcResultFile, Long> {
-    VcResultFile findFirstBySrcSeq_SrcSeqOrderBySrcSeqDesc(Long srcSeq);
 }
@@ -1,7 +1,10 @@
 package com.oreo.finalproject_5re5_be.vc.repository;
 
+import com.oreo.finalproject_5re5_be.vc.dto.response.VcResponseRow;
 import com.oreo.finalproject_5re5_be.vc.entity.VcSrcFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,16 @@ public interface VcSrcFileRepository extends JpaRepository<VcSrcFile, Long> {
     List<VcSrcFile> findByVcProjectSeq(Long proSeq);
     Integer countByVc_ProjectSeq(Long projectSeq);
     boolean existsById(Long id);
-}
\ No newline at end of file
+    // VC 탭 조회 (SRC 와 SRC 별 최근 Result, 최근 텍스트를 한 번의 쿼리로 조회, 행 수와 관계없이 쿼리 1번)
+    @Query( "SELECT new com.oreo.finalproject_5re5_be.vc.dto.response.VcResponseRow(" +
+            "s.srcSeq, s.rowOrder, s.fileName, s.fileUrl, s.activate, " +
+            "r.resSeq, r.fileName, r.fileUrl, t.vtSeq, t.comment) " +
+            "FROM VcSrcFile s " +
+            "LEFT JOIN VcResultFile r ON r.srcSeq = s " +
+            "AND r.resSeq = (SELECT MAX(latestRes.resSeq) FROM VcResultFile latestRes WHERE latestRes.srcSeq = s) " +
+            "LEFT JOIN VcText t ON t.srcSeq = s " +
+            "AND t.vtSeq = (SELECT MAX(latestText.vtSeq) FROM VcText latestText WHERE latestText.srcSeq = s) " +
+            "WHERE s.vc.projectSeq = :projectSeq " +
+            "ORDER BY s.rowOrder, s.srcSeq")
+    List<VcResponseRow> findVcResponseRows(@Param("projectSeq") Long projectSeq);
+}
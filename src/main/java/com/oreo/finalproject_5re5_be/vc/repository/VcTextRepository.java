@@ -7,5 +7,4 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface VcTextRepository extends JpaRepository<VcText, Long> {
-    VcText findFirstBySrcSeq_SrcSeqOrderBySrcSeqDesc(Long seq);
 }
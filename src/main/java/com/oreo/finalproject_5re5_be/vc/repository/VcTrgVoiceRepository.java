@@ -0,0 +1,10 @@
+package com.oreo.finalproject_5re5_be.vc.repository;
+
+
+import com.oreo.finalproject_5re5_be.vc.entity.VcTrgVoice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VcTrgVoiceRepository extends JpaRepository<VcTrgVoice, Long> {
+}
@@ -0,0 +1,124 @@
+package com.oreo.finalproject_5re5_be.vc.service;
+
+import com.oreo.finalproject_5re5_be.vc.exception.VcApiStatusException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * @apiNote 응답 본문을 메모리에 모으지 않고 스트림으로 넘겨 처리(업로드)하는 응답 소비자 입니다. <br>
+ * I/O 스레드는 받은 데이터를 공유 버퍼에 넣기만 하고, {@code executor} 스레드가 버퍼를 스트림으로 읽어 {@link BodyHandler} 를 실행합니다.
+ * 버퍼가 차면 더 받지 않으므로(흐름 제어) 메모리는 응답 크기와 상관없이 버퍼 크기로 제한됩니다. <br>
+ * 400 이상 응답은 본문을 로그로 남기고 예외로 완료하며, 요청이 취소되거나 응답이 중간에 끊기면 스트림 읽기가 예외로 끝납니다.
+ */
+@Slf4j
+class StreamingUploadResponseConsumer<T> implements AsyncResponseConsumer<T> {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Executor executor;
+    private final BodyHandler<T> bodyHandler;
+    private final SharedInputBuffer buffer = new SharedInputBuffer(BUFFER_SIZE);
+    private volatile boolean streamEnded;
+    private volatile boolean aborted;
+
+    @FunctionalInterface
+    interface BodyHandler<T> {
+        T handle(InputStream body) throws IOException;
+    }
+
+    StreamingUploadResponseConsumer(Executor executor, BodyHandler<T> bodyHandler) {
+        this.executor = executor;
+        this.bodyHandler = bodyHandler;
+    }
+
+    @Override
+    public void consumeResponse(HttpResponse response, EntityDetails entityDetails, HttpContext context,
+                                FutureCallback<T> resultCallback) {
+        int code = response.getCode();
+        if (entityDetails == null) {
+            resultCallback.failed(code >= 400
+                    ? new VcApiStatusException(code, null) : new IllegalArgumentException("Response body is empty"));
+            return;
+        }
+        executor.execute(() -> {
+            try (InputStream body = new BodyInputStream()) {
+                if (code >= 400) {
+                    String errorBody = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+                    log.error("Request failed with status code {}: {}", code, errorBody);
+                    throw new VcApiStatusException(code, errorBody);
+                }
+                resultCallback.completed(bodyHandler.handle(body));
+            } catch (Exception e) {
+                buffer.abort(); // 더 받지 않음
+                resultCallback.failed(e);
+            }
+        });
+    }
+
+    @Override
+    public void informationResponse(HttpResponse response, HttpContext context) {
+    }
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+        buffer.updateCapacity(capacityChannel);
+    }
+
+    @Override
+    public void consume(ByteBuffer src) throws IOException {
+        buffer.fill(src);
+    }
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers) {
+        streamEnded = true;
+        buffer.markEndStream();
+    }
+
+    @Override
+    public void failed(Exception cause) {
+        aborted = true;
+        buffer.abort(); // 읽고 있는 스레드를 깨움
+    }
+
+    @Override
+    public void releaseResources() {
+        // 응답이 끝난 뒤에도 버퍼에 남은 데이터는 업로드 스레드가 마저 읽음
+    }
+
+    //공유 버퍼를 읽는 스트림, 버퍼가 닫혀도 끝(-1)으로 읽히므로 응답이 실제로 끝났는지 확인
+    private class BodyInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            return checkEnd(buffer.read());
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            return checkEnd(buffer.read(b, off, len));
+        }
+
+        private int checkEnd(int result) throws IOException {
+            if (result == -1 && (!streamEnded || aborted)) {
+                throw new IOException("Response stream was aborted");
+            }
+            return result;
+        }
+    }
+}
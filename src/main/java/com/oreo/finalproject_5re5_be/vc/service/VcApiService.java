@@ -1,5 +1,6 @@
 package com.oreo.finalproject_5re5_be.vc.service;
 
+import com.oreo.finalproject_5re5_be.vc.dto.response.VcResultUpload;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -7,9 +8,9 @@ import java.util.List;
 public interface VcApiService {
     /**
      * 1. TRG ID 값 생성 및 추출
-     * 2. File + TRG ID = Result File 추출
+     * 2. File + TRG ID = Result File 을 S3(dirName)에 바로 업로드
      */
     String trgIdCreate(MultipartFile file);
-    MultipartFile resultFileCreate(MultipartFile file, String trgId);
-    List<MultipartFile> resultFileCreate(List<MultipartFile> files, String trgId);
+    VcResultUpload resultFileCreate(MultipartFile file, String trgId, String dirName);
+    List<VcResultUpload> resultFileCreate(List<MultipartFile> files, String trgId, String dirName);
 }
@@ -1,39 +1,98 @@
 package com.oreo.finalproject_5re5_be.vc.service;
 
-import com.oreo.finalproject_5re5_be.global.component.audio.AudioFileTypeConverter;
+import com.oreo.finalproject_5re5_be.global.component.AudioInfo;
+import com.oreo.finalproject_5re5_be.global.component.AudioMeteringInputStream;
+import com.oreo.finalproject_5re5_be.global.component.S3Service;
+import com.oreo.finalproject_5re5_be.global.dto.response.AudioFileInfo;
+import com.oreo.finalproject_5re5_be.vc.dto.response.VcResultUpload;
 import com.oreo.finalproject_5re5_be.vc.exception.VcAPIFilesIsEmptyException;
-import lombok.RequiredArgsConstructor;
+import com.oreo.finalproject_5re5_be.vc.exception.VcApiStatusException;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.message.BasicNameValuePair;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityProducer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * @apiNote VC API 호출 서비스 입니다. <br>
+ * 공유하는 연결 풀 기반 비동기 HTTP 클라이언트({@code vcHttpClient})로 요청하며,
+ * 여러 소스 파일의 결과 파일은 동시에 요청한 뒤 입력 순서대로 모읍니다. <br>
+ * 결과 파일은 메모리에 모으지 않고 응답을 받는 대로 S3에 업로드하며, 업로드하면서 크기와 길이를 함께 구합니다.
+ * ({@code vc.result.upload-parallelism} 개의 업로드 스레드 사용) <br>
+ * 요청 본문(multipart)도 미리 만들어 두지 않고, 요청을 보낼 때 소스 파일(S3)을 스트림으로 읽어 바로 씁니다.
+ * ({@code vc.source.stream-parallelism} 개의 스레드 사용)
+ */
 @Service
 @Slf4j
 @Transactional
-@RequiredArgsConstructor
 public class VcApiServiceImpl implements VcApiService{
-    @Value("${VC_URL}")
-    private String vcUrl;//VC API 제공 해주는 곳
-    @Value("${VC_APIKEY}")
-    private String vcApiKey;//키 값
+    private final CloseableHttpAsyncClient vcHttpClient;
+    private final String vcUrl;//VC API 제공 해주는 곳
+    private final String vcApiKey;//키 값
+    private final S3Service s3Service;
+    private final AudioInfo audioInfo;
+    private final Executor uploadExecutor;//응답 스트림을 읽어 S3에 올리는 스레드
+    private final Executor requestBodyExecutor;//소스 파일을 읽어 요청 본문을 쓰는 스레드
 
     private static final String REMOVE_BACKGROUND_NOISE = "remove_background_noise"; // 백그라운드 노이즈 제거 설정 키
     private static final String RESPONSE_FILENAME = "response.wav"; // 응답 파일 이름
     private static final String RESPONSE_CONTENT_TYPE = "audio/wav"; // 응답 파일 MIME 타입
+    private static final int REQUEST_BUFFER_SIZE = 64 * 1024; // 요청 본문 버퍼 크기
+
+    @Autowired
+    public VcApiServiceImpl(CloseableHttpAsyncClient vcHttpClient,
+                            @Value("${VC_URL}") String vcUrl,
+                            @Value("${VC_APIKEY}") String vcApiKey,
+                            S3Service s3Service,
+                            AudioInfo audioInfo,
+                            @Value("${vc.result.upload-parallelism:10}") int uploadParallelism,
+                            @Value("${vc.source.stream-parallelism:10}") int sourceStreamParallelism) {
+        this(vcHttpClient, vcUrl, vcApiKey, s3Service, audioInfo,
+                Executors.newFixedThreadPool(uploadParallelism, new CustomizableThreadFactory("vc-result-upload-")),
+                Executors.newFixedThreadPool(sourceStreamParallelism, new CustomizableThreadFactory("vc-source-stream-")));
+    }
+
+    VcApiServiceImpl(CloseableHttpAsyncClient vcHttpClient, String vcUrl, String vcApiKey,
+                     S3Service s3Service, AudioInfo audioInfo, Executor uploadExecutor, Executor requestBodyExecutor) {
+        this.vcHttpClient = vcHttpClient;
+        this.vcUrl = vcUrl;
+        this.vcApiKey = vcApiKey;
+        this.s3Service = s3Service;
+        this.audioInfo = audioInfo;
+        this.uploadExecutor = uploadExecutor;
+        this.requestBodyExecutor = requestBodyExecutor;
+    }
 
     /**
      * trgID 생성
@@ -43,15 +102,13 @@ public class VcApiServiceImpl implements VcApiService{
     @Override
     public String trgIdCreate(MultipartFile file) {
         String url = vcUrl + "/voices/add";
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            HttpPost post = createHttpPost(url);
-            MultipartEntityBuilder builder = MultipartEntityBuilder.create()
+        try {
+            MultipartBody body = builder -> builder
                     .addTextBody("name", "5re5PARKTRG", ContentType.TEXT_PLAIN) // 요청 이름 설정
-                    .addBinaryBody("files", file.getInputStream(), ContentType.create(file.getContentType()), file.getOriginalFilename()) // 파일 데이터 추가
+                    .addBinaryBody("files", file.getInputStream(), contentTypeOf(file), file.getOriginalFilename()) // 파일 데이터 추가
                     .addTextBody(REMOVE_BACKGROUND_NOISE, "true", ContentType.TEXT_PLAIN); // 노이즈 제거 옵션 설정
 
-            post.setEntity(builder.build());
-            String responseBody = executeRequest(httpClient, post);// API 요청 실행
+            String responseBody = execute(createHttpPost(url, body)).join().getBodyText();// API 요청 실행
             //trgID 추출
             String trgId = extractValue(responseBody, "voice_id");
             if (trgId == null) {
@@ -61,79 +118,162 @@ public class VcApiServiceImpl implements VcApiService{
             return trgId;
         } catch (Exception e) {
             log.error("Error occurred while creating trgId: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to create trgId", e);
+            throw new RuntimeException("Failed to create trgId", unwrap(e));
         }
     }
 
     /**
-     * 단일 resultFile 생성
+     * 단일 resultFile 생성 후 S3 업로드
      * @param file
      * @param trgId
-     * @return MultipartFile
+     * @param dirName
+     * @return VcResultUpload
      */
     @Override
-    public MultipartFile resultFileCreate(MultipartFile file, String trgId) {
-        return createResultFile(file, trgId);
+    public VcResultUpload resultFileCreate(MultipartFile file, String trgId, String dirName) {
+        return resultFileCreate(List.of(file), trgId, dirName).get(0);
     }
 
     /**
-     * resultFile 여러개 생성
+     * resultFile 여러개 생성 후 S3 업로드, 모든 파일을 동시에 요청하고 입력 순서대로 반환
      * @param files
      * @param trgId
+     * @param dirName
      * @return
      */
     @Override
-    public List<MultipartFile> resultFileCreate(List<MultipartFile> files, String trgId) {
-        List<MultipartFile> resultFiles = new ArrayList<>();
+    public List<VcResultUpload> resultFileCreate(List<MultipartFile> files, String trgId, String dirName) {
         for (MultipartFile file : files) {
             if (file.isEmpty()) {
                 throw new VcAPIFilesIsEmptyException("File is empty");
             }
-            resultFiles.add(createResultFile(file, trgId));
         }
-        return resultFiles;
-    }
-    //결과 파일 생성 api 요청
-    private MultipartFile createResultFile(MultipartFile file, String trgId) {
-        String url = vcUrl + "/speech-to-speech/" + trgId + "?output_format=mp3_44100_192";
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            HttpPost post = createHttpPost(url);
-            MultipartEntityBuilder builder = MultipartEntityBuilder.create()
-                    .addBinaryBody("audio", file.getInputStream(),
-                            ContentType.create(file.getContentType()),
-                            file.getOriginalFilename()) // 파일 데이터 추가
-                    .addTextBody(REMOVE_BACKGROUND_NOISE, "true", ContentType.TEXT_PLAIN); // 노이즈 제거 옵션 설정
+        List<CompletableFuture<VcResultUpload>> futures = files.stream()
+                .map(file -> createResultFile(file, trgId, dirName))
+                .toList();
 
-            post.setEntity(builder.build());
-            try (CloseableHttpResponse response = httpClient.execute(post)) {
-                InputStream inputStream = response.getEntity().getContent();// 응답 데이터
-                // InputStream을 MultipartFile로 변환
-                return convertInputStreamToMultipartFile(inputStream, RESPONSE_FILENAME, RESPONSE_CONTENT_TYPE);
+        List<VcResultUpload> resultFiles = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<VcResultUpload> future : futures) {
+                resultFiles.add(future.join());
             }
-        } catch (Exception e) {
+        } catch (CompletionException e) {
+            // 하나라도 실패하면 남은 요청은 취소
+            futures.forEach(future -> future.cancel(true));
             log.error("Error occurred while creating result file: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to create result file", e);
+            throw new RuntimeException("Failed to create result file", unwrap(e));
         }
+        return resultFiles;
+    }
+
+    //결과 파일 생성 api 요청, 응답은 받는 대로 S3에 업로드
+    private CompletableFuture<VcResultUpload> createResultFile(MultipartFile file, String trgId, String dirName) {
+        String url = vcUrl + "/speech-to-speech/" + trgId + "?output_format=mp3_44100_192";
+        MultipartBody body = builder -> builder
+                .addBinaryBody("audio", file.getInputStream(),
+                        contentTypeOf(file),
+                        file.getOriginalFilename()) // 파일 데이터 추가
+                .addTextBody(REMOVE_BACKGROUND_NOISE, "true", ContentType.TEXT_PLAIN); // 노이즈 제거 옵션 설정
+        return execute(createHttpPost(url, body),
+                new StreamingUploadResponseConsumer<VcResultUpload>(uploadExecutor, body -> uploadResultFile(body, dirName)));
+    }
+
+    //응답 스트림을 S3에 업로드하면서 크기와 헤더를 모으고, 업로드를 마치기 전에 파일 정보 확인
+    private VcResultUpload uploadResultFile(InputStream body, String dirName) throws IOException {
+        AudioMeteringInputStream meteredBody = new AudioMeteringInputStream(body);
+        AtomicReference<AudioFileInfo> audioFileInfo = new AtomicReference<>();
+        String fileUrl = s3Service.upload(meteredBody, dirName, RESPONSE_FILENAME, RESPONSE_CONTENT_TYPE,
+                () -> audioFileInfo.set(audioInfo.extractAudioFileInfo(RESPONSE_FILENAME,
+                        meteredBody.size(), meteredBody.header())));
+        return VcResultUpload.of(fileUrl, audioFileInfo.get());
+    }
+
+    //multipart 본문에 들어갈 파트, 파일 스트림은 요청 본문을 쓰기 시작할 때 열림
+    @FunctionalInterface
+    private interface MultipartBody {
+        void addParts(MultipartEntityBuilder builder) throws IOException;
+    }
+
+    //HttpPost 요청 생성, multipart 본문은 연결을 받아 보낼 때 만들어서 바로 씀 (chunked)
+    private AsyncRequestProducer createHttpPost(String url, MultipartBody body) {
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        ContentType contentType = ContentType.create(ContentType.MULTIPART_FORM_DATA.getMimeType(),
+                new BasicNameValuePair("boundary", boundary));
+        BasicHttpRequest request = new BasicHttpRequest(Method.POST, URI.create(url));
+        request.setHeader("xi-api-key", vcApiKey);
+        return new BasicRequestProducer(request,
+                new AbstractClassicEntityProducer(REQUEST_BUFFER_SIZE, contentType, requestBodyExecutor) {
+                    @Override
+                    protected void produceData(ContentType contentType, OutputStream outputStream) throws IOException {
+                        MultipartEntityBuilder builder = MultipartEntityBuilder.create().setBoundary(boundary);
+                        body.addParts(builder);
+                        builder.build().writeTo(outputStream);
+                    }
+                });
     }
 
-    //HttpPost 객체 생성
-    private HttpPost createHttpPost(String url) {
-        HttpPost post = new HttpPost(url);
-        post.setHeader("xi-api-key", vcApiKey);
-        return post;
+    //파일 MIME 타입, 모르면 octet-stream
+    private static ContentType contentTypeOf(MultipartFile file) {
+        return file.getContentType() != null
+                ? ContentType.create(file.getContentType())
+                : ContentType.APPLICATION_OCTET_STREAM;
     }
-    //API 요청 실행
-    private String executeRequest(CloseableHttpClient httpClient, HttpPost post) throws Exception {
-        try (CloseableHttpResponse response = httpClient.execute(post)) {
-            int statusCode = response.getStatusLine().getStatusCode();
-            String responseBody = new String(response.getEntity().getContent().readAllBytes()); // 응답
-            if (statusCode >= 400) {
-                log.error("Request failed with status code {}: {}", statusCode, responseBody);
-                throw new IllegalArgumentException("Request failed with status code: " + statusCode);
+
+    //API 요청 실행 (응답 전체를 메모리로 받음), 400 이상 응답은 예외로 완료
+    private CompletableFuture<SimpleHttpResponse> execute(AsyncRequestProducer request) {
+        return execute(request, SimpleResponseConsumer.create()).thenApply(response -> {
+            if (response.getCode() >= 400) {
+                log.error("Request failed with status code {}: {}", response.getCode(), response.getBodyText());
+                throw new VcApiStatusException(response.getCode(), response.getBodyText());
             }
-            return responseBody;
+            return response;
+        });
+    }
+
+    //API 요청 실행, 응답은 responseConsumer 가 처리
+    private <T> CompletableFuture<T> execute(AsyncRequestProducer request, AsyncResponseConsumer<T> responseConsumer) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Future<T> exchange = vcHttpClient.execute(request, responseConsumer,
+                new FutureCallback<>() {
+                    @Override
+                    public void completed(T result) {
+                        future.complete(result);
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        future.completeExceptionally(e);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        future.cancel(false);
+                    }
+                });
+        // 호출한 쪽에서 취소하면 진행 중인 요청도 중단
+        future.whenComplete((response, e) -> {
+            if (future.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (uploadExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
         }
+        if (requestBodyExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    //CompletableFuture 에서 감싼 원인 예외 꺼내기
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
+
     //JSON 데이터에서 특정 키의 값을 추출
     private static String extractValue(String json, String key) {
         String keyPattern = "\"" + key + "\":\"";
@@ -144,19 +284,4 @@ public class VcApiServiceImpl implements VcApiService{
         }
         return json.substring(startIndex, endIndex);
     }
-
-    // InputStream -> MultipartFile로 변환
-    private static MultipartFile convertInputStreamToMultipartFile(InputStream inputStream, String filename, String contentType) {
-        try (ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
-            byte[] data = new byte[1024];
-            int bytesRead;
-            while ((bytesRead = inputStream.read(data)) != -1) {
-                buffer.write(data, 0, bytesRead);
-            }
-            return new MockMultipartFile("file", filename, contentType, buffer.toByteArray());
-        } catch (Exception e) {
-            log.error("Error occurred while converting InputStream to MultipartFile: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to convert InputStream to MultipartFile", e);
-        }
-    }
 }
@@ -79,5 +79,7 @@ public interface VcService {
     boolean srcCheck(Long memberSeq, Long srcSeq);
     boolean srcCheck(Long memberSeq, List<Long> srcSeq);
     boolean resCheck(Long memberSeq, Long resSeq);
+    boolean trgCheck(Long memberSeq, Long trgSeq);
+    boolean trgCheck(Long memberSeq, Long trgSeq, List<Long> srcSeq);
     boolean textCheck(Long memberSeq, Long textSeq);
 }
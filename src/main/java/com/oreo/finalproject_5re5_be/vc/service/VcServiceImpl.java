@@ -1,7 +1,6 @@
 package com.oreo.finalproject_5re5_be.vc.service;
 
 import com.oreo.finalproject_5re5_be.global.component.S3Service;
-import com.oreo.finalproject_5re5_be.global.component.audio.AudioFileTypeConverter;
 import com.oreo.finalproject_5re5_be.global.dto.response.AudioFileInfo;
 import com.oreo.finalproject_5re5_be.project.entity.Project;
 import com.oreo.finalproject_5re5_be.project.repository.ProjectRepository;
@@ -21,9 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -196,33 +193,14 @@ public class VcServiceImpl implements VcService{
      * @return List<VcResponse>
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<VcResponse> getVcResponse(@Valid @NotNull Long projectSeq) {
-        // 프로젝트 seq 조회한 값
-        List<VcSrcFile> vcSrcFileList = vcSrcFileRepository.findByVcProjectSeq(projectSeq);
-        log.info("[vcService] getVcResponse vcSrcFileList 확인 : {} ", vcSrcFileList);
-
-        // 데이터가 많을수 있으므로 병렬 처리로 변경
-        return vcSrcFileList.parallelStream()
-                .sorted(Comparator.comparing(VcSrcFile::getRowOrder)) //
-                .map(vcSrcFile -> {
-                    // src 요청 값 입력
-                    VcSrcsRequest srcAudio = VcSrcsRequest.builder()
-                            .seq(vcSrcFile.getSrcSeq())
-                            .rowOrder(vcSrcFile.getRowOrder())
-                            .name(vcSrcFile.getFileName())
-                            .fileUrl(vcSrcFile.getFileUrl())
-                            .build();
-                    log.info("[vcService] getVcResponse srcAudio 확인 : {} ", srcAudio);
-                    // SRC 로 제일 최근에 저장한 Result 조회, 값이 없을 경우 null 처리
-                    VcResultsRequest resultAudio = vcSrcFileCreate(vcSrcFile);
-                    log.info("[vcService] getVcResponse resultAudio 확인 : {} ", resultAudio);
-                    // 제일 최근에 저장한 텍스트 조회, 값이 없을 경우 null 처리
-                    VcTextRequest text = textCreate(vcSrcFile);
-                    log.info("[vcService] getVcResponse text 확인 : {} ", text);
-                    // VcResponse 객체 생성 후 반환
-                    return new VcResponse(vcSrcFile.getActivate(), srcAudio, resultAudio, text);
-                })
+        // SRC 와 SRC 별 최근 Result, 최근 텍스트를 한 번에 조회 (행 수와 관계없이 쿼리 1번, rowOrder 순서)
+        List<VcResponseRow> rows = vcSrcFileRepository.findVcResponseRows(projectSeq);
+        log.info("[vcService] getVcResponse rows 확인 : {} ", rows.size());
+
+        return rows.stream()
+                .map(this::vcResponseCreate)
                 .collect(Collectors.toList());
     }
 
@@ -456,11 +434,8 @@ public class VcServiceImpl implements VcService{
     @Override
     public MultipartFile getTrgFile(Long trgSeq) throws IOException {
         try{
-            MultipartFile multipartFile = AudioFileTypeConverter
-                    .convertFileToMultipartFile(
-                            s3Service.downloadFile(
-                                    "vc/trg/" + extractFileName(
-                                            vcTrgUrlRequest(trgSeq).getUrl())));
+            //로컬에 내려받지 않고 S3에서 스트림으로 읽음
+            MultipartFile multipartFile = s3Service.openFile(vcTrgUrlRequest(trgSeq).getUrl());
             log.info("[vcService] getTrgFile multipartFile 확인 : {} ", multipartFile);
             return multipartFile ;
         }catch (Exception e) {
@@ -474,13 +449,11 @@ public class VcServiceImpl implements VcService{
         log.info("[vcService] getSrcUrl vcSrcUrlRequests 확인 : {} ", vcSrcUrlRequests);
         List<MultipartFile> collect = vcSrcUrlRequests.stream()
                 .map(vcSrcUrlRequest -> {
-                    String srcFileName = extractFileName(vcSrcUrlRequest.getUrl());
-                    File srcFile = null;
+                    //로컬에 내려받지 않고, VC API 요청 본문을 만들 때 S3에서 스트림으로 읽음
                     try {
-                        srcFile = s3Service.downloadFile("vc/src/" + srcFileName);
-                        return AudioFileTypeConverter.convertFileToMultipartFile(srcFile);
-                    } catch (IOException e) {
-                        throw new RuntimeException("SRC File 오류");
+                        return s3Service.openFile(vcSrcUrlRequest.getUrl());
+                    } catch (RuntimeException e) {
+                        throw new RuntimeException("SRC File 오류", e);
                     }
                 })
                 .collect(Collectors.toList());
@@ -542,6 +515,44 @@ public class VcServiceImpl implements VcService{
         throw new VcNotMemberException();
     }
 
+    /**
+     * trgSeq를 가지고 회원확인
+     * @param memberSeq
+     * @param trgSeq
+     * @return
+     */
+    @Override
+    public boolean trgCheck(Long memberSeq, Long trgSeq) {
+        //TRG 찾기
+        VcTrgFile vcTrgFile = vcTrgFileFind(trgSeq);
+        //TRG 프로젝트에서 회원정보로 회원확인
+        if(projectService.projectCheck(memberSeq, vcTrgFile.getVc().getProSeq().getProSeq())){
+            return true;
+        }
+        throw new VcNotMemberException();
+    }
+
+    /**
+     * trgSeq를 가지고 회원확인, SRC 와 같은 프로젝트의 TRG 인지도 확인
+     * @param memberSeq
+     * @param trgSeq
+     * @param srcSeq
+     * @return
+     */
+    @Override
+    public boolean trgCheck(Long memberSeq, Long trgSeq, List<Long> srcSeq) {
+        //위에 단일로 회원 비교
+        trgCheck(memberSeq, trgSeq);
+        //SRC 프로젝트와 TRG 프로젝트 비교
+        Long trgProSeq = vcTrgFileFind(trgSeq).getVc().getProSeq().getProSeq();
+        for (Long src : srcSeq) {
+            if (!vcSrcFileFind(src).getVc().getProSeq().getProSeq().equals(trgProSeq)) {
+                throw new VcNotMemberException("SRC 와 같은 프로젝트의 TRG 파일이 아닙니다.");
+            }
+        }
+        return true;
+    }
+
     /**
      * textSeq를 가지고 회원확인
      * @param memberSeq
@@ -575,6 +586,11 @@ public class VcServiceImpl implements VcService{
                                 .build())))
                 .orElseThrow(() -> new IllegalArgumentException("Project not found"));
     }
+    //VcTrgFile 찾는 메서드
+    private VcTrgFile vcTrgFileFind(Long seq){
+        return vcTrgFileRepository.findById(seq)
+                .orElseThrow(() -> new IllegalArgumentException("Trg file not found"));
+    }
     //VcResultFile 찾는 메서드
     private VcResultFile vcResultFind(Long seq){
         return vcResultFileRepository.findById(seq)
@@ -585,29 +601,22 @@ public class VcServiceImpl implements VcService{
         return vcTextRepository.findById(seq)
                 .orElseThrow(() -> new IllegalArgumentException("Text not found"));
     }
-    private VcResultsRequest vcSrcFileCreate(VcSrcFile vcSrcFile){
-        // SRC 로 제일 최근에 저장한 Result 조회, 값이 없을 경우 null 처리
-        VcResultFile vcResultFile =
-                vcResultFileRepository.findFirstBySrcSeq_SrcSeqOrderBySrcSeqDesc(vcSrcFile.getSrcSeq());
-        log.info("[vcService] getVcResponse vcResultFile 확인 : {} ", vcResultFile);
-        return Optional.ofNullable(vcResultFile)
-                .map(file -> VcResultsRequest.builder()
-                        .seq(file.getResSeq())
-                        .name(file.getFileName())
-                        .fileUrl(file.getFileUrl())
-                        .build())
-                .orElse(null);
-    }
-    private VcTextRequest textCreate(VcSrcFile vcSrcFile){
-        // 제일 최근에 저장한 텍스트 조회, 값이 없을 경우 null 처리
-        VcText vcText =
-                vcTextRepository.findFirstBySrcSeq_SrcSeqOrderBySrcSeqDesc(vcSrcFile.getSrcSeq());
-        log.info("[vcService] getVcResponse vcText 확인 : {} ", vcText);
-        return Optional.ofNullable(vcText)
-                .map(t -> VcTextRequest.of(t.getVtSeq(), t.getComment()))
-                .orElse(null);
-    }
-    private static String extractFileName(String url) {
-        return url.substring(url.lastIndexOf("/") + 1);
+    private VcResponse vcResponseCreate(VcResponseRow row){
+        // src 요청 값 입력
+        VcSrcsRequest srcAudio = VcSrcsRequest.builder()
+                .seq(row.getSrcSeq())
+                .rowOrder(row.getRowOrder())
+                .name(row.getSrcName())
+                .fileUrl(row.getSrcFileUrl())
+                .build();
+        // SRC 로 제일 최근에 저장한 Result, 값이 없을 경우 null 처리
+        VcResultsRequest resultAudio = row.getResSeq() == null ? null : VcResultsRequest.builder()
+                .seq(row.getResSeq())
+                .name(row.getResName())
+                .fileUrl(row.getResFileUrl())
+                .build();
+        // 제일 최근에 저장한 텍스트, 값이 없을 경우 null 처리
+        VcTextRequest text = row.getVtSeq() == null ? null : VcTextRequest.of(row.getVtSeq(), row.getComment());
+        return new VcResponse(row.getActivate(), srcAudio, resultAudio, text);
     }
-}
\ No newline at end of file
+}
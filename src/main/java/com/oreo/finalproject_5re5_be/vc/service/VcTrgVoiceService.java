@@ -0,0 +1,14 @@
+package com.oreo.finalproject_5re5_be.vc.service;
+
+import java.util.function.Function;
+
+public interface VcTrgVoiceService {
+    /**
+     * 1. TRG 파일의 voice_id 조회 (없거나 만료되면 VC API 에 등록)
+     * 2. voice_id 로 VC API 호출, voice_id 가 없어졌다는 응답이면 다시 등록해서 한 번 더 호출
+     * 3. 저장된 voice_id 삭제
+     */
+    String getVoiceId(Long trgSeq);
+    <T> T withVoiceId(Long trgSeq, Function<String, T> call);
+    void evict(Long trgSeq);
+}
@@ -0,0 +1,136 @@
+package com.oreo.finalproject_5re5_be.vc.service;
+
+import com.oreo.finalproject_5re5_be.global.component.S3Service;
+import com.oreo.finalproject_5re5_be.vc.entity.VcTrgFile;
+import com.oreo.finalproject_5re5_be.vc.entity.VcTrgVoice;
+import com.oreo.finalproject_5re5_be.vc.exception.VcApiStatusException;
+import com.oreo.finalproject_5re5_be.vc.repository.VcTrgFileRepository;
+import com.oreo.finalproject_5re5_be.vc.repository.VcTrgVoiceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * @apiNote TRG 파일의 voice_id 를 DB(vc_trg_voice)에 보관해서, 같은 TRG 파일로 변환할 때 타겟 음성 업로드(/voices/add)를 건너뛰는 서비스 입니다. <br>
+ * 보관한 voice_id 는 {@code vc.trg-voice.ttl-hours} 가 지나거나 TRG 파일 URL 이 바뀌면 다시 등록하고,
+ * VC API 가 voice_id 를 찾을 수 없다고 응답하면 지우고 한 번 다시 등록합니다. <br>
+ * 같은 TRG 파일을 동시에 등록하려고 하면 한 요청만 업로드하고 나머지는 그 결과를 기다립니다.
+ */
+@Slf4j
+@Service
+public class VcTrgVoiceServiceImpl implements VcTrgVoiceService {
+    private final VcTrgVoiceRepository vcTrgVoiceRepository;
+    private final VcTrgFileRepository vcTrgFileRepository;
+    private final VcApiService vcApiService;
+    private final S3Service s3Service;
+    private final Duration ttl;
+    //등록 중인 TRG (trgSeq -> voice_id)
+    private final Map<Long, CompletableFuture<String>> registering = new ConcurrentHashMap<>();
+
+    @Autowired
+    public VcTrgVoiceServiceImpl(VcTrgVoiceRepository vcTrgVoiceRepository,
+                                 VcTrgFileRepository vcTrgFileRepository,
+                                 VcApiService vcApiService,
+                                 S3Service s3Service,
+                                 @Value("${vc.trg-voice.ttl-hours:168}") long ttlHours) {
+        this.vcTrgVoiceRepository = vcTrgVoiceRepository;
+        this.vcTrgFileRepository = vcTrgFileRepository;
+        this.vcApiService = vcApiService;
+        this.s3Service = s3Service;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * TRG 파일의 voice_id 조회, 없거나 만료되었으면 VC API 에 등록 후 저장
+     * @param trgSeq
+     * @return voice_id
+     */
+    @Override
+    public String getVoiceId(Long trgSeq) {
+        VcTrgFile trgFile = vcTrgFileRepository.findById(trgSeq)
+                .orElseThrow(() -> new IllegalArgumentException("trgFile not found"));
+        return vcTrgVoiceRepository.findById(trgSeq)
+                .filter(voice -> voice.isUsableFor(trgFile.getFileUrl(), LocalDateTime.now()))
+                .map(VcTrgVoice::getVoiceId)
+                .orElseGet(() -> register(trgFile));
+    }
+
+    /**
+     * voice_id 로 VC API 호출, voice_id 를 찾을 수 없다는 응답이면 저장된 값을 지우고 다시 등록해서 한 번 더 호출
+     * @param trgSeq
+     * @param call voice_id 를 받아 VC API 를 호출하는 함수
+     * @return call 의 결과
+     */
+    @Override
+    public <T> T withVoiceId(Long trgSeq, Function<String, T> call) {
+        String voiceId = getVoiceId(trgSeq);
+        try {
+            return call.apply(voiceId);
+        } catch (RuntimeException e) {
+            if (!isVoiceNotFound(e)) {
+                throw e;
+            }
+            log.warn("[VcTrgVoiceService] voice_id 를 찾을 수 없어 다시 등록합니다 - trgSeq: {}, voiceId: {}", trgSeq, voiceId);
+            evict(trgSeq);
+            return call.apply(getVoiceId(trgSeq));
+        }
+    }
+
+    /**
+     * 저장된 voice_id 삭제
+     * @param trgSeq
+     */
+    @Override
+    public void evict(Long trgSeq) {
+        if (vcTrgVoiceRepository.existsById(trgSeq)) {
+            vcTrgVoiceRepository.deleteById(trgSeq);
+        }
+    }
+
+    //VC API 에 타겟 음성 등록, 같은 TRG 를 등록 중이면 그 결과 사용
+    private String register(VcTrgFile trgFile) {
+        Long trgSeq = trgFile.getTrgSeq();
+        CompletableFuture<String> registration = new CompletableFuture<>();
+        CompletableFuture<String> running = registering.putIfAbsent(trgSeq, registration);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            //TRG 파일은 S3에서 스트림으로 읽어 바로 업로드
+            String voiceId = vcApiService.trgIdCreate(s3Service.openFile(trgFile.getFileUrl()));
+            vcTrgVoiceRepository.save(VcTrgVoice.create(trgSeq, trgFile.getFileUrl(), voiceId,
+                    LocalDateTime.now().plus(ttl)));
+            log.info("[VcTrgVoiceService] voice_id 등록 - trgSeq: {}, voiceId: {}", trgSeq, voiceId);
+            registration.complete(voiceId);
+            return voiceId;
+        } catch (RuntimeException e) {
+            registration.completeExceptionally(e);
+            throw e;
+        } finally {
+            registering.remove(trgSeq, registration);
+        }
+    }
+
+    //원인 예외 중 voice_id 를 찾을 수 없다는 VC API 응답이 있는지
+    private static boolean isVoiceNotFound(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof VcApiStatusException statusException) {
+                return statusException.isVoiceNotFound();
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,124 @@
+package com.oreo.finalproject_5re5_be.audio;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioHeaderProbe;
+import com.oreo.finalproject_5re5_be.global.component.audio.WaveInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AudioHeaderProbeTest {
+    private static final int MP3_FRAME_SIZE = 417; // MPEG1 Layer III, 128kbps, 44.1kHz
+
+    @Test
+    @DisplayName("WAVE data 청크에서 프레임 수를 읽는다.")
+    void wave() throws IOException {
+        AudioInputStream audio = new AudioInputStream(new ByteArrayInputStream(new byte[4000]),
+                AudioFormats.STEREO_FORMAT_SR441_B16, 1000);
+        ByteArrayOutputStream wav = new ByteArrayOutputStream();
+        AudioSystem.write(audio, AudioFileFormat.Type.WAVE, wav);
+
+        AudioHeaderProbe.Header header = AudioHeaderProbe.probe(wav.toByteArray(), 0, wav.size());
+
+        assertThat(header.type()).isEqualTo("WAV");
+        assertThat(header.frameLength()).isEqualTo(1000);
+        assertThat(header.sampleSizeInBits()).isEqualTo(16);
+        assertThat(header.estimated()).isFalse();
+        assertThat(header.frameLengthAt(22050)).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("WAVE data 크기가 비어 있으면 파일 크기로 추정한다.")
+    void waveWithoutSize() throws IOException {
+        AudioInputStream audio = new AudioInputStream(new ByteArrayInputStream(new byte[4000]),
+                AudioFormats.STEREO_FORMAT_SR441_B16, AudioSystem.NOT_SPECIFIED);
+        byte[] wav = new WaveInputStream(audio).readAllBytes(); // 헤더의 크기 값이 0
+
+        AudioHeaderProbe.Header header = AudioHeaderProbe.probe(wav, 0, wav.length);
+
+        assertThat(header.frameLength()).isEqualTo(1000);
+        assertThat(header.estimated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("MP3 Xing 태그와 LAME 지연/패딩으로 샘플 수를 계산한다.")
+    void mp3Xing() {
+        byte[] mp3 = mp3Frames(3);
+        int xing = 4 + 32;
+        put(mp3, xing, "Xing");
+        putIntBE(mp3, xing + 4, 0x1);    // frames 필드만 존재
+        putIntBE(mp3, xing + 8, 100);    // 전체 프레임 수
+        int lame = xing + 12;
+        put(mp3, lame, "LAME3.100");
+        mp3[lame + 21] = 0x24;           // delay 576
+        mp3[lame + 22] = 0x03;           // padding 1000
+        mp3[lame + 23] = (byte) 0xE8;
+
+        AudioHeaderProbe.Header header = AudioHeaderProbe.probe(mp3, 0, AudioSystem.NOT_SPECIFIED);
+
+        assertThat(header.type()).isEqualTo("MP3");
+        assertThat(header.sampleRate()).isEqualTo(44100);
+        assertThat(header.frameLength()).isEqualTo(100 * 1152 - 576 - 1000);
+        assertThat(header.estimated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("VBR 태그가 없는 MP3는 파일 크기와 비트레이트로 추정하고, ID3 태그는 건너뛴다.")
+    void mp3Cbr() {
+        byte[] frames = mp3Frames(10);
+        byte[] id3 = new byte[20];
+        put(id3, 0, "ID3");
+        id3[3] = 4;
+        id3[9] = 10; // 태그 본문 10 byte
+        byte[] mp3 = new byte[id3.length + frames.length];
+        System.arraycopy(id3, 0, mp3, 0, id3.length);
+        System.arraycopy(frames, 0, mp3, id3.length, frames.length);
+
+        AudioHeaderProbe.Header header = AudioHeaderProbe.probe(mp3, 0, mp3.length);
+
+        assertThat(header.dataOffset()).isEqualTo(20);
+        assertThat(header.bitrate()).isEqualTo(128000);
+        assertThat(header.estimated()).isTrue();
+        assertThat(header.frameLength()).isCloseTo(10 * 1152, within(100L));
+    }
+
+    @Test
+    @DisplayName("오디오가 아니면 null을 반환한다.")
+    void unknown() {
+        assertThat(AudioHeaderProbe.probe("not an audio file".getBytes(StandardCharsets.UTF_8), 0, 17)).isNull();
+    }
+
+    private byte[] mp3Frames(int count) {
+        byte[] mp3 = new byte[MP3_FRAME_SIZE * count];
+        for (int i = 0; i < count; i++) {
+            int pos = i * MP3_FRAME_SIZE;
+            mp3[pos] = (byte) 0xFF;
+            mp3[pos + 1] = (byte) 0xFB; // MPEG1, Layer III
+            mp3[pos + 2] = (byte) 0x90; // 128kbps, 44.1kHz
+            mp3[pos + 3] = 0x00;        // 스테레오
+        }
+        return mp3;
+    }
+
+    private void put(byte[] target, int pos, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, target, pos, bytes.length);
+    }
+
+    private void putIntBE(byte[] target, int pos, int value) {
+        target[pos] = (byte) (value >> 24);
+        target[pos + 1] = (byte) (value >> 16);
+        target[pos + 2] = (byte) (value >> 8);
+        target[pos + 3] = (byte) value;
+    }
+}
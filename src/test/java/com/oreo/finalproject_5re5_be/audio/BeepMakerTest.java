@@ -1,7 +1,9 @@
 package com.oreo.finalproject_5re5_be.audio;
 
 import com.oreo.finalproject_5re5_be.global.component.audio.BeepMaker;
+import com.oreo.finalproject_5re5_be.global.component.audio.SilenceAudioInputStream;
 import com.oreo.finalproject_5re5_be.global.component.audio.SoundPlayer;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.condition.OS;
@@ -57,4 +59,27 @@ public class BeepMakerTest {
 
         System.out.println("(endTime - startTime)/1000F = " + (endTime - startTime)/1000F);
     }
+
+    @Test
+    @DisplayName("무음 스트림은 0Hz 비프와 같은 길이와 데이터를 가진다.")
+    void silenceStreamTest() throws IOException {
+        float duration = 1500f;
+        AudioInputStream expected = BeepMaker.makeSound(0, duration, outputFormat);//배열로 만든 무음
+        AudioInputStream silence = BeepMaker.makeSound(duration, outputFormat);//무음 스트림
+
+        assertThat(silence).isInstanceOf(SilenceAudioInputStream.class);
+        assertThat(silence.getFrameLength()).isEqualTo(expected.getFrameLength());
+        assertThat(silence.readAllBytes()).isEqualTo(expected.readAllBytes());
+    }
+
+    @Test
+    @DisplayName("무음 스트림은 지정한 프레임 수만큼만 읽힌다.")
+    void silenceStreamLengthTest() throws IOException {
+        SilenceAudioInputStream silence = new SilenceAudioInputStream(outputFormat, 1000);
+
+        byte[] data = silence.readAllBytes();
+
+        assertThat(data).hasSize(1000 * outputFormat.getFrameSize());
+        assertThat(silence.read(new byte[outputFormat.getFrameSize()])).isEqualTo(-1);
+    }
 }
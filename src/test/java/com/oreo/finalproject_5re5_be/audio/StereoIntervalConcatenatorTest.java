@@ -221,4 +221,36 @@ class StereoIntervalConcatenatorTest {
         assertThatThrownBy(() -> intervalConcatenator.intervalConcatenate(audioInputStream, 1f))
                 .isInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("스테레오 스트리밍 병합 결과가 기존 병합 결과와 같다.")
+    void intervalConcatenateStreamTest() throws UnsupportedAudioFileException, IOException {
+        AudioResample audioResample = new AudioResample(AudioFormats.STEREO_FORMAT_SR441_B16);
+        IntervalConcatenator intervalConcatenator = new StereoIntervalConcatenator(AudioFormats.STEREO_FORMAT_SR441_B16);
+
+        //기존 방식으로 병합
+        ByteArrayOutputStream expected = intervalConcatenator.intervalConcatenate(List.of(
+                new AudioProperties(audioResample.resample(loadWav("ttsoutput.mp3")), 3f),
+                new AudioProperties(audioResample.resample(loadWav("test.mp3")), 5f)
+        ), 1f);
+
+        //스트리밍 방식으로 병합
+        AudioInputStream stream = intervalConcatenator.intervalConcatenateStream(List.of(
+                new AudioProperties(audioResample.resample(loadWav("ttsoutput.mp3")), 3f),
+                new AudioProperties(audioResample.resample(loadWav("test.mp3")), 5f)
+        ), 1f);
+        long frameLength = stream.getFrameLength();
+        byte[] actual = stream.readAllBytes();
+
+        //테스트
+        assertThat(stream.getFormat()).isEqualTo(AudioFormats.STEREO_FORMAT_SR441_B16);
+        assertThat(actual).isEqualTo(expected.toByteArray());
+        assertThat(frameLength * AudioFormats.STEREO_FORMAT_SR441_B16.getFrameSize()).isEqualTo(actual.length);
+    }
+
+    //mp3 파일을 WAVE 오디오 스트림으로 불러오기
+    private AudioInputStream loadWav(String fileName) throws UnsupportedAudioFileException, IOException {
+        return AudioSystem.getAudioInputStream(
+                new ByteArrayInputStream(AudioExtensionConverter.mp3ToWav(new File(fileName))));
+    }
+}
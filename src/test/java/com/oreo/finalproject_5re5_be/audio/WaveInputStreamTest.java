@@ -0,0 +1,76 @@
+package com.oreo.finalproject_5re5_be.audio;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import com.oreo.finalproject_5re5_be.global.component.audio.BeepMaker;
+import com.oreo.finalproject_5re5_be.global.component.audio.WaveInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WaveInputStreamTest {
+
+    @Test
+    @DisplayName("AudioSystem.write 결과와 같은 WAVE 데이터를 만든다.")
+    void sameAsAudioSystemWrite() throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        AudioSystem.write(BeepMaker.makeSound(440, 500, AudioFormats.STEREO_FORMAT_SR441_B16),
+                AudioFileFormat.Type.WAVE, expected);
+
+        WaveInputStream wave = new WaveInputStream(BeepMaker.makeSound(440, 500, AudioFormats.STEREO_FORMAT_SR441_B16));
+        byte[] actual = wave.readAllBytes();
+
+        assertThat(actual).isEqualTo(expected.toByteArray());
+        assertThat(wave.getSize()).isEqualTo(actual.length);
+    }
+
+    @Test
+    @DisplayName("만들어진 WAVE 데이터를 다시 읽으면 포맷과 길이가 같다.")
+    void readBack() throws IOException, UnsupportedAudioFileException {
+        AudioInputStream source = BeepMaker.makeSound(440, 300, AudioFormats.STEREO_FORMAT_SR441_B32);
+        long frameLength = source.getFrameLength();
+
+        byte[] wav = new WaveInputStream(source).readAllBytes();
+        AudioInputStream result = AudioSystem.getAudioInputStream(new ByteArrayInputStream(wav));
+
+        assertThat(result.getFormat().matches(AudioFormats.STEREO_FORMAT_SR441_B32)).isTrue();
+        assertThat(result.getFrameLength()).isEqualTo(frameLength);
+    }
+
+    @Test
+    @DisplayName("한 바이트씩 읽어도 전체 크기만큼 읽힌다.")
+    void readByteByByte() throws IOException {
+        WaveInputStream wave = new WaveInputStream(BeepMaker.makeSound(440, 10, AudioFormats.STEREO_FORMAT_SR441_B16));
+
+        long count = 0;
+        while (wave.read() != -1) {
+            count++;
+        }
+
+        assertThat(count).isEqualTo(wave.getSize());
+    }
+
+    @Test
+    @DisplayName("프레임 길이를 알 수 없으면 끝까지 읽은 뒤 헤더를 완성한다.")
+    void unknownFrameLength() throws IOException, UnsupportedAudioFileException {
+        AudioInputStream unknown = new AudioInputStream(new ByteArrayInputStream(new byte[400]),
+                AudioFormats.STEREO_FORMAT_SR441_B16, AudioSystem.NOT_SPECIFIED);
+
+        WaveInputStream wave = new WaveInputStream(unknown);
+        byte[] wav = wave.readAllBytes();
+        wave.completeHeader(wav);
+        AudioInputStream result = AudioSystem.getAudioInputStream(new ByteArrayInputStream(wav));
+
+        assertThat(wave.getSize()).isEqualTo(AudioSystem.NOT_SPECIFIED);
+        assertThat(wav).hasSize(WaveInputStream.HEADER_SIZE + 400);
+        assertThat(result.getFrameLength()).isEqualTo(100);
+    }
+}
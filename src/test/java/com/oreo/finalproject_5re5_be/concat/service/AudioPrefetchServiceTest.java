@@ -0,0 +1,126 @@
+package com.oreo.finalproject_5re5_be.concat.service;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import com.oreo.finalproject_5re5_be.global.component.audio.SilenceAudioInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AudioPrefetchServiceTest {
+
+    private AudioPrefetchService audioPrefetchService;
+
+    @AfterEach
+    void tearDown() {
+        audioPrefetchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("늦게 끝난 오디오가 있어도 요청한 순서대로 반환한다.")
+    void loadAllKeepsOrder() {
+        // given : URL이 프레임 수이고, 앞쪽 오디오일수록 늦게 끝난다
+        audioPrefetchService = new AudioPrefetchService(4, (url, format) -> {
+            long frames = Long.parseLong(url);
+            sleep(200 - frames);
+            return new SilenceAudioInputStream(format, frames);
+        });
+
+        // when
+        List<AudioInputStream> result = audioPrefetchService.loadAll(List.of("10", "50", "100", "150"),
+                AudioFormats.MONO_FORMAT_SR441_B16);
+
+        // then
+        assertThat(result).extracting(AudioInputStream::getFrameLength).containsExactly(10L, 50L, 100L, 150L);
+    }
+
+    @Test
+    @DisplayName("하나라도 실패하면 예외를 던지고 남은 작업을 취소한다.")
+    void loadAllCancelsOnFailure() throws InterruptedException {
+        // given : 첫 번째 오디오는 실패하고, 두 번째 오디오는 취소될 때까지 대기한다
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        audioPrefetchService = new AudioPrefetchService(2, (url, format) -> {
+            if (url.equals("fail")) {
+                awaitLatch(started);
+                throw new IllegalArgumentException("오디오 파일이 아닙니다.");
+            }
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+            }
+            return null;
+        });
+
+        // when, then
+        assertThatThrownBy(() -> audioPrefetchService.loadAll(List.of("fail", "slow"), AudioFormats.MONO_FORMAT_SR441_B16))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(cancelled.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("하나라도 실패하면 이미 불러온 스트림과 취소 뒤에 끝난 스트림을 닫는다.")
+    void loadAllClosesLoadedOnFailure() throws InterruptedException {
+        // given : 첫 번째 오디오는 먼저 끝나고, 두 번째는 실패, 세 번째는 실패한 뒤에 끝난다
+        CountDownLatch failed = new CountDownLatch(1);
+        CountDownLatch lateClosed = new CountDownLatch(1);
+        AtomicBoolean firstClosed = new AtomicBoolean();
+        audioPrefetchService = new AudioPrefetchService(3, (url, format) -> switch (url) {
+            case "first" -> closeTracking(format, firstClosed::set);
+            case "fail" -> {
+                failed.countDown();
+                throw new IllegalArgumentException("오디오 파일이 아닙니다.");
+            }
+            default -> {
+                awaitLatch(failed);
+                sleep(100);
+                yield closeTracking(format, closed -> lateClosed.countDown());
+            }
+        });
+
+        // when, then
+        assertThatThrownBy(() -> audioPrefetchService.loadAll(List.of("first", "fail", "late"), AudioFormats.MONO_FORMAT_SR441_B16))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(firstClosed).isTrue();
+        assertThat(lateClosed.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static AudioInputStream closeTracking(AudioFormat format, Consumer<Boolean> onClose) {
+        return new SilenceAudioInputStream(format, 10) {
+            @Override
+            public void close() throws IOException {
+                onClose.accept(true);
+                super.close();
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
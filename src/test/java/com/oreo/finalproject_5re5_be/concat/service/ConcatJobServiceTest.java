@@ -0,0 +1,179 @@
+package com.oreo.finalproject_5re5_be.concat.service;
+
+import com.oreo.finalproject_5re5_be.concat.dto.ConcatResultDto;
+import com.oreo.finalproject_5re5_be.concat.dto.request.ConcatRowRequestDto;
+import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatJobResponse;
+import com.oreo.finalproject_5re5_be.concat.dto.response.ConcatTabResponseDto;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJob;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJobStatus;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatJobType;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatResult;
+import com.oreo.finalproject_5re5_be.concat.entity.ConcatTab;
+import com.oreo.finalproject_5re5_be.concat.repository.ConcatJobRepository;
+import com.oreo.finalproject_5re5_be.concat.repository.ConcatResultRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ConcatJobServiceTest {
+    private static final Duration STALE_AFTER = Duration.ofMinutes(30);
+
+    private ConcatJobRepository concatJobRepository;
+    private ConcatResultRepository concatResultRepository;
+    private ConcatService concatService;
+    private final List<ConcatJobStatus> savedStatuses = new ArrayList<>();
+    private final ConcatTabResponseDto tab = ConcatTabResponseDto.builder().tabId(1L).build();
+    private final ConcatRowRequestDto rows = new ConcatRowRequestDto(1L, 1L, "result", List.of());
+
+    @BeforeEach
+    void setUp() {
+        concatJobRepository = mock(ConcatJobRepository.class);
+        concatResultRepository = mock(ConcatResultRepository.class);
+        concatService = mock(ConcatService.class);
+        savedStatuses.clear();
+        when(concatJobRepository.save(any(ConcatJob.class))).thenAnswer(invocation -> {
+            ConcatJob job = invocation.getArgument(0);
+            savedStatuses.add(job.getStatus());
+            return job;
+        });
+    }
+
+    @Test
+    @DisplayName("작업을 등록하면 대기 상태로 반환하고, 작업 스레드에서 병합 후 완료로 저장한다.")
+    void submitAndFinish() throws IOException {
+        List<Runnable> queued = new ArrayList<>();
+        ConcatJobService service = new ConcatJobService(concatJobRepository, concatResultRepository, concatService, queued::add, STALE_AFTER);
+        when(concatService.concat(eq(tab), eq(rows), any(ConcatStage.Listener.class))).thenAnswer(invocation -> {
+            ConcatStage.Listener listener = invocation.getArgument(2);
+            listener.onStageFinished(ConcatStage.LOAD, 10);
+            listener.onStageFinished(ConcatStage.UPLOAD, 20);
+            listener.onStageFinished(ConcatStage.SAVE, 30);
+            return ConcatResultDto.builder().concatResultSequence(5L).build();
+        });
+        ConcatResult result = ConcatResult.builder().concatResultSequence(5L).build();
+        when(concatResultRepository.getReferenceById(5L)).thenReturn(result);
+
+        ConcatJobResponse response = service.submitConcat(tab, rows);
+
+        // 요청 스레드에서는 작업만 등록
+        assertThat(response.getStatus()).isEqualTo(ConcatJobStatus.QUEUED);
+        verify(concatService, never()).concat(any(), any(), any(ConcatStage.Listener.class));
+
+        queued.get(0).run();
+
+        ArgumentCaptor<ConcatJob> captor = ArgumentCaptor.forClass(ConcatJob.class);
+        verify(concatJobRepository, times(3)).save(captor.capture());
+        ConcatJob job = captor.getValue();
+        assertThat(savedStatuses).containsExactly(ConcatJobStatus.QUEUED, ConcatJobStatus.RUNNING, ConcatJobStatus.FINISHED);
+        assertThat(job.getConcatResult()).isEqualTo(result);
+        assertThat(job.getLoadMillis()).isEqualTo(10);
+        assertThat(job.getUploadMillis()).isEqualTo(20);
+        assertThat(job.getSaveMillis()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("병합이 실패하면 실패 사유를 저장한다.")
+    void failed() throws IOException {
+        ConcatJobService service = new ConcatJobService(concatJobRepository, concatResultRepository, concatService, Runnable::run, STALE_AFTER);
+        when(concatService.concat(eq(tab), eq(rows), any(ConcatStage.Listener.class)))
+                .thenThrow(new IllegalArgumentException("허용되지 않은 접근입니다."));
+
+        service.submitConcat(tab, rows);
+
+        ArgumentCaptor<ConcatJob> captor = ArgumentCaptor.forClass(ConcatJob.class);
+        verify(concatJobRepository, times(3)).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(ConcatJobStatus.FAILED);
+        assertThat(captor.getValue().getErrorMessage()).isEqualTo("허용되지 않은 접근입니다.");
+    }
+
+    @Test
+    @DisplayName("시작 상태 저장이 실패해도 병합을 실행하지 않고 실패로 저장한다.")
+    void startSaveFailed() throws IOException {
+        ConcatJobService service = new ConcatJobService(concatJobRepository, concatResultRepository, concatService, Runnable::run, STALE_AFTER);
+        when(concatJobRepository.save(any(ConcatJob.class))).thenAnswer(invocation -> {
+            ConcatJob job = invocation.getArgument(0);
+            if (job.getStatus() == ConcatJobStatus.RUNNING) {
+                throw new IllegalStateException("저장 실패");
+            }
+            savedStatuses.add(job.getStatus());
+            return job;
+        });
+
+        service.submitConcat(tab, rows);
+
+        verify(concatService, never()).concat(any(), any(), any(ConcatStage.Listener.class));
+        assertThat(savedStatuses).containsExactly(ConcatJobStatus.QUEUED, ConcatJobStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 작업을 실패로 저장하고 예외를 던진다.")
+    void rejected() {
+        ConcatJobService service = new ConcatJobService(concatJobRepository, concatResultRepository, concatService,
+                command -> {
+                    throw new RejectedExecutionException();
+                }, STALE_AFTER);
+
+        assertThatThrownBy(() -> service.submitConcat(tab, rows))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(savedStatuses).containsExactly(ConcatJobStatus.QUEUED, ConcatJobStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("오래 남아 있는 대기/진행중 작업을 실패로 저장한다.")
+    void failStaleJobs() {
+        ConcatJobService service = new ConcatJobService(concatJobRepository, concatResultRepository, concatService, Runnable::run, STALE_AFTER);
+        ConcatJob queued = job(ConcatJobStatus.QUEUED);
+        ConcatJob running = job(ConcatJobStatus.RUNNING);
+        when(concatJobRepository.findByStatusInAndUpDateBefore(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(queued, running));
+
+        int failed = service.failStaleJobs();
+
+        // 대기/진행중 상태만, 마지막 변경이 STALE_AFTER 이전인 작업만 조회
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(concatJobRepository).findByStatusInAndUpDateBefore(
+                eq(List.of(ConcatJobStatus.QUEUED, ConcatJobStatus.RUNNING)), before.capture());
+        assertThat(before.getValue()).isBefore(LocalDateTime.now().minus(STALE_AFTER).plusSeconds(1));
+        assertThat(failed).isEqualTo(2);
+        assertThat(queued.getStatus()).isEqualTo(ConcatJobStatus.FAILED);
+        assertThat(running.getStatus()).isEqualTo(ConcatJobStatus.FAILED);
+        assertThat(running.getErrorMessage()).isNotBlank();
+        verify(concatJobRepository).saveAll(List.of(queued, running));
+    }
+
+    @Test
+    @DisplayName("작업 상태 조회는 작업을 한 번만 조회하고 프로젝트 번호를 함께 반환한다.")
+    void getJob() {
+        ConcatJobService service = new ConcatJobService(concatJobRepository, concatResultRepository, concatService, Runnable::run, STALE_AFTER);
+        when(concatJobRepository.findWithResultByConcatJobSeq(3L)).thenReturn(Optional.of(job(ConcatJobStatus.RUNNING)));
+
+        ConcatJobResponse response = service.getJob(3L);
+
+        assertThat(response.getProjectSeq()).isEqualTo(1L);
+        assertThat(response.getStatus()).isEqualTo(ConcatJobStatus.RUNNING);
+        verify(concatJobRepository, times(1)).findWithResultByConcatJobSeq(3L);
+    }
+
+    private ConcatJob job(ConcatJobStatus status) {
+        return ConcatJob.builder()
+                .concatTab(ConcatTab.builder().projectId(1L).build())
+                .jobType(ConcatJobType.NORMAL)
+                .status(status)
+                .build();
+    }
+}
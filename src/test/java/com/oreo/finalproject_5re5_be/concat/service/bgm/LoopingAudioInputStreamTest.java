@@ -0,0 +1,78 @@
+package com.oreo.finalproject_5re5_be.concat.service.bgm;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoopingAudioInputStreamTest {
+    private final AudioFormat format = AudioFormats.MONO_FORMAT_SR441_B16;
+
+    @Test
+    @DisplayName("BGM이 짧으면 목표 길이까지 반복한다.")
+    void extend() throws IOException {
+        LoopingAudioInputStream looping = new LoopingAudioInputStream(stream16(1, 2, 3), 8, 0);
+
+        assertThat(looping.getFrameLength()).isEqualTo(8);
+        assertThat(toShorts(looping.readAllBytes()))
+                .containsExactly((short) 1, (short) 2, (short) 3, (short) 1, (short) 2, (short) 3, (short) 1, (short) 2);
+    }
+
+    @Test
+    @DisplayName("BGM이 길면 앞부분만 전달하고 크로스페이드 하지 않는다.")
+    void trim() throws IOException {
+        LoopingAudioInputStream looping = new LoopingAudioInputStream(stream16(1, 2, 3, 4, 5), 3, 2);
+
+        assertThat(toShorts(looping.readAllBytes())).containsExactly((short) 1, (short) 2, (short) 3);
+    }
+
+    @Test
+    @DisplayName("반복 경계에서 BGM 끝부분과 처음 부분을 크로스페이드 한다.")
+    void crossfade() throws IOException {
+        LoopingAudioInputStream looping = new LoopingAudioInputStream(stream16(100, 200, 300, 400, 500, 600), 8, 2);
+
+        // 한 바퀴는 4프레임, 경계에서 (500, 600)이 줄어들고 (100, 200)이 커진다
+        assertThat(toShorts(looping.readAllBytes())).containsExactly(
+                (short) 100, (short) 200, (short) 300, (short) 400,
+                (short) 400, (short) 300, (short) 300, (short) 400);
+    }
+
+    @Test
+    @DisplayName("작은 버퍼로 나눠 읽어도 결과가 같다.")
+    void smallBuffer() throws IOException {
+        byte[] expected = new LoopingAudioInputStream(stream16(100, 200, 300, 400, 500, 600), 20, 2).readAllBytes();
+        LoopingAudioInputStream looping = new LoopingAudioInputStream(stream16(100, 200, 300, 400, 500, 600), 20, 2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[6];
+        int bytesRead;
+        while ((bytesRead = looping.read(buffer)) != -1) {
+            out.write(buffer, 0, bytesRead);
+        }
+
+        assertThat(out.toByteArray()).isEqualTo(expected);
+    }
+
+    private AudioInputStream stream16(int... samples) {
+        ByteBuffer buffer = ByteBuffer.allocate(samples.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int sample : samples) {
+            buffer.putShort((short) sample);
+        }
+        return new AudioInputStream(new ByteArrayInputStream(buffer.array()), format, samples.length);
+    }
+
+    private short[] toShorts(byte[] bytes) {
+        short[] shorts = new short[bytes.length / 2];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(shorts);
+        return shorts;
+    }
+}
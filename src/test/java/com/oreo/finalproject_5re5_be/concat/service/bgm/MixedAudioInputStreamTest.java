@@ -0,0 +1,95 @@
+package com.oreo.finalproject_5re5_be.concat.service.bgm;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MixedAudioInputStreamTest {
+
+    @Test
+    @DisplayName("16비트 오디오를 게인을 적용해 믹싱한다.")
+    void mix16Bit() throws IOException {
+        AudioFormat format = AudioFormats.MONO_FORMAT_SR441_B16;
+        AudioInputStream source = stream16(format, 1000, -2000, 3000);
+        AudioInputStream bgm = stream16(format, 400, 400, 400);
+
+        short[] mixed = toShorts(new MixedAudioInputStream(source, bgm, 1.0f, 0.5f, 2).readAllBytes());
+
+        assertThat(mixed).containsExactly((short) 1200, (short) -1800, (short) 3200);
+    }
+
+    @Test
+    @DisplayName("최대값을 넘으면 잘라낸다.")
+    void saturate() throws IOException {
+        AudioFormat format = AudioFormats.MONO_FORMAT_SR441_B16;
+        AudioInputStream source = stream16(format, Short.MAX_VALUE, Short.MIN_VALUE);
+        AudioInputStream bgm = stream16(format, Short.MAX_VALUE, Short.MIN_VALUE);
+
+        short[] mixed = toShorts(new MixedAudioInputStream(source, bgm, 1.0f, 1.0f).readAllBytes());
+
+        assertThat(mixed).containsExactly(Short.MAX_VALUE, Short.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("24비트 오디오의 부호를 유지해 믹싱한다.")
+    void mix24Bit() throws IOException {
+        AudioFormat format = new AudioFormat(44100, 24, 1, true, false);
+        byte[] sourceBytes = {0x00, 0x00, (byte) 0x80, 0x10, 0x00, 0x00}; // -8388608, 16
+        byte[] bgmBytes = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x10, 0x00, 0x00}; // -1, 16
+        AudioInputStream source = new AudioInputStream(new ByteArrayInputStream(sourceBytes), format, 2);
+        AudioInputStream bgm = new AudioInputStream(new ByteArrayInputStream(bgmBytes), format, 2);
+
+        byte[] mixed = new MixedAudioInputStream(source, bgm, 1.0f, 1.0f).readAllBytes();
+
+        assertThat(mixed).containsExactly(0x00, 0x00, 0x80, 0x20, 0x00, 0x00);
+    }
+
+    @Test
+    @DisplayName("BGM이 먼저 끝나면 나머지는 원본만 전달하고, 길이는 원본과 같다.")
+    void shorterBgm() throws IOException {
+        AudioFormat format = AudioFormats.MONO_FORMAT_SR441_B16;
+        AudioInputStream source = stream16(format, 100, 200, 300, 400);
+        AudioInputStream bgm = stream16(format, 10);
+
+        MixedAudioInputStream mixedStream = new MixedAudioInputStream(source, bgm, 1.0f, 1.0f, 1);
+        short[] mixed = toShorts(mixedStream.readAllBytes());
+
+        assertThat(mixedStream.getFrameLength()).isEqualTo(4);
+        assertThat(mixed).containsExactly((short) 110, (short) 200, (short) 300, (short) 400);
+    }
+
+    @Test
+    @DisplayName("포맷이 다르면 실패한다.")
+    void differentFormat() {
+        AudioInputStream source = stream16(AudioFormats.MONO_FORMAT_SR441_B16, 0);
+        AudioInputStream bgm = stream16(AudioFormats.STEREO_FORMAT_SR441_B16, 0, 0);
+
+        assertThatThrownBy(() -> new MixedAudioInputStream(source, bgm, 1.0f, 1.0f))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AudioInputStream stream16(AudioFormat format, int... samples) {
+        ByteBuffer buffer = ByteBuffer.allocate(samples.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int sample : samples) {
+            buffer.putShort((short) sample);
+        }
+        return new AudioInputStream(new ByteArrayInputStream(buffer.array()), format,
+                samples.length * 2L / format.getFrameSize());
+    }
+
+    private short[] toShorts(byte[] bytes) {
+        short[] shorts = new short[bytes.length / 2];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(shorts);
+        return shorts;
+    }
+}
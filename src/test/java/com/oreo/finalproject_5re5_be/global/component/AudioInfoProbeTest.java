@@ -0,0 +1,115 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import com.oreo.finalproject_5re5_be.global.dto.response.AudioFileInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AudioInfoProbeTest {
+    private static final int MP3_FRAME_SIZE = 417; // MPEG1 Layer III, 128kbps, 44.1kHz
+
+    private final AudioInfo audioInfo = new AudioInfo(Executors.newFixedThreadPool(2));
+
+    @AfterEach
+    void tearDown() {
+        audioInfo.shutdown();
+    }
+
+    @Test
+    @DisplayName("WAV 파일은 임시 파일 없이 헤더에서 길이, 샘플링 레이트, 채널, 비트 수를 읽는다.")
+    void wav() throws IOException {
+        byte[] wav = wav(2);
+
+        AudioFileInfo info = audioInfo.extractAudioFileInfo(new ByteArrayMultipartFile(wav, "voice.WAV", "audio/wav"));
+
+        assertThat(info.getName()).isEqualTo("voice.WAV");
+        assertThat(info.getExtension()).isEqualTo("wav");
+        assertThat(info.getSize()).isEqualTo(String.valueOf(wav.length));
+        assertThat(info.getLength()).isEqualTo(2);
+        assertThat(info.getSampleRate()).isEqualTo(44100);
+        assertThat(info.getChannels()).isEqualTo(2);
+        assertThat(info.getBitDepth()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("MP3 파일은 앞부분보다 긴 ID3 태그를 건너뛰고 프레임 헤더로 길이를 계산한다.")
+    void mp3WithLongId3Tag() {
+        byte[] mp3 = mp3WithId3(100_000, 200); // 200 프레임 = 약 5.2초
+
+        AudioFileInfo info = audioInfo.extractAudioFileInfo(new ByteArrayMultipartFile(mp3, "voice.mp3", "audio/mpeg"));
+
+        assertThat(info.getLength()).isEqualTo(5);
+        assertThat(info.getSampleRate()).isEqualTo(44100);
+        assertThat(info.getBitDepth()).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 파일은 동시에 분석하고 입력 순서대로 반환한다.")
+    void extractList() throws IOException {
+        List<MultipartFile> files = List.of(
+                new ByteArrayMultipartFile(wav(3), "a.wav", "audio/wav"),
+                new ByteArrayMultipartFile(wav(1), "b.wav", "audio/wav"),
+                new ByteArrayMultipartFile(mp3WithId3(0, 200), "c.mp3", "audio/mpeg"));
+
+        List<AudioFileInfo> infos = audioInfo.extractAudioFileInfo(files);
+
+        assertThat(infos).extracting(AudioFileInfo::getName).containsExactly("a.wav", "b.wav", "c.mp3");
+        assertThat(infos).extracting(AudioFileInfo::getLength).containsExactly(3, 1, 5);
+    }
+
+    @Test
+    @DisplayName("헤더를 분석할 수 없는 오디오 파일은 길이를 0으로 두지 않고 예외를 던진다.")
+    void invalidAudio() {
+        MultipartFile broken = new ByteArrayMultipartFile(
+                "not an audio file".getBytes(StandardCharsets.UTF_8), "broken.wav", "audio/wav");
+
+        assertThatThrownBy(() -> audioInfo.extractAudioFileInfo(broken))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] wav(int seconds) throws IOException {
+        int frames = 44100 * seconds;
+        AudioInputStream audio = new AudioInputStream(new ByteArrayInputStream(new byte[frames * 4]),
+                AudioFormats.STEREO_FORMAT_SR441_B16, frames);
+        ByteArrayOutputStream wav = new ByteArrayOutputStream();
+        AudioSystem.write(audio, AudioFileFormat.Type.WAVE, wav);
+        return wav.toByteArray();
+    }
+
+    private static byte[] mp3WithId3(int tagSize, int frameCount) {
+        byte[] mp3 = new byte[tagSize + MP3_FRAME_SIZE * frameCount];
+        if (tagSize > 0) {
+            int body = tagSize - 10;
+            mp3[0] = 'I';
+            mp3[1] = 'D';
+            mp3[2] = '3';
+            mp3[3] = 4;
+            mp3[6] = (byte) ((body >> 21) & 0x7F); // synchsafe 정수
+            mp3[7] = (byte) ((body >> 14) & 0x7F);
+            mp3[8] = (byte) ((body >> 7) & 0x7F);
+            mp3[9] = (byte) (body & 0x7F);
+        }
+        for (int i = 0; i < frameCount; i++) {
+            int pos = tagSize + i * MP3_FRAME_SIZE;
+            mp3[pos] = (byte) 0xFF;
+            mp3[pos + 1] = (byte) 0xFB; // MPEG1, Layer III
+            mp3[pos + 2] = (byte) 0x90; // 128kbps, 44.1kHz
+        }
+        return mp3;
+    }
+}
@@ -0,0 +1,127 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioHeaderProbe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AudioLengthProbeTest {
+    private static final AudioFormat FORMAT = AudioFormats.STEREO_FORMAT_SR441_B16; // frame size 4
+
+    @Test
+    @DisplayName("WAVE 파일 스트림은 헤더의 길이를 그대로 쓰고 스트림을 읽지 않는다.")
+    void waveWithLength() throws Exception {
+        byte[] pcm = pcm(1000 * FORMAT.getFrameSize());
+        ByteArrayOutputStream wav = new ByteArrayOutputStream();
+        AudioSystem.write(new AudioInputStream(new ByteArrayInputStream(pcm), FORMAT, 1000),
+                AudioFileFormat.Type.WAVE, wav);
+        AudioInputStream audioStream = AudioSystem.getAudioInputStream(
+                new BufferedInputStream(new ByteArrayInputStream(wav.toByteArray())));
+
+        assertThat(AudioLengthProbe.getFrameLength(audioStream)).isEqualTo(1000);
+        assertThat(audioStream.readAllBytes()).isEqualTo(pcm);
+    }
+
+    @Test
+    @DisplayName("길이가 없는 PCM 스트림은 세어본 뒤 reset 해서 처음부터 다시 읽을 수 있다.")
+    void pcmWithoutLength() throws Exception {
+        byte[] pcm = pcm(1000 * FORMAT.getFrameSize());
+        AudioInputStream audioStream = new AudioInputStream(
+                new BufferedInputStream(new ByteArrayInputStream(pcm)), FORMAT, AudioSystem.NOT_SPECIFIED);
+
+        assertThat(AudioLengthProbe.getFrameLength(audioStream)).isEqualTo(1000);
+        assertThat(audioStream.readAllBytes()).isEqualTo(pcm);
+    }
+
+    @Test
+    @DisplayName("mark 범위(HEAD_SIZE)보다 긴 스트림은 예외를 던지고 reset 해서 소비하지 않는다.")
+    void pcmLongerThanMarkLimit() throws Exception {
+        byte[] pcm = pcm(AudioHeaderProbe.HEAD_SIZE * 2);
+        MarkLimitRecordingStream source = new MarkLimitRecordingStream(
+                new BufferedInputStream(new ByteArrayInputStream(pcm)));
+        AudioInputStream audioStream = new AudioInputStream(source, FORMAT, AudioSystem.NOT_SPECIFIED);
+
+        assertThatThrownBy(() -> AudioLengthProbe.getFrameLength(audioStream))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(source.readLimit).isEqualTo(AudioHeaderProbe.HEAD_SIZE);
+        assertThat(audioStream.readAllBytes()).isEqualTo(pcm);
+    }
+
+    @Test
+    @DisplayName("MP3(압축) 스트림은 프레임 크기가 없어 mark 하지 않고 예외를 던지며 소비하지 않는다.")
+    void mp3WithoutLength() throws Exception {
+        byte[] mp3 = mp3Frames(10);
+        MarkLimitRecordingStream source = new MarkLimitRecordingStream(
+                new BufferedInputStream(new ByteArrayInputStream(mp3)));
+        AudioFormat mp3Format = new AudioFormat(new AudioFormat.Encoding("MPEG1L3"), 44100,
+                AudioSystem.NOT_SPECIFIED, 2, AudioSystem.NOT_SPECIFIED, AudioSystem.NOT_SPECIFIED, false);
+        AudioInputStream audioStream = new AudioInputStream(source, mp3Format, AudioSystem.NOT_SPECIFIED);
+
+        assertThatThrownBy(() -> AudioLengthProbe.getFrameLength(audioStream))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(source.readLimit).isZero();
+        assertThat(audioStream.readAllBytes()).isEqualTo(mp3);
+    }
+
+    @Test
+    @DisplayName("mark/reset 을 지원하지 않는 스트림은 예외를 던진다.")
+    void markNotSupported() {
+        AudioInputStream audioStream = new AudioInputStream(new FilterInputStream(new ByteArrayInputStream(pcm(400))) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        }, FORMAT, AudioSystem.NOT_SPECIFIED);
+
+        assertThatThrownBy(() -> AudioLengthProbe.getFrameLength(audioStream))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] pcm(int size) {
+        byte[] data = new byte[size];
+        new Random(1).nextBytes(data);
+        return data;
+    }
+
+    // MPEG1 Layer III, 128kbps, 44.1kHz 프레임 (헤더 + 0으로 채운 데이터)
+    private static byte[] mp3Frames(int count) {
+        int frameSize = 417;
+        byte[] data = new byte[frameSize * count];
+        for (int i = 0; i < count; i++) {
+            data[i * frameSize] = (byte) 0xFF;
+            data[i * frameSize + 1] = (byte) 0xFB;
+            data[i * frameSize + 2] = (byte) 0x90;
+            data[i * frameSize + 3] = (byte) 0x00;
+        }
+        return data;
+    }
+
+    // mark 에 전달된 범위를 기록하는 스트림
+    private static class MarkLimitRecordingStream extends FilterInputStream {
+        private int readLimit;
+
+        MarkLimitRecordingStream(BufferedInputStream in) {
+            super(in);
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            this.readLimit = readLimit;
+            super.mark(readLimit);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AudioMeteringInputStreamTest {
+
+    @Test
+    @DisplayName("건너뛴 부분도 크기와 헤더 분석에 포함한다.")
+    void skipCountsAndCaptures() throws IOException {
+        byte[] wav = wav(100_000);
+        AudioMeteringInputStream metering = new AudioMeteringInputStream(new ByteArrayInputStream(wav));
+
+        assertThat(metering.skip(10)).isEqualTo(10);
+        metering.readNBytes(1000);
+        assertThat(metering.skip(wav.length)).isEqualTo(wav.length - 1010);
+        assertThat(metering.skip(10)).isZero();
+
+        assertThat(metering.size()).isEqualTo(wav.length);
+        assertThat(metering.header().frameLength()).isEqualTo(100_000);
+    }
+
+    private static byte[] wav(int frames) throws IOException {
+        AudioInputStream audio = new AudioInputStream(new ByteArrayInputStream(new byte[frames * 4]),
+                AudioFormats.STEREO_FORMAT_SR441_B16, frames);
+        ByteArrayOutputStream wav = new ByteArrayOutputStream();
+        AudioSystem.write(audio, AudioFileFormat.Type.WAVE, wav);
+        return wav.toByteArray();
+    }
+}
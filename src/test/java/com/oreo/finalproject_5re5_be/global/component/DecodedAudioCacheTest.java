@@ -0,0 +1,87 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioFormats;
+import com.oreo.finalproject_5re5_be.global.component.audio.BeepMaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sound.sampled.AudioInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecodedAudioCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final String eTag = "etag";
+
+    @BeforeEach
+    void setUp() {
+        loadCount.set(0);
+    }
+
+    private DecodedAudioCache createCache(long maxBytes) {
+        // 1초 길이의 모노 16비트 비프 오디오를 불러오는 로더
+        return new DecodedAudioCache(directory, maxBytes, url -> eTag, url -> {
+            loadCount.incrementAndGet();
+            return BeepMaker.makeSound(440, 1000, AudioFormats.MONO_FORMAT_SR441_B16);
+        }, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 URL과 포맷을 다시 요청하면 다운로드 없이 캐시에서 읽는다.")
+    void hit() throws IOException {
+        DecodedAudioCache cache = createCache(Long.MAX_VALUE);
+
+        byte[] first = cache.load("url", AudioFormats.MONO_FORMAT_SR441_B16).readAllBytes();
+        AudioInputStream second = cache.load("url", AudioFormats.MONO_FORMAT_SR441_B16);
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second.getFrameLength()).isEqualTo(44100);
+        assertThat(second.readAllBytes()).isEqualTo(first);
+        assertThat(meterRegistry.counter("audio.cache.requests", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("audio.cache.requests", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대상 포맷이 다르면 따로 디코딩해서 저장한다.")
+    void differentFormat() {
+        DecodedAudioCache cache = createCache(Long.MAX_VALUE);
+
+        AudioInputStream mono = cache.load("url", AudioFormats.MONO_FORMAT_SR441_B16);
+        AudioInputStream stereo = cache.load("url", AudioFormats.STEREO_FORMAT_SR441_B16);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(mono.getFormat().matches(AudioFormats.MONO_FORMAT_SR441_B16)).isTrue();
+        assertThat(stereo.getFormat().matches(AudioFormats.STEREO_FORMAT_SR441_B16)).isTrue();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 삭제한다.")
+    void evictLeastRecentlyUsed() {
+        // 1초 모노 16비트 오디오는 88200 바이트이므로 두 개까지만 보관된다
+        DecodedAudioCache cache = createCache(88200 * 2);
+
+        cache.load("a", AudioFormats.MONO_FORMAT_SR441_B16);
+        cache.load("b", AudioFormats.MONO_FORMAT_SR441_B16);
+        cache.load("a", AudioFormats.MONO_FORMAT_SR441_B16); // a를 최근 사용으로 갱신
+        cache.load("c", AudioFormats.MONO_FORMAT_SR441_B16); // b가 삭제된다
+        cache.load("a", AudioFormats.MONO_FORMAT_SR441_B16);
+
+        assertThat(loadCount.get()).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getTotalBytes()).isEqualTo(88200 * 2);
+        assertThat(meterRegistry.counter("audio.cache.evictions").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,217 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.CreateQueueResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteQueueRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteQueueResponse;
+import software.amazon.awssdk.services.sqs.model.ListQueueTagsRequest;
+import software.amazon.awssdk.services.sqs.model.ListQueueTagsResponse;
+import software.amazon.awssdk.services.sqs.model.ListQueuesRequest;
+import software.amazon.awssdk.services.sqs.model.ListQueuesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.TagQueueRequest;
+import software.amazon.awssdk.services.sqs.model.TagQueueResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 테스트용 메모리 SQS 클라이언트 입니다. <br>
+ * 보낸 메시지를 기록하고, responder 가 응답 본문을 만들면 ResponseQueueUrl 속성의 가상 대기열로
+ * 워커(AmazonSQSResponder)처럼 응답을 보냅니다. responder 가 null 을 반환하면 응답하지 않습니다. <br>
+ * SendMessageBatch 는 배치 크기를 기록하고, failWhen 에 해당하는 메시지는 실패(재시도 가능)로 응답합니다. <br>
+ * SendMessage 로 보낸 메시지는 대상 대기열에도 쌓이므로, 다른 클라이언트(예: 실제 responder)가 보낸 응답도 받을 수 있습니다. <br>
+ * CreateQueue 로 만든 대기열은 태그와 함께 기록하고, DeleteQueue 로 삭제한 대기열 URL 을 기록합니다.
+ */
+class InMemorySqsClient implements SqsClient {
+    private final Map<String, BlockingQueue<Message>> queues = new ConcurrentHashMap<>();
+    private final List<SendMessageRequest> sent = new CopyOnWriteArrayList<>();
+    private final List<String> deletedMessageIds = new CopyOnWriteArrayList<>();
+    private final Map<String, Map<String, String>> queueTags = new ConcurrentHashMap<>();
+    private final List<String> deletedQueueUrls = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private volatile Function<SendMessageRequest, String> responder = request -> null;
+    private volatile Predicate<SendMessageRequest> failWhen = request -> false;
+
+    void respondWith(Function<SendMessageRequest, String> responder) {
+        this.responder = responder;
+    }
+
+    void failWhen(Predicate<SendMessageRequest> failWhen) {
+        this.failWhen = failWhen;
+    }
+
+    // ResponseQueueUrl(가상 대기열 URL)로 응답 전송
+    void reply(SendMessageRequest request, String body) {
+        String responseQueueUrl = request.messageAttributes().get(SqsService.RESPONSE_QUEUE_URL_ATTRIBUTE).stringValue();
+        int separator = responseQueueUrl.indexOf('#');
+        String hostQueueUrl = responseQueueUrl.substring(0, separator);
+        String virtualQueueName = responseQueueUrl.substring(separator + 1);
+        queue(hostQueueUrl).add(Message.builder()
+                .messageId(UUID.randomUUID().toString())
+                .receiptHandle(UUID.randomUUID().toString())
+                .body(body)
+                .messageAttributes(Map.of(SqsResponseDispatcher.VIRTUAL_QUEUE_NAME_ATTRIBUTE,
+                        MessageAttributeValue.builder().dataType("String").stringValue(virtualQueueName).build()))
+                .build());
+    }
+
+    List<SendMessageRequest> sent() {
+        return sent;
+    }
+
+    List<String> deletedMessageIds() {
+        return deletedMessageIds;
+    }
+
+    // 태그와 함께 대기열을 만든 것으로 기록 (다른 서버가 만든 대기열)
+    void createQueue(String queueUrl, Map<String, String> tags) {
+        queueTags.put(queueUrl, new ConcurrentHashMap<>(tags));
+    }
+
+    List<String> deletedQueueUrls() {
+        return deletedQueueUrls;
+    }
+
+    // 대기열에 메시지 추가
+    void add(String queueUrl, Message message) {
+        queue(queueUrl).add(message);
+    }
+
+    List<Integer> batchSizes() {
+        return batchSizes;
+    }
+
+    @Override
+    public SendMessageResponse sendMessage(SendMessageRequest request) {
+        sent.add(request);
+        queue(request.queueUrl()).add(Message.builder()
+                .messageId(UUID.randomUUID().toString())
+                .receiptHandle(UUID.randomUUID().toString())
+                .body(request.messageBody())
+                .messageAttributes(request.messageAttributes())
+                .build());
+        String body = responder.apply(request);
+        if (body != null) {
+            reply(request, body);
+        }
+        return SendMessageResponse.builder().messageId(UUID.randomUUID().toString()).build();
+    }
+
+    @Override
+    public SendMessageBatchResponse sendMessageBatch(SendMessageBatchRequest request) {
+        batchSizes.add(request.entries().size());
+        List<SendMessageBatchResultEntry> successful = new ArrayList<>();
+        List<BatchResultErrorEntry> failed = new ArrayList<>();
+        for (SendMessageBatchRequestEntry entry : request.entries()) {
+            SendMessageRequest single = SendMessageRequest.builder()
+                    .queueUrl(request.queueUrl())
+                    .messageBody(entry.messageBody())
+                    .messageAttributes(entry.messageAttributes())
+                    .messageGroupId(entry.messageGroupId())
+                    .messageDeduplicationId(entry.messageDeduplicationId())
+                    .build();
+            if (failWhen.test(single)) {
+                failed.add(BatchResultErrorEntry.builder()
+                        .id(entry.id()).code("InternalError").message("failed").senderFault(false).build());
+                continue;
+            }
+            successful.add(SendMessageBatchResultEntry.builder()
+                    .id(entry.id()).messageId(sendMessage(single).messageId()).build());
+        }
+        return SendMessageBatchResponse.builder().successful(successful).failed(failed).build();
+    }
+
+    @Override
+    public ReceiveMessageResponse receiveMessage(ReceiveMessageRequest request) {
+        BlockingQueue<Message> queue = queue(request.queueUrl());
+        List<Message> messages = new ArrayList<>();
+        try {
+            Message first = queue.poll(request.waitTimeSeconds(), TimeUnit.SECONDS);
+            if (first != null) {
+                messages.add(first);
+                queue.drainTo(messages, request.maxNumberOfMessages() - 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return ReceiveMessageResponse.builder().messages(messages).build();
+    }
+
+    @Override
+    public DeleteMessageBatchResponse deleteMessageBatch(DeleteMessageBatchRequest request) {
+        request.entries().stream().map(DeleteMessageBatchRequestEntry::id).forEach(deletedMessageIds::add);
+        return DeleteMessageBatchResponse.builder().build();
+    }
+
+    @Override
+    public CreateQueueResponse createQueue(CreateQueueRequest request) {
+        String queueUrl = "https://sqs/" + request.queueName();
+        createQueue(queueUrl, request.tags());
+        return CreateQueueResponse.builder().queueUrl(queueUrl).build();
+    }
+
+    @Override
+    public ListQueuesResponse listQueues(ListQueuesRequest request) {
+        return ListQueuesResponse.builder()
+                .queueUrls(queueTags.keySet().stream()
+                        .filter(queueUrl -> queueUrl.startsWith("https://sqs/" + request.queueNamePrefix()))
+                        .toList())
+                .build();
+    }
+
+    @Override
+    public ListQueueTagsResponse listQueueTags(ListQueueTagsRequest request) {
+        return ListQueueTagsResponse.builder().tags(queueTags.getOrDefault(request.queueUrl(), Map.of())).build();
+    }
+
+    @Override
+    public TagQueueResponse tagQueue(TagQueueRequest request) {
+        queueTags.computeIfAbsent(request.queueUrl(), key -> new ConcurrentHashMap<>()).putAll(request.tags());
+        return TagQueueResponse.builder().build();
+    }
+
+    @Override
+    public DeleteQueueResponse deleteQueue(DeleteQueueRequest request) {
+        queueTags.remove(request.queueUrl());
+        queues.remove(request.queueUrl());
+        deletedQueueUrls.add(request.queueUrl());
+        return DeleteQueueResponse.builder().build();
+    }
+
+    private BlockingQueue<Message> queue(String queueUrl) {
+        return queues.computeIfAbsent(queueUrl, key -> new LinkedBlockingQueue<>());
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,105 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class S3MultipartUploaderTest {
+
+    private static final int PART_SIZE = 16;
+
+    private AmazonS3 s3Client;
+    private final Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3Client = mock(AmazonS3.class);
+        uploadedParts.clear();
+
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        when(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiateResult);
+        when(s3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            uploadedParts.put(request.getPartNumber(), request.getInputStream().readAllBytes());
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+        when(s3Client.getUrl(anyString(), anyString())).thenReturn(new URL("https://bucket.s3.amazonaws.com/key"));
+    }
+
+    @Test
+    @DisplayName("한 파트보다 작으면 멀티파트 없이 한 번에 업로드한다.")
+    void smallUploadUsesPutObject() throws IOException {
+        S3MultipartUploader uploader = new S3MultipartUploader(s3Client, "bucket", PART_SIZE, 1, false);
+
+        uploader.upload(new ByteArrayInputStream(new byte[10]), "key", "audio/wav", first -> first[0] = 1);
+
+        ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
+        verify(s3Client).putObject(eq("bucket"), eq("key"), captor.capture(), any(ObjectMetadata.class));
+        verify(s3Client, never()).initiateMultipartUpload(any());
+        assertThat(captor.getValue().readAllBytes()).hasSize(10).startsWith((byte) 1);
+    }
+
+    @Test
+    @DisplayName("파트로 나누어 업로드하고, 첫 번째 파트는 헤더를 수정한 뒤 마지막에 전송한다.")
+    void multipartUpload() throws IOException {
+        S3MultipartUploader uploader = new S3MultipartUploader(s3Client, "bucket", PART_SIZE, 3, true);
+        byte[] data = new byte[PART_SIZE * 3 + 5];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        uploader.upload(new ByteArrayInputStream(data), "key", "audio/wav", first -> first[0] = 100);
+
+        // 파트 번호 순서대로 이어 붙이면 원본과 같아야 한다 (첫 바이트만 수정됨)
+        ByteArrayOutputStream merged = new ByteArrayOutputStream();
+        new TreeMap<>(uploadedParts).values().forEach(merged::writeBytes);
+        data[0] = 100;
+        assertThat(merged.toByteArray()).isEqualTo(data);
+        assertThat(uploadedParts).hasSize(4);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().getPartETags()).extracting(PartETag::getPartNumber).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("파트 업로드가 실패하면 멀티파트 업로드를 취소한다.")
+    void abortOnFailure() {
+        S3MultipartUploader uploader = new S3MultipartUploader(s3Client, "bucket", PART_SIZE, 1, false);
+        doThrow(new IllegalStateException("업로드 실패")).when(s3Client).uploadPart(any(UploadPartRequest.class));
+
+        assertThatThrownBy(() -> uploader.upload(new ByteArrayInputStream(new byte[PART_SIZE * 2]),
+                "key", "audio/wav", first -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any());
+    }
+}
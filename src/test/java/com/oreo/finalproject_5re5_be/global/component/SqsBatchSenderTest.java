@@ -0,0 +1,170 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqsBatchSenderTest {
+    private static final String QUEUE_URL = "https://sqs/request.fifo";
+
+    private InMemorySqsClient sqsClient;
+    private MeterRegistry meterRegistry;
+    private SqsBatchSender sqsBatchSender;
+
+    @BeforeEach
+    void setUp() {
+        sqsClient = new InMemorySqsClient();
+        meterRegistry = new SimpleMeterRegistry();
+        // 테스트에서 보낸 메시지가 한 번에 모이도록 대기 시간을 넉넉히 설정
+        sqsBatchSender = new SqsBatchSender(sqsClient, meterRegistry, 200, 3, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqsBatchSender.shutdown();
+    }
+
+    @Test
+    @DisplayName("잠깐 동안 모인 메시지를 최대 10개씩 SendMessageBatch 로 보낸다.")
+    void sendInBatches() throws Exception {
+        List<CompletableFuture<String>> results = IntStream.range(0, 25)
+                .mapToObj(i -> sqsBatchSender.send(request(QUEUE_URL, "message-" + i)))
+                .toList();
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isNotBlank();
+        }
+        assertThat(sqsClient.batchSizes()).containsExactly(10, 10, 5);
+        assertThat(sqsClient.sent()).extracting(SendMessageRequest::messageBody)
+                .containsExactlyElementsOf(IntStream.range(0, 25).mapToObj(i -> "message-" + i).toList());
+        assertThat(meterRegistry.get("sqs.batch.size").summary().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("sqs.batch.messages").tag("result", "sent").counter().count()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("배치 중 일부 메시지만 실패하면 실패한 메시지만 다시 보낸다.")
+    void retryPartialFailure() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        sqsClient.failWhen(request -> request.messageBody().equals("message-1") && attempts.incrementAndGet() == 1);
+
+        List<CompletableFuture<String>> results = IntStream.range(0, 3)
+                .mapToObj(i -> sqsBatchSender.send(request(QUEUE_URL, "message-" + i, "messageGroup" + i)))
+                .toList();
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isNotBlank();
+        }
+        assertThat(sqsClient.batchSizes()).containsExactly(3, 1);
+        assertThat(meterRegistry.get("sqs.batch.messages").tag("result", "retried").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 그룹의 뒤 메시지가 이미 전송되었으면 실패한 메시지는 순서가 바뀌지 않도록 재시도하지 않는다.")
+    void noRetryWhenLaterSameGroupSent() throws Exception {
+        sqsClient.failWhen(request -> request.messageBody().equals("message-1"));
+
+        List<CompletableFuture<String>> results = IntStream.range(0, 3)
+                .mapToObj(i -> sqsBatchSender.send(request(QUEUE_URL, "message-" + i)))
+                .toList();
+
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS)).isNotBlank();
+        assertThat(results.get(2).get(5, TimeUnit.SECONDS)).isNotBlank();
+        assertThatThrownBy(() -> results.get(1).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(sqsClient.batchSizes()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("실패한 메시지는 같은 그룹의 다음 메시지보다 먼저 다시 보낸다.")
+    void retryBeforeLaterSameGroup() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        sqsClient.failWhen(request -> request.messageBody().equals("message-9") && attempts.incrementAndGet() == 1);
+
+        List<CompletableFuture<String>> results = IntStream.range(0, 12)
+                .mapToObj(i -> sqsBatchSender.send(request(QUEUE_URL, "message-" + i)))
+                .toList();
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isNotBlank();
+        }
+        assertThat(sqsClient.batchSizes()).containsExactly(10, 1, 2);
+        assertThat(sqsClient.sent()).extracting(SendMessageRequest::messageBody)
+                .containsExactlyElementsOf(IntStream.range(0, 12).mapToObj(i -> "message-" + i).toList());
+    }
+
+    @Test
+    @DisplayName("메시지가 최종 실패하면 뒤따르는 같은 그룹 메시지는 보내지 않고 실패로 처리한다.")
+    void failLaterSameGroupAfterFailure() throws Exception {
+        sqsClient.failWhen(request -> request.messageBody().equals("message-9"));
+
+        List<CompletableFuture<String>> results = IntStream.range(0, 12)
+                .mapToObj(i -> sqsBatchSender.send(request(QUEUE_URL, "message-" + i)))
+                .toList();
+
+        for (CompletableFuture<String> result : results.subList(0, 9)) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isNotBlank();
+        }
+        for (CompletableFuture<String> result : results.subList(9, 12)) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(sqsClient.batchSizes()).containsExactly(10, 1, 1);
+        assertThat(sqsClient.sent()).hasSize(9);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 사용해도 실패하면 Future 를 예외로 완료한다.")
+    void failAfterMaxAttempts() {
+        sqsClient.failWhen(request -> true);
+
+        CompletableFuture<String> result = sqsBatchSender.send(request(QUEUE_URL, "message"));
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(sqsClient.batchSizes()).containsExactly(1, 1, 1);
+        assertThat(meterRegistry.get("sqs.batch.messages").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 다른 메시지는 따로 묶어서 보낸다.")
+    void batchPerQueue() throws Exception {
+        CompletableFuture<String> first = sqsBatchSender.send(request(QUEUE_URL, "tts"));
+        CompletableFuture<String> second = sqsBatchSender.send(request("https://sqs/other.fifo", "concat"));
+        CompletableFuture<String> third = sqsBatchSender.send(request(QUEUE_URL, "tts"));
+
+        CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+
+        assertThat(sqsClient.batchSizes()).containsExactly(2, 1);
+        assertThat(sqsClient.sent()).extracting(SendMessageRequest::queueUrl)
+                .containsExactly(QUEUE_URL, QUEUE_URL, "https://sqs/other.fifo");
+    }
+
+    private static SendMessageRequest request(String queueUrl, String body) {
+        return request(queueUrl, body, "messageGroup1");
+    }
+
+    private static SendMessageRequest request(String queueUrl, String body, String messageGroupId) {
+        return SendMessageRequest.builder()
+                .queueUrl(queueUrl)
+                .messageBody(body)
+                .messageGroupId(messageGroupId)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.amazonaws.services.sqs.AmazonSQSResponder;
+import com.amazonaws.services.sqs.AmazonSQSResponderClientBuilder;
+import com.amazonaws.services.sqs.MessageContent;
+import com.oreo.finalproject_5re5_be.global.component.SqsResponseDispatcher.PendingResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqsResponseDispatcherTest {
+    private static final String QUEUE_NAME_PREFIX = "tts-response-";
+
+    private InMemorySqsClient sqsClient;
+    private SqsResponseDispatcher sqsResponseDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        sqsClient = new InMemorySqsClient();
+        sqsResponseDispatcher = new SqsResponseDispatcher(sqsClient, QUEUE_NAME_PREFIX, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqsResponseDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("첫 요청을 등록할 때 이 서버만 쓰는 응답 대기열을 만들고, 종료하면 삭제한다.")
+    void queuePerInstance() {
+        assertThat(sqsResponseDispatcher.responseQueueUrl()).isNull();
+
+        PendingResponse pending = sqsResponseDispatcher.register(5, TimeUnit.SECONDS);
+        String queueUrl = sqsResponseDispatcher.responseQueueUrl();
+        sqsResponseDispatcher.register(5, TimeUnit.SECONDS);
+
+        assertThat(queueUrl).startsWith("https://sqs/" + QUEUE_NAME_PREFIX);
+        assertThat(pending.responseQueueUrl()).isEqualTo(queueUrl + "#" + pending.requestId());
+        assertThat(sqsResponseDispatcher.responseQueueUrl()).isEqualTo(queueUrl);
+
+        SqsResponseDispatcher other = new SqsResponseDispatcher(sqsClient, QUEUE_NAME_PREFIX, Runnable::run);
+        try {
+            other.register(5, TimeUnit.SECONDS);
+            assertThat(other.responseQueueUrl()).isNotEqualTo(queueUrl);
+        } finally {
+            other.shutdown();
+        }
+
+        sqsResponseDispatcher.shutdown();
+        assertThat(sqsClient.deletedQueueUrls()).contains(queueUrl);
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 오래된 응답 대기열은 종료된 서버의 대기열로 보고 삭제한다.")
+    void abandonedQueueIsDeleted() {
+        long now = System.currentTimeMillis();
+        String abandoned = "https://sqs/" + QUEUE_NAME_PREFIX + "abandoned";
+        String alive = "https://sqs/" + QUEUE_NAME_PREFIX + "alive";
+        sqsClient.createQueue(abandoned, Map.of(SqsResponseDispatcher.HEARTBEAT_TAG,
+                String.valueOf(now - SqsResponseDispatcher.ABANDONED_AFTER_MILLIS - 1_000L)));
+        sqsClient.createQueue(alive, Map.of(SqsResponseDispatcher.HEARTBEAT_TAG, String.valueOf(now)));
+
+        sqsResponseDispatcher.register(5, TimeUnit.SECONDS);
+
+        assertThat(sqsClient.deletedQueueUrls()).containsExactly(abandoned);
+    }
+
+    @Test
+    @DisplayName("기다리는 요청이 없는 응답(타임아웃 이후 도착)과 요청 ID 가 없는 응답은 삭제한다.")
+    void unknownReplyIsDeleted() {
+        sqsResponseDispatcher.register(5, TimeUnit.SECONDS);
+        String queueUrl = sqsResponseDispatcher.responseQueueUrl();
+        Message late = reply(UUID.randomUUID().toString());
+        Message unknown = Message.builder()
+                .messageId(UUID.randomUUID().toString())
+                .receiptHandle(UUID.randomUUID().toString())
+                .body("reply")
+                .build();
+        sqsClient.add(queueUrl, late);
+        sqsClient.add(queueUrl, unknown);
+
+        // 수신 스레드가 받을 때까지 대기
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (sqsClient.deletedMessageIds().size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        assertThat(sqsClient.deletedMessageIds()).containsExactlyInAnyOrder(late.messageId(), unknown.messageId());
+    }
+
+    @Test
+    @DisplayName("워커가 쓰는 AmazonSQSResponder 로 보낸 응답을 받아 요청의 Future 에 전달한다.")
+    void replyFromAmazonSqsResponder() throws Exception {
+        PendingResponse pending = sqsResponseDispatcher.register(5, TimeUnit.SECONDS);
+        // 워커가 받는 요청 메시지 (ResponseQueueUrl 속성 포함)
+        Message request = Message.builder()
+                .messageId(UUID.randomUUID().toString())
+                .body("request")
+                .messageAttributes(Map.of(SqsService.RESPONSE_QUEUE_URL_ATTRIBUTE, stringAttribute(pending.responseQueueUrl())))
+                .build();
+        AmazonSQSResponder responder = AmazonSQSResponderClientBuilder.standard()
+                .withAmazonSQS(sqsClient)
+                .build();
+
+        try {
+            responder.sendResponseMessage(MessageContent.fromMessage(request), new MessageContent("reply"));
+
+            assertThat(pending.response().get(5, TimeUnit.SECONDS).body()).isEqualTo("reply");
+            assertThat(sqsClient.deletedMessageIds()).hasSize(1);
+        } finally {
+            responder.shutdown();
+        }
+    }
+
+    private static Message reply(String requestId) {
+        return Message.builder()
+                .messageId(UUID.randomUUID().toString())
+                .receiptHandle(UUID.randomUUID().toString())
+                .body("reply")
+                .messageAttributes(Map.of(SqsResponseDispatcher.VIRTUAL_QUEUE_NAME_ATTRIBUTE, stringAttribute(requestId)))
+                .build();
+    }
+
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
+    }
+}
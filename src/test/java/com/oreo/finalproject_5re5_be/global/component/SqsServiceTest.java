@@ -0,0 +1,132 @@
+package com.oreo.finalproject_5re5_be.global.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oreo.finalproject_5re5_be.global.constant.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqsServiceTest {
+    private static final String REQUEST_QUEUE_URL = "https://sqs/request.fifo";
+    private static final String RESPONSE_QUEUE_PREFIX = "tts-response-";
+
+    private InMemorySqsClient sqsClient;
+    private SqsBatchSender sqsBatchSender;
+    private SqsResponseDispatcher sqsResponseDispatcher;
+    private SqsService sqsService;
+
+    @BeforeEach
+    void setUp() {
+        sqsClient = new InMemorySqsClient();
+        sqsBatchSender = new SqsBatchSender(sqsClient, new SimpleMeterRegistry(), 1, 1, 0);
+        sqsResponseDispatcher = new SqsResponseDispatcher(sqsClient, RESPONSE_QUEUE_PREFIX, Runnable::run);
+        sqsService = new SqsService(sqsBatchSender, sqsResponseDispatcher, new ObjectMapper(),
+                REQUEST_QUEUE_URL, "#tts", 4, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqsBatchSender.shutdown();
+        sqsResponseDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("요청을 보내고 응답 대기열로 돌아온 응답으로 Future 를 완료한다.")
+    void sendMessageAsync() throws Exception {
+        sqsClient.respondWith(request -> "reply:" + request.messageBody());
+
+        CompletableFuture<Message> response =
+                sqsService.sendMessageAsync(Map.of("text", "안녕"), MessageType.TTS_MAKE, 1L);
+
+        assertThat(response.get(5, TimeUnit.SECONDS).body()).isEqualTo("reply:{\"text\":\"안녕\"}");
+        SendMessageRequest request = sqsClient.sent().get(0);
+        assertThat(request.queueUrl()).isEqualTo(REQUEST_QUEUE_URL + "#tts");
+        assertThat(request.messageAttributes().get("messageType").stringValue()).isEqualTo("TTS_MAKE");
+        assertThat(request.messageAttributes().get(SqsService.RESPONSE_QUEUE_URL_ATTRIBUTE).stringValue())
+                .startsWith(sqsResponseDispatcher.responseQueueUrl() + "#");
+        // 전달한 응답은 대기열에서 삭제
+        assertThat(sqsClient.deletedMessageIds()).hasSize(1);
+        assertThat(sqsResponseDispatcher.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 요청의 응답이 보낸 순서와 다르게 도착해도 요청 ID 로 각 요청의 Future 에 전달한다.")
+    void responsesAreCorrelatedById() throws Exception {
+        List<SendMessageRequest> received = new CopyOnWriteArrayList<>();
+        CountDownLatch sent = new CountDownLatch(2);
+        sqsClient.respondWith(request -> {
+            received.add(request);
+            sent.countDown();
+            return null;
+        });
+
+        CompletableFuture<Message> first = sqsService.sendMessageAsync("first", MessageType.TTS_MAKE, 1L);
+        CompletableFuture<Message> second = sqsService.sendMessageAsync("second", MessageType.TTS_MAKE, 2L);
+        assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+        received.sort(Comparator.comparing(SendMessageRequest::messageBody)); // "first", "second" 순서
+        // 나중에 보낸 요청부터 응답
+        sqsClient.reply(received.get(1), "second-reply");
+        sqsClient.reply(received.get(0), "first-reply");
+
+        assertThat(first.get(5, TimeUnit.SECONDS).body()).isEqualTo("first-reply");
+        assertThat(second.get(5, TimeUnit.SECONDS).body()).isEqualTo("second-reply");
+    }
+
+    @Test
+    @DisplayName("응답 대기 시간이 지나면 Future 는 TimeoutException 으로 완료되고 대기 목록에서 제거된다.")
+    void responseTimeout() throws Exception {
+        sqsService = new SqsService(sqsBatchSender, sqsResponseDispatcher, new ObjectMapper(),
+                REQUEST_QUEUE_URL, "#tts", 4, 0);
+
+        CompletableFuture<Message> response = sqsService.sendMessageAsync("text", MessageType.TTS_MAKE, 1L);
+
+        assertThatThrownBy(() -> response.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(sqsResponseDispatcher.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("메시지 전송이 실패하면 응답을 기다리지 않고 Future 를 실패로 완료한다.")
+    void sendFailure() {
+        sqsClient.failWhen(request -> true);
+
+        CompletableFuture<Message> response = sqsService.sendMessageAsync("text", MessageType.CONCAT_BGM_MAKE, 1L);
+
+        assertThatThrownBy(() -> response.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(sqsResponseDispatcher.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 그룹 키는 같은 메시지 그룹으로, 그룹 키에 따라 설정한 개수의 메시지 그룹으로 나눈다.")
+    void messageGroupSharding() {
+        assertThat(sqsService.messageGroupId(7L)).isEqualTo(sqsService.messageGroupId(7L));
+        assertThat(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L))
+                .extracting(sqsService::messageGroupId)
+                .containsOnly("messageGroup1", "messageGroup2", "messageGroup3", "messageGroup4")
+                .contains("messageGroup1", "messageGroup2", "messageGroup3", "messageGroup4");
+
+        SqsService singleGroup = new SqsService(sqsBatchSender, sqsResponseDispatcher, new ObjectMapper(),
+                REQUEST_QUEUE_URL, "#tts", 1, 5);
+        assertThat(singleGroup.messageGroupId(123L)).isEqualTo("messageGroup1");
+    }
+}
@@ -0,0 +1,68 @@
+package com.oreo.finalproject_5re5_be.tts.client;
+
+import com.oreo.finalproject_5re5_be.global.component.audio.AudioHeaderProbe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LinearPcmStitcherTest {
+    private static final int SAMPLE_RATE = 1000;
+
+    @Test
+    @DisplayName("조각을 이어 붙이면 겹친 길이만큼 짧아지고, 경계는 크로스페이드로 섞인다.")
+    void stitchWithCrossfade() throws IOException {
+        byte[] first = wav(SAMPLE_RATE, 100, (short) 1000);
+        byte[] second = wav(SAMPLE_RATE, 100, (short) -1000);
+
+        byte[] stitched = LinearPcmStitcher.stitch(List.of(first, second), 10); // 10ms = 10 프레임
+
+        AudioHeaderProbe.Header header = AudioHeaderProbe.probe(stitched, 0, stitched.length);
+        assertThat(header.sampleRate()).isEqualTo(SAMPLE_RATE);
+        assertThat(header.channels()).isEqualTo(1);
+        assertThat(header.frameLength()).isEqualTo(190);
+
+        int dataOffset = (int) header.dataOffset();
+        assertThat(sample(stitched, dataOffset, 0)).isEqualTo((short) 1000);
+        assertThat(sample(stitched, dataOffset, 90)).isEqualTo((short) 900);   // 섞이기 시작
+        assertThat(sample(stitched, dataOffset, 99)).isEqualTo((short) -900);  // 거의 다음 조각
+        assertThat(sample(stitched, dataOffset, 189)).isEqualTo((short) -1000);
+    }
+
+    @Test
+    @DisplayName("조각 하나는 그대로 반환하고, 포맷이 다른 조각은 이어 붙이지 않는다.")
+    void singleAndMismatch() throws IOException {
+        byte[] wav = wav(SAMPLE_RATE, 10, (short) 1);
+
+        assertThat(LinearPcmStitcher.stitch(List.of(wav), 10)).isSameAs(wav);
+        assertThatThrownBy(() -> LinearPcmStitcher.stitch(List.of(wav, wav(SAMPLE_RATE * 2, 10, (short) 1)), 10))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static short sample(byte[] wav, int dataOffset, int frame) {
+        int index = dataOffset + frame * 2;
+        return (short) ((wav[index] & 0xFF) | (wav[index + 1] << 8));
+    }
+
+    private static byte[] wav(int sampleRate, int frames, short value) throws IOException {
+        byte[] pcm = new byte[frames * 2];
+        for (int i = 0; i < frames; i++) {
+            pcm[i * 2] = (byte) value;
+            pcm[i * 2 + 1] = (byte) (value >> 8);
+        }
+        AudioFormat format = new AudioFormat(sampleRate, 16, 1, true, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AudioSystem.write(new AudioInputStream(new ByteArrayInputStream(pcm), format, frames), AudioFileFormat.Type.WAVE, out);
+        return out.toByteArray();
+    }
+}
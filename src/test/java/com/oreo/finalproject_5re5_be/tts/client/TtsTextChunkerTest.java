@@ -0,0 +1,51 @@
+package com.oreo.finalproject_5re5_be.tts.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtsTextChunkerTest {
+
+    @Test
+    @DisplayName("최대 크기 이하의 텍스트는 나누지 않는다.")
+    void shortText() {
+        assertThat(TtsTextChunker.splitText("안녕하세요. 반갑습니다.", 100)).containsExactly("안녕하세요. 반갑습니다.");
+    }
+
+    @Test
+    @DisplayName("문장 끝에서 나누고, 조각은 UTF-8 바이트 기준 최대 크기를 넘지 않는다.")
+    void splitAtSentence() {
+        String text = "첫 번째 문장입니다. 두 번째 문장입니다! 세 번째 문장인가요? 네 번째 문장입니다.";
+
+        List<String> chunks = TtsTextChunker.splitText(text, 60);
+
+        assertThat(chunks).containsExactly("첫 번째 문장입니다. 두 번째 문장입니다!", "세 번째 문장인가요? 네 번째 문장입니다.");
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(60));
+    }
+
+    @Test
+    @DisplayName("한 문장이 너무 길면 구절, 공백, 글자 순서로 더 나눈다.")
+    void splitLongSentence() {
+        assertThat(TtsTextChunker.splitText("one two three, four five six", 16))
+                .containsExactly("one two three,", "four five six");
+        assertThat(TtsTextChunker.splitText("abcdefghij", 4))
+                .containsExactly("abcd", "efgh", "ij");
+    }
+
+    @Test
+    @DisplayName("SSML은 요소 안에서는 나누지 않고 조각마다 speak 요소로 감싼다.")
+    void splitSsml() {
+        String ssml = "<speak>First sentence. <prosody rate=\"slow\">Inside. Not split.</prosody> Last one.</speak>";
+
+        List<String> chunks = TtsTextChunker.splitSsml(ssml, 60);
+
+        assertThat(chunks).containsExactly(
+                "<speak>First sentence.</speak>",
+                "<speak><prosody rate=\"slow\">Inside. Not split.</prosody></speak>",
+                "<speak>Last one.</speak>");
+    }
+}
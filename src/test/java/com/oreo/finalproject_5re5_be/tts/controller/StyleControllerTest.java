@@ -6,6 +6,8 @@ import com.oreo.finalproject_5re5_be.global.exception.ErrorCode;
 import com.oreo.finalproject_5re5_be.tts.dto.response.StyleListDto;
 import com.oreo.finalproject_5re5_be.tts.entity.Style;
 import com.oreo.finalproject_5re5_be.tts.service.StyleService;
+import com.oreo.finalproject_5re5_be.tts.service.VoiceCatalog;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,9 +18,11 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -36,6 +40,18 @@ class StyleControllerTest {
     @Autowired
     private ObjectMapper objectMapper; // JSON 직렬화에 사용
 
+    // 카탈로그 버전 (응답의 ETag, Last-Modified)
+    private final VoiceCatalog.Version catalogVersion = new VoiceCatalog.Version("\"catalog-v1\"", Instant.parse("2024-11-01T00:00:00Z"));
+
+    // 컨트롤러가 버전과 본문을 만들 때 사용하는 카탈로그 스냅샷
+    private final VoiceCatalog.Snapshot catalog = mock(VoiceCatalog.Snapshot.class);
+
+    @BeforeEach
+    void setUp() {
+        when(styleService.getCatalog()).thenReturn(catalog);
+        when(catalog.version()).thenReturn(catalogVersion);
+    }
+
     /*
      * [ 스타일 전체 조회 테스트 ]
      *  1. 여러 개 데이터 조회 -> 응답 상태 200, 결과로 StyleListDto 반환
@@ -57,7 +73,7 @@ class StyleControllerTest {
         StyleListDto styleListDto = StyleListDto.of(List.of(style1, style2, style3));
 
         // 스타일 전체 조회 서비스 동작 세팅
-        when(styleService.getStyleList()).thenReturn(styleListDto);
+        when(styleService.getStyleList(catalog)).thenReturn(styleListDto);
 
         // 스타일 전체 조회 get 요청 테스트 및 검증
         mockMvc.perform(get("/api/style")
@@ -78,7 +94,7 @@ class StyleControllerTest {
         StyleListDto styleListDto = StyleListDto.of(new ArrayList<>());
 
         // 스타일 전체 조회 서비스 동작 세팅
-        when(styleService.getStyleList()).thenReturn(styleListDto);
+        when(styleService.getStyleList(catalog)).thenReturn(styleListDto);
 
         // 스타일 전체 조회 get 요청 테스트 및 검증
         mockMvc.perform(get("/api/style")
@@ -102,7 +118,7 @@ class StyleControllerTest {
         StyleListDto styleListDto = StyleListDto.of(List.of(style1, style2));
 
         // when: 유효한 언어 코드로 조회 서비스 동작 세팅
-        when(styleService.getStyleListByLang(existLangCode)).thenReturn(styleListDto);
+        when(styleService.getStyleListByLang(catalog, existLangCode)).thenReturn(styleListDto);
 
         // then: 유효한 언어 코드 값을 파라미터로 전달하면 getStyleListByLang 컨트롤러가 정상 수행되어야 함
         mockMvc.perform(get("/api/style/search")
@@ -123,7 +139,7 @@ class StyleControllerTest {
 
         // when: 존재하지 않는 언어 코드로 조회할 경우 EntityNotFoundException 을 발생시키도록 동작 설정
         EntityNotFoundException throwException = new EntityNotFoundException("not found entity, code: " + notExistLangCode);
-        when(styleService.getStyleListByLang(notExistLangCode)).thenThrow(throwException);
+        when(styleService.getStyleListByLang(catalog, notExistLangCode)).thenThrow(throwException);
 
         // then: 존재하지 않는 언어 코드 값을 파라미터로 전달하면 BusinessException 핸들러가 수행되어야 함
         mockMvc.perform(get("/api/style/search")
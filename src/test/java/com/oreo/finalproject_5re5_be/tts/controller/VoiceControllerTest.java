@@ -8,22 +8,28 @@ import com.oreo.finalproject_5re5_be.tts.entity.Language;
 import com.oreo.finalproject_5re5_be.tts.entity.ServerCode;
 import com.oreo.finalproject_5re5_be.tts.entity.Style;
 import com.oreo.finalproject_5re5_be.tts.entity.Voice;
+import com.oreo.finalproject_5re5_be.tts.service.VoiceCatalog;
 import com.oreo.finalproject_5re5_be.tts.service.VoiceService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -39,6 +45,18 @@ class VoiceControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    // 카탈로그 버전 (응답의 ETag, Last-Modified)
+    private final VoiceCatalog.Version catalogVersion = new VoiceCatalog.Version("\"catalog-v1\"", Instant.parse("2024-11-01T00:00:00Z"));
+
+    // 컨트롤러가 버전과 본문을 만들 때 사용하는 카탈로그 스냅샷
+    private final VoiceCatalog.Snapshot catalog = mock(VoiceCatalog.Snapshot.class);
+
+    @BeforeEach
+    void setUp() {
+        when(voiceService.getCatalog()).thenReturn(catalog);
+        when(catalog.version()).thenReturn(catalogVersion);
+    }
+
     /**
      *  [ 보이스 조건 조회 테스트 ]
      *  1. 유효한 조건으로 조회 -> 응답 상태 200, response에 VoiceListDto 반환
@@ -58,7 +76,7 @@ class VoiceControllerTest {
         VoiceListDto voiceList = VoiceListDto.of(List.of(voice));
 
         // 보이스 조건 조회 서비스 동작 설정
-        when(voiceService.getVoiceList(language.getLangCode(), style.getName())).thenReturn(voiceList);
+        when(voiceService.getVoiceList(catalog, language.getLangCode(), style.getName())).thenReturn(voiceList);
 
         // 스타일 조건 조회 get 요청 테스트 및 검증
         mockMvc.perform(
@@ -87,7 +105,7 @@ class VoiceControllerTest {
 
 
         // 보이스 조건 조회 서비스 동작 설정
-        when(voiceService.getVoiceList(validLangCode,validStyleName)).thenReturn(voiceList);
+        when(voiceService.getVoiceList(catalog, validLangCode,validStyleName)).thenReturn(voiceList);
 
         // 스타일 조건 조회 get 요청 테스트 및 검증
         mockMvc.perform(
@@ -112,7 +130,7 @@ class VoiceControllerTest {
 
         // 없는 조건 값으로 조회해 EntityNotFoundException을 발생하는 동작으로 설정
         EntityNotFoundException throwException = new EntityNotFoundException("invalid language code, langCode:" + invalidLangCode);
-        when(voiceService.getVoiceList(invalidLangCode, validStyleName)).thenThrow(throwException);
+        when(voiceService.getVoiceList(catalog, invalidLangCode, validStyleName)).thenThrow(throwException);
 
         // 스타일 조건 조회 get 요청 테스트 및 검증
         mockMvc.perform(
@@ -125,6 +143,29 @@ class VoiceControllerTest {
                 .andExpect(jsonPath("$.response.message").value(throwException.getMessage()));
     }
 
+    // 보이스 조건 조회 테스트 - 4. 카탈로그가 바뀌지 않았으면 304 응답
+    @Test
+    @DisplayName("보이스 조건 조회 테스트 - 응답에 ETag를 담고, 같은 ETag로 다시 요청하면 304 응답")
+    public void getVoiceListByLangAndStyle_notModified() throws Exception {
+        when(voiceService.getVoiceList(catalog, "lang-code", "style-name")).thenReturn(VoiceListDto.of(new ArrayList<>()));
+
+        // 첫 요청에는 카탈로그 버전이 헤더로 전달됨
+        mockMvc.perform(
+                        get("/api/voice")
+                                .param("languagecode", "lang-code")
+                                .param("stylename", "style-name"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, catalogVersion.etag()));
+
+        // 같은 ETag로 조건부 요청하면 본문 없이 304 응답
+        mockMvc.perform(
+                        get("/api/voice")
+                                .param("languagecode", "lang-code")
+                                .param("stylename", "style-name")
+                                .header(HttpHeaders.IF_NONE_MATCH, catalogVersion.etag()))
+                .andExpect(status().isNotModified());
+    }
+
     // 스타일 엔티티 생성 메서드
     private Style createStyleEntity(Long seq) {
         return Style.builder()
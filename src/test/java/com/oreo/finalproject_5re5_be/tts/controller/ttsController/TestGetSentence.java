@@ -14,6 +14,7 @@ import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceDto;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
 import com.oreo.finalproject_5re5_be.tts.entity.Voice;
 import com.oreo.finalproject_5re5_be.tts.service.TtsMakeService;
+import com.oreo.finalproject_5re5_be.tts.service.TtsRenderService;
 import com.oreo.finalproject_5re5_be.tts.service.TtsSentenceService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +39,9 @@ class TestGetSentence {
     @MockBean
     private TtsMakeService ttsMakeService;
 
+    @MockBean
+    private TtsRenderService ttsRenderService;
+
     @MockBean
     private ProjectService projectService;
 
@@ -15,6 +15,7 @@ import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListDto;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
 import com.oreo.finalproject_5re5_be.tts.entity.Voice;
 import com.oreo.finalproject_5re5_be.tts.service.TtsMakeService;
+import com.oreo.finalproject_5re5_be.tts.service.TtsRenderService;
 import com.oreo.finalproject_5re5_be.tts.service.TtsSentenceService;
 import java.util.Collections;
 import java.util.List;
@@ -41,6 +42,9 @@ class TestGetSentenceList {
     @MockBean
     private TtsMakeService ttsMakeService;
 
+    @MockBean
+    private TtsRenderService ttsRenderService;
+
     @MockBean
     private ProjectService projectService;
 
@@ -18,6 +18,7 @@ import com.oreo.finalproject_5re5_be.tts.entity.TtsAudioFile;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
 import com.oreo.finalproject_5re5_be.tts.entity.Voice;
 import com.oreo.finalproject_5re5_be.tts.service.TtsMakeService;
+import com.oreo.finalproject_5re5_be.tts.service.TtsRenderService;
 import com.oreo.finalproject_5re5_be.tts.service.TtsSentenceService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,9 @@ class TestMakeTts {
     @MockBean
     private TtsMakeService ttsMakeService;
 
+    @MockBean
+    private TtsRenderService ttsRenderService;
+
     @MockBean
     private ProjectService projectService;
 
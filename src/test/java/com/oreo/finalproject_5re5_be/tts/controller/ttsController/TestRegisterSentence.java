@@ -12,6 +12,7 @@ import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceDto;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
 import com.oreo.finalproject_5re5_be.tts.entity.Voice;
 import com.oreo.finalproject_5re5_be.tts.service.TtsMakeService;
+import com.oreo.finalproject_5re5_be.tts.service.TtsRenderService;
 import com.oreo.finalproject_5re5_be.tts.service.TtsSentenceService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -45,6 +46,9 @@ class TestRegisterSentence {
     @MockBean
     private TtsMakeService ttsMakeService;
 
+    @MockBean
+    private TtsRenderService ttsRenderService;
+
     @MockBean
     private ProjectService projectService;
 
@@ -3,6 +3,8 @@ package com.oreo.finalproject_5re5_be.tts.service;
 import com.oreo.finalproject_5re5_be.tts.dto.response.LanguageListDto;
 import com.oreo.finalproject_5re5_be.tts.entity.Language;
 import com.oreo.finalproject_5re5_be.tts.repository.LanguageRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.StyleRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.VoiceRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +30,15 @@ class LanguageServiceTest {
     @MockBean
     LanguageRepository languageRepository;
 
+    @MockBean
+    StyleRepository styleRepository;
+
+    @MockBean
+    VoiceRepository voiceRepository;
+
+    @Autowired
+    VoiceCatalog voiceCatalog;
+
     /**
      *  [ 언어 전체 조회 테스트 ]
      *  1. 한 개 데이터 조회
@@ -40,8 +51,9 @@ class LanguageServiceTest {
         Language language = createLanguageEntity();
         List<Language> languageList = List.of(language);
 
-        // 레파지토리의 언어 조회 결과 세팅
+        // 레파지토리의 언어 조회 결과 세팅 후 카탈로그 갱신
         when(languageRepository.findAll()).thenReturn(languageList);
+        voiceCatalog.refresh();
 
         // 서비스 수행 및 검증
         LanguageListDto getLanguageListRes = languageService.getLanguageList();
@@ -61,8 +73,9 @@ class LanguageServiceTest {
 
         List<Language> languageList = List.of(language1, language2, language3);
 
-        // 레파지토리의 언어 조회 결과 세팅
+        // 레파지토리의 언어 조회 결과 세팅 후 카탈로그 갱신
         when(languageRepository.findAll()).thenReturn(languageList);
+        voiceCatalog.refresh();
 
         // 서비스 수행 및 검증
         LanguageListDto getLanguageListRes = languageService.getLanguageList();
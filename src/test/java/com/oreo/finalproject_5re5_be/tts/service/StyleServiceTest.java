@@ -3,9 +3,12 @@ package com.oreo.finalproject_5re5_be.tts.service;
 import com.oreo.finalproject_5re5_be.global.exception.EntityNotFoundException;
 import com.oreo.finalproject_5re5_be.tts.dto.response.StyleListDto;
 import com.oreo.finalproject_5re5_be.tts.entity.Language;
+import com.oreo.finalproject_5re5_be.tts.entity.ServerCode;
 import com.oreo.finalproject_5re5_be.tts.entity.Style;
+import com.oreo.finalproject_5re5_be.tts.entity.Voice;
 import com.oreo.finalproject_5re5_be.tts.repository.LanguageRepository;
 import com.oreo.finalproject_5re5_be.tts.repository.StyleRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.VoiceRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,7 +20,6 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -35,6 +37,12 @@ class StyleServiceTest {
     @MockBean
     LanguageRepository languageRepository;
 
+    @MockBean
+    VoiceRepository voiceRepository;
+
+    @Autowired
+    VoiceCatalog voiceCatalog;
+
     /**
      *  [ 스타일 조회 서비스 테스트 ]
      *  1. 여러 개의 데이터가 있는 목록 조회 테스트
@@ -54,8 +62,9 @@ class StyleServiceTest {
             styleList.add(createStyleEntity(i));
         }
 
-        // style 레파지토리 findAll 메서드의 동작 세팅
+        // style 레파지토리 findAll 메서드의 동작 세팅 후 카탈로그 갱신
         when(styleRepository.findAll()).thenReturn(styleList);
+        voiceCatalog.refresh();
 
         // 스타일 전체 조회 서비스 실행 및 검증
         StyleListDto styleListDto = styleService.getStyleList();
@@ -70,8 +79,9 @@ class StyleServiceTest {
         // 빈 리스트 생성
         List<Style> styleList = new ArrayList<>();
 
-        // style 레파지토리 findAll 메서드의 동작 세팅
+        // style 레파지토리 findAll 메서드의 동작 세팅 후 카탈로그 갱신
         when(styleRepository.findAll()).thenReturn(styleList);
+        voiceCatalog.refresh();
 
         // 스타일 전체 조회 서비스 실행 및 검증
         StyleListDto styleListDto = styleService.getStyleList();
@@ -90,10 +100,12 @@ class StyleServiceTest {
         Style style = createStyleEntity(styleSeq.intValue());
 
         // 2. when
-        // 2-1. 언어 코드로 조회할 때 언어 정보가 조회되도록 세팅
-        when(languageRepository.findByLangCode(language.getLangCode())).thenReturn(Optional.of(language));
-        // 2-2. 언어 식별번호로 조회할 때 스타일 정보가 조회되도록 세팅
-        when(styleRepository.findListBylangSeq(langSeq)).thenReturn(List.of(style));
+        // 2-1. 카탈로그에 언어, 스타일 정보가 조회되도록 세팅
+        when(languageRepository.findAll()).thenReturn(List.of(language));
+        when(styleRepository.findAll()).thenReturn(List.of(style, createStyleEntity(2000)));
+        // 2-2. 해당 언어에는 첫 번째 스타일의 목소리만 있도록 세팅
+        when(voiceRepository.findAllWithLanguageAndStyle()).thenReturn(List.of(createVoiceEntity(1L, language, style)));
+        voiceCatalog.refresh();
 
         // 3. then: 서비스 호출시 한 개의 스타일 정보가 담긴 리스트가 StyleListDto 객체에 담겨져 리턴되어야 함
         StyleListDto styleListDto = styleService.getStyleListByLang(language.getLangCode());
@@ -109,8 +121,9 @@ class StyleServiceTest {
         // 1. given: 존재하지 않는 언어 코드 초기화
         String notExistLangCode = "not-exist-lang-code";
 
-        // 2. when: 존재하지 않는 언어 코드로 조회시 빈 Optional 객체를 반환하도록 세팅
-        when(languageRepository.findByLangCode(notExistLangCode)).thenReturn(Optional.empty());
+        // 2. when: 카탈로그에 언어 정보가 없도록 세팅
+        when(languageRepository.findAll()).thenReturn(List.of());
+        voiceCatalog.refresh();
 
         // 3. when: 존재하지 않는 언어 코드로 조회하면 EntityNotFoundException 발생해야함
         assertThrows(EntityNotFoundException.class, () -> styleService.getStyleListByLang(notExistLangCode));
@@ -128,6 +141,18 @@ class StyleServiceTest {
                 .build();
     }
 
+    // 목소리 엔티티 생성 메서드
+    private Voice createVoiceEntity(Long seq, Language language, Style style) {
+        return Voice.builder()
+                .voiceSeq(seq)
+                .name("test-voice-name"+seq)
+                .server(ServerCode.GOOGLE_CLOUD)
+                .enabled('y')
+                .language(language)
+                .style(style)
+                .build();
+    }
+
     // 언어 엔티티 생성 메서드
     private Language createLanguageEntity(int n) {
         return Language.builder()
@@ -0,0 +1,84 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsProgressEvent;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtsProgressEventBusTest {
+    // 전달 작업을 테스트에서 직접 실행
+    private final Queue<Runnable> deliveries = new ArrayDeque<>();
+    private final TtsProgressEventBus eventBus = new TtsProgressEventBus(3, deliveries::add);
+
+    @Test
+    @DisplayName("이벤트는 같은 프로젝트의 구독자에게만 발행 순서대로 전달된다.")
+    void publishToProjectSubscribers() {
+        List<Long> received = new ArrayList<>();
+        List<Long> otherProject = new ArrayList<>();
+        eventBus.subscribe(1L, events -> events.forEach(event -> received.add(event.getTsSeq())));
+        eventBus.subscribe(2L, events -> events.forEach(event -> otherProject.add(event.getTsSeq())));
+
+        eventBus.publish(event(1L, 10L));
+        eventBus.publish(event(1L, 11L));
+        runDeliveries();
+
+        assertThat(received).containsExactly(10L, 11L);
+        assertThat(otherProject).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독자 버퍼가 가득 차면 가장 오래된 이벤트를 버린다.")
+    void dropOldestWhenBufferIsFull() {
+        List<Long> received = new ArrayList<>();
+        TtsProgressEventBus.Subscription subscription =
+                eventBus.subscribe(1L, events -> events.forEach(event -> received.add(event.getTsSeq())));
+
+        for (long tsSeq = 1; tsSeq <= 5; tsSeq++) {
+            eventBus.publish(event(1L, tsSeq));
+        }
+        runDeliveries();
+
+        assertThat(received).containsExactly(3L, 4L, 5L);
+        assertThat(subscription.getDroppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전달 중 예외가 발생하거나 구독을 닫으면 구독이 해제된다.")
+    void unsubscribe() {
+        eventBus.subscribe(1L, events -> {
+            throw new IllegalStateException("연결 끊김");
+        });
+        TtsProgressEventBus.Subscription closed = eventBus.subscribe(1L, events -> {
+        });
+
+        eventBus.publish(event(1L, 1L));
+        runDeliveries();
+        closed.close();
+
+        assertThat(eventBus.subscriberCount(1L)).isZero();
+    }
+
+    private void runDeliveries() {
+        Runnable delivery;
+        while ((delivery = deliveries.poll()) != null) {
+            delivery.run();
+        }
+    }
+
+    private static TtsProgressEvent event(Long proSeq, Long tsSeq) {
+        return TtsProgressEvent.builder()
+                .proSeq(proSeq)
+                .tsSeq(tsSeq)
+                .status(TtsProgressStatusCode.FINISHED)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+}
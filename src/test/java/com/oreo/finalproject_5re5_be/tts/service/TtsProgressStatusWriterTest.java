@@ -0,0 +1,70 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import com.oreo.finalproject_5re5_be.tts.service.TtsProgressStatusWriter.PendingStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtsProgressStatusWriterTest {
+    private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("상태 행을 모아서 묶음 크기 단위로 넣은 순서대로 저장한다.")
+    void writeInBatches() throws InterruptedException {
+        CountDownLatch saved = new CountDownLatch(7);
+        TtsProgressStatusWriter writer = new TtsProgressStatusWriter(statuses -> {
+            batches.add(statuses.stream().map(PendingStatus::tsSeq).toList());
+            statuses.forEach(status -> saved.countDown());
+        }, 3, 200);
+
+        writer.writeAll(statuses(1, 7));
+
+        assertThat(saved.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).containsExactly(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L));
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("묶음 저장에 실패하면 한 행씩 다시 저장하고 실패한 행만 버린다.")
+    void retryOneByOne() {
+        TtsProgressStatusWriter writer = new TtsProgressStatusWriter(statuses -> {
+            if (statuses.stream().anyMatch(status -> status.tsSeq() == 2L)) {
+                throw new IllegalStateException("존재하지 않는 문장");
+            }
+            batches.add(statuses.stream().map(PendingStatus::tsSeq).toList());
+        }, 10, 10_000);
+
+        writer.writeAll(statuses(1, 3));
+        writer.shutdown();
+
+        assertThat(batches).containsExactly(List.of(1L), List.of(3L));
+    }
+
+    @Test
+    @DisplayName("종료할 때 저장하지 못한 행을 모두 저장한다.")
+    void flushOnShutdown() {
+        TtsProgressStatusWriter writer = new TtsProgressStatusWriter(
+                statuses -> batches.add(statuses.stream().map(PendingStatus::tsSeq).toList()), 2, 10_000);
+
+        writer.writeAll(statuses(1, 5));
+        writer.shutdown();
+
+        assertThat(batches.stream().flatMap(List::stream).toList()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    private static List<PendingStatus> statuses(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(tsSeq -> new PendingStatus(tsSeq, TtsProgressStatusCode.FINISHED, LocalDateTime.now(), 1L))
+                .toList();
+    }
+}
@@ -0,0 +1,249 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.global.component.AudioInfo;
+import com.oreo.finalproject_5re5_be.global.component.ByteArrayMultipartFile;
+import com.oreo.finalproject_5re5_be.global.component.S3Service;
+import com.oreo.finalproject_5re5_be.global.dto.response.AudioFileInfo;
+import com.oreo.finalproject_5re5_be.tts.client.AudioConfigGenerator;
+import com.oreo.finalproject_5re5_be.tts.client.SynthesisInputGenerator;
+import com.oreo.finalproject_5re5_be.tts.client.TtsSynthesisRequest;
+import com.oreo.finalproject_5re5_be.tts.client.VoiceParamsGenerator;
+import com.oreo.finalproject_5re5_be.tts.dto.request.TtsAudioFileInfo;
+import com.oreo.finalproject_5re5_be.tts.dto.response.SentenceInfo;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsRenderResponse;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceDto;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsAudioFile;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
+import com.oreo.finalproject_5re5_be.tts.exception.TtsMakeException;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsSentenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TtsRenderServiceTest {
+    private static final Long PRO_SEQ = 1L;
+
+    private TtsSentenceRepository ttsSentenceRepository;
+    private TtsProgressService ttsProgressService;
+    private TtsMakeService ttsMakeService;
+    private SaveTtsMakeResultService saveTtsMakeResultService;
+    private TtsSynthesisCacheService ttsSynthesisCacheService;
+    private S3Service s3Service;
+    private TtsRenderService ttsRenderService;
+    private final List<List<TtsProgressStatusCode>> savedStatuses = new ArrayList<>();
+    private final Map<String, TtsAudioFile> cache = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        ttsSentenceRepository = mock(TtsSentenceRepository.class);
+        ttsProgressService = mock(TtsProgressService.class);
+        ttsMakeService = mock(TtsMakeService.class);
+        saveTtsMakeResultService = mock(SaveTtsMakeResultService.class);
+        ttsSynthesisCacheService = mock(TtsSynthesisCacheService.class);
+        s3Service = mock(S3Service.class);
+        AudioInfo audioInfo = mock(AudioInfo.class);
+
+        // 합성, 업로드 스레드를 호출 스레드에서 바로 실행
+        ttsRenderService = new TtsRenderService(ttsSentenceRepository, ttsProgressService, ttsMakeService,
+                saveTtsMakeResultService, ttsSynthesisCacheService, s3Service, audioInfo,
+                Runnable::run, Runnable::run, 1000, 100, 2);
+
+        // 문장 텍스트로 합성 파라미터 생성, 캐시는 Map 으로 대신함
+        when(ttsMakeService.createSynthesisRequest(any(TtsSentence.class))).thenAnswer(invocation -> {
+            TtsSentence sentence = invocation.getArgument(0);
+            return new TtsSynthesisRequest(
+                    SynthesisInputGenerator.generate(sentence.getText()),
+                    VoiceParamsGenerator.generate("ko-KR", "ko-KR-Standard-A", "female"),
+                    AudioConfigGenerator.generate());
+        });
+        cache.clear();
+        when(ttsSynthesisCacheService.find(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(cache.get(invocation.<String>getArgument(0))));
+        doAnswer(invocation -> cache.put(invocation.getArgument(0), TtsAudioFile.builder()
+                .ttsAudioSeq(invocation.getArgument(1))
+                .audioPath("https://bucket.s3.amazonaws.com/tts/cached.wav")
+                .audioName("cached").audioExtension("wav").audioSize("1").audioTime(1)
+                .build()))
+                .when(ttsSynthesisCacheService).register(anyString(), anyLong());
+
+        when(ttsMakeService.makeTtsAudioFile(any(TtsSentence.class), any(TtsSynthesisRequest.class))).thenAnswer(invocation -> {
+            TtsSentence sentence = invocation.getArgument(0);
+            return new ByteArrayMultipartFile(new byte[]{1}, "tts-" + sentence.getTsSeq() + ".wav", "audio/wav");
+        });
+        when(audioInfo.extractAudioFileInfo(any(MultipartFile.class)))
+                .thenReturn(AudioFileInfo.builder().name("tts").extension("wav").size("1").length(1).build());
+        when(s3Service.upload(any(MultipartFile.class), eq("tts")))
+                .thenAnswer(invocation -> "https://bucket.s3.amazonaws.com/tts/"
+                        + invocation.<MultipartFile>getArgument(0).getOriginalFilename());
+        when(saveTtsMakeResultService.saveTtsMakeResults(anyList())).thenAnswer(invocation -> {
+            List<TtsRenderResult> results = invocation.getArgument(0);
+            return results.stream().map(result -> dto(result.ttsSentence())).toList();
+        });
+        doAnswer(invocation -> {
+            List<TtsSentence> statusSentences = invocation.getArgument(0);
+            savedStatuses.add(Collections.nCopies(statusSentences.size(), invocation.<TtsProgressStatusCode>getArgument(1)));
+            return null;
+        }).when(ttsProgressService).recordAll(anyList(), any(TtsProgressStatusCode.class));
+    }
+
+    @Test
+    @DisplayName("TTS 오디오가 없는 문장을 모두 생성하고 결과는 묶음 단위로 저장한다.")
+    void renderProjectInBatches() {
+        when(ttsSentenceRepository.findAllByProject_ProSeqAndTtsAudiofileIsNullOrderBySortOrder(PRO_SEQ))
+                .thenReturn(sentences(5));
+
+        TtsRenderResponse response = ttsRenderService.renderProject(PRO_SEQ);
+
+        assertThat(response.getRequestedCount()).isEqualTo(5);
+        assertThat(response.getFinishedCount()).isEqualTo(5);
+        assertThat(response.getFailedSentenceSeqs()).isEmpty();
+        assertThat(response.getSentenceList()).extracting(dto -> dto.getSentence().getTsSeq())
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+
+        // 저장 묶음 크기(2) 단위로 저장
+        ArgumentCaptor<List<TtsRenderResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(saveTtsMakeResultService, times(3)).saveTtsMakeResults(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+
+        // 진행중 상태 1번, 완료 상태는 묶음마다 한 번에 저장
+        assertThat(savedStatuses.get(0)).hasSize(5).containsOnly(TtsProgressStatusCode.IN_PROGRESS);
+        assertThat(savedStatuses.subList(1, savedStatuses.size()))
+                .allSatisfy(statuses -> assertThat(statuses).containsOnly(TtsProgressStatusCode.FINISHED));
+    }
+
+    @Test
+    @DisplayName("생성이 끝나고 토큰이 다시 채워진 프로젝트의 토큰 버킷은 다음 생성 때 정리한다.")
+    void evictIdleProjectBuckets() throws InterruptedException {
+        when(ttsSentenceRepository.findAllByProject_ProSeqAndTtsAudiofileIsNullOrderBySortOrder(anyLong()))
+                .thenReturn(sentences(2));
+
+        ttsRenderService.renderProject(PRO_SEQ);
+        assertThat(ttsRenderService.bucketCount()).isEqualTo(1);
+
+        // 초당 1000개이므로 2개는 금방 다시 채워짐
+        Thread.sleep(50);
+        ttsRenderService.renderProject(PRO_SEQ + 1);
+        assertThat(ttsRenderService.bucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일부 문장의 합성이 실패해도 나머지 문장은 저장하고, 실패한 문장은 FAILED 상태로 기록한다.")
+    void renderProjectWithFailedSentence() {
+        List<TtsSentence> sentences = sentences(3);
+        when(ttsSentenceRepository.findAllByProject_ProSeqAndTtsAudiofileIsNullOrderBySortOrder(PRO_SEQ))
+                .thenReturn(sentences);
+        when(ttsMakeService.makeTtsAudioFile(eq(sentences.get(1)), any(TtsSynthesisRequest.class)))
+                .thenThrow(new TtsMakeException("합성 실패"));
+
+        TtsRenderResponse response = ttsRenderService.renderProject(PRO_SEQ);
+
+        assertThat(response.getFinishedCount()).isEqualTo(2);
+        assertThat(response.getFailedSentenceSeqs()).containsExactly(2L);
+        assertThat(savedStatuses).anySatisfy(statuses ->
+                assertThat(statuses).containsExactly(TtsProgressStatusCode.FAILED));
+        verify(s3Service, never()).deleteFileByUrl(anyString());
+    }
+
+    @Test
+    @DisplayName("결과 저장에 실패하면 업로드한 파일을 삭제하고 해당 문장을 실패로 기록한다.")
+    void renderProjectWithSaveFailure() {
+        when(ttsSentenceRepository.findAllByProject_ProSeqAndTtsAudiofileIsNullOrderBySortOrder(PRO_SEQ))
+                .thenReturn(sentences(2));
+        when(saveTtsMakeResultService.saveTtsMakeResults(anyList())).thenThrow(new IllegalStateException("DB 오류"));
+
+        TtsRenderResponse response = ttsRenderService.renderProject(PRO_SEQ);
+
+        assertThat(response.getFinishedCount()).isZero();
+        assertThat(response.getFailedSentenceSeqs()).containsExactly(1L, 2L);
+        verify(s3Service).deleteFileByUrl("https://bucket.s3.amazonaws.com/tts/tts-1.wav");
+        verify(s3Service).deleteFileByUrl("https://bucket.s3.amazonaws.com/tts/tts-2.wav");
+    }
+
+    @Test
+    @DisplayName("생성할 문장이 없으면 아무것도 하지 않는다.")
+    void renderProjectWithoutDirtySentence() {
+        when(ttsSentenceRepository.findAllByProject_ProSeqAndTtsAudiofileIsNullOrderBySortOrder(PRO_SEQ))
+                .thenReturn(List.of());
+
+        TtsRenderResponse response = ttsRenderService.renderProject(PRO_SEQ);
+
+        assertThat(response.getRequestedCount()).isZero();
+        verifyNoInteractions(ttsMakeService, saveTtsMakeResultService, ttsProgressService);
+    }
+
+    @Test
+    @DisplayName("같은 파라미터로 합성한 결과가 캐시에 있으면 합성과 업로드 없이 재사용한다.")
+    void renderProjectWithCacheHit() {
+        List<TtsSentence> sentences = sentences(2);
+        when(ttsSentenceRepository.findAllByProject_ProSeqAndTtsAudiofileIsNullOrderBySortOrder(PRO_SEQ))
+                .thenReturn(sentences);
+        String cachedKey = ttsMakeService.createSynthesisRequest(sentences.get(0)).cacheKey();
+        cache.put(cachedKey, TtsAudioFile.builder().ttsAudioSeq(7L)
+                .audioPath("https://bucket.s3.amazonaws.com/tts/cached.wav").build());
+
+        TtsRenderResponse response = ttsRenderService.renderProject(PRO_SEQ);
+
+        assertThat(response.getFinishedCount()).isEqualTo(2);
+        assertThat(response.getCachedCount()).isEqualTo(1);
+        verify(ttsMakeService, never()).makeTtsAudioFile(eq(sentences.get(0)), any(TtsSynthesisRequest.class));
+        verify(s3Service, times(1)).upload(any(MultipartFile.class), eq("tts"));
+
+        ArgumentCaptor<List<TtsRenderResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(saveTtsMakeResultService).saveTtsMakeResults(captor.capture());
+        assertThat(captor.getValue()).filteredOn(TtsRenderResult::cached).singleElement()
+                .extracting(TtsRenderResult::uploadedUrl).isEqualTo("https://bucket.s3.amazonaws.com/tts/cached.wav");
+        // 새로 합성한 문장만 캐시에 등록
+        verify(ttsSynthesisCacheService, times(1)).register(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("프로젝트 안에 같은 파라미터의 문장이 여러 개면 한 번만 합성하고 나머지는 캐시를 사용한다.")
+    void renderProjectWithDuplicatedSentences() {
+        List<TtsSentence> sentences = List.of(
+                TtsSentence.builder().tsSeq(1L).sortOrder(1).text("안녕하세요").build(),
+                TtsSentence.builder().tsSeq(2L).sortOrder(2).text("본문").build(),
+                TtsSentence.builder().tsSeq(3L).sortOrder(3).text("안녕하세요").build());
+        when(ttsSentenceRepository.findAllByProject_ProSeqAndTtsAudiofileIsNullOrderBySortOrder(PRO_SEQ))
+                .thenReturn(sentences);
+
+        TtsRenderResponse response = ttsRenderService.renderProject(PRO_SEQ);
+
+        assertThat(response.getFinishedCount()).isEqualTo(3);
+        assertThat(response.getCachedCount()).isEqualTo(1);
+        verify(ttsMakeService, times(2)).makeTtsAudioFile(any(TtsSentence.class), any(TtsSynthesisRequest.class));
+        verify(ttsMakeService, never()).makeTtsAudioFile(eq(sentences.get(2)), any(TtsSynthesisRequest.class));
+        assertThat(response.getSentenceList()).extracting(dto -> dto.getSentence().getTsSeq())
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    private List<TtsSentence> sentences(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(seq -> TtsSentence.builder().tsSeq(seq).sortOrder((int) seq).text("문장" + seq).build())
+                .toList();
+    }
+
+    private TtsSentenceDto dto(TtsSentence sentence) {
+        return TtsSentenceDto.builder()
+                .sentence(SentenceInfo.builder()
+                        .tsSeq(sentence.getTsSeq())
+                        .order(sentence.getSortOrder())
+                        .ttsAudioFileInfo(TtsAudioFileInfo.builder().ttsAudioSeq(100 + sentence.getTsSeq()).build())
+                        .build())
+                .build();
+    }
+}
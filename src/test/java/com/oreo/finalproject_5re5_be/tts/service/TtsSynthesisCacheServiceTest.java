@@ -0,0 +1,86 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.tts.client.AudioConfigGenerator;
+import com.oreo.finalproject_5re5_be.tts.client.SynthesisInputGenerator;
+import com.oreo.finalproject_5re5_be.tts.client.TtsSynthesisRequest;
+import com.oreo.finalproject_5re5_be.tts.client.VoiceParamsGenerator;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsAudioFile;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsSynthesisCache;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsAudioFileRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsSynthesisCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TtsSynthesisCacheServiceTest {
+    private TtsSynthesisCacheRepository ttsSynthesisCacheRepository;
+    private TtsAudioFileRepository ttsAudioFileRepository;
+    private TtsSynthesisCacheService ttsSynthesisCacheService;
+
+    @BeforeEach
+    void setUp() {
+        ttsSynthesisCacheRepository = mock(TtsSynthesisCacheRepository.class);
+        ttsAudioFileRepository = mock(TtsAudioFileRepository.class);
+        ttsSynthesisCacheService = new TtsSynthesisCacheService(ttsSynthesisCacheRepository, ttsAudioFileRepository, 1);
+    }
+
+    @Test
+    @DisplayName("합성 파라미터가 모두 같으면 같은 캐시 키를, 하나라도 다르면 다른 캐시 키를 만든다.")
+    void cacheKey() {
+        String key = request("안녕하세요", 1.0).cacheKey();
+
+        assertThat(key).hasSize(64).isEqualTo(request("안녕하세요", 1.0).cacheKey());
+        assertThat(key).isNotEqualTo(request("안녕하세요", 1.5).cacheKey());
+        assertThat(key).isNotEqualTo(request("안녕하세요.", 1.0).cacheKey());
+    }
+
+    @Test
+    @DisplayName("DB 에서 찾은 캐시는 메모리에 보관해 다음 조회부터 DB 를 조회하지 않는다.")
+    void findFromLocalCache() {
+        TtsAudioFile audioFile = TtsAudioFile.builder().ttsAudioSeq(1L).audioPath("https://bucket/tts/a.wav").build();
+        when(ttsSynthesisCacheRepository.findByCacheKey("key"))
+                .thenReturn(Optional.of(TtsSynthesisCache.builder().cacheKey("key").ttsAudioFile(audioFile).build()));
+
+        assertThat(ttsSynthesisCacheService.find("key")).contains(audioFile);
+        assertThat(ttsSynthesisCacheService.find("key")).contains(audioFile);
+
+        verify(ttsSynthesisCacheRepository, times(1)).findByCacheKey("key");
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 키는 empty 를 반환한다.")
+    void findMissingKey() {
+        when(ttsSynthesisCacheRepository.findByCacheKey("key")).thenReturn(Optional.empty());
+
+        assertThat(ttsSynthesisCacheService.find("key")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 등록된 키는 다시 저장하지 않고, 저장 중 키가 중복되어도 예외를 던지지 않는다.")
+    void register() {
+        when(ttsSynthesisCacheRepository.existsByCacheKey("exists")).thenReturn(true);
+        when(ttsSynthesisCacheRepository.save(any(TtsSynthesisCache.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        ttsSynthesisCacheService.register("exists", 1L);
+        assertThatCode(() -> ttsSynthesisCacheService.register("new", 2L)).doesNotThrowAnyException();
+
+        verify(ttsSynthesisCacheRepository, times(1)).save(any(TtsSynthesisCache.class));
+        verify(ttsAudioFileRepository).getReferenceById(2L);
+    }
+
+    private TtsSynthesisRequest request(String text, double speed) {
+        return new TtsSynthesisRequest(
+                SynthesisInputGenerator.generate(text),
+                VoiceParamsGenerator.generate("ko-KR", "ko-KR-Standard-A", "female"),
+                AudioConfigGenerator.generate(speed, 0.0, 0.0));
+    }
+}
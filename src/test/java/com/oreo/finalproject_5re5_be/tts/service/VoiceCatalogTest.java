@@ -0,0 +1,134 @@
+package com.oreo.finalproject_5re5_be.tts.service;
+
+import com.oreo.finalproject_5re5_be.tts.entity.Language;
+import com.oreo.finalproject_5re5_be.tts.entity.ServerCode;
+import com.oreo.finalproject_5re5_be.tts.entity.Style;
+import com.oreo.finalproject_5re5_be.tts.entity.Voice;
+import com.oreo.finalproject_5re5_be.tts.repository.LanguageRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.StyleRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.VoiceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoiceCatalogTest {
+    private final LanguageRepository languageRepository = mock(LanguageRepository.class);
+    private final StyleRepository styleRepository = mock(StyleRepository.class);
+    private final VoiceRepository voiceRepository = mock(VoiceRepository.class);
+    private final VoiceCatalog voiceCatalog = new VoiceCatalog(languageRepository, styleRepository, voiceRepository);
+
+    private final Language korean = language(1L, "ko-KR");
+    private final Language english = language(2L, "en-US");
+    private final Style calm = style(10L, "calm");
+    private final Style bright = style(20L, "bright");
+
+    @BeforeEach
+    void setUp() {
+        when(languageRepository.findAll()).thenReturn(List.of(korean, english));
+        when(styleRepository.findAll()).thenReturn(List.of(calm, bright));
+        when(voiceRepository.findAllWithLanguageAndStyle()).thenReturn(List.of(
+                voice(100L, korean, calm, 'y'),
+                voice(101L, korean, calm, 'Y'),
+                voice(102L, korean, calm, 'n'),
+                voice(103L, korean, bright, 'n'),
+                voice(104L, english, bright, 'y')));
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 한 번만 DB에서 읽고, 이후 조회는 색인에서 처리한다.")
+    void readThrough() {
+        VoiceCatalog.Snapshot catalog = voiceCatalog.current();
+
+        assertThat(catalog.language("ko-KR")).contains(korean);
+        assertThat(catalog.style("bright")).contains(bright);
+        assertThat(catalog.language("ja-JP")).isEmpty();
+        // 사용 가능한 목소리만 ('Y', 'y')
+        assertThat(catalog.enabledVoices(korean, calm)).extracting(Voice::getVoiceSeq).containsExactly(100L, 101L);
+        assertThat(catalog.enabledVoices(korean, bright)).isEmpty();
+        // 목소리가 있는 스타일은 사용 여부와 관계없이 포함
+        assertThat(catalog.stylesWithVoices(korean)).containsExactly(calm, bright);
+        assertThat(catalog.stylesWithVoices(english)).containsExactly(bright);
+
+        voiceCatalog.current();
+        verify(languageRepository, times(1)).findAll();
+        verify(voiceRepository, times(1)).findAllWithLanguageAndStyle();
+    }
+
+    @Test
+    @DisplayName("언어 코드와 스타일 이름은 MySQL 조회처럼 대소문자를 구분하지 않는다.")
+    void caseInsensitiveLookup() {
+        VoiceCatalog.Snapshot catalog = voiceCatalog.current();
+
+        assertThat(catalog.language("KO-kr")).contains(korean);
+        assertThat(catalog.language("en-us")).contains(english);
+        assertThat(catalog.style("Bright")).contains(bright);
+        assertThat(catalog.style("CALM")).contains(calm);
+    }
+
+    @Test
+    @DisplayName("목소리 번호 조회는 스냅샷에서 찾고, 없으면 DB에서 조회한다.")
+    void findVoice() {
+        Voice added = voice(200L, english, calm, 'y');
+        when(voiceRepository.findById(200L)).thenReturn(Optional.of(added));
+
+        assertThat(voiceCatalog.findVoice(104L)).map(Voice::getVoiceSeq).contains(104L);
+        assertThat(voiceCatalog.findVoice(200L)).contains(added);
+        verify(voiceRepository, times(1)).findById(200L);
+    }
+
+    @Test
+    @DisplayName("갱신하면 스냅샷을 통째로 교체하고, 내용이 같으면 버전을 유지한다.")
+    void refresh() {
+        VoiceCatalog.Snapshot before = voiceCatalog.current();
+
+        voiceCatalog.refresh();
+        assertThat(voiceCatalog.current()).isNotSameAs(before);
+        assertThat(voiceCatalog.current().version()).isEqualTo(before.version());
+
+        when(styleRepository.findAll()).thenReturn(List.of(calm));
+        voiceCatalog.refresh();
+        assertThat(voiceCatalog.current().version().etag()).isNotEqualTo(before.version().etag());
+        assertThat(voiceCatalog.current().styles()).containsExactly(calm);
+        // 이전 스냅샷은 바뀌지 않음
+        assertThat(before.styles()).containsExactly(calm, bright);
+    }
+
+    private static Language language(Long seq, String code) {
+        return Language.builder()
+                .langSeq(seq)
+                .langCode(code)
+                .langName("lang-name" + seq)
+                .regionCode("region-code" + seq)
+                .regionName("region-name" + seq)
+                .enabled('y')
+                .build();
+    }
+
+    private static Style style(Long seq, String name) {
+        return Style.builder()
+                .styleSeq(seq)
+                .name(name)
+                .enabled('y')
+                .build();
+    }
+
+    private static Voice voice(Long seq, Language language, Style style, char enabled) {
+        return Voice.builder()
+                .voiceSeq(seq)
+                .name("voice-" + seq)
+                .server(ServerCode.GOOGLE_CLOUD)
+                .enabled(enabled)
+                .language(language)
+                .style(style)
+                .build();
+    }
+}
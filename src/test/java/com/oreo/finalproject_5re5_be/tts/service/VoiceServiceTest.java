@@ -20,7 +20,6 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -33,6 +32,9 @@ class VoiceServiceTest {
     @Autowired
     VoiceService voiceService;
 
+    @Autowired
+    VoiceCatalog voiceCatalog;
+
     @MockBean
     VoiceRepository voiceRepository;
 
@@ -65,10 +67,8 @@ class VoiceServiceTest {
         Voice voice3 = createVoiceEntity(3L, language, style, 'y');
         List<Voice> voiceList = List.of(voice1, voice2, voice3);
 
-        // 레파지토리 동작 설정
-        when(languageRepository.findByLangCode(language.getLangCode())).thenReturn(Optional.of(language));
-        when(styleRepository.findByName(style.getName())).thenReturn(Optional.of(style));
-        when(voiceRepository.findAllByLanguageAndStyleAndEnabled(language, style, 'y')).thenReturn(voiceList);
+        // 카탈로그 조회 결과 설정
+        refreshCatalog(language, style, voiceList);
 
         // 유효한 조건으로 보이스 목록 조회 테스트 및 검증
         VoiceListDto voiceListDto = voiceService.getVoiceList(language.getLangCode(), style.getName());
@@ -90,11 +90,9 @@ class VoiceServiceTest {
         Voice voice3 = createVoiceEntity(3L, language, style, 'y');
         List<Voice> voiceList = List.of(voice1, voice2, voice3);
 
-        // 레파지토리 동작 설정
+        // 카탈로그 조회 결과 설정
         String invalidStyleName = "invalid-style-name";
-        when(languageRepository.findByLangCode(language.getLangCode())).thenReturn(Optional.of(language));
-        when(styleRepository.findByName(invalidStyleName)).thenReturn(Optional.empty());
-        when(voiceRepository.findAllByLanguageAndStyleAndEnabled(language, style, 'y')).thenReturn(voiceList);
+        refreshCatalog(language, style, voiceList);
 
         // 유효하지 않은 스타일명으로 조회 시도했기 때문에 예외 발생
         assertThrows(EntityNotFoundException.class, () -> voiceService.getVoiceList(language.getLangCode(), invalidStyleName));
@@ -113,11 +111,9 @@ class VoiceServiceTest {
         Voice voice3 = createVoiceEntity(33L, language, style, 'y');
         List<Voice> voiceList = List.of(voice1, voice2, voice3);
 
-        // 레파지토리 동작 설정
+        // 카탈로그 조회 결과 설정
         String invalidLangCode = "invalid-language-code";
-        when(languageRepository.findByLangCode(invalidLangCode)).thenReturn(Optional.empty());
-        when(styleRepository.findByName(style.getName())).thenReturn(Optional.of(style));
-        when(voiceRepository.findAllByLanguageAndStyleAndEnabled(language, style, 'y')).thenReturn(voiceList);
+        refreshCatalog(language, style, voiceList);
 
         // 유효하지 않은 언어코드로 조회 시도했기 때문에 예외 발생
         assertThrows(EntityNotFoundException.class, () -> voiceService.getVoiceList(invalidLangCode, style.getName()));
@@ -131,6 +127,14 @@ class VoiceServiceTest {
         assertThrows(ConstraintViolationException.class, ()->voiceService.getVoiceList(null, null));
     }
 
+    // 레파지토리 동작 설정 후 카탈로그 스냅샷 갱신
+    private void refreshCatalog(Language language, Style style, List<Voice> voiceList) {
+        when(languageRepository.findAll()).thenReturn(List.of(language));
+        when(styleRepository.findAll()).thenReturn(List.of(style));
+        when(voiceRepository.findAllWithLanguageAndStyle()).thenReturn(voiceList);
+        voiceCatalog.refresh();
+    }
+
     // 스타일 엔티티 생성 메서드
     private Style createStyleEntity(Long seq) {
         return Style.builder()
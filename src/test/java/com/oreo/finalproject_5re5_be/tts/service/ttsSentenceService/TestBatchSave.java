@@ -9,14 +9,16 @@ import com.oreo.finalproject_5re5_be.tts.dto.request.TtsSentenceBatchInfo;
 import com.oreo.finalproject_5re5_be.tts.dto.request.TtsSentenceBatchRequest;
 import com.oreo.finalproject_5re5_be.tts.dto.response.SentenceInfo;
 import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListDto;
-import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatus;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListRow;
 import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
-import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
 import com.oreo.finalproject_5re5_be.tts.entity.Voice;
 import com.oreo.finalproject_5re5_be.tts.exception.TtsSentenceInValidInput;
+import com.oreo.finalproject_5re5_be.tts.repository.LanguageRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.StyleRepository;
 import com.oreo.finalproject_5re5_be.tts.repository.TtsProgressStatusRepository;
 import com.oreo.finalproject_5re5_be.tts.repository.TtsSentenceRepository;
 import com.oreo.finalproject_5re5_be.tts.repository.VoiceRepository;
+import com.oreo.finalproject_5re5_be.tts.service.TtsSentenceBatchWriter;
 import com.oreo.finalproject_5re5_be.tts.service.TtsSentenceService;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
@@ -33,7 +35,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +59,16 @@ class TestBatchSave {
     @MockBean
     private TtsProgressStatusRepository ttsProgressStatusRepository;
 
+    @MockBean
+    private TtsSentenceBatchWriter ttsSentenceBatchWriter;
+
+    // 목소리 카탈로그를 DB 없이 읽도록 설정
+    @MockBean
+    private LanguageRepository languageRepository;
+
+    @MockBean
+    private StyleRepository styleRepository;
+
     /*
     1. 성공 케이스 테스트
     - 조건:
@@ -136,45 +149,56 @@ class TestBatchSave {
 
         TtsSentenceBatchRequest batchRequest = createBatchRequest(); // 유효한 batchRequest 생성
 
-        TtsSentence ttsSentence = TtsSentence.builder()
-            .tsSeq(1L)
-            .text("Test text")
-            .sortOrder(1)
-            .volume(100)
-            .speed(1.0f)
-            .startPitch(0)
-            .emotion("normal")
-            .emotionStrength(0)
-            .sampleRate(16000)
-            .alpha(0)
-            .endPitch(0.0f)
-            .audioFormat("wav")
-            .project(mock(Project.class))
-            .voice(mock(Voice.class))
-            .build();
-
-        TtsProgressStatus ttsProgressStatus = TtsProgressStatus.builder()
-            .ttsSentence(ttsSentence)
-            .progressStatus(TtsProgressStatusCode.CREATED)
-            .build();
-
         // 프로젝트가 존재한다고 설정
         when(projectRepository.findById(projectSeq)).thenReturn(Optional.of(project));
         // voice이 존재한다고 설정
-        when(voiceRepository.findById(anyLong())).thenReturn(Optional.of(voice));
-        // ttsSentece 가 존재한다고 설정
-        when(ttsSentenceRepository.findById(anyLong())).thenReturn(Optional.of(ttsSentence));
-        // 각 문장에 대해 TtsSentenceDto 반환
-        when(ttsSentenceRepository.save(any())).thenReturn(ttsSentence);
-        // ttsProgressStatus 가 존재한다고 설정
-        when(ttsProgressStatusRepository.save(any())).thenReturn(ttsProgressStatus);
+        when(voiceRepository.findAllById(any())).thenReturn(List.of(voice));
+        // 수정할 ttsSentence 가 프로젝트에 존재한다고 설정
+        when(ttsSentenceRepository.findTsSeqsInProject(eq(projectSeq), any())).thenReturn(List.of(1L));
+        // 추가한 문장 번호 생성
+        when(ttsSentenceBatchWriter.insertAll(any())).thenReturn(List.of(10L, 11L));
+        // 저장 후 프로젝트 전체 문장 목록 (요청에 없는 문장 7번 포함)
+        when(ttsSentenceRepository.findSentenceListRows(projectSeq)).thenReturn(List.of(
+            createRow(1L, 0), createRow(10L, 1), createRow(11L, 2), createRow(7L, 3)));
 
         // when: batchSaveSentence 메서드 호출
         TtsSentenceListDto result = ttsSentenceService.batchSaveSentence(projectSeq, batchRequest);
 
         // then: 반환된 결과 검증
         assertNotNull(result); // 결과가 null이 아님
-//        assertFalse(result.getSentenceList().isEmpty()); // 리스트가 비어 있지 않음
+        // 요청한 문장만이 아니라 프로젝트 전체 문장을 정렬 순서대로 반환
+        assertEquals(List.of(1L, 10L, 11L, 7L), result.getSentenceList().stream()
+            .map(dto -> dto.getSentence().getTsSeq()).toList());
+        assertEquals(List.of(0, 1, 2, 3), result.getSentenceList().stream()
+            .map(dto -> dto.getSentence().getOrder()).toList());
+        assertEquals(TtsProgressStatusCode.CREATED, result.getSentenceList().get(1).getSentence().getProgressStatus());
+
+        // 행마다 저장하지 않고 배치로 저장, 전체 목록은 한 번의 쿼리로 조회
+        verify(ttsSentenceBatchWriter, times(1)).updateAll(argThat(list -> list.size() == 2));
+        verify(ttsSentenceBatchWriter, times(1)).insertAll(argThat(list -> list.size() == 2));
+        verify(ttsSentenceBatchWriter, times(1)).insertStatuses(List.of(10L, 11L), TtsProgressStatusCode.CREATED);
+        verify(ttsSentenceRepository, never()).save(any());
+        verify(ttsSentenceRepository, never()).findById(any());
+        verify(ttsSentenceRepository, never()).findAllByProjectOrderBySortOrder(any());
+        verify(ttsSentenceRepository, times(1)).findSentenceListRows(projectSeq);
+    }
+
+    // 1.1 리소스 존재하지 않음 테스트 - 수정할 ttsSentence 가 프로젝트에 없음
+    @Test
+    @DisplayName("batchSaveSentence - 수정할 문장이 프로젝트에 없음")
+    void batchSaveSentence_SentenceNotFound() {
+        // given: 프로젝트에 없는 tsSeq 로 수정 요청
+        Long projectSeq = 1L;
+        Project project = Project.builder().proSeq(projectSeq).build();
+        TtsSentenceBatchRequest batchRequest = createBatchRequest();
+
+        when(projectRepository.findById(projectSeq)).thenReturn(Optional.of(project));
+        when(ttsSentenceRepository.findTsSeqsInProject(eq(projectSeq), any())).thenReturn(List.of());
+
+        // when, then: 예외 발생 후 아무것도 저장하지 않음
+        assertThrows(EntityNotFoundException.class,
+            () -> ttsSentenceService.batchSaveSentence(projectSeq, batchRequest));
+        verifyNoInteractions(ttsSentenceBatchWriter);
     }
 
     // 2. 유효성 검증 실패 테스트 - sentenceList가 null
@@ -336,65 +360,52 @@ class TestBatchSave {
 
         // List<TtsSentenceBatchInfo> 생성
         List<TtsSentenceBatchInfo> reqList = List.of(
-            createBatchInfoWithOrder(BatchProcessType.DELETE, 3),
-            createBatchInfoWithOrder(BatchProcessType.UPDATE, 1),
+            createBatchInfoWithOrder(BatchProcessType.DELETE, 3L, 3),
+            createBatchInfoWithOrder(BatchProcessType.UPDATE, 1L, 1),
             createBatchInfoWithOrder(BatchProcessType.CREATE, 2),
-            createBatchInfoWithOrder(BatchProcessType.UPDATE, 5),
+            createBatchInfoWithOrder(BatchProcessType.UPDATE, 5L, 5),
             createBatchInfoWithOrder(BatchProcessType.CREATE, 4)
         );
 
         // batchRequest 생성
         TtsSentenceBatchRequest batchRequest = new TtsSentenceBatchRequest(reqList);
 
-        TtsSentence ttsSentence = TtsSentence.builder()
-            .tsSeq(1L)
-            .text("Test text")
-            .sortOrder(1)
-            .volume(100)
-            .speed(1.0f)
-            .startPitch(0)
-            .emotion("normal")
-            .emotionStrength(0)
-            .sampleRate(16000)
-            .alpha(0)
-            .endPitch(0.0f)
-            .audioFormat("wav")
-            .project(mock(Project.class))
-            .voice(mock(Voice.class))
-            .build();
-
-        TtsProgressStatus ttsProgressStatus = TtsProgressStatus.builder()
-            .ttsSentence(ttsSentence)
-            .progressStatus(TtsProgressStatusCode.CREATED)
-            .build();
-
         // 프로젝트가 존재한다고 설정
         when(projectRepository.findById(projectSeq)).thenReturn(Optional.of(project));
         // voice이 존재한다고 설정
-        when(voiceRepository.findById(anyLong())).thenReturn(Optional.of(voice));
-        // ttsSentece 가 존재한다고 설정
-        when(ttsSentenceRepository.findById(any())).thenReturn(Optional.of(ttsSentence));
-        // 각 문장에 대해 TtsSentenceDto 반환
-        when(ttsSentenceRepository.save(any())).thenReturn(ttsSentence);
-        // 삭제 = 호출 횟수 검증
-        doNothing().when(ttsSentenceRepository).delete(any());
-
-        // ttsProgressStatus 가 존재한다고 설정
-        when(ttsProgressStatusRepository.save(any())).thenReturn(ttsProgressStatus);
+        when(voiceRepository.findAllById(any())).thenReturn(List.of(voice));
+        // ttsSentence 가 프로젝트에 존재한다고 설정
+        when(ttsSentenceRepository.findTsSeqsInProject(eq(projectSeq), any())).thenReturn(List.of(1L, 3L, 5L));
+        // 추가한 문장 번호 생성
+        when(ttsSentenceBatchWriter.insertAll(any())).thenReturn(List.of(10L, 11L));
+        // 삭제 후 남은 문장 목록
+        when(ttsSentenceRepository.findSentenceListRows(projectSeq)).thenReturn(List.of(
+            createRow(1L, 0), createRow(10L, 1), createRow(11L, 2), createRow(5L, 3)));
 
         // when
         // 정렬된 sentenceList 생성
         TtsSentenceListDto batchResponse = ttsSentenceService.batchSaveSentence(projectSeq, batchRequest);
 
         // then: 반환된 결과 검증
-        verify(ttsSentenceRepository, times(1)).delete(any());
-//        assertEquals(reqList.size() - 1, batchResponse.getSentenceList().size()); // delete 로 인한 갯수 감소반영 확인
+        verify(ttsSentenceBatchWriter, times(1)).deleteAll(List.of(3L));
+        assertEquals(reqList.size() - 1, batchResponse.getSentenceList().size()); // delete 로 인한 갯수 감소반영 확인
     }
 
     /*
     데이터 생성 메서드
      */
 
+    // 문장 목록 조회 결과 행 생성
+    private TtsSentenceListRow createRow(Long tsSeq, int sortOrder) {
+        return TtsSentenceListRow.builder()
+            .tsSeq(tsSeq)
+            .voiceSeq(1L)
+            .text("Test text")
+            .sortOrder(sortOrder)
+            .progressStatus(TtsProgressStatusCode.CREATED)
+            .build();
+    }
+
     // 유효한 TtsSentenceBatchRequest 생성
     private TtsSentenceBatchRequest createBatchRequest() {
 
@@ -441,7 +452,13 @@ class TestBatchSave {
 
     private TtsSentenceBatchInfo createBatchInfoWithOrder(BatchProcessType batchProcessType,
         Integer orderIndex) {
+        return createBatchInfoWithOrder(batchProcessType, null, orderIndex);
+    }
+
+    private TtsSentenceBatchInfo createBatchInfoWithOrder(BatchProcessType batchProcessType,
+        Long tsSeq, Integer orderIndex) {
         SentenceInfo sentenceInfo = SentenceInfo.builder()
+            .tsSeq(tsSeq)
             .voiceSeq(1L)
             .order(orderIndex)
             .text("Test text")
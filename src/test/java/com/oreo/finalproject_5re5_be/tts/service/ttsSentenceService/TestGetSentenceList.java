@@ -10,7 +10,7 @@ import com.oreo.finalproject_5re5_be.global.exception.EntityNotFoundException;
 import com.oreo.finalproject_5re5_be.project.entity.Project;
 import com.oreo.finalproject_5re5_be.project.repository.ProjectRepository;
 import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListDto;
-import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListRow;
 import com.oreo.finalproject_5re5_be.tts.repository.TtsSentenceRepository;
 import com.oreo.finalproject_5re5_be.tts.service.TtsSentenceService;
 import jakarta.validation.ConstraintViolationException;
@@ -83,16 +83,17 @@ class TestGetSentenceList {
         Long projectSeq = 1L;
         Project mockProject = Project.builder().proSeq(projectSeq).build();
 
-        // TtsSentence 리스트 생성
-        List<TtsSentence> ttsSentenceList = IntStream.range(0, repeatCount)
-            .mapToObj(i -> TtsSentence.builder()
+        // TtsSentence 목록 행 생성
+        List<TtsSentenceListRow> ttsSentenceList = IntStream.range(0, repeatCount)
+            .mapToObj(i -> TtsSentenceListRow.builder()
                 .tsSeq((long) i)
-                .text("Sentence " + i).project(mockProject)
+                .text("Sentence " + i)
+                .sortOrder(i)
                 .build())
             .toList();
 
         when(projectRepository.findById(projectSeq)).thenReturn(Optional.of(mockProject));
-        when(ttsSentenceRepository.findAllByProjectOrderBySortOrder(mockProject)).thenReturn(ttsSentenceList);
+        when(ttsSentenceRepository.findSentenceListRows(projectSeq)).thenReturn(ttsSentenceList);
 
         // when
         TtsSentenceListDto result = ttsSentenceService.getSentenceList(projectSeq);
@@ -131,7 +132,7 @@ class TestGetSentenceList {
         Project mockProject = Project.builder().proSeq(projectSeq).build();
 
         when(projectRepository.findById(projectSeq)).thenReturn(Optional.of(mockProject));
-        when(ttsSentenceRepository.findAllByProjectOrderBySortOrder(mockProject)).thenReturn(List.of()); // 빈 리스트 반환
+        when(ttsSentenceRepository.findSentenceListRows(projectSeq)).thenReturn(List.of()); // 빈 리스트 반환
 
         // when
         TtsSentenceListDto result = ttsSentenceService.getSentenceList(projectSeq);
@@ -0,0 +1,168 @@
+package com.oreo.finalproject_5re5_be.tts.service.ttsSentenceService;
+
+import com.oreo.finalproject_5re5_be.project.entity.Project;
+import com.oreo.finalproject_5re5_be.project.repository.ProjectRepository;
+import com.oreo.finalproject_5re5_be.tts.dto.response.SentenceInfo;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceDto;
+import com.oreo.finalproject_5re5_be.tts.dto.response.TtsSentenceListDto;
+import com.oreo.finalproject_5re5_be.tts.entity.ServerCode;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsAudioFile;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatus;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
+import com.oreo.finalproject_5re5_be.tts.entity.Voice;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsAudioFileRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsProgressStatusRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsSentenceRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.VoiceRepository;
+import com.oreo.finalproject_5re5_be.tts.service.TtsSentenceService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TestGetSentenceListQueryCount {
+
+    @Autowired
+    private TtsSentenceService ttsSentenceService;
+
+    @Autowired
+    private TtsSentenceRepository ttsSentenceRepository;
+
+    @Autowired
+    private TtsProgressStatusRepository ttsProgressStatusRepository;
+
+    @Autowired
+    private TtsAudioFileRepository ttsAudioFileRepository;
+
+    @Autowired
+    private VoiceRepository voiceRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /*
+    테스트 시나리오: getSentenceList 조회 쿼리 수
+
+    1. 문장 수와 관계없이 쿼리 수가 같음
+    - 조건: 문장 3개 프로젝트와 문장 50개 프로젝트 (오디오, 진행 상태 포함)
+    - 기대 결과: 두 조회의 실행 쿼리 수가 같음 (프로젝트 조회 1번 + 목록 조회 1번)
+
+    2. 최근 진행 상태와 오디오 정보가 함께 조회됨
+    - 조건: 상태가 CREATED -> IN_PROGRESS -> FINISHED 순서로 저장된 문장
+    - 기대 결과: 최근 상태(FINISHED)와 오디오 정보가 담긴 목록을 정렬 순서대로 반환
+    */
+
+    // 1. 문장 수와 관계없이 쿼리 수가 같음
+    @Test
+    @DisplayName("getSentenceList - 문장 수가 늘어나도 쿼리 수는 같음")
+    void getSentenceList_ConstantStatementCount() {
+        // given
+        Long smallProjectSeq = createProjectWithSentences(3);
+        Long largeProjectSeq = createProjectWithSentences(50);
+
+        // when
+        long smallCount = countStatements(smallProjectSeq, 3);
+        long largeCount = countStatements(largeProjectSeq, 50);
+
+        // then
+        assertThat(largeCount).isEqualTo(smallCount);
+        assertThat(largeCount).isEqualTo(2);
+    }
+
+    // 2. 최근 진행 상태와 오디오 정보가 함께 조회됨
+    @Test
+    @DisplayName("getSentenceList - 최근 진행 상태와 오디오 정보 조회")
+    void getSentenceList_LatestStatusAndAudio() {
+        // given
+        Long projectSeq = createProjectWithSentences(2);
+
+        // when
+        List<SentenceInfo> sentences = ttsSentenceService.getSentenceList(projectSeq).getSentenceList().stream()
+            .map(TtsSentenceDto::getSentence)
+            .toList();
+
+        // then
+        assertThat(sentences).extracting(SentenceInfo::getOrder).containsExactly(0, 1);
+        assertThat(sentences).extracting(SentenceInfo::getProgressStatus)
+            .containsOnly(TtsProgressStatusCode.FINISHED);
+        assertThat(sentences).allSatisfy(sentence -> {
+            assertThat(sentence.getTtsAudioFileInfo()).isNotNull();
+            assertThat(sentence.getTtsAudioFileInfo().getAudioUrl()).isEqualTo("/path/to/audio");
+            assertThat(sentence.getTtsAttributeInfo().getVolume()).isEqualTo(50);
+        });
+    }
+
+    // 목록 조회 동안 실행된 쿼리 수
+    private long countStatements(Long projectSeq, int expectedSize) {
+        statistics.clear();
+        TtsSentenceListDto result = ttsSentenceService.getSentenceList(projectSeq);
+        long count = statistics.getPrepareStatementCount();
+
+        assertThat(result.getSentenceList()).hasSize(expectedSize);
+        return count;
+    }
+
+    // 헬퍼 메서드 - 문장, 오디오, 진행 상태를 가진 프로젝트 생성
+    private Long createProjectWithSentences(int sentenceCount) {
+        Voice voice = voiceRepository.save(Voice.builder()
+            .name("Sample Voice")
+            .enabled('Y')
+            .server(ServerCode.GOOGLE_CLOUD)
+            .build());
+        Project project = projectRepository.save(Project.builder().build());
+
+        List<TtsSentence> sentences = new ArrayList<>();
+        for (int i = 0; i < sentenceCount; i++) {
+            TtsAudioFile audioFile = ttsAudioFileRepository.save(TtsAudioFile.builder()
+                .audioPath("/path/to/audio")
+                .audioName("SampleAudio" + i + ".wav")
+                .audioExtension("wav")
+                .build());
+            sentences.add(TtsSentence.builder()
+                .text("Sentence " + i)
+                .sortOrder(sentenceCount - 1 - i)
+                .volume(50)
+                .speed(1.0f)
+                .voice(voice)
+                .project(project)
+                .ttsAudiofile(audioFile)
+                .build());
+        }
+        List<TtsSentence> savedSentences = ttsSentenceRepository.saveAll(sentences);
+
+        List<TtsProgressStatus> statuses = new ArrayList<>();
+        for (TtsProgressStatusCode statusCode : List.of(TtsProgressStatusCode.CREATED,
+            TtsProgressStatusCode.IN_PROGRESS, TtsProgressStatusCode.FINISHED)) {
+            savedSentences.forEach(sentence -> statuses.add(TtsProgressStatus.builder()
+                .ttsSentence(sentence)
+                .progressStatus(statusCode)
+                .build()));
+        }
+        ttsProgressStatusRepository.saveAll(statuses);
+        return project.getProSeq();
+    }
+}
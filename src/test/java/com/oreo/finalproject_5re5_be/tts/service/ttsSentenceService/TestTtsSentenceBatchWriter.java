@@ -0,0 +1,195 @@
+package com.oreo.finalproject_5re5_be.tts.service.ttsSentenceService;
+
+import com.oreo.finalproject_5re5_be.project.entity.Project;
+import com.oreo.finalproject_5re5_be.project.repository.ProjectRepository;
+import com.oreo.finalproject_5re5_be.tts.entity.ServerCode;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsAudioFile;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsProgressStatusCode;
+import com.oreo.finalproject_5re5_be.tts.entity.TtsSentence;
+import com.oreo.finalproject_5re5_be.tts.entity.Voice;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsAudioFileRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.TtsSentenceRepository;
+import com.oreo.finalproject_5re5_be.tts.repository.VoiceRepository;
+import com.oreo.finalproject_5re5_be.tts.service.TtsSentenceBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+테스트 시나리오: TtsSentenceBatchWriter (H2 DB 에 실제로 저장)
+
+1. insertAll - 생성된 문장 번호를 입력 순서대로 반환하고 행이 저장됨
+2. updateAll - 문장 내용/목소리를 수정하고 오디오 파일 연결(tts_aud_seq)을 해제함
+3. insertStatuses - 문장 상태가 저장됨
+4. deleteAll - 문장과 문장 상태를 함께 삭제하고 다른 문장은 남김
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+    properties = "tts.sentence.batch-size=2")
+class TestTtsSentenceBatchWriter {
+
+    @Autowired
+    private TtsSentenceBatchWriter ttsSentenceBatchWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TtsSentenceRepository ttsSentenceRepository;
+
+    @Autowired
+    private TtsAudioFileRepository ttsAudioFileRepository;
+
+    @Autowired
+    private VoiceRepository voiceRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Project project;
+    private Voice voice;
+
+    @BeforeEach
+    void setUp() {
+        project = projectRepository.save(Project.builder().build());
+        voice = voiceRepository.save(createVoice("voice"));
+    }
+
+    @Test
+    @DisplayName("insertAll - 배치 크기를 넘는 문장도 생성된 번호를 입력 순서대로 반환")
+    void insertAll() {
+        // given - 배치 크기(2)보다 많은 3개의 문장
+        List<TtsSentence> sentences = List.of(
+            createSentence("first", 0),
+            createSentence("second", 1),
+            createSentence("third", 2));
+
+        // when
+        List<Long> tsSeqs = ttsSentenceBatchWriter.insertAll(sentences);
+
+        // then
+        assertThat(tsSeqs).hasSize(3).doesNotContainNull().doesNotHaveDuplicates();
+        for (int i = 0; i < tsSeqs.size(); i++) {
+            Map<String, Object> row = findSentenceRow(tsSeqs.get(i));
+            assertThat(row.get("text")).isEqualTo(sentences.get(i).getText());
+            assertThat(((Number) row.get("sort_ord")).intValue()).isEqualTo(i);
+            assertThat(((Number) row.get("pro_seq")).longValue()).isEqualTo(project.getProSeq());
+            assertThat(((Number) row.get("voice_seq")).longValue()).isEqualTo(voice.getVoiceSeq());
+            assertThat(row.get("reg_date")).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("updateAll - 문장 내용과 목소리를 수정하고 오디오 파일 연결을 해제")
+    void updateAll() {
+        // given - 오디오 파일이 연결된 문장
+        TtsAudioFile audioFile = ttsAudioFileRepository.save(TtsAudioFile.builder()
+            .audioPath("/path/to/audio")
+            .audioName("audio.wav")
+            .audioSize("1024")
+            .audioExtension("wav")
+            .build());
+        TtsSentence saved = ttsSentenceRepository.save(createSentence("before", 0).toBuilder()
+            .ttsAudiofile(audioFile)
+            .build());
+        Voice newVoice = voiceRepository.save(createVoice("newVoice"));
+
+        // when
+        ttsSentenceBatchWriter.updateAll(List.of(TtsSentence.builder()
+            .tsSeq(saved.getTsSeq())
+            .text("after")
+            .sortOrder(3)
+            .volume(70)
+            .voice(newVoice)
+            .build()));
+
+        // then
+        Map<String, Object> row = findSentenceRow(saved.getTsSeq());
+        assertThat(row.get("text")).isEqualTo("after");
+        assertThat(((Number) row.get("sort_ord")).intValue()).isEqualTo(3);
+        assertThat(((Number) row.get("volume")).intValue()).isEqualTo(70);
+        assertThat(((Number) row.get("voice_seq")).longValue()).isEqualTo(newVoice.getVoiceSeq());
+        assertThat(row.get("tts_aud_seq")).isNull();
+    }
+
+    @Test
+    @DisplayName("insertStatuses - 문장 상태를 저장")
+    void insertStatuses() {
+        // given
+        List<Long> tsSeqs = ttsSentenceBatchWriter.insertAll(List.of(
+            createSentence("first", 0),
+            createSentence("second", 1),
+            createSentence("third", 2)));
+
+        // when
+        ttsSentenceBatchWriter.insertStatuses(tsSeqs, TtsProgressStatusCode.CREATED);
+
+        // then
+        for (Long tsSeq : tsSeqs) {
+            List<String> statuses = jdbcTemplate.queryForList(
+                "SELECT prog_stat FROM tts_progress_status WHERE ts_seq = ?", String.class, tsSeq);
+            assertThat(statuses).containsExactly(TtsProgressStatusCode.CREATED.name());
+        }
+    }
+
+    @Test
+    @DisplayName("deleteAll - 문장과 문장 상태를 IN 조건으로 함께 삭제")
+    void deleteAll() {
+        // given
+        List<Long> tsSeqs = ttsSentenceBatchWriter.insertAll(List.of(
+            createSentence("first", 0),
+            createSentence("second", 1),
+            createSentence("third", 2)));
+        ttsSentenceBatchWriter.insertStatuses(tsSeqs, TtsProgressStatusCode.CREATED);
+
+        // when - 앞의 두 문장만 삭제
+        ttsSentenceBatchWriter.deleteAll(tsSeqs.subList(0, 2));
+
+        // then
+        assertThat(countRows("tts_sentence", tsSeqs)).isEqualTo(1);
+        assertThat(countRows("tts_progress_status", tsSeqs)).isEqualTo(1);
+        assertThat(findSentenceRow(tsSeqs.get(2)).get("text")).isEqualTo("third");
+    }
+
+    private Map<String, Object> findSentenceRow(Long tsSeq) {
+        return jdbcTemplate.queryForMap("SELECT * FROM tts_sentence WHERE ts_seq = ?", tsSeq);
+    }
+
+    private int countRows(String table, List<Long> tsSeqs) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + table + " WHERE ts_seq IN (?, ?, ?)",
+            Integer.class, tsSeqs.toArray());
+        return count == null ? 0 : count;
+    }
+
+    private TtsSentence createSentence(String text, int sortOrder) {
+        return TtsSentence.builder()
+            .text(text)
+            .sortOrder(sortOrder)
+            .volume(50)
+            .speed(1.0f)
+            .project(project)
+            .voice(voice)
+            .build();
+    }
+
+    private Voice createVoice(String name) {
+        return Voice.builder()
+            .name(name)
+            .gender("Male")
+            .age(30)
+            .description("Sample Description")
+            .enabled('Y')
+            .server(ServerCode.GOOGLE_CLOUD)
+            .build();
+    }
+}
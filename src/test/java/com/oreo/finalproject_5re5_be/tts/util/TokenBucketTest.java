@@ -0,0 +1,61 @@
+package com.oreo.finalproject_5re5_be.tts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("버킷 크기만큼은 바로 사용하고, 이후 요청은 초당 토큰 수 간격으로 예약된다.")
+    void reserveAfterBurst() {
+        TokenBucket bucket = new TokenBucket(2, 2, now::get);
+
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        // 토큰 소진 후 0.5초, 1초 뒤로 순서대로 예약
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워지지만 버킷 크기를 넘지 않는다.")
+    void refill() {
+        TokenBucket bucket = new TokenBucket(1, 2, now::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("사용한 토큰이 모두 다시 채워져야 가득 찬 버킷이 된다.")
+    void isFull() {
+        TokenBucket bucket = new TokenBucket(1, 2, now::get);
+        assertThat(bucket.isFull()).isTrue();
+
+        bucket.reserve();
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.isFull()).isFalse();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.isFull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("초당 토큰 수나 버킷 크기가 잘못되면 예외가 발생한다.")
+    void invalidArguments() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,247 @@
+package com.oreo.finalproject_5re5_be.vc.service;
+
+import com.oreo.finalproject_5re5_be.global.component.AudioInfo;
+import com.oreo.finalproject_5re5_be.global.component.S3ObjectMultipartFile;
+import com.oreo.finalproject_5re5_be.global.component.S3Service;
+import com.oreo.finalproject_5re5_be.global.config.VcHttpClientConfig;
+import com.oreo.finalproject_5re5_be.vc.dto.response.VcResultUpload;
+import com.oreo.finalproject_5re5_be.vc.exception.VcAPIFilesIsEmptyException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 외부 VC API 대신 로컬 스텁 서버(JDK HttpServer)로 요청을 받아 확인하는 테스트
+ */
+class VcApiServiceStubServerTest {
+    private static final String API_KEY = "test-api-key";
+    private static final Pattern FILENAME = Pattern.compile("filename=\"([^\"]+)\"");
+    private static final int MP3_FRAME_SIZE = 626; // MPEG1 Layer III, 192kbps, 44100Hz 프레임 크기
+    private static final int FRAMES_PER_SECOND = 40; // 40 프레임 = 약 1.04초
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private CloseableHttpAsyncClient client;
+    private ExecutorService uploadExecutor;
+    private ExecutorService requestBodyExecutor;
+    private AudioInfo audioInfo;
+    private VcApiService vcApiService;
+
+    // S3에 올라간 파일 (URL -> 내용)
+    private final Map<String, byte[]> uploaded = new ConcurrentHashMap<>();
+
+    // 스텁 서버 상태
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile CountDownLatch arrived = new CountDownLatch(0);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.createContext("/voices/add", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 200, "{\"voice_id\":\"trg-1\",\"requires_verification\":false}");
+        });
+        server.createContext("/speech-to-speech/trg-1", this::convert);
+        server.createContext("/speech-to-speech/unknown", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 404, "{\"detail\":\"voice not found\"}");
+        });
+        server.createContext("/speech-to-speech/text", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 200, "not an audio");
+        });
+        server.start();
+
+        // 업로드는 스트림을 끝까지 읽고, 완료 직전 콜백을 실행 (콜백에서 예외가 나면 업로드 실패)
+        S3Service s3Service = mock(S3Service.class);
+        when(s3Service.upload(any(InputStream.class), eq("vc/result"), anyString(), anyString(), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    byte[] bytes = invocation.getArgument(0, InputStream.class).readAllBytes();
+                    invocation.getArgument(4, Runnable.class).run();
+                    String url = "https://bucket/vc/result/" + uploaded.size() + "_" + invocation.getArgument(2);
+                    uploaded.put(url, bytes);
+                    return url;
+                });
+
+        client = new VcHttpClientConfig().vcHttpClient(8, 4, 1000, 5000, 30);
+        uploadExecutor = Executors.newFixedThreadPool(4);
+        requestBodyExecutor = Executors.newFixedThreadPool(4);
+        audioInfo = new AudioInfo(1);
+        vcApiService = new VcApiServiceImpl(client, "http://127.0.0.1:" + server.getAddress().getPort(), API_KEY,
+                s3Service, audioInfo, uploadExecutor, requestBodyExecutor);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        uploadExecutor.shutdownNow();
+        requestBodyExecutor.shutdownNow();
+        audioInfo.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("타겟 파일로 voice_id 를 받아온다.")
+    void trgIdCreate() {
+        String trgId = vcApiService.trgIdCreate(audio("trg.wav"));
+
+        assertThat(trgId).isEqualTo("trg-1");
+    }
+
+    @Test
+    @DisplayName("여러 소스 파일은 동시에 변환해서 업로드하고 입력 순서대로 반환한다.")
+    void resultFileCreateConcurrently() {
+        // 네 요청이 모두 도착해야 응답하므로, 하나씩 보내면 시간 초과로 동시 요청 수가 1이 됨
+        arrived = new CountDownLatch(4);
+        List<MultipartFile> sources = List.of(audio("a.wav"), audio("b.wav"), audio("c.wav"), audio("d.wav"));
+
+        List<VcResultUpload> results = vcApiService.resultFileCreate(sources, "trg-1", "vc/result");
+
+        assertThat(maxInFlight.get()).isEqualTo(4);
+        assertThat(results).hasSize(4);
+        for (int i = 0; i < sources.size(); i++) {
+            int seconds = i + 1; // a.wav 는 1초, b.wav 는 2초 ...
+            VcResultUpload result = results.get(i);
+            assertThat(uploaded.get(result.getFileUrl())).hasSize(seconds * FRAMES_PER_SECOND * MP3_FRAME_SIZE);
+            assertThat(result.getAudioFileInfo().getSize())
+                    .isEqualTo(String.valueOf(seconds * FRAMES_PER_SECOND * MP3_FRAME_SIZE));
+            assertThat(result.getAudioFileInfo().getLength()).isEqualTo(seconds);
+            assertThat(result.getAudioFileInfo().getSampleRate()).isEqualTo(44100);
+            assertThat(result.getAudioFileInfo().getName()).isEqualTo("response.wav");
+        }
+    }
+
+    @Test
+    @DisplayName("소스 파일은 메모리에 올리지 않고 요청을 보낼 때 스트림으로 읽어 보낸다.")
+    void resultFileCreateStreamsSource() {
+        AtomicInteger opened = new AtomicInteger();
+        byte[] content = "audio of b.wav".getBytes(StandardCharsets.UTF_8);
+        MultipartFile source = new S3ObjectMultipartFile("b.wav", "audio/wav", content.length, () -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(content);
+        }) {
+            @Override
+            public byte[] getBytes() {
+                throw new UnsupportedOperationException("전체를 메모리로 읽으면 안 됨");
+            }
+        };
+
+        VcResultUpload result = vcApiService.resultFileCreate(source, "trg-1", "vc/result");
+
+        assertThat(opened.get()).isEqualTo(1);
+        assertThat(result.getAudioFileInfo().getLength()).isEqualTo(2); // 스텁 서버가 b.wav 로 받았으면 2초
+    }
+
+    @Test
+    @DisplayName("API 가 오류로 응답하면 업로드하지 않고 예외가 발생한다.")
+    void resultFileCreateFailed() {
+        assertThatThrownBy(() -> vcApiService.resultFileCreate(List.of(audio("a.wav")), "unknown", "vc/result"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Failed to create result file")
+                .hasRootCauseMessage("Request failed with status code: 404");
+        assertThat(uploaded).isEmpty();
+    }
+
+    @Test
+    @DisplayName("응답이 오디오가 아니면 업로드를 마치지 않고 예외가 발생한다.")
+    void resultFileCreateNotAudio() {
+        assertThatThrownBy(() -> vcApiService.resultFileCreate(List.of(audio("a.wav")), "text", "vc/result"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Failed to create result file")
+                .hasRootCauseMessage("오디오 파일 헤더를 분석할 수 없습니다: response.wav");
+        assertThat(uploaded).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 파일이 있으면 요청하지 않고 예외가 발생한다.")
+    void resultFileCreateEmptyFile() {
+        MultipartFile empty = new MockMultipartFile("file", "empty.wav", "audio/wav", new byte[0]);
+
+        assertThatThrownBy(() -> vcApiService.resultFileCreate(List.of(audio("a.wav"), empty), "trg-1", "vc/result"))
+                .isInstanceOf(VcAPIFilesIsEmptyException.class);
+        assertThat(maxInFlight.get()).isZero();
+    }
+
+    // 업로드한 파일 이름에 따라 길이가 다른 MP3로 응답 (a.wav 는 1초, b.wav 는 2초 ..., API 키가 없으면 401)
+    private void convert(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1);
+            if (!API_KEY.equals(exchange.getRequestHeaders().getFirst("xi-api-key"))) {
+                respond(exchange, 401, "{\"detail\":\"invalid api key\"}");
+                return;
+            }
+            arrived.countDown();
+            arrived.await(2, TimeUnit.SECONDS);
+            Matcher matcher = FILENAME.matcher(body);
+            int seconds = matcher.find() ? matcher.group(1).charAt(0) - 'a' + 1 : 1;
+            respond(exchange, 200, mp3(seconds * FRAMES_PER_SECOND));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] bytes) throws IOException {
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    // 192kbps CBR MP3 프레임 (헤더 뒤는 무음 데이터)
+    private static byte[] mp3(int frames) {
+        byte[] bytes = new byte[frames * MP3_FRAME_SIZE];
+        for (int i = 0; i < frames; i++) {
+            int pos = i * MP3_FRAME_SIZE;
+            bytes[pos] = (byte) 0xFF;
+            bytes[pos + 1] = (byte) 0xFB; // MPEG1 Layer III
+            bytes[pos + 2] = (byte) 0xB0; // 192kbps, 44100Hz
+            bytes[pos + 3] = (byte) 0x00; // stereo
+        }
+        return bytes;
+    }
+
+    private static MultipartFile audio(String filename) {
+        return new MockMultipartFile("file", filename, "audio/wav", ("audio of " + filename).getBytes(StandardCharsets.UTF_8));
+    }
+}
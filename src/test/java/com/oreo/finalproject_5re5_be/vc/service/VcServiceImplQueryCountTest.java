@@ -0,0 +1,156 @@
+package com.oreo.finalproject_5re5_be.vc.service;
+
+import com.oreo.finalproject_5re5_be.project.entity.Project;
+import com.oreo.finalproject_5re5_be.project.repository.ProjectRepository;
+import com.oreo.finalproject_5re5_be.vc.dto.request.VcResultsRequest;
+import com.oreo.finalproject_5re5_be.vc.dto.request.VcSrcsRequest;
+import com.oreo.finalproject_5re5_be.vc.dto.response.VcResponse;
+import com.oreo.finalproject_5re5_be.vc.entity.Vc;
+import com.oreo.finalproject_5re5_be.vc.entity.VcResultFile;
+import com.oreo.finalproject_5re5_be.vc.entity.VcSrcFile;
+import com.oreo.finalproject_5re5_be.vc.entity.VcText;
+import com.oreo.finalproject_5re5_be.vc.repository.VcRepository;
+import com.oreo.finalproject_5re5_be.vc.repository.VcResultFileRepository;
+import com.oreo.finalproject_5re5_be.vc.repository.VcSrcFileRepository;
+import com.oreo.finalproject_5re5_be.vc.repository.VcTextRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class VcServiceImplQueryCountTest {
+
+    @Autowired
+    private VcService vcService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private VcRepository vcRepository;
+
+    @Autowired
+    private VcSrcFileRepository vcSrcFileRepository;
+
+    @Autowired
+    private VcResultFileRepository vcResultFileRepository;
+
+    @Autowired
+    private VcTextRepository vcTextRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /*
+    테스트 시나리오: getVcResponse 조회 쿼리 수
+
+    1. 행 수와 관계없이 쿼리 수가 같음
+    - 조건: SRC 3개 프로젝트와 SRC 50개 프로젝트 (Result 2개, 텍스트 포함)
+    - 기대 결과: 두 조회의 실행 쿼리 수가 1번으로 같음
+
+    2. 최근 Result 와 텍스트가 rowOrder 순서로 조회됨
+    - 조건: SRC 마다 Result 2개 저장, 마지막 SRC 는 Result, 텍스트 없음
+    - 기대 결과: 나중에 저장한 Result 가 조회되고, 없는 값은 null
+    */
+
+    // 1. 행 수와 관계없이 쿼리 수가 같음
+    @Test
+    @DisplayName("[VcServiceTest] VC 탭 조회 - 행 수가 늘어나도 쿼리 수는 같음")
+    void getVcResponse_ConstantStatementCount() {
+        // given
+        Long smallProjectSeq = createProjectWithRows(3);
+        Long largeProjectSeq = createProjectWithRows(50);
+
+        // when
+        long smallCount = countStatements(smallProjectSeq, 3);
+        long largeCount = countStatements(largeProjectSeq, 50);
+
+        // then
+        assertThat(largeCount).isEqualTo(smallCount);
+        assertThat(largeCount).isEqualTo(1);
+    }
+
+    // 2. 최근 Result 와 텍스트가 rowOrder 순서로 조회됨
+    @Test
+    @DisplayName("[VcServiceTest] VC 탭 조회 - 최근 Result 와 텍스트를 rowOrder 순서로 조회")
+    void getVcResponse_LatestResultAndText() {
+        // given
+        Long projectSeq = createProjectWithRows(3);
+
+        // when
+        List<VcResponse> responses = vcService.getVcResponse(projectSeq);
+
+        // then
+        assertThat(responses).extracting(VcResponse::getVcSrcFile)
+            .extracting(VcSrcsRequest::getRowOrder).containsExactly(1, 2, 3);
+        assertThat(responses.subList(0, 2)).allSatisfy(response -> {
+            assertThat(response.getVcResultFile()).extracting(VcResultsRequest::getName).isEqualTo("latest.wav");
+            assertThat(response.getVcText().getText()).isEqualTo("text " + response.getVcSrcFile().getRowOrder());
+        });
+        assertThat(responses.get(2).getVcResultFile()).isNull();
+        assertThat(responses.get(2).getVcText()).isNull();
+    }
+
+    // 조회 동안 실행된 쿼리 수
+    private long countStatements(Long projectSeq, int expectedSize) {
+        statistics.clear();
+        List<VcResponse> result = vcService.getVcResponse(projectSeq);
+        long count = statistics.getPrepareStatementCount();
+
+        assertThat(result).hasSize(expectedSize);
+        return count;
+    }
+
+    // 헬퍼 메서드 - SRC, Result, 텍스트를 가진 프로젝트 생성 (마지막 SRC 는 SRC 만 저장)
+    private Long createProjectWithRows(int rowCount) {
+        Project project = projectRepository.save(Project.builder().build());
+        Vc vc = vcRepository.save(Vc.builder()
+            .proSeq(project)
+            .build());
+
+        // rowOrder 와 저장 순서를 반대로 해서 정렬을 확인
+        List<VcSrcFile> srcFiles = new ArrayList<>();
+        for (int rowOrder = rowCount; rowOrder >= 1; rowOrder--) {
+            srcFiles.add(VcSrcFile.create(vc, rowOrder, "src" + rowOrder + ".wav", "src_url" + rowOrder,
+                10, "100", "wav"));
+        }
+        List<VcSrcFile> savedSrcFiles = vcSrcFileRepository.saveAll(srcFiles);
+
+        List<VcResultFile> resultFiles = new ArrayList<>();
+        List<VcText> texts = new ArrayList<>();
+        for (VcSrcFile srcFile : savedSrcFiles) {
+            if (srcFile.getRowOrder() == rowCount) {
+                continue;
+            }
+            resultFiles.add(VcResultFile.create(srcFile, "old.wav", "old_url", 10, "100", "wav"));
+            texts.add(VcText.create(srcFile, "text " + srcFile.getRowOrder(), "6"));
+        }
+        vcResultFileRepository.saveAll(resultFiles);
+        vcResultFileRepository.saveAll(savedSrcFiles.stream()
+            .filter(srcFile -> srcFile.getRowOrder() != rowCount)
+            .map(srcFile -> VcResultFile.create(srcFile, "latest.wav", "latest_url", 10, "100", "wav"))
+            .toList());
+        vcTextRepository.saveAll(texts);
+        return project.getProSeq();
+    }
+}
@@ -1,14 +1,18 @@
 package com.oreo.finalproject_5re5_be.vc.service;
 
+import com.oreo.finalproject_5re5_be.member.entity.Member;
 import com.oreo.finalproject_5re5_be.project.entity.Project;
+import com.oreo.finalproject_5re5_be.project.exception.projectNotMemberException;
 import com.oreo.finalproject_5re5_be.project.repository.ProjectRepository;
 import com.oreo.finalproject_5re5_be.vc.dto.request.VcAudioRequest;
 import com.oreo.finalproject_5re5_be.vc.dto.request.VcSrcRequest;
 import com.oreo.finalproject_5re5_be.vc.dto.request.VcTextRequest;
 import com.oreo.finalproject_5re5_be.vc.dto.response.VcResponse;
+import com.oreo.finalproject_5re5_be.vc.dto.response.VcResponseRow;
 import com.oreo.finalproject_5re5_be.vc.dto.response.VcTextResponse;
 import com.oreo.finalproject_5re5_be.vc.dto.response.VcUrlResponse;
 import com.oreo.finalproject_5re5_be.vc.entity.*;
+import com.oreo.finalproject_5re5_be.vc.exception.VcNotMemberException;
 import com.oreo.finalproject_5re5_be.vc.repository.*;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +31,9 @@ import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @Slf4j
@@ -174,21 +181,26 @@ class VcServiceImplTest {
     @DisplayName("[VcServiceTest] VC 탭 조회 테스트 - 모두 조회 성공")
     void getVcResultAndTextResponse() {
         Project project = createProjectBuild();//project 객체 생성
-        Vc vc = createVcBuild(project);
-        VcSrcFile srcFile = VcSrcFile.builder().vc(vc).build();//src 객체 생성
-        VcResultFile vcResultFile = VcResultFile.builder().srcSeq(srcFile).build();// result 객체 생성
-        VcText vcText = VcText.builder().srcSeq(srcFile).build();//text 객체 생성
-
-        when(projectRepository.findById(srcFile.getSrcSeq())).thenReturn(Optional.of(project));
-        when(vcRepository.findById(vc.getProjectSeq())).thenReturn(Optional.of(vc));
-        when(vcSrcFileRepository.findByVcProjectSeq(project.getProSeq())).thenReturn(List.of(srcFile));//SrcFile 조회값 설정
-        when(vcResultFileRepository.findFirstBySrcSeq_SrcSeqOrderBySrcSeqDesc(srcFile.getSrcSeq())).thenReturn(vcResultFile);//result 조회값 설정
-        when(vcTextRepository.findFirstBySrcSeq_SrcSeqOrderBySrcSeqDesc(srcFile.getSrcSeq())).thenReturn(vcText);// text 조회값 설정
+        VcResponseRow converted = VcResponseRow.builder()//Result, 텍스트가 있는 행
+                .srcSeq(1L).rowOrder(1).srcName("src1").srcFileUrl("src_url1").activate('Y')
+                .resSeq(10L).resName("result1").resFileUrl("result_url1")
+                .vtSeq(100L).comment("text1")
+                .build();
+        VcResponseRow onlySrc = VcResponseRow.builder()//SRC 만 있는 행
+                .srcSeq(2L).rowOrder(2).srcName("src2").srcFileUrl("src_url2").activate('Y')
+                .build();
+        when(vcSrcFileRepository.findVcResponseRows(project.getProSeq())).thenReturn(List.of(converted, onlySrc));//조회값 설정
 
         List<VcResponse> vcResponse = vcService.getVcResponse(project.getProSeq());//프로젝트로 조회 호출
         log.info("[VcServiceTest] getVcResultAndTextResponse request: {}", vcResponse);
 
-        assertEquals(1, vcResponse.size());//값 확인
+        assertEquals(2, vcResponse.size());//값 확인
+        assertEquals(Long.valueOf(1L), vcResponse.get(0).getVcSrcFile().getSeq());
+        assertEquals("result_url1", vcResponse.get(0).getVcResultFile().getFileUrl());
+        assertEquals("text1", vcResponse.get(0).getVcText().getText());
+        assertNull(vcResponse.get(1).getVcResultFile());//Result, 텍스트가 없으면 null
+        assertNull(vcResponse.get(1).getVcText());
+        verify(vcSrcFileRepository, times(1)).findVcResponseRows(project.getProSeq());//쿼리 1번
     }
 
     @Test
@@ -276,6 +288,38 @@ class VcServiceImplTest {
         verify(vcSrcFileRepository, times(1)).save(any(VcSrcFile.class));
     }
 
+    @Test
+    @DisplayName("[VcServiceTest] TRG 회원 확인 테스트 - 다른 회원의 TRG 또는 다른 프로젝트의 TRG 는 거부")
+    void trgCheck() {
+        Vc myVc = createVcBuild(createProjectBuild(1L, 1L));
+        Vc otherVc = createVcBuild(createProjectBuild(2L, 1L));
+        Vc foreignVc = createVcBuild(createProjectBuild(3L, 2L));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(myVc.getProSeq()));
+        when(projectRepository.findById(2L)).thenReturn(Optional.of(otherVc.getProSeq()));
+        when(projectRepository.findById(3L)).thenReturn(Optional.of(foreignVc.getProSeq()));
+        when(vcSrcFileRepository.findById(10L)).thenReturn(Optional.of(VcSrcFile.builder().srcSeq(10L).vc(myVc).build()));
+        when(vcTrgFileRepository.findById(20L)).thenReturn(Optional.of(VcTrgFile.builder().trgSeq(20L).vc(myVc).build()));
+        when(vcTrgFileRepository.findById(21L)).thenReturn(Optional.of(VcTrgFile.builder().trgSeq(21L).vc(otherVc).build()));
+        when(vcTrgFileRepository.findById(22L)).thenReturn(Optional.of(VcTrgFile.builder().trgSeq(22L).vc(foreignVc).build()));
+
+        assertTrue(vcService.trgCheck(1L, 20L, List.of(10L)));
+        // 다른 회원의 TRG
+        assertThrows(projectNotMemberException.class, () -> vcService.trgCheck(1L, 22L));
+        assertThrows(projectNotMemberException.class, () -> vcService.trgCheck(1L, 22L, List.of(10L)));
+        // 같은 회원이지만 SRC 와 다른 프로젝트의 TRG
+        assertThrows(VcNotMemberException.class, () -> vcService.trgCheck(1L, 21L, List.of(10L)));
+    }
+
+    private static Project createProjectBuild(Long proSeq, Long memberSeq) {
+        return Project.builder()
+                .proSeq(proSeq)
+                .proName("test project")
+                .proCmt("project 설명")
+                .proUpDate(LocalDateTime.now())
+                .member(Member.builder().seq(memberSeq).build())
+                .build();
+    }
+
     private static Project createProjectBuild() {
         return Project.builder()
                 .proSeq(1L)
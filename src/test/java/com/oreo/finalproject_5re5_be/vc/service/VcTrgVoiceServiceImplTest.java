@@ -0,0 +1,144 @@
+package com.oreo.finalproject_5re5_be.vc.service;
+
+import com.oreo.finalproject_5re5_be.global.component.S3Service;
+import com.oreo.finalproject_5re5_be.vc.entity.VcTrgFile;
+import com.oreo.finalproject_5re5_be.vc.entity.VcTrgVoice;
+import com.oreo.finalproject_5re5_be.vc.exception.VcApiStatusException;
+import com.oreo.finalproject_5re5_be.vc.repository.VcTrgFileRepository;
+import com.oreo.finalproject_5re5_be.vc.repository.VcTrgVoiceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VcTrgVoiceServiceImplTest {
+    private static final Long TRG_SEQ = 1L;
+    private static final String TRG_URL = "https://bucket.s3.amazonaws.com/vc/trg/trg.wav";
+
+    @Mock
+    private VcTrgVoiceRepository vcTrgVoiceRepository;
+
+    @Mock
+    private VcTrgFileRepository vcTrgFileRepository;
+
+    @Mock
+    private VcApiService vcApiService;
+
+    @Mock
+    private S3Service s3Service;
+
+    private VcTrgVoiceService vcTrgVoiceService;
+
+    private final MultipartFile trgFile = new MockMultipartFile("file", "trg.wav", "audio/wav", new byte[]{1, 2, 3});
+
+    @BeforeEach
+    void setUp() {
+        vcTrgVoiceService = new VcTrgVoiceServiceImpl(vcTrgVoiceRepository, vcTrgFileRepository,
+                vcApiService, s3Service, 24);
+        when(vcTrgFileRepository.findById(TRG_SEQ)).thenReturn(Optional.of(VcTrgFile.builder()
+                .trgSeq(TRG_SEQ)
+                .fileUrl(TRG_URL)
+                .build()));
+        lenient().when(s3Service.openFile(TRG_URL)).thenReturn(trgFile);
+    }
+
+    @Test
+    @DisplayName("[VcTrgVoiceServiceTest] 저장된 voice_id 가 있으면 타겟 음성을 다시 업로드하지 않는다.")
+    void cached() {
+        when(vcTrgVoiceRepository.findById(TRG_SEQ)).thenReturn(Optional.of(
+                VcTrgVoice.create(TRG_SEQ, TRG_URL, "voice-1", LocalDateTime.now().plusHours(1))));
+
+        String voiceId = vcTrgVoiceService.getVoiceId(TRG_SEQ);
+
+        assertThat(voiceId).isEqualTo("voice-1");
+        verify(vcApiService, never()).trgIdCreate(any());
+    }
+
+    @Test
+    @DisplayName("[VcTrgVoiceServiceTest] 저장된 voice_id 가 없으면 등록하고 만료 시간과 함께 저장한다.")
+    void register() {
+        when(vcTrgVoiceRepository.findById(TRG_SEQ)).thenReturn(Optional.empty());
+        when(vcApiService.trgIdCreate(trgFile)).thenReturn("voice-new");
+
+        String voiceId = vcTrgVoiceService.getVoiceId(TRG_SEQ);
+
+        assertThat(voiceId).isEqualTo("voice-new");
+        ArgumentCaptor<VcTrgVoice> saved = ArgumentCaptor.forClass(VcTrgVoice.class);
+        verify(vcTrgVoiceRepository).save(saved.capture());
+        assertThat(saved.getValue().getVoiceId()).isEqualTo("voice-new");
+        assertThat(saved.getValue().getFileUrl()).isEqualTo(TRG_URL);
+        assertThat(saved.getValue().getExpireDate())
+                .isAfter(LocalDateTime.now().plusHours(23))
+                .isBefore(LocalDateTime.now().plusHours(25));
+    }
+
+    @Test
+    @DisplayName("[VcTrgVoiceServiceTest] 만료되었거나 TRG 파일이 바뀌었으면 다시 등록한다.")
+    void expiredOrChanged() {
+        when(vcTrgVoiceRepository.findById(TRG_SEQ))
+                .thenReturn(Optional.of(VcTrgVoice.create(TRG_SEQ, TRG_URL, "voice-old", LocalDateTime.now().minusMinutes(1))))
+                .thenReturn(Optional.of(VcTrgVoice.create(TRG_SEQ, "https://bucket/vc/trg/old.wav", "voice-old",
+                        LocalDateTime.now().plusHours(1))));
+        when(vcApiService.trgIdCreate(trgFile)).thenReturn("voice-new-1", "voice-new-2");
+
+        assertThat(vcTrgVoiceService.getVoiceId(TRG_SEQ)).isEqualTo("voice-new-1");
+        assertThat(vcTrgVoiceService.getVoiceId(TRG_SEQ)).isEqualTo("voice-new-2");
+    }
+
+    @Test
+    @DisplayName("[VcTrgVoiceServiceTest] VC API 가 voice_id 를 찾을 수 없다고 하면 지우고 다시 등록해서 한 번 더 호출한다.")
+    void retryOnVoiceNotFound() {
+        when(vcTrgVoiceRepository.findById(TRG_SEQ))
+                .thenReturn(Optional.of(VcTrgVoice.create(TRG_SEQ, TRG_URL, "voice-deleted", LocalDateTime.now().plusHours(1))))
+                .thenReturn(Optional.empty());
+        when(vcTrgVoiceRepository.existsById(TRG_SEQ)).thenReturn(true);
+        when(vcApiService.trgIdCreate(trgFile)).thenReturn("voice-new");
+        List<String> calledWith = new ArrayList<>();
+
+        String result = vcTrgVoiceService.withVoiceId(TRG_SEQ, voiceId -> {
+            calledWith.add(voiceId);
+            if (voiceId.equals("voice-deleted")) {
+                throw new RuntimeException("Failed to create result file", new VcApiStatusException(404,
+                        "{\"detail\":{\"status\":\"voice_not_found\"}}"));
+            }
+            return "converted";
+        });
+
+        assertThat(result).isEqualTo("converted");
+        assertThat(calledWith).containsExactly("voice-deleted", "voice-new");
+        verify(vcTrgVoiceRepository).deleteById(TRG_SEQ);
+    }
+
+    @Test
+    @DisplayName("[VcTrgVoiceServiceTest] voice_id 와 관계없는 오류는 저장된 값을 지우지 않고 그대로 던진다.")
+    void otherErrorKeepsVoiceId() {
+        when(vcTrgVoiceRepository.findById(TRG_SEQ)).thenReturn(Optional.of(
+                VcTrgVoice.create(TRG_SEQ, TRG_URL, "voice-1", LocalDateTime.now().plusHours(1))));
+
+        assertThatThrownBy(() -> vcTrgVoiceService.withVoiceId(TRG_SEQ, voiceId -> {
+            throw new RuntimeException("Failed to create result file", new VcApiStatusException(401, "invalid api key"));
+        })).hasRootCauseMessage("Request failed with status code: 401");
+
+        verify(vcTrgVoiceRepository, never()).deleteById(any());
+        verify(vcApiService, never()).trgIdCreate(any());
+    }
+}